@@ -17,9 +17,9 @@ import java.util.List;
  * at the end of a match. This controller handles UI updates, winner message
  * configuration, and interaction logic such as closing or resuming the game.
  *
- * <p>The controller receives references to the players, turn manager, and
- * supporting UI elements. Once all required data is set, the method
- * {@link #setWiner()} must be called to properly display the winner text.</p>
+ * <p>The players and the turn manager of the finished game are passed to
+ * {@link #setWiner(PlayerHuman, List, TurnManager)}, which displays the winner
+ * text without keeping any of them.</p>
  *
  * <p>This class is used together with the {@link ShowWiner} UI window.</p>
  *
@@ -34,21 +34,6 @@ public class FinalMessageController {
      */
     private ShowWiner showWiner;
 
-    /**
-     * Reference to the TurnManager managing turn order and remaining players.
-     */
-    private TurnManager turnManager;
-
-    /**
-     * Reference to the human player.
-     */
-    private PlayerHuman humanPlayer;
-
-    /**
-     * List containing all GPU-controlled players.
-     */
-    private List<PlayerGPU> playerGPUList;
-
     /**
      * Label used to display the winner message.
      */
@@ -75,34 +60,7 @@ public class FinalMessageController {
      */
     @FXML
     public void initialize() {
-        // UI-only initialization. Logic must be called after external data is set.
-    }
-
-    /**
-     * Sets the turn manager used to determine the winner.
-     *
-     * @param turnManager the TurnManager instance
-     */
-    public void setTurnManager(TurnManager turnManager) {
-        this.turnManager = turnManager;
-    }
-
-    /**
-     * Sets the human player reference.
-     *
-     * @param humanPlayer the PlayerHuman instance
-     */
-    public void setHumanPlayer(PlayerHuman humanPlayer) {
-        this.humanPlayer = humanPlayer;
-    }
-
-    /**
-     * Sets the list of GPU players used for identifying the winner.
-     *
-     * @param playerGPUList the list of PlayerGPU instances
-     */
-    public void setPlayerGPUList(List<PlayerGPU> playerGPUList) {
-        this.playerGPUList = playerGPUList;
+        // UI-only initialization. The winner is set once a game has ended.
     }
 
     /**
@@ -116,10 +74,14 @@ public class FinalMessageController {
 
     /**
      * Configures and displays the text that indicates which player won the game.
-     * <p>This method MUST be called after all required game data
-     * (TurnManager, humanPlayer, GPU list) have been assigned.</p>
+     * <p>The game data is only read here and never stored, so a window kept for
+     * the next game does not hold on to the players of a finished one.</p>
+     *
+     * @param humanPlayer   the human player of the finished game
+     * @param playerGPUList the GPU players of the finished game
+     * @param turnManager   the turn manager, whose only remaining turn is the winner's
      */
-    public void setWiner() {
+    public void setWiner(PlayerHuman humanPlayer, List<PlayerGPU> playerGPUList, TurnManager turnManager) {
         int winnerTurn = turnManager.getTotalTurns().get(0);
         String winText;
 
@@ -173,7 +135,7 @@ public class FinalMessageController {
      * @throws IOException if the game window cannot be closed
      */
     void closeMessage() throws IOException {
-        GameWindow.getInstance(3).close();
+        GameWindow.destroyInstance();
         showWiner.close();
     }
 }
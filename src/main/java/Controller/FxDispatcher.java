@@ -0,0 +1,40 @@
+package Controller;
+
+import Model.Metrics.GameMetrics;
+import javafx.application.Platform;
+
+/**
+ * Posts work to the JavaFX application thread and measures how long each task
+ * waits in the event queue.
+ * <p>
+ * It is a drop-in replacement for {@link Platform#runLater(Runnable)}: the time
+ * between submission and execution of every task is recorded in
+ * {@link GameMetrics#getFxQueueLatency()}, which is how a saturated event queue
+ * shows up in the performance overlay.
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public final class FxDispatcher {
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private FxDispatcher() {
+    }
+
+    /**
+     * Runs the given task on the JavaFX application thread at some later time,
+     * recording its queue latency.
+     *
+     * @param task the task to run
+     */
+    public static void runLater(Runnable task) {
+        long submitted = System.nanoTime();
+        Platform.runLater(() -> {
+            GameMetrics.getInstance().recordFxQueueLatency(System.nanoTime() - submitted);
+            task.run();
+        });
+    }
+}
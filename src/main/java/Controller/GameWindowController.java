@@ -1,27 +1,43 @@
 package Controller;
 
+import Model.Bots.DecisionView;
+import Model.Bots.Difficulty;
+import Model.Bots.EliminationOdds;
+import Model.Bots.HintEngine;
+import Model.Bots.PositionAnalyzer;
 import Model.Cards.Card;
 import Model.Cards.CardPile;
 import Model.Cards.Deck;
-import Model.Cards.RechargeDeck;
+import Model.Engine.HeadlessGame;
 import Model.Exceptions.InvalidCardException;
+import Model.Metrics.GameMetrics;
+import Model.Players.GameSession;
+import Model.Players.IGameListener;
 import Model.Players.PlayerGPU;
 import Model.Players.PlayerHuman;
-import Model.Players.TakeWiner;
 import Model.Players.TurnManager;
+import View.AnalysisPanel;
+import View.CardImageCache;
+import View.CardViewPool;
+import View.Eliminate;
 import View.GameWindow;
+import View.RadialSeatLayout;
+import View.SeatView;
 import View.SelectionPlayers;
-import javafx.application.Platform;
+import View.ShowWiner;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.effect.DropShadow;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Pane;
 import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -34,11 +50,31 @@ import java.util.List;
  * representation of cards, the deck, and the central card pile, while
  * coordinating between multiple player threads.
  *
+ * <p>Each match is owned by a {@link GameSession}; the controller only keeps
+ * shortcuts to the objects of the current session and receives its events,
+ * already on the JavaFX application thread, through {@link IGameListener}.</p>
+ *
+ * <p>GPU seats are not part of the FXML layout: one {@link SeatView} per GPU is
+ * generated when a match starts and placed around the pile by
+ * {@link RadialSeatLayout}, so tables of up to {@link GameSession#MAX_PLAYERS}
+ * players share the same window. Every event names the seat it concerns and only
+ * that seat is refreshed, so the work done per turn does not grow with the table.</p>
+ *
+ * <p>During the human player's turn a {@link HintEngine} ranks the cards of the
+ * hand in the background and the suggested card is highlighted as the ranking
+ * is refined; the search is cancelled as soon as a card is clicked or the turn
+ * ends.</p>
+ *
+ * <p>While the {@link AnalysisPanel} is shown, every turn of the human forks the
+ * match with {@link GameSession#snapshot(long)} and a {@link PositionAnalyzer}
+ * streams the win probability of each card of the human's hand; during a bot's
+ * turn the panel waits, so the bots' hidden hands are never shown.</p>
+ *
  * @author Juan-David-Brandon
  * @version 1.0
  * @since 2025
  */
-public class GameWindowController {
+public class GameWindowController implements IGameListener {
 
     /**
      * HBox container displaying the human player's hand of cards.
@@ -46,19 +82,9 @@ public class GameWindowController {
     @FXML private HBox playerCards;
 
     /**
-     * HBox container displaying GPU player 1's cards.
-     */
-    @FXML private HBox cardsGPU1;
-
-    /**
-     * HBox container displaying GPU player 2's cards.
-     */
-    @FXML private HBox cardsGPU2;
-
-    /**
-     * HBox container displaying GPU player 3's cards.
+     * Layer of the window that holds the generated GPU seats.
      */
-    @FXML private HBox cardsGPU3;
+    @FXML private Pane seatLayer;
 
     /**
      * ImageView displaying the top card of the central pile.
@@ -88,29 +114,19 @@ public class GameWindowController {
     @FXML private Label labelPlayer;
 
     /**
-     * Label displaying Bot 1's name or identifier.
-     */
-    @FXML private Label labelBot1;
-
-    /**
-     * Label displaying Bot 2's name or identifier.
+     * Label displaying which player's turn it currently is.
      */
-    @FXML private Label labelBot2;
+    @FXML private Label turnLabel;
 
     /**
-     * Label displaying Bot 3's name or identifier.
+     * Label showing the human player's odds of being eliminated this turn or the next.
      */
-    @FXML private Label labelBot3;
+    @FXML private Label dangerLabel;
 
     /**
-     * Label displaying which player's turn it currently is.
+     * Session owning every thread and shared object of the current match.
      */
-    @FXML private Label turnLabel;
-
-    /**
-     * Recharge deck thread that manages deck replenishment from the discard pile.
-     */
-    private RechargeDeck rechargeDeck;
+    private GameSession session;
 
     /**
      * The main deck of cards used in the game.
@@ -137,11 +153,6 @@ public class GameWindowController {
      */
     private PlayerHuman playerHuman;
 
-    /**
-     * Reference to a GPU player instance (used during initialization loop).
-     */
-    private PlayerGPU playerGPU;
-
     /**
      * List containing all active GPU players in the game.
      */
@@ -157,11 +168,63 @@ public class GameWindowController {
      * Used to enforce turn flow control.
      */
     private boolean cardPlayed = false;
+
+    /**
+     * Pool of card nodes shared by the bot card containers. Nodes released when a
+     * bot is eliminated are handed out again when the next match starts.
+     */
+    private final CardViewPool botCardPool = new CardViewPool(60, 90);
+
+    /**
+     * Seats of the GPU players, in turn order (turn {@code i + 2} sits at index {@code i}).
+     * They are rebuilt only when the number of GPU players changes between matches.
+     */
+    private final List<SeatView> botSeats = new ArrayList<>();
+
+    /**
+     * Turn number currently highlighted on the table.
+     */
+    private int highlightedTurn;
+
     /**
-     * object that take the player winer
+     * What the human player knows, refilled at every turn for the danger meter
+     * and the hint engine.
      */
+    private final DecisionView humanView = new DecisionView();
+
+    /**
+     * Odds engine behind the danger meter; it answers from its cache in microseconds,
+     * so it runs on the JavaFX application thread.
+     */
+    private final EliminationOdds humanOdds = new EliminationOdds();
+
+    /**
+     * Glow drawn around the suggested card.
+     */
+    private static final DropShadow HINT_EFFECT = new DropShadow(18, Color.GOLD);
+
+    /**
+     * Background search behind the card suggestions; its hints arrive on the
+     * JavaFX application thread.
+     */
+    private final HintEngine hintEngine = new HintEngine(FxDispatcher::runLater, this::showHint);
+
+    /**
+     * Position of the highlighted card in the human hand, or {@code -1} if none.
+     */
+    private int hintedCard = -1;
+
+    /**
+     * Estimates the win probability of every move of the seat to move, posting its
+     * results on the JavaFX application thread.
+     */
+    private final PositionAnalyzer positionAnalyzer = new PositionAnalyzer(FxDispatcher::runLater, this::showAnalysis);
+
+    /**
+     * Side panel showing the analysis, or {@code null} if the window has none.
+     */
+    private AnalysisPanel analysisPanel;
 
-    private TakeWiner takeWiner;
     /**
      * Sets the total number of GPU players for the game.
      *
@@ -172,49 +235,113 @@ public class GameWindowController {
     }
 
     /**
-     * Initializes the game environment, including the deck, turn manager,
-     * players, pile, UI components, and player threads. This method prepares
-     * the entire interface and logic required for gameplay.
-     *
-     * @throws IOException if an error occurs during resource loading
+     * Initializes the UI components after the FXML file has been loaded.
+     * <p>No match is started here: the scene graph is built once and every match,
+     * including the first one, is started with {@link #newGame(int)}.</p>
      */
     @FXML
-    public void initialize() throws IOException {
-        deck = new Deck();
-        turnManager = new TurnManager(totalPlayersGPU + 1);
-        lock = new Object();
-
-        synchronized (lock) {
-            turnManager.startGame();
-            lock.notifyAll();
-        }
-
-        pile = new CardPile(deck);
-        rechargeDeck = new RechargeDeck(deck, pile);
-        rechargeDeck.start();
-
-        playerGPUList = new ArrayList<>();
-        playerHuman = new PlayerHuman(deck, 1, lock, turnManager, pile, "YOU");
-        playerHuman.initializePlayer();
-
-        for (int i = 2; i <= totalPlayersGPU + 1; i++) {
-            playerGPU = new PlayerGPU(deck, i, lock, turnManager, pile, this, "GPU " + (i - 1));
-            playerGPUList.add(playerGPU);
-            playerGPU.initializePlayer();
-        }
+    public void initialize() {
+        // Decode the card back once so the first bot refresh does not hit the classpath
+        CardImageCache.back();
+    }
 
-        takeWiner = new TakeWiner(turnManager, lock, playerHuman, playerGPUList);
-        takeWiner.start();
+    /**
+     * Starts a new match with bots of the default difficulty.
+     *
+     * @param totalPlayersGPU number of GPU players for the new match
+     */
+    public void newGame(int totalPlayersGPU) {
+        newGame(totalPlayersGPU, Difficulty.DEFAULT);
+    }
 
+    /**
+     * Starts a new match on the already loaded scene. Any match still running on
+     * this controller is ended first, the table widgets are reset and a fresh
+     * {@link GameSession} is created and started.
+     *
+     * @param totalPlayersGPU number of GPU players for the new match
+     * @param difficulty      the difficulty of the GPU players
+     */
+    public void newGame(int totalPlayersGPU, Difficulty difficulty) {
+        endGame();
+        this.totalPlayersGPU = totalPlayersGPU;
+        cardPlayed = false;
+        resetTable();
+
+        session = new GameSession(totalPlayersGPU, this, FxDispatcher::runLater, difficulty);
+        deck = session.getDeck();
+        turnManager = session.getTurnManager();
+        lock = session.getLock();
+        pile = session.getPile();
+        playerHuman = session.getPlayerHuman();
+        playerGPUList = session.getPlayerGPUList();
+
+        buildSeats();
         printCardsHuman();
         printCardsGPU();
         updatePileImage(pile.getTopCard());
-        configureLabelVisibility();
         updateTurnLabel();
 
-        playerHuman.start();
-        for (PlayerGPU g : playerGPUList) {
-            g.start();
+        session.start();
+    }
+
+    /**
+     * Ends the match currently bound to this controller, if any. The session
+     * stops and joins all of its threads and the controller drops its shortcuts
+     * to the old deck, pile and players. The scene graph is kept so it can be
+     * reused by the next call to {@link #newGame(int)}.
+     */
+    public void endGame() {
+        if (session == null) {
+            return;
+        }
+        hintEngine.cancel();
+        clearHint();
+        positionAnalyzer.cancel();
+        if (analysisPanel != null) {
+            analysisPanel.showWaiting();
+        }
+        session.close();
+        session = null;
+        deck = null;
+        turnManager = null;
+        lock = null;
+        pile = null;
+        playerHuman = null;
+        playerGPUList = List.of();
+    }
+
+    /**
+     * Restores every table widget that a previous match may have changed
+     * (hidden hand, elimination label) to its initial state.
+     */
+    private void resetTable() {
+        playerCards.setVisible(true);
+        labelPlayer.setText("Player");
+        labelPlayer.setStyle(null);
+        highlightedTurn = 0;
+    }
+
+    /**
+     * Creates one seat per GPU player and places them around the table. Seats of
+     * the previous match are reused when it had the same number of GPU players.
+     */
+    private void buildSeats() {
+        if (botSeats.size() != totalPlayersGPU) {
+            for (SeatView seat : botSeats) {
+                botCardPool.releaseAll(seat.getCards().getChildren());
+                seat.getCards().getChildren().clear();
+            }
+            botSeats.clear();
+            seatLayer.getChildren().clear();
+            for (int i = 1; i <= totalPlayersGPU; i++) {
+                botSeats.add(new SeatView("Bot " + i));
+            }
+            seatLayer.getChildren().addAll(botSeats);
+            RadialSeatLayout.layout(botSeats);
+        }
+        for (SeatView seat : botSeats) {
+            seat.reset();
         }
     }
 
@@ -228,15 +355,17 @@ public class GameWindowController {
             for (int i = 0; i < 4; i++) {
                 ImageView imageView = (ImageView) playerCards.getChildren().get(i);
                 if (i < playerHuman.getHand().size()) {
-                    Image image = new Image(getClass().getResourceAsStream(playerHuman.getHand().get(i).getUrl()));
-                    imageView.setImage(image);
+                    imageView.setImage(CardImageCache.get(playerHuman.getHand().get(i).getUrl()));
                 } else {
                     imageView.setImage(null);
                 }
             }
 
         } else {
-            playerCards.getChildren().clear();
+            // Keep the nodes (and their click handlers) so the next match can reuse them
+            for (Node child : playerCards.getChildren()) {
+                ((ImageView) child).setImage(null);
+            }
         }
     }
 
@@ -245,32 +374,43 @@ public class GameWindowController {
      * If a GPU player is out of the game, their display is cleared.
      */
     public void printCardsGPU() {
-        List<HBox> boxes = List.of(cardsGPU1, cardsGPU2, cardsGPU3);
-        Image backImage = new Image(getClass().getResourceAsStream("/deck/back_red.png"));
-
-        for (int i = 0; i < playerGPUList.size(); i++) {
-            HBox box = boxes.get(i);
-            PlayerGPU gpu = playerGPUList.get(i);
-
-            if (gpu.getIsplaying()) {
-                if (box.getChildren().isEmpty()) {
-                    for (int k = 0; k < 4; k++) {
-                        ImageView iv = new ImageView(backImage);
-                        iv.setFitWidth(60);
-                        iv.setFitHeight(90);
-                        box.getChildren().add(iv);
-                    }
-                } else {
-                    for (Node child : box.getChildren()) {
-                        ((ImageView) child).setImage(backImage);
-                    }
+        for (PlayerGPU gpu : playerGPUList) {
+            printSeat(gpu.getTurn());
+        }
+    }
+
+    /**
+     * Refreshes the seat of a single GPU player: four card backs while the player
+     * is in the game, and an empty, crossed-out seat once it is eliminated.
+     *
+     * @param botTurn the turn number of the GPU player
+     */
+    private void printSeat(int botTurn) {
+        int index = botTurn - 2;
+        if (index < 0 || index >= playerGPUList.size() || index >= botSeats.size()) {
+            return;
+        }
+        SeatView seat = botSeats.get(index);
+        HBox box = seat.getCards();
+        Image backImage = CardImageCache.back();
+
+        if (playerGPUList.get(index).getIsplaying()) {
+            if (box.getChildren().isEmpty()) {
+                for (int k = 0; k < 4; k++) {
+                    box.getChildren().add(botCardPool.acquire(backImage));
                 }
             } else {
+                for (Node child : box.getChildren()) {
+                    ((ImageView) child).setImage(backImage);
+                }
+            }
+        } else {
+            if (!box.getChildren().isEmpty()) {
+                botCardPool.releaseAll(box.getChildren());
                 box.getChildren().clear();
             }
+            seat.setEliminated();
         }
-
-        configureLabelVisibility();
     }
 
     /**
@@ -282,17 +422,21 @@ public class GameWindowController {
 
     /**
      * Notifies the UI that the human player has been eliminated.
-     * Updates label style and hides their cards.
-     */
-    public void notifyHumanEliminated() {
-        Platform.runLater(() -> {
-            deleteCardsPlayer();
-            if (labelPlayer != null) {
-                labelPlayer.setText("Player ✖");
-                labelPlayer.setStyle("-fx-text-fill: #FF0000;");
-            }
-            updateTurnLabel();
-        });
+     * Shows the elimination window, updates the label style and hides their cards.
+     */
+    @Override
+    public void onHumanEliminated() {
+        try {
+            Eliminate.getInstance().show();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        deleteCardsPlayer();
+        if (labelPlayer != null) {
+            labelPlayer.setText("Player ✖");
+            labelPlayer.setStyle("-fx-text-fill: #FF0000;");
+        }
+        updateTurnLabel();
     }
 
     /**
@@ -304,9 +448,17 @@ public class GameWindowController {
      */
     @FXML
     void handleCardClick(MouseEvent event) {
+        long clickTime = System.nanoTime();
         if (turnManager.getActualTurn() != playerHuman.getTurn()) return;
         if (cardPlayed) return;
 
+        hintEngine.cancel();
+        clearHint();
+        positionAnalyzer.cancel();
+        if (analysisPanel != null) {
+            analysisPanel.showWaiting();
+        }
+
         ImageView clicked = (ImageView) event.getSource();
         int index = playerCards.getChildren().indexOf(clicked);
 
@@ -320,9 +472,9 @@ public class GameWindowController {
 
             Card top = pile.getTopCard();
             if (top != null) {
-                Image pileImage = new Image(getClass().getResourceAsStream(top.getUrl()));
-                cardPile.setImage(pileImage);
+                cardPile.setImage(CardImageCache.get(top.getUrl()));
                 valuePile.setText(String.valueOf(pile.getValuePile()));
+                GameMetrics.getInstance().markInput(clickTime);
             }
 
             printCardsHuman();
@@ -358,6 +510,41 @@ public class GameWindowController {
         updateTurnLabel();
     }
 
+    /**
+     * Updates the pile display after a GPU player places a card.
+     *
+     * @param topCard the top card of the pile
+     */
+    @Override
+    public void onPileChanged(Card topCard) {
+        updatePileImage(topCard);
+    }
+
+    /**
+     * Updates the seat of a bot after its hand or status changes.
+     *
+     * @param botTurn the turn number of the bot
+     */
+    @Override
+    public void onBotHandChanged(int botTurn) {
+        printSeat(botTurn);
+    }
+
+    /**
+     * Shows the winner window for the match that just ended.
+     *
+     * @param winnerTurn the turn number of the winning player
+     */
+    @Override
+    public void onGameOver(int winnerTurn) {
+        try {
+            ShowWiner.showResult(1, playerHuman, playerGPUList, turnManager);
+        } catch (IOException e) {
+            System.err.println("❌ Error displaying win message:");
+            e.printStackTrace();
+        }
+    }
+
     /**
      * Updates the pile display with the current top card.
      *
@@ -365,8 +552,7 @@ public class GameWindowController {
      */
     public void updatePileImage(Card topCard) {
         if (topCard != null) {
-            Image img = new Image(getClass().getResourceAsStream(topCard.getUrl()));
-            cardPile.setImage(img);
+            cardPile.setImage(CardImageCache.get(topCard.getUrl()));
         }
         valuePile.setText(String.valueOf(pile.getValuePile()));
     }
@@ -381,45 +567,158 @@ public class GameWindowController {
     }
 
     /**
-     * Shows only the labels of players currently in the game.
+     * Updates the UI label to indicate whose turn it currently is, and moves the
+     * highlight from the previous seat to the seat that is playing now. A hint
+     * search starts when the human's turn begins and is cancelled otherwise, and
+     * the position is analyzed again if the analysis panel is shown.
      */
-    private void configureLabelVisibility() {
-        if (labelPlayer != null) labelPlayer.setVisible(true);
+    private void updateTurnLabel() {
+        int currentTurn = turnManager.getActualTurn();
+        highlightSeat(currentTurn);
+        updateDanger();
 
-        List<Label> botLabels = List.of(labelBot1, labelBot2, labelBot3);
+        hintEngine.cancel();
+        clearHint();
+        if (currentTurn == playerHuman.getTurn() && playerHuman.getIsPlaying() && !cardPlayed) {
+            hintEngine.start(humanView);
+        }
+        analyzePosition();
 
-        for (int i = 0; i < botLabels.size(); i++) {
-            if (i < playerGPUList.size() && playerGPUList.get(i).getIsplaying()) {
-                botLabels.get(i).setVisible(true);
-            } else {
-                botLabels.get(i).setVisible(false);
+        if (currentTurn == playerHuman.getTurn()) {
+            turnLabel.setText("Your turn :)");
+        } else {
+            int botNumber = currentTurn - 1;
+            turnLabel.setText("Turn: Bot " + botNumber);
+        }
+    }
+
+    /**
+     * Refreshes the danger meter: the probability that the human player is
+     * eliminated this turn or the next, from the cards it holds and has seen.
+     */
+    private void updateDanger() {
+        if (!playerHuman.getIsPlaying()) {
+            dangerLabel.setText("");
+            return;
+        }
+        List<Integer> alive = turnManager.getTotalTurns();
+        humanView.begin(playerHuman.getTurn() - 1, turnManager.getTotalPlayers(), deck.getDecks(),
+                pile.getValuePile(), 0);
+        humanView.addHand(playerHuman.getHand());
+        playerHuman.getCounter().copyTo(humanView);
+        int aliveMask = 0;
+        for (int turn : alive) {
+            aliveMask |= 1 << (turn - 1);
+            if (turn != playerHuman.getTurn()) {
+                humanView.setHandSize(turn - 1, 4);
             }
         }
+        humanView.setAliveMask(aliveMask);
+        if (playerHuman.getOpponentModel() != null) {
+            playerHuman.getOpponentModel().copyTo(humanView);
+        }
+
+        double danger = humanOdds.load(humanView).probability(EliminationOdds.DEFAULT_TURNS);
+        dangerLabel.setText(String.format("Danger: %.0f%%", danger * 100));
     }
 
     /**
-     * Updates the UI label to indicate whose turn it currently is.
+     * Highlights the card suggested by the hint engine.
+     *
+     * @param hint the latest ranking of the human hand
      */
-    private void updateTurnLabel() {
-        int currentTurn = turnManager.getActualTurn();
+    private void showHint(HintEngine.Hint hint) {
+        clearHint();
+        int best = hint.getBest();
+        if (best < 0 || best >= playerCards.getChildren().size()) {
+            return;
+        }
+        playerCards.getChildren().get(best).setEffect(HINT_EFFECT);
+        hintedCard = best;
+    }
 
-        if (currentTurn == playerHuman.getTurn()) {
-            turnLabel.setText("Your turn :)");
-        } else {
-            int botNumber = currentTurn - 1;
-            turnLabel.setText("Turn: Bot " + botNumber);
+    /**
+     * Removes the highlight of the suggested card, if any.
+     */
+    private void clearHint() {
+        if (hintedCard >= 0 && hintedCard < playerCards.getChildren().size()) {
+            playerCards.getChildren().get(hintedCard).setEffect(null);
         }
+        hintedCard = -1;
+    }
+
+    /**
+     * Binds the side panel that shows the analysis of each position. The analysis
+     * runs only while the panel is shown.
+     *
+     * @param analysisPanel the panel of the game window
+     */
+    public void setAnalysisPanel(AnalysisPanel analysisPanel) {
+        this.analysisPanel = analysisPanel;
+        analysisPanel.visibleProperty().addListener((observable, wasVisible, visible) -> analyzePosition());
     }
 
     /**
-     * Notifies the UI that a bot turn has begun.
-     * Updates its cards and the turn label.
+     * Forks the match and starts analyzing the human's moves, if the analysis panel
+     * is shown. Nothing is analyzed while the panel is hidden, the match is over, a
+     * move is half done, or a bot is to move: the analysis of a bot's turn would
+     * show its hidden hand, and the fork would wait for the bot to release the lock.
+     * The panel then waits for the human's next turn.
      */
-    public void notifyBotTurnChange() {
-        Platform.runLater(() -> {
-            updateTurnLabel();
-            printCardsGPU();
-        });
+    private void analyzePosition() {
+        positionAnalyzer.cancel();
+        if (analysisPanel == null || !analysisPanel.isVisible()) {
+            return;
+        }
+        boolean humanToMove = session != null && !cardPlayed
+                && turnManager.getActualTurn() == playerHuman.getTurn();
+        HeadlessGame position = humanToMove ? session.snapshot(System.nanoTime()) : null;
+        if (position == null || position.isOver()) {
+            analysisPanel.showWaiting();
+            return;
+        }
+        positionAnalyzer.start(position);
+    }
+
+    /**
+     * Shows the latest analysis in the side panel.
+     *
+     * @param analysis the estimates of the position being analyzed
+     */
+    private void showAnalysis(PositionAnalyzer.Analysis analysis) {
+        if (analysisPanel != null) {
+            analysisPanel.show(analysis);
+        }
+    }
+
+    /**
+     * Highlights the seat of the given turn and clears the previously highlighted one.
+     * Only the two seats involved are touched.
+     *
+     * @param turn the turn number of the player whose turn it is
+     */
+    private void highlightSeat(int turn) {
+        if (turn == highlightedTurn) {
+            return;
+        }
+        if (highlightedTurn >= 2 && highlightedTurn - 2 < botSeats.size()) {
+            botSeats.get(highlightedTurn - 2).setActive(false);
+        }
+        if (turn >= 2 && turn - 2 < botSeats.size()) {
+            botSeats.get(turn - 2).setActive(true);
+        }
+        highlightedTurn = turn;
+    }
+
+    /**
+     * Notifies the UI that a bot turn has ended.
+     * Updates the turn label and the seat highlight.
+     *
+     * @param actualTurn the turn number of the player whose turn starts
+     */
+    @Override
+    public void onTurnChanged(int actualTurn) {
+        updateTurnLabel();
     }
 
     @FXML Button backButton, closeButton;
@@ -1,19 +1,23 @@
 package Controller;
 
+import Model.Bots.Difficulty;
+import Model.Players.GameSession;
 import View.GameWindow;
 import View.SelectionPlayers;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
-import javafx.scene.control.RadioButton;
-import javafx.scene.control.ToggleGroup;
+import javafx.scene.control.ChoiceBox;
+import javafx.scene.control.Spinner;
+import javafx.scene.control.SpinnerValueFactory;
 
 import java.io.IOException;
 
 /**
  * Controller class for the player selection screen.
  * This controller manages the user interface for selecting the number of players
- * (including GPU opponents) before starting a game. It handles radio button
- * selections and initiates the game window with the chosen configuration.
+ * (including GPU opponents) before starting a game. It reads the number of GPU
+ * opponents, from 1 up to {@code GameSession.MAX_PLAYERS - 1}, and their
+ * {@link Difficulty}, and initiates the game window with the chosen configuration.
  *
  * @author Juan-David-Brandon
  * @version 1.0
@@ -22,28 +26,16 @@ import java.io.IOException;
 public class SelectionPlayersController {
 
     /**
-     * Toggle group that manages the mutual exclusivity of player count radio buttons.
+     * Spinner for selecting the number of GPU opponents.
      */
     @FXML
-    private ToggleGroup selectionPlayers;
+    private Spinner<Integer> gpuSpinner;
 
     /**
-     * Radio button for selecting a 2-player game (1 human + 1 GPU).
+     * Choice of the difficulty of the GPU opponents.
      */
     @FXML
-    private RadioButton twoPlayersButton;
-
-    /**
-     * Radio button for selecting a 3-player game (1 human + 2 GPU).
-     */
-    @FXML
-    private RadioButton threePlayersButton;
-
-    /**
-     * Radio button for selecting a 4-player game (1 human + 3 GPU).
-     */
-    @FXML
-    private RadioButton fourPlayersButton;
+    private ChoiceBox<Difficulty> difficultyBox;
 
     /**
      * Button that triggers the game start when clicked.
@@ -53,29 +45,26 @@ public class SelectionPlayersController {
 
     /**
      * Initializes the controller after the FXML elements have been loaded.
-     * Sets up user data for each radio button representing the total number
-     * of players (human + GPU), and selects the 3-player option as default.
+     * Limits the spinner to the supported number of GPU opponents and selects
+     * 2 GPU opponents (a 3-player game) and the default difficulty.
      */
     @FXML
     public void initialize() {
-        // Store the number of players in each RadioButton
-        twoPlayersButton.setUserData(2);
-        threePlayersButton.setUserData(3);
-        fourPlayersButton.setUserData(4);
-
-        // Select 3 players by default
-        threePlayersButton.setSelected(true);
+        gpuSpinner.setValueFactory(
+                new SpinnerValueFactory.IntegerSpinnerValueFactory(1, GameSession.MAX_PLAYERS - 1, 2));
+        difficultyBox.getItems().setAll(Difficulty.values());
+        difficultyBox.setValue(Difficulty.DEFAULT);
     }
 
     /**
      * Handles the play button click event.
-     * Retrieves the selected number of players from the toggle group
+     * Retrieves the selected number of players from the spinner
      * and initiates the game with the chosen configuration.
      */
     @FXML
     private void onPlayClick() {
-        // Get the selected number of players
-        int numPlayers = (int) selectionPlayers.getSelectedToggle().getUserData();
+        // Get the selected number of players (the GPU opponents plus the human)
+        int numPlayers = gpuSpinner.getValue() + 1;
 
         System.out.println("Iniciando juego con " + numPlayers + " jugadores");
 
@@ -96,7 +85,7 @@ public class SelectionPlayersController {
             // Close the selection window from the button
             playButton.getScene().getWindow().hide();
 
-            GameWindow.getInstance(numPlayers-1).show();
+            GameWindow.newGame(numPlayers-1, difficultyBox.getValue()).show();
 
         } catch (IOException e) {
             System.err.println("Error al cargar la ventana del juego: " + e.getMessage());
@@ -2,6 +2,7 @@ package Controller;
 
 import View.RulesWindow;
 import View.SelectionPlayers;
+import View.SpectatorDashboard;
 import View.StartWindow;
 import javafx.application.Platform;
 import javafx.event.ActionEvent;
@@ -71,6 +72,24 @@ public class StartWindowController {
             e.printStackTrace();
         }
     }
+    /**
+     * Button that opens the spectator dashboard when clicked.
+     */
+    @FXML
+    private Button spectateButton;
+
+    /**
+     * Handles the spectate button click event in the main menu.
+     * Opens the spectator dashboard, where the headless engine plays many
+     * tables at once, without closing the main menu.
+     *
+     * @param event the action event triggered by clicking the spectate button
+     */
+    @FXML
+    void onMainMenuSpectateClick(ActionEvent event) {
+        SpectatorDashboard.getInstance().show();
+    }
+
     @FXML Button rulesButton;
     @FXML
     void rules() throws IOException {
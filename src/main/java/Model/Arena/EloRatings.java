@@ -0,0 +1,131 @@
+package Model.Arena;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Elo ratings of the entrants of a {@link Tournament}, updated after every game.
+ * <p>
+ * Every entrant starts at {@value #INITIAL}. A game between two entrants moves
+ * both ratings by {@code k * (score - expected)}, where the expected score comes
+ * from the difference of the ratings, so the update is zero-sum and a win over a
+ * stronger entrant is worth more. Results are applied in the order the games were
+ * dealt, whatever the order the workers finished them in, so a tournament with a
+ * given seed always ends with the same ratings.
+ * </p>
+ *
+ * <p>The ratings are shared by the matches of a tournament and read by the
+ * standings while they run, so every method is synchronized.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public final class EloRatings {
+
+    /** Rating of a new entrant. */
+    public static final double INITIAL = 1500;
+
+    /** Default change of rating for a fully unexpected result. */
+    public static final double DEFAULT_K = 16;
+
+    /** Change of rating for a fully unexpected result. */
+    private final double k;
+
+    /** Rating of every entrant, in order of arrival. */
+    private final Map<String, Double> ratings = new LinkedHashMap<>();
+
+    /** Games played by every entrant. */
+    private final Map<String, Long> games = new LinkedHashMap<>();
+
+    /**
+     * Creates empty ratings with the default factor.
+     */
+    public EloRatings() {
+        this(DEFAULT_K);
+    }
+
+    /**
+     * Creates empty ratings.
+     *
+     * @param k the change of rating for a fully unexpected result
+     * @throws IllegalArgumentException if the factor is not positive
+     */
+    public EloRatings(double k) {
+        if (!(k > 0)) {
+            throw new IllegalArgumentException("K factor must be positive: " + k);
+        }
+        this.k = k;
+    }
+
+    /**
+     * Returns the expected score of a player rated {@code difference} points above
+     * the other.
+     *
+     * @param difference the difference of the ratings
+     * @return the expected score between 0 and 1
+     */
+    public static double expectedScore(double difference) {
+        return 1 / (1 + Math.pow(10, -difference / 400));
+    }
+
+    /**
+     * Returns the rating difference that gives an expected score.
+     *
+     * @param score the score between 0 and 1
+     * @return the difference, infinite for a score of 0 or 1
+     */
+    public static double difference(double score) {
+        return -400 * Math.log10(1 / score - 1);
+    }
+
+    /**
+     * Records a game between two entrants.
+     *
+     * @param first  the name of the first entrant
+     * @param second the name of the second entrant
+     * @param score  the score of the first entrant: 1 for a win, 0 for a loss, 0.5 for a draw
+     */
+    public synchronized void record(String first, String second, double score) {
+        double a = rating(first);
+        double b = rating(second);
+        double change = k * (score - expectedScore(a - b));
+        ratings.put(first, a + change);
+        ratings.put(second, b - change);
+        games.merge(first, 1L, Long::sum);
+        games.merge(second, 1L, Long::sum);
+    }
+
+    /**
+     * Returns the rating of an entrant.
+     *
+     * @param name the name of the entrant
+     * @return the rating, {@value #INITIAL} before its first game
+     */
+    public synchronized double rating(String name) {
+        return ratings.getOrDefault(name, INITIAL);
+    }
+
+    /**
+     * Returns the games an entrant has played.
+     *
+     * @param name the name of the entrant
+     * @return the number of games
+     */
+    public synchronized long games(String name) {
+        return games.getOrDefault(name, 0L);
+    }
+
+    /**
+     * Returns the names of the rated entrants, best rating first.
+     *
+     * @return a new list of names
+     */
+    public synchronized List<String> standings() {
+        List<String> names = new ArrayList<>(ratings.keySet());
+        names.sort(Comparator.comparingDouble((String name) -> ratings.get(name)).reversed());
+        return names;
+    }
+}
@@ -0,0 +1,96 @@
+package Model.Arena;
+
+import Model.Bots.BotStrategy;
+import Model.Bots.DecisionBudget;
+import Model.Bots.Difficulty;
+
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * A bot taking part in a {@link Tournament}: a name, a way to create its strategy
+ * and the budget of each of its decisions.
+ * <p>
+ * Strategies keep buffers and serve one player at a time, so an entrant does not
+ * hold a strategy but creates one for every worker that plays its games, seeded
+ * by the worker. Two entrants may share a class and differ only in settings, which
+ * is how bot versions are compared.
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public final class Entrant {
+
+    /** Name shown in the standings. */
+    private final String name;
+
+    /** Creates a strategy from a seed. */
+    private final LongFunction<BotStrategy> strategies;
+
+    /** Creates the budget of the strategy. */
+    private final Supplier<DecisionBudget> budgets;
+
+    /**
+     * Creates an entrant.
+     *
+     * @param name       the name shown in the standings
+     * @param strategies creates a strategy from a seed; called once per worker
+     * @param budgets    creates the budget of each created strategy
+     */
+    public Entrant(String name, LongFunction<BotStrategy> strategies, Supplier<DecisionBudget> budgets) {
+        this.name = name;
+        this.strategies = strategies;
+        this.budgets = budgets;
+    }
+
+    /**
+     * Creates an entrant that plays like the bots of a difficulty level. It
+     * searches every decision instead of reading the shared decision cache, which
+     * other tables and earlier matches fill, so a seeded match replays exactly.
+     *
+     * @param difficulty the level
+     * @return the entrant, named after the level
+     */
+    public static Entrant of(Difficulty difficulty) {
+        return new Entrant(difficulty.toString(), difficulty::newSearch, difficulty::newBudget);
+    }
+
+    /**
+     * Creates a strategy for one worker.
+     *
+     * @param seed the seed of the worker
+     * @return a new strategy
+     */
+    BotStrategy newStrategy(long seed) {
+        return strategies.apply(seed);
+    }
+
+    /**
+     * Creates the budget of one worker's strategy.
+     *
+     * @return a new budget
+     */
+    DecisionBudget newBudget() {
+        return budgets.get();
+    }
+
+    /**
+     * Returns the name shown in the standings.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the name of the entrant.
+     *
+     * @return the name
+     */
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,182 @@
+package Model.Arena;
+
+import Model.Bots.BestResponse;
+import Model.Bots.DecisionBudget;
+import Model.Bots.Difficulty;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Measures how exploitable a bot is: how many games per hundred it loses to an
+ * approximate best response against it.
+ * <p>
+ * The best response is computed by {@link BestResponse} against the strategy of
+ * the target entrant, heads-up, and then plays a duplicate {@link Tournament}
+ * match against the target on deals the training never used. A strategy that
+ * cannot be exploited at all loses half of its games; every game per hundred
+ * above fifty is what a player who knows how the bot decides can win from it.
+ * The measure is a lower bound, as good as the best response found so far, so it
+ * grows with the training and settles as the response converges.
+ * </p>
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>{@code
+ * Exploitability easy = new Exploitability(Entrant.of(Difficulty.EASY), 20_000, seed);
+ * easy.train(10);
+ * double lost = Exploitability.lossesPerHundred(easy.measure(4096));
+ * }</pre>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class Exploitability {
+
+    /** Name of the best response in the match against the target. */
+    private static final String RESPONDER = "BestResponse";
+
+    /** Mixed into the seed of the measuring match, away from the training deals. */
+    private static final long MEASURE_SALT = 0x4D656173757265L;
+
+    /** The bot measured. */
+    private final Entrant target;
+
+    /** Seed of the training and the measure. */
+    private final long seed;
+
+    /** Best response to the target. */
+    private BestResponse response;
+
+    /**
+     * Creates a measure with an untrained best response.
+     *
+     * @param target             the bot measured
+     * @param iterationsPerEpoch the training iterations per epoch
+     * @param seed               the seed of the training and the measure
+     * @throws IllegalArgumentException if the target is named like the best response
+     */
+    public Exploitability(Entrant target, int iterationsPerEpoch, long seed) {
+        if (RESPONDER.equals(target.getName())) {
+            throw new IllegalArgumentException("The target cannot be named " + RESPONDER);
+        }
+        this.target = target;
+        this.seed = seed;
+        this.response = new BestResponse(target::newStrategy, target::newBudget, iterationsPerEpoch, seed);
+    }
+
+    /**
+     * Trains the best response further.
+     *
+     * @param epochs the epochs to run
+     * @return this measure
+     * @throws IllegalStateException if a task fails or the thread is interrupted
+     */
+    public Exploitability train(int epochs) {
+        response.train(epochs);
+        return this;
+    }
+
+    /**
+     * Plays the best response found so far against the target.
+     *
+     * @param games the games to play, rounded up to whole duplicate deals
+     * @return the result, with the best response as the first entrant
+     * @throws IllegalStateException if a game fails or the match is interrupted
+     */
+    public MatchResult measure(int games) {
+        BestResponse snapshot = response;
+        Entrant responder = new Entrant(RESPONDER, workerSeed -> snapshot.strategy(),
+                () -> DecisionBudget.ofNodes(DecisionBudget.UNLIMITED));
+        Tournament tournament = new Tournament(List.of(responder, target), 2, seed ^ MEASURE_SALT);
+        tournament.setDuplicate(true);
+        tournament.setSprt(null);
+        tournament.setMaxGames(games);
+        return tournament.playMatch(responder, target);
+    }
+
+    /**
+     * Returns the games per hundred the target lost in a measuring match.
+     *
+     * @param result the result of {@link #measure(int)}
+     * @return the losses per hundred games, 50 for a strategy that was not exploited
+     */
+    public static double lossesPerHundred(MatchResult result) {
+        return 100 * result.getScore();
+    }
+
+    /**
+     * Returns the half width of the 95% interval of {@link #lossesPerHundred(MatchResult)}.
+     *
+     * @param result the result of {@link #measure(int)}
+     * @return the margin, in games per hundred
+     */
+    public static double marginPerHundred(MatchResult result) {
+        return 100 * MatchResult.Z95 * result.getScoreError();
+    }
+
+    /**
+     * Saves the training of the best response.
+     *
+     * @param file the checkpoint file
+     * @throws IOException if the file cannot be written
+     */
+    public void checkpoint(Path file) throws IOException {
+        response.checkpoint(file);
+    }
+
+    /**
+     * Continues from a saved training of the best response to the same target.
+     *
+     * @param file the checkpoint file
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a best-response checkpoint
+     */
+    public void resume(Path file) throws IOException {
+        response = BestResponse.resume(file, target::newStrategy, target::newBudget);
+    }
+
+    /**
+     * Returns the best response to the target.
+     *
+     * @return the solver, trained so far
+     */
+    public BestResponse getResponse() {
+        return response;
+    }
+
+    /**
+     * Measures difficulty levels, checkpointing the training of each after
+     * every epoch so an interrupted run continues where it stopped.
+     *
+     * @param args optionally the checkpoint directory, the epochs, the iterations
+     *             per epoch, the measuring games and the levels, separated by
+     *             commas; the search levels make long runs
+     * @throws IOException if a checkpoint cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        Path directory = Paths.get(args.length > 0 ? args[0] : ".");
+        int epochs = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int iterations = args.length > 2 ? Integer.parseInt(args[2]) : 20_000;
+        int games = args.length > 3 ? Integer.parseInt(args[3]) : 8192;
+        String levels = args.length > 4 ? args[4].toUpperCase() : "EASY,MEDIUM,HARD";
+        for (String level : levels.split(",")) {
+            Difficulty difficulty = Difficulty.valueOf(level.trim());
+            Path checkpoint = directory.resolve("50zo-br-" + difficulty.name().toLowerCase() + ".ckpt");
+            Exploitability measure = new Exploitability(Entrant.of(difficulty), iterations, 50);
+            if (Files.exists(checkpoint)) {
+                measure.resume(checkpoint);
+            }
+            while (measure.response.getEpochs() < epochs) {
+                measure.train(1).checkpoint(checkpoint);
+                System.out.printf("🧮 %s epoch %d: %d information sets explored%n", difficulty,
+                        measure.response.getEpochs(), measure.response.exploredInfoSets());
+            }
+            MatchResult result = measure.measure(games);
+            System.out.printf("🏁 %s loses %.1f ± %.1f games per hundred to its best response (%s)%n",
+                    difficulty, lossesPerHundred(result), marginPerHundred(result), result);
+        }
+    }
+}
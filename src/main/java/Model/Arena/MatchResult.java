@@ -0,0 +1,210 @@
+package Model.Arena;
+
+/**
+ * Result of a match between two entrants of a {@link Tournament}.
+ * <p>
+ * Besides the raw counts, the result estimates the Elo difference between the
+ * entrants from the score of the first one, with the margin of a 95% confidence
+ * interval, and keeps the decision of the {@link Sprt} that stopped the match.
+ * The standard error of the score is measured on the groups of games the match
+ * was played in (single games, or deals replayed in duplicate), so
+ * {@link #getVarianceReduction()} tells how many independent games each game of a
+ * duplicate match was worth.
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public final class MatchResult {
+
+    /** Quantile of the normal distribution for a 95% interval. */
+    static final double Z95 = 1.959964;
+
+    /** First entrant. */
+    private final String first;
+
+    /** Second entrant. */
+    private final String second;
+
+    /** Games won by the first entrant. */
+    private final long wins;
+
+    /** Games won by the second entrant. */
+    private final long losses;
+
+    /** Games that hit the turn limit. */
+    private final long draws;
+
+    /** Decision of the sequential test when the match stopped. */
+    private final Sprt.Decision decision;
+
+    /** Log-likelihood ratio of the sequential test when the match stopped. */
+    private final double llr;
+
+    /** Standard error of the score. */
+    private final double scoreError;
+
+    /**
+     * Creates a result.
+     *
+     * @param first      the name of the first entrant
+     * @param second     the name of the second entrant
+     * @param wins       the games won by the first entrant
+     * @param losses     the games won by the second entrant
+     * @param draws      the games without a winner
+     * @param decision   the decision of the sequential test
+     * @param llr        the log-likelihood ratio of the sequential test
+     * @param scoreError the standard error of the score
+     */
+    MatchResult(String first, String second, long wins, long losses, long draws,
+                Sprt.Decision decision, double llr, double scoreError) {
+        this.first = first;
+        this.second = second;
+        this.wins = wins;
+        this.losses = losses;
+        this.draws = draws;
+        this.decision = decision;
+        this.llr = llr;
+        this.scoreError = scoreError;
+    }
+
+    /**
+     * Returns the share of the points won by the first entrant, draws counting half.
+     *
+     * @return the score between 0 and 1, or 0.5 before any game
+     */
+    public double getScore() {
+        long games = getGames();
+        return games == 0 ? 0.5 : (wins + 0.5 * draws) / games;
+    }
+
+    /**
+     * Returns the estimated Elo difference between the first and the second entrant.
+     *
+     * @return the difference, infinite if one entrant won every game
+     */
+    public double getEloDifference() {
+        return EloRatings.difference(getScore());
+    }
+
+    /**
+     * Returns the half width of the 95% confidence interval of the Elo difference.
+     *
+     * @return the margin in Elo points, infinite when the score is 0 or 1
+     */
+    public double getEloMargin() {
+        double score = getScore();
+        if (getGames() == 0 || score <= 0 || score >= 1) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double error = Z95 * scoreError;
+        double high = EloRatings.difference(Math.min(score + error, 1 - 1e-9));
+        double low = EloRatings.difference(Math.max(score - error, 1e-9));
+        return (high - low) / 2;
+    }
+
+    /**
+     * Returns the standard error of the score.
+     *
+     * @return the error, measured on the groups of games of the match
+     */
+    public double getScoreError() {
+        return scoreError;
+    }
+
+    /**
+     * Returns how many times smaller the variance of the score is than it would be
+     * with as many independent games: about 1 for single games, more when deals
+     * are replayed in duplicate.
+     *
+     * @return the factor, infinite when the groups all scored the same
+     */
+    public double getVarianceReduction() {
+        double score = getScore();
+        double independent = score * (1 - score) / Math.max(1, getGames());
+        return scoreError == 0 ? Double.POSITIVE_INFINITY : independent / (scoreError * scoreError);
+    }
+
+    /**
+     * Returns the name of the first entrant.
+     *
+     * @return the name
+     */
+    public String getFirst() {
+        return first;
+    }
+
+    /**
+     * Returns the name of the second entrant.
+     *
+     * @return the name
+     */
+    public String getSecond() {
+        return second;
+    }
+
+    /**
+     * Returns the games won by the first entrant.
+     *
+     * @return the wins
+     */
+    public long getWins() {
+        return wins;
+    }
+
+    /**
+     * Returns the games won by the second entrant.
+     *
+     * @return the losses of the first entrant
+     */
+    public long getLosses() {
+        return losses;
+    }
+
+    /**
+     * Returns the games that ended without a winner.
+     *
+     * @return the draws
+     */
+    public long getDraws() {
+        return draws;
+    }
+
+    /**
+     * Returns the games played.
+     *
+     * @return the wins, losses and draws
+     */
+    public long getGames() {
+        return wins + losses + draws;
+    }
+
+    /**
+     * Returns the decision of the sequential test when the match stopped.
+     *
+     * @return {@link Sprt.Decision#CONTINUE} if the match reached its game limit undecided
+     */
+    public Sprt.Decision getDecision() {
+        return decision;
+    }
+
+    /**
+     * Returns the log-likelihood ratio of the sequential test when the match stopped.
+     *
+     * @return the ratio
+     */
+    public double getLlr() {
+        return llr;
+    }
+
+    /**
+     * Returns a one-line summary for logs.
+     *
+     * @return the entrants, the counts, the Elo estimate and the decision
+     */
+    @Override
+    public String toString() {
+        return String.format("%s vs %s: +%d -%d =%d, %+.0f ± %.0f Elo, LLR %.2f, %s",
+                first, second, wins, losses, draws, getEloDifference(), getEloMargin(), llr, decision);
+    }
+}
@@ -0,0 +1,589 @@
+package Model.Arena;
+
+import Model.Bots.BotStrategy;
+import Model.Bots.DecisionBudget;
+import Model.Bots.GreedyStrategy;
+import Model.Bots.HeuristicStrategy;
+import Model.Bots.SearchPool;
+import Model.Engine.FastRandom;
+import Model.Engine.HeadlessGame;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Tunes the parameters of a bot by playing candidate settings against a fixed
+ * opponent on the headless engine.
+ * <p>
+ * The search runs in generations of {@link #DEFAULT_POPULATION} candidates, with
+ * one of three {@link Method}s: the points of a regular grid in order, points drawn
+ * uniformly in the {@link ParameterSpace}, or an evolution strategy in the style
+ * of CMA-ES. The evolution strategy samples each generation around a mean with
+ * one step size per parameter, then moves the mean to a weighted average of the
+ * better half and adapts every step size to the spread of that half (the rank-μ
+ * update of CMA-ES, restricted to a diagonal covariance).
+ * </p>
+ *
+ * <p>Every candidate plays one duplicate {@link Tournament} match, whose batches
+ * run on all the cores of the {@link SearchPool}. All candidates share the match
+ * seed and the entrant name, so they play exactly the same deals: the differences
+ * between their scores come from their parameters, not from the cards. Each
+ * generation is drawn from the search seed and its number, so a search resumed
+ * from a {@link #checkpoint(Path) checkpoint} continues exactly as an
+ * uninterrupted one.</p>
+ *
+ * <p>The best of many noisy scores is biased upwards, so {@link #confirm(double[], int)}
+ * plays the chosen setting again on fresh deals, which gives an honest estimate
+ * of its strength and of its confidence interval.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class ParameterSearch {
+
+    /**
+     * How the candidates of a generation are chosen.
+     */
+    public enum Method {
+        /** The next points of a regular grid. */
+        GRID,
+        /** Points drawn uniformly in the space. */
+        RANDOM,
+        /** Points sampled around a mean that follows the best candidates. */
+        EVOLUTION
+    }
+
+    /** Identifies a checkpoint file ("50ZP"). */
+    static final int CHECKPOINT_MAGIC = 0x35305A50;
+
+    /** Version of the checkpoint format. */
+    static final int VERSION = 1;
+
+    /** Candidates per generation unless another number is set. */
+    public static final int DEFAULT_POPULATION = 16;
+
+    /** Games per candidate unless another number is set. */
+    public static final int DEFAULT_GAMES = 1024;
+
+    /** Grid values per parameter unless another number is set. */
+    public static final int DEFAULT_GRID_STEPS = 3;
+
+    /** Name of every candidate, shared so that they all play the same deals. */
+    private static final String CANDIDATE = "Candidate";
+
+    /** Mixed into the seed of the confirmation matches. */
+    private static final long CONFIRM_SALT = 0x436F6E6669726DL;
+
+    /** Weight of the new spread when the step sizes are adapted. */
+    private static final double LEARNING_RATE = 0.5;
+
+    /** Smallest step size, as a share of the interval of its parameter. */
+    private static final double MIN_STEP = 0.01;
+
+    /** Space explored. */
+    private final ParameterSpace space;
+
+    /** Creates the strategy of a candidate from its parameters. */
+    private final Function<double[], BotStrategy> strategies;
+
+    /** Opponent of every candidate. */
+    private final Entrant opponent;
+
+    /** Seats at every table. */
+    private final int seats;
+
+    /** Seed of the whole search. */
+    private final long seed;
+
+    /** How candidates are chosen. */
+    private final Method method;
+
+    /** Candidates per generation. */
+    private int population = DEFAULT_POPULATION;
+
+    /** Games per candidate. */
+    private int gamesPerCandidate = DEFAULT_GAMES;
+
+    /** Grid values per parameter. */
+    private int gridSteps = DEFAULT_GRID_STEPS;
+
+    /** Center of the samples of the evolution strategy. */
+    private final double[] mean;
+
+    /** Step size of every parameter in the evolution strategy. */
+    private final double[] steps;
+
+    /** Generations completed. */
+    private int generation;
+
+    /** Every candidate evaluated, in order. */
+    private final List<Trial> trials = new ArrayList<>();
+
+    /**
+     * A candidate setting and the match it played.
+     */
+    public static final class Trial {
+
+        /** Parameters of the candidate. */
+        private final double[] parameters;
+
+        /** Match of the candidate against the opponent. */
+        private final MatchResult result;
+
+        /** Generation of the candidate. */
+        private final int generation;
+
+        /**
+         * Creates a trial.
+         *
+         * @param parameters the parameters of the candidate
+         * @param result     the match it played
+         * @param generation the generation it belongs to
+         */
+        Trial(double[] parameters, MatchResult result, int generation) {
+            this.parameters = parameters;
+            this.result = result;
+            this.generation = generation;
+        }
+
+        /**
+         * Returns the parameters of the candidate.
+         *
+         * @return a copy of the parameters
+         */
+        public double[] getParameters() {
+            return parameters.clone();
+        }
+
+        /**
+         * Returns the match of the candidate against the opponent.
+         *
+         * @return the result
+         */
+        public MatchResult getResult() {
+            return result;
+        }
+
+        /**
+         * Returns the generation of the candidate.
+         *
+         * @return the generation, from 0
+         */
+        public int getGeneration() {
+            return generation;
+        }
+    }
+
+    /**
+     * Creates a search.
+     *
+     * @param space      the space explored
+     * @param strategies creates the strategy of a candidate from its parameters
+     * @param opponent   the opponent of every candidate
+     * @param seats      the seats at every table
+     * @param seed       the seed of the search
+     * @param method     how candidates are chosen
+     * @throws IllegalArgumentException if the opponent is named like the candidates
+     *                                  or the number of seats is invalid
+     */
+    public ParameterSearch(ParameterSpace space, Function<double[], BotStrategy> strategies,
+                           Entrant opponent, int seats, long seed, Method method) {
+        if (CANDIDATE.equals(opponent.getName())) {
+            throw new IllegalArgumentException("The opponent cannot be named " + CANDIDATE);
+        }
+        if (seats < 2 || seats > HeadlessGame.MAX_SEATS) {
+            throw new IllegalArgumentException("Invalid number of seats: " + seats);
+        }
+        this.space = space;
+        this.strategies = strategies;
+        this.opponent = opponent;
+        this.seats = seats;
+        this.seed = seed;
+        this.method = method;
+        this.mean = new double[space.dimensions()];
+        this.steps = new double[space.dimensions()];
+        for (int i = 0; i < mean.length; i++) {
+            mean[i] = (space.getLow(i) + space.getHigh(i)) / 2;
+            steps[i] = (space.getHigh(i) - space.getLow(i)) / 4;
+        }
+    }
+
+    /**
+     * Plays one more generation of candidates.
+     *
+     * @return the trials of the generation
+     * @throws IllegalStateException if the grid is exhausted, a game fails or the
+     *                               search is interrupted
+     */
+    public List<Trial> step() {
+        if (isDone()) {
+            throw new IllegalStateException("Every point of the grid has been played");
+        }
+        List<Trial> played = new ArrayList<>();
+        for (double[] point : propose()) {
+            played.add(new Trial(point, evaluate(point, seed, gamesPerCandidate), generation));
+        }
+        trials.addAll(played);
+        if (method == Method.EVOLUTION) {
+            adapt(played);
+        }
+        generation++;
+        return played;
+    }
+
+    /**
+     * Tells whether the search has nothing left to play, which only happens to a
+     * grid search.
+     *
+     * @return {@code true} once every point of the grid has been played
+     */
+    public boolean isDone() {
+        return method == Method.GRID && (long) generation * population >= space.gridSize(gridSteps);
+    }
+
+    /**
+     * Returns the candidate with the best score so far.
+     *
+     * @return the trial
+     * @throws IllegalStateException if no generation has been played
+     */
+    public Trial best() {
+        return trials.stream()
+                .max(Comparator.comparingDouble(trial -> trial.getResult().getScore()))
+                .orElseThrow(() -> new IllegalStateException("No candidate has been played"));
+    }
+
+    /**
+     * Plays a setting against the opponent on deals no candidate has seen.
+     *
+     * @param parameters the setting, usually the one of {@link #best()}
+     * @param games      the games to play
+     * @return the result, whose Elo estimate and margin are unbiased by the search
+     * @throws IllegalStateException if a game fails or the match is interrupted
+     */
+    public MatchResult confirm(double[] parameters, int games) {
+        return evaluate(parameters.clone(), FastRandom.mix(seed ^ CONFIRM_SALT), games);
+    }
+
+    /**
+     * Saves everything needed to continue the search. The file is written next to
+     * the target and then moved over it, so a crash never leaves half a checkpoint.
+     *
+     * @param file the checkpoint file
+     * @throws IOException if the file cannot be written
+     */
+    public void checkpoint(Path file) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream stream = Files.newOutputStream(temporary);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+            out.writeInt(CHECKPOINT_MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(method.ordinal());
+            out.writeInt(space.dimensions());
+            out.writeLong(seed);
+            out.writeInt(seats);
+            out.writeInt(population);
+            out.writeInt(gamesPerCandidate);
+            out.writeInt(gridSteps);
+            out.writeInt(generation);
+            for (int i = 0; i < mean.length; i++) {
+                out.writeDouble(mean[i]);
+                out.writeDouble(steps[i]);
+            }
+            out.writeInt(trials.size());
+            for (Trial trial : trials) {
+                out.writeInt(trial.generation);
+                for (double parameter : trial.parameters) {
+                    out.writeDouble(parameter);
+                }
+                out.writeLong(trial.result.getWins());
+                out.writeLong(trial.result.getLosses());
+                out.writeLong(trial.result.getDraws());
+                out.writeDouble(trial.result.getScoreError());
+            }
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Restores the progress of a search from a checkpoint. The settings saved in
+     * the file replace the ones of this search.
+     *
+     * @param file the checkpoint file
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a checkpoint of this
+     *                                  version, or belongs to another search
+     */
+    public void resume(Path file) throws IOException {
+        try (InputStream stream = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(stream))) {
+            if (in.readInt() != CHECKPOINT_MAGIC || in.readInt() != VERSION) {
+                throw new IllegalArgumentException("Not a 50zo search checkpoint of version " + VERSION);
+            }
+            if (in.readInt() != method.ordinal() || in.readInt() != space.dimensions()
+                    || in.readLong() != seed || in.readInt() != seats) {
+                throw new IllegalArgumentException("Checkpoint of another search: " + file);
+            }
+            population = in.readInt();
+            gamesPerCandidate = in.readInt();
+            gridSteps = in.readInt();
+            generation = in.readInt();
+            for (int i = 0; i < mean.length; i++) {
+                mean[i] = in.readDouble();
+                steps[i] = in.readDouble();
+            }
+            trials.clear();
+            for (int t = in.readInt(); t > 0; t--) {
+                int trialGeneration = in.readInt();
+                double[] parameters = new double[space.dimensions()];
+                for (int i = 0; i < parameters.length; i++) {
+                    parameters[i] = in.readDouble();
+                }
+                MatchResult result = new MatchResult(CANDIDATE, opponent.getName(), in.readLong(), in.readLong(),
+                        in.readLong(), Sprt.Decision.CONTINUE, 0, in.readDouble());
+                trials.add(new Trial(parameters, result, trialGeneration));
+            }
+        }
+    }
+
+    /**
+     * Proposes the candidates of the current generation.
+     *
+     * @return the points to play
+     */
+    private List<double[]> propose() {
+        List<double[]> points = new ArrayList<>(population);
+        if (method == Method.GRID) {
+            long end = Math.min((long) (generation + 1) * population, space.gridSize(gridSteps));
+            for (long index = (long) generation * population; index < end; index++) {
+                points.add(space.gridPoint(index, gridSteps));
+            }
+            return points;
+        }
+        FastRandom random = new FastRandom(FastRandom.mix(seed ^ generation));
+        for (int c = 0; c < population; c++) {
+            if (method == Method.RANDOM) {
+                points.add(space.uniform(random));
+                continue;
+            }
+            double[] point = new double[mean.length];
+            for (int i = 0; i < point.length; i++) {
+                point[i] = mean[i] + steps[i] * gaussian(random);
+            }
+            points.add(space.clamp(point));
+        }
+        return points;
+    }
+
+    /**
+     * Moves the mean and the step sizes of the evolution strategy towards the
+     * better half of a generation.
+     *
+     * @param played the trials of the generation
+     */
+    private void adapt(List<Trial> played) {
+        List<Trial> ranked = new ArrayList<>(played);
+        ranked.sort(Comparator.comparingDouble((Trial trial) -> trial.getResult().getScore()).reversed());
+        int parents = Math.max(1, ranked.size() / 2);
+        double[] weights = new double[parents];
+        double total = 0;
+        for (int k = 0; k < parents; k++) {
+            weights[k] = Math.log(parents + 0.5) - Math.log(k + 1);
+            total += weights[k];
+        }
+        for (int i = 0; i < mean.length; i++) {
+            double center = 0;
+            double spread = 0;
+            for (int k = 0; k < parents; k++) {
+                double value = ranked.get(k).parameters[i];
+                center += weights[k] / total * value;
+                spread += weights[k] / total * (value - mean[i]) * (value - mean[i]);
+            }
+            double floor = MIN_STEP * (space.getHigh(i) - space.getLow(i));
+            steps[i] = Math.max(floor, Math.sqrt((1 - LEARNING_RATE) * steps[i] * steps[i] + LEARNING_RATE * spread));
+            mean[i] = center;
+        }
+    }
+
+    /**
+     * Plays a setting against the opponent in duplicate.
+     *
+     * @param parameters the setting
+     * @param matchSeed  the seed of the match
+     * @param games      the games to play
+     * @return the result of the match
+     */
+    private MatchResult evaluate(double[] parameters, long matchSeed, int games) {
+        Entrant candidate = candidate(parameters);
+        Tournament tournament = new Tournament(List.of(candidate, opponent), seats, matchSeed);
+        tournament.setDuplicate(true);
+        tournament.setSprt(null);
+        tournament.setMaxGames(games);
+        return tournament.playMatch(candidate, opponent);
+    }
+
+    /**
+     * Creates the entrant of a setting.
+     *
+     * @param parameters the setting
+     * @return the entrant, named {@value #CANDIDATE}
+     */
+    private Entrant candidate(double[] parameters) {
+        return new Entrant(CANDIDATE, workerSeed -> strategies.apply(parameters.clone()), ParameterSearch::unlimited);
+    }
+
+    /**
+     * Draws a standard normal value (Box-Muller).
+     *
+     * @param random the source of the draws
+     * @return the value
+     */
+    private static double gaussian(FastRandom random) {
+        double radius = Math.sqrt(-2 * Math.log(1 - random.nextDouble()));
+        return radius * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+
+    /**
+     * Creates a budget without limits, for strategies that do not search.
+     *
+     * @return the budget
+     */
+    private static DecisionBudget unlimited() {
+        return DecisionBudget.ofNodes(DecisionBudget.UNLIMITED);
+    }
+
+    /**
+     * Sets the candidates per generation.
+     *
+     * @param population the candidates, at least 2
+     * @throws IllegalArgumentException if the population is too small
+     */
+    public void setPopulation(int population) {
+        if (population < 2) {
+            throw new IllegalArgumentException("A generation needs two candidates: " + population);
+        }
+        this.population = population;
+    }
+
+    /**
+     * Sets the games of every candidate, rounded up to whole duplicate deals.
+     *
+     * @param games the games, at least 2
+     * @throws IllegalArgumentException if there are too few games
+     */
+    public void setGamesPerCandidate(int games) {
+        if (games < 2) {
+            throw new IllegalArgumentException("A candidate needs two games: " + games);
+        }
+        this.gamesPerCandidate = games;
+    }
+
+    /**
+     * Sets the values per parameter of a grid search.
+     *
+     * @param gridSteps the values, at least 2, bounds included
+     * @throws IllegalArgumentException if there are too few values
+     */
+    public void setGridSteps(int gridSteps) {
+        if (gridSteps < 2) {
+            throw new IllegalArgumentException("A grid needs two values per parameter: " + gridSteps);
+        }
+        this.gridSteps = gridSteps;
+    }
+
+    /**
+     * Sets the first mean of the evolution strategy, usually the hand-made setting.
+     *
+     * @param start the point, clamped into the space
+     */
+    public void setStart(double[] start) {
+        System.arraycopy(space.clamp(start.clone()), 0, mean, 0, mean.length);
+    }
+
+    /**
+     * Returns the current mean of the evolution strategy.
+     *
+     * @return a copy of the mean
+     */
+    public double[] getMean() {
+        return mean.clone();
+    }
+
+    /**
+     * Returns the generations completed.
+     *
+     * @return the number of generations
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns every candidate played so far.
+     *
+     * @return an unmodifiable list, in the order the candidates were played
+     */
+    public List<Trial> getTrials() {
+        return Collections.unmodifiableList(trials);
+    }
+
+    /**
+     * Returns the space explored.
+     *
+     * @return the space
+     */
+    public ParameterSpace getSpace() {
+        return space;
+    }
+
+    /**
+     * Tunes the weights of {@link HeuristicStrategy} against the greedy bot,
+     * checkpointing after every generation, and confirms the best setting.
+     *
+     * @param args the checkpoint file, then optionally the method, the generations
+     *             and the games per candidate
+     * @throws IOException if the checkpoint cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        Path checkpoint = Paths.get(args.length > 0 ? args[0] : "50zo-search.ckpt");
+        Method method = args.length > 1 ? Method.valueOf(args[1].toUpperCase()) : Method.EVOLUTION;
+        int generations = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+        int games = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_GAMES;
+        ParameterSpace space = new ParameterSpace(HeuristicStrategy.weightNames(),
+                HeuristicStrategy.lowerBounds(), HeuristicStrategy.upperBounds());
+        Entrant greedy = new Entrant("Greedy", workerSeed -> new GreedyStrategy(), ParameterSearch::unlimited);
+        ParameterSearch search = new ParameterSearch(space, HeuristicStrategy::new, greedy, 4, 50, method);
+        search.setGamesPerCandidate(games);
+        search.setStart(HeuristicStrategy.defaultWeights());
+        if (Files.exists(checkpoint)) {
+            search.resume(checkpoint);
+        }
+        long start = System.nanoTime();
+        while (search.getGeneration() < generations && !search.isDone()) {
+            search.step();
+            search.checkpoint(checkpoint);
+            Trial best = search.best();
+            System.out.printf("🧪 Generation %d: best score %.3f with %s, %d ms%n", search.getGeneration(),
+                    best.getResult().getScore(), space.format(best.parameters),
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+        Trial best = search.best();
+        MatchResult confirmed = search.confirm(best.parameters, 4 * search.gamesPerCandidate);
+        System.out.println("🏁 Best setting: " + space.format(best.parameters));
+        System.out.println("🏁 On fresh deals: " + confirmed);
+    }
+}
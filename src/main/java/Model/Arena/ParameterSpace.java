@@ -0,0 +1,166 @@
+package Model.Arena;
+
+import Model.Engine.FastRandom;
+
+import java.util.List;
+
+/**
+ * Box of parameter values explored by a {@link ParameterSearch}.
+ * <p>
+ * Every parameter has a name and an interval. The space draws uniform points,
+ * enumerates a regular grid and clamps the points proposed by a search back into
+ * the box.
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public final class ParameterSpace {
+
+    /** Names of the parameters. */
+    private final List<String> names;
+
+    /** Smallest value of every parameter. */
+    private final double[] lows;
+
+    /** Largest value of every parameter. */
+    private final double[] highs;
+
+    /**
+     * Creates a space.
+     *
+     * @param names the names of the parameters
+     * @param lows  the smallest value of every parameter
+     * @param highs the largest value of every parameter
+     * @throws IllegalArgumentException if the sizes differ, the space is empty or
+     *                                  an interval is empty
+     */
+    public ParameterSpace(List<String> names, double[] lows, double[] highs) {
+        if (names.isEmpty() || names.size() != lows.length || names.size() != highs.length) {
+            throw new IllegalArgumentException("Need as many bounds as parameters: " + names);
+        }
+        for (int i = 0; i < lows.length; i++) {
+            if (!(highs[i] > lows[i])) {
+                throw new IllegalArgumentException("Empty interval for " + names.get(i));
+            }
+        }
+        this.names = List.copyOf(names);
+        this.lows = lows.clone();
+        this.highs = highs.clone();
+    }
+
+    /**
+     * Returns the number of parameters.
+     *
+     * @return the dimensions of the space
+     */
+    public int dimensions() {
+        return lows.length;
+    }
+
+    /**
+     * Returns the name of a parameter.
+     *
+     * @param index the parameter
+     * @return its name
+     */
+    public String getName(int index) {
+        return names.get(index);
+    }
+
+    /**
+     * Returns the smallest value of a parameter.
+     *
+     * @param index the parameter
+     * @return the lower bound
+     */
+    public double getLow(int index) {
+        return lows[index];
+    }
+
+    /**
+     * Returns the largest value of a parameter.
+     *
+     * @param index the parameter
+     * @return the upper bound
+     */
+    public double getHigh(int index) {
+        return highs[index];
+    }
+
+    /**
+     * Returns the number of points of a grid.
+     *
+     * @param steps the values per parameter, at least 2
+     * @return {@code steps} to the power of the dimensions
+     */
+    public long gridSize(int steps) {
+        long size = 1;
+        for (int i = 0; i < lows.length; i++) {
+            size = Math.multiplyExact(size, steps);
+        }
+        return size;
+    }
+
+    /**
+     * Returns a point of a grid whose values per parameter include both bounds.
+     *
+     * @param index the point, between 0 and {@link #gridSize(int)}; the first
+     *              parameter varies fastest
+     * @param steps the values per parameter, at least 2
+     * @return a new point
+     */
+    public double[] gridPoint(long index, int steps) {
+        double[] point = new double[lows.length];
+        for (int i = 0; i < lows.length; i++) {
+            int step = (int) (index % steps);
+            index /= steps;
+            point[i] = lows[i] + (highs[i] - lows[i]) * step / (steps - 1);
+        }
+        return point;
+    }
+
+    /**
+     * Draws a point uniformly in the box.
+     *
+     * @param random the source of the draws
+     * @return a new point
+     */
+    public double[] uniform(FastRandom random) {
+        double[] point = new double[lows.length];
+        for (int i = 0; i < lows.length; i++) {
+            point[i] = lows[i] + (highs[i] - lows[i]) * random.nextDouble();
+        }
+        return point;
+    }
+
+    /**
+     * Moves every value of a point into its interval.
+     *
+     * @param point the point, changed in place
+     * @return the same point
+     */
+    public double[] clamp(double[] point) {
+        for (int i = 0; i < lows.length; i++) {
+            point[i] = Math.max(lows[i], Math.min(highs[i], point[i]));
+        }
+        return point;
+    }
+
+    /**
+     * Formats a point with the names of its parameters.
+     *
+     * @param point the point
+     * @return for example {@code "pile=1.000, risk=2.000"}
+     */
+    public String format(double[] point) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < lows.length; i++) {
+            if (i > 0) {
+                text.append(", ");
+            }
+            text.append(names.get(i)).append('=').append(String.format("%.3f", point[i]));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,218 @@
+package Model.Arena;
+
+/**
+ * Sequential probability ratio test deciding whether one bot is stronger than another.
+ * <p>
+ * The test weighs two hypotheses about the Elo difference between the first and
+ * the second bot of a match: {@code H0}, a difference of {@code elo0}, and
+ * {@code H1}, a difference of {@code elo1}. Each decided game adds the log of
+ * the ratio of its likelihood under both hypotheses, with the win probability
+ * given by the Elo formula. The match stops as soon as the sum leaves the band
+ * set by the error rates {@code alpha} (accepting {@code H1} when {@code H0} is
+ * true) and {@code beta} (the reverse), which usually takes far fewer games than
+ * a fixed-length match with the same error rates.
+ * </p>
+ *
+ * <p>Games without a winner, which only happen when a game hits the turn limit,
+ * carry no evidence either way and are ignored.</p>
+ *
+ * <p>Results that are not single independent games, such as the average score of
+ * a deal replayed with the seats swapped, go through {@link #addScore(double)}
+ * instead. The test then becomes a generalized SPRT: the scores are taken as
+ * normal with the variance observed so far, and each hypothesis sets their mean
+ * to the Elo expected score. As far as a duplicate deal cancels the luck of the
+ * cards, the observed variance is smaller than that of single games and the test
+ * decides sooner. A test takes either games or scores, never both.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public final class Sprt {
+
+    /**
+     * Outcome of the test so far.
+     */
+    public enum Decision {
+        /** The evidence is not strong enough yet. */
+        CONTINUE,
+        /** The difference is {@code elo0} or less: the first bot is not stronger. */
+        ACCEPT_H0,
+        /** The difference is {@code elo1} or more: the first bot is stronger. */
+        ACCEPT_H1
+    }
+
+    /** Smallest variance assumed for scores, so equal scores do not divide by zero. */
+    private static final double MIN_VARIANCE = 1e-4;
+
+    /** Elo difference of the null hypothesis. */
+    private final double elo0;
+
+    /** Elo difference of the alternative hypothesis. */
+    private final double elo1;
+
+    /** Probability of accepting {@code H1} when {@code H0} holds. */
+    private final double alpha;
+
+    /** Probability of accepting {@code H0} when {@code H1} holds. */
+    private final double beta;
+
+    /** Log-likelihood ratio below which {@code H0} is accepted. */
+    private final double lower;
+
+    /** Log-likelihood ratio above which {@code H1} is accepted. */
+    private final double upper;
+
+    /** Log of the ratio added by a win of the first bot. */
+    private final double winWeight;
+
+    /** Log of the ratio added by a loss of the first bot. */
+    private final double lossWeight;
+
+    /** Wins of the first bot. */
+    private long wins;
+
+    /** Losses of the first bot. */
+    private long losses;
+
+    /** Expected score under {@code H0}. */
+    private final double score0;
+
+    /** Expected score under {@code H1}. */
+    private final double score1;
+
+    /** Scores recorded by {@link #addScore(double)}. */
+    private long scores;
+
+    /** Sum of the scores. */
+    private double sum;
+
+    /** Sum of the squared scores. */
+    private double sumOfSquares;
+
+    /**
+     * Creates a test.
+     *
+     * @param elo0  the Elo difference of {@code H0}
+     * @param elo1  the Elo difference of {@code H1}, greater than {@code elo0}
+     * @param alpha the probability of accepting {@code H1} when {@code H0} holds
+     * @param beta  the probability of accepting {@code H0} when {@code H1} holds
+     * @throws IllegalArgumentException if the hypotheses or the error rates are invalid
+     */
+    public Sprt(double elo0, double elo1, double alpha, double beta) {
+        if (!(elo1 > elo0)) {
+            throw new IllegalArgumentException("elo1 must be greater than elo0: " + elo0 + ", " + elo1);
+        }
+        if (!(alpha > 0 && alpha < 0.5 && beta > 0 && beta < 0.5)) {
+            throw new IllegalArgumentException("Error rates must be in (0, 0.5): " + alpha + ", " + beta);
+        }
+        this.elo0 = elo0;
+        this.elo1 = elo1;
+        this.alpha = alpha;
+        this.beta = beta;
+        this.lower = Math.log(beta / (1 - alpha));
+        this.upper = Math.log((1 - beta) / alpha);
+        this.score0 = EloRatings.expectedScore(elo0);
+        this.score1 = EloRatings.expectedScore(elo1);
+        this.winWeight = Math.log(score1 / score0);
+        this.lossWeight = Math.log((1 - score1) / (1 - score0));
+    }
+
+    /**
+     * Creates a fresh test with the same hypotheses and error rates.
+     *
+     * @return a test with no games
+     */
+    public Sprt copy() {
+        return new Sprt(elo0, elo1, alpha, beta);
+    }
+
+    /**
+     * Records the result of one game.
+     *
+     * @param firstWon whether the first bot won
+     * @throws IllegalStateException if the test already holds scores
+     */
+    public void add(boolean firstWon) {
+        if (scores > 0) {
+            throw new IllegalStateException("The test holds scores, not games");
+        }
+        if (firstWon) {
+            wins++;
+        } else {
+            losses++;
+        }
+    }
+
+    /**
+     * Records the score of the first bot over a group of games played together,
+     * such as a deal and its replay with the seats swapped.
+     *
+     * @param score the average score of the group, between 0 and 1
+     * @throws IllegalStateException if the test already holds single games
+     */
+    public void addScore(double score) {
+        if (wins + losses > 0) {
+            throw new IllegalStateException("The test holds games, not scores");
+        }
+        scores++;
+        sum += score;
+        sumOfSquares += score * score;
+    }
+
+    /**
+     * Returns the log-likelihood ratio of the results so far.
+     *
+     * @return the ratio; positive values favour {@code H1}
+     */
+    public double llr() {
+        if (scores == 0) {
+            return wins * winWeight + losses * lossWeight;
+        }
+        double mean = sum / scores;
+        double variance = Math.max(sumOfSquares / scores - mean * mean, MIN_VARIANCE);
+        return (score1 - score0) * (2 * sum - scores * (score0 + score1)) / (2 * variance);
+    }
+
+    /**
+     * Returns the outcome of the test so far.
+     *
+     * @return {@link Decision#CONTINUE} until the ratio leaves the band
+     */
+    public Decision decision() {
+        double llr = llr();
+        if (llr >= upper) {
+            return Decision.ACCEPT_H1;
+        }
+        if (llr <= lower) {
+            return Decision.ACCEPT_H0;
+        }
+        return Decision.CONTINUE;
+    }
+
+    /**
+     * Returns the ratio below which {@code H0} is accepted.
+     *
+     * @return the lower bound
+     */
+    public double getLowerBound() {
+        return lower;
+    }
+
+    /**
+     * Returns the ratio above which {@code H1} is accepted.
+     *
+     * @return the upper bound
+     */
+    public double getUpperBound() {
+        return upper;
+    }
+
+    /**
+     * Returns the results recorded so far.
+     *
+     * @return the wins plus the losses of the first bot, or the number of scores
+     */
+    public long getGames() {
+        return wins + losses + scores;
+    }
+}
@@ -0,0 +1,412 @@
+package Model.Arena;
+
+import Model.Bots.BotStrategy;
+import Model.Bots.DecisionBudget;
+import Model.Bots.DecisionView;
+import Model.Bots.Difficulty;
+import Model.Bots.ExpectimaxStrategy;
+import Model.Bots.GreedyStrategy;
+import Model.Bots.LowestRiskStrategy;
+import Model.Bots.RandomStrategy;
+import Model.Bots.SearchPool;
+import Model.Bots.TablebaseStrategy;
+import Model.Cards.Deck;
+import Model.Engine.FastRandom;
+import Model.Engine.HeadlessGame;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Plays bots against each other on the headless engine and rates them.
+ * <p>
+ * A tournament is a series of matches between two {@link Entrant}s: every pair
+ * of entrants in a {@link Format#ROUND_ROBIN}, or the first entrant against each
+ * of the others in a {@link Format#GAUNTLET}. The seats of a table are shared
+ * alternately between the two entrants of a match and the assignment is shifted
+ * by one seat every game, so over any two consecutive games both entrants sit in
+ * every seat equally often, starting seat included.
+ * </p>
+ *
+ * <p>A match is played in batches of {@value #BATCH} games split into {@value #TASKS}
+ * tasks on the {@link SearchPool}, each task with its own table and its own
+ * strategies. After every batch the results are applied in game order to the
+ * {@link EloRatings} and to a {@link Sprt}, and the match stops as soon as the
+ * test is decided or the game limit is reached. Every game is dealt from a seed
+ * derived from the tournament seed, the names of the entrants and the number of
+ * the game, so a tournament is reproducible whatever the number of cores.</p>
+ *
+ * <p>Most of the variance of a match comes from the cards, not from the bots. In
+ * {@linkplain #setDuplicate(boolean) duplicate} mode every deal, with its whole
+ * sequence of reshuffles, is played twice with the seats of the two entrants
+ * swapped, and with {@linkplain #setAntithetic(boolean) antithetic} deals every
+ * deal is also played as its antithetic twin, whose shuffles draw from the
+ * opposite end of every range. The games of a deal form a group scored together:
+ * luck that favours a seat cancels within the group, and the sequential test
+ * switches to the group scores (see {@link Sprt#addScore(double)}). How much this
+ * saves depends on how much the cards decide the games: a bot against a copy of
+ * itself splits every deal exactly and is settled in one batch, while bots of very
+ * different styles gain less. {@link MatchResult#getVarianceReduction()} reports
+ * the gain of a match.</p>
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>{@code
+ * Tournament tournament = new Tournament(List.of(Entrant.of(Difficulty.MEDIUM), greedy), 4, seed);
+ * tournament.setSprt(new Sprt(0, 30, 0.05, 0.05));
+ * List<MatchResult> results = tournament.run();
+ * }</pre>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class Tournament {
+
+    /**
+     * Which entrants meet.
+     */
+    public enum Format {
+        /** Every pair of entrants plays a match. */
+        ROUND_ROBIN,
+        /** The first entrant plays a match against each of the others. */
+        GAUNTLET
+    }
+
+    /** Games played between two checks of the sequential test. */
+    public static final int BATCH = 64;
+
+    /** Tasks a batch is split into. */
+    static final int TASKS = 16;
+
+    /** Game limit of a match unless another one is set. */
+    public static final int DEFAULT_MAX_GAMES = 20_000;
+
+    /** Outcome of a game won by the first entrant. */
+    private static final byte FIRST = 0;
+
+    /** Outcome of a game won by the second entrant. */
+    private static final byte SECOND = 1;
+
+    /** Outcome of a game that hit the turn limit. */
+    private static final byte DRAW = 2;
+
+    /** Entrants, in the order given. */
+    private final List<Entrant> entrants;
+
+    /** Seats at every table. */
+    private final int seats;
+
+    /** Seed from which every game is derived. */
+    private final long seed;
+
+    /** Ratings updated by every game. */
+    private final EloRatings ratings = new EloRatings();
+
+    /** Which entrants meet. */
+    private Format format = Format.ROUND_ROBIN;
+
+    /** Game limit of a match. */
+    private int maxGames = DEFAULT_MAX_GAMES;
+
+    /** Test copied for every match, or {@code null} to always play the game limit. */
+    private Sprt sprt = new Sprt(0, 50, 0.05, 0.05);
+
+    /** Whether every deal is replayed with the seats swapped. */
+    private boolean duplicate;
+
+    /** Whether every deal is also played as its antithetic twin. */
+    private boolean antithetic;
+
+    /**
+     * Creates a tournament.
+     *
+     * @param entrants the entrants, at least two, with different names
+     * @param seats    the seats at every table, between 2 and {@link HeadlessGame#MAX_SEATS}
+     * @param seed     the seed from which every game is derived
+     * @throws IllegalArgumentException if there are too few entrants, a repeated
+     *                                  name or an invalid number of seats
+     */
+    public Tournament(List<Entrant> entrants, int seats, long seed) {
+        if (entrants.size() < 2) {
+            throw new IllegalArgumentException("A tournament needs two entrants");
+        }
+        if (seats < 2 || seats > HeadlessGame.MAX_SEATS) {
+            throw new IllegalArgumentException("Invalid number of seats: " + seats);
+        }
+        Set<String> names = new HashSet<>();
+        for (Entrant entrant : entrants) {
+            if (!names.add(entrant.getName())) {
+                throw new IllegalArgumentException("Repeated entrant: " + entrant.getName());
+            }
+        }
+        this.entrants = List.copyOf(entrants);
+        this.seats = seats;
+        this.seed = seed;
+    }
+
+    /**
+     * Plays every match of the format.
+     *
+     * @return the results, in the order the matches were played
+     * @throws IllegalStateException if a game fails or the tournament is interrupted
+     */
+    public List<MatchResult> run() {
+        List<MatchResult> results = new ArrayList<>();
+        for (int i = 0; i < entrants.size(); i++) {
+            for (int j = i + 1; j < entrants.size(); j++) {
+                if (format == Format.GAUNTLET && i > 0) {
+                    return results;
+                }
+                results.add(playMatch(entrants.get(i), entrants.get(j)));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Plays one match until the sequential test is decided or the game limit is reached.
+     *
+     * @param first  the first entrant; the test asks whether it is stronger
+     * @param second the second entrant
+     * @return the result of the match
+     * @throws IllegalStateException if a game fails or the match is interrupted
+     */
+    public MatchResult playMatch(Entrant first, Entrant second) {
+        long matchSeed = FastRandom.mix(seed ^ FastRandom.mix(first.getName().hashCode())
+                ^ FastRandom.mix(31L * second.getName().hashCode() + 1));
+        int group = groupSize();
+        int limit = (maxGames + group - 1) / group * group;
+        Sprt test = sprt == null ? null : sprt.copy();
+        long wins = 0;
+        long losses = 0;
+        long draws = 0;
+        long groups = 0;
+        double sum = 0;
+        double sumOfSquares = 0;
+        int played = 0;
+        while (played < limit && (test == null || test.decision() == Sprt.Decision.CONTINUE)) {
+            int batch = Math.min(BATCH, limit - played);
+            byte[] outcomes = playBatch(first, second, matchSeed, played, batch);
+            for (int g = 0; g < batch; g += group) {
+                double score = 0;
+                for (int i = g; i < g + group; i++) {
+                    double result = outcomes[i] == FIRST ? 1 : outcomes[i] == SECOND ? 0 : 0.5;
+                    if (outcomes[i] == FIRST) {
+                        wins++;
+                    } else if (outcomes[i] == SECOND) {
+                        losses++;
+                    } else {
+                        draws++;
+                    }
+                    ratings.record(first.getName(), second.getName(), result);
+                    if (test != null && group == 1 && outcomes[i] != DRAW) {
+                        test.add(outcomes[i] == FIRST);
+                    }
+                    score += result;
+                }
+                score /= group;
+                if (test != null && group > 1) {
+                    test.addScore(score);
+                }
+                groups++;
+                sum += score;
+                sumOfSquares += score * score;
+            }
+            played += batch;
+        }
+        double mean = sum / groups;
+        double error = Math.sqrt(Math.max(0, sumOfSquares / groups - mean * mean) / groups);
+        return new MatchResult(first.getName(), second.getName(), wins, losses, draws,
+                test == null ? Sprt.Decision.CONTINUE : test.decision(), test == null ? 0 : test.llr(), error);
+    }
+
+    /**
+     * Returns the number of games scored together: one, or every replay of a deal.
+     *
+     * @return 1, 2 or 4
+     */
+    private int groupSize() {
+        return (duplicate ? 2 : 1) * (antithetic ? 2 : 1);
+    }
+
+    /**
+     * Plays a batch of games on the search pool.
+     * <p>
+     * Game {@code n} seats the first entrant in the even seats when {@code n} is
+     * even and in the odd seats otherwise. It is dealt from deal {@code n / group};
+     * with antithetic deals, the second half of each group plays the twin.
+     * </p>
+     *
+     * @param first     the first entrant
+     * @param second    the second entrant
+     * @param matchSeed the seed of the match
+     * @param offset    the number of the first game of the batch
+     * @param count     the games of the batch
+     * @return the outcome of every game, in game order
+     * @throws IllegalStateException if a game fails or the batch is interrupted
+     */
+    private byte[] playBatch(Entrant first, Entrant second, long matchSeed, int offset, int count) {
+        byte[] outcomes = new byte[count];
+        int group = groupSize();
+        int perDeal = duplicate ? 2 : 1;
+        List<Callable<Void>> tasks = new ArrayList<>(TASKS);
+        for (int task = 0; task < TASKS; task++) {
+            int from = count * task / TASKS;
+            int to = count * (task + 1) / TASKS;
+            if (from == to) {
+                continue;
+            }
+            tasks.add(() -> {
+                long taskSeed = FastRandom.mix(matchSeed + offset + from);
+                Entrant[] pair = {first, second};
+                BotStrategy[] strategies = {first.newStrategy(taskSeed), second.newStrategy(taskSeed + 1)};
+                DecisionBudget[] budgets = {first.newBudget(), second.newBudget()};
+                HeadlessGame game = new HeadlessGame(seats, Deck.decksFor(seats));
+                DecisionView view = new DecisionView();
+                for (int g = from; g < to; g++) {
+                    int number = offset + g;
+                    boolean twin = antithetic && (number / perDeal & 1) == 1;
+                    game.reset(FastRandom.mix(matchSeed ^ (number / group)), twin);
+                    outcomes[g] = playGame(game, view, pair, strategies, budgets, number & 1);
+                }
+                return null;
+            });
+        }
+        try {
+            for (Future<Void> future : SearchPool.get().invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Tournament interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Tournament game failed", e.getCause());
+        }
+        return outcomes;
+    }
+
+    /**
+     * Plays a dealt game to the end.
+     *
+     * @param game       the table, already reset
+     * @param view       the view reused for every decision
+     * @param pair       the two entrants
+     * @param strategies the strategy of each entrant
+     * @param budgets    the budget of each entrant
+     * @param rotation   0 if the first entrant sits in the even seats, 1 otherwise
+     * @return {@link #FIRST}, {@link #SECOND} or {@link #DRAW}
+     * @throws IllegalStateException if a strategy chooses a card it cannot play
+     */
+    static byte playGame(HeadlessGame game, DecisionView view, Entrant[] pair, BotStrategy[] strategies,
+                         DecisionBudget[] budgets, int rotation) {
+        while (!game.isOver()) {
+            if (game.eliminateIfStuck()) {
+                continue;
+            }
+            int player = (game.currentSeat() + rotation) & 1;
+            int choice = strategies[player].decide(view.load(game), budgets[player].start());
+            if (!game.canPlay(choice)) {
+                throw new IllegalStateException(pair[player] + " chose an unplayable card: " + choice);
+            }
+            game.play(choice);
+        }
+        if (game.winner() < 0) {
+            return DRAW;
+        }
+        return ((game.winner() + rotation) & 1) == 0 ? FIRST : SECOND;
+    }
+
+    /**
+     * Sets which entrants meet.
+     *
+     * @param format the format
+     */
+    public void setFormat(Format format) {
+        this.format = format;
+    }
+
+    /**
+     * Sets the game limit of a match, reached only when the test stays undecided.
+     *
+     * @param maxGames the game limit, at least 1
+     * @throws IllegalArgumentException if the limit is not positive
+     */
+    public void setMaxGames(int maxGames) {
+        if (maxGames < 1) {
+            throw new IllegalArgumentException("Invalid game limit: " + maxGames);
+        }
+        this.maxGames = maxGames;
+    }
+
+    /**
+     * Sets the sequential test of every match; each match uses a fresh copy.
+     *
+     * @param sprt the test, or {@code null} to play every match to its game limit
+     */
+    public void setSprt(Sprt sprt) {
+        this.sprt = sprt;
+    }
+
+    /**
+     * Sets whether every deal is replayed with the seats of the entrants swapped.
+     * The game limit is then rounded up to whole deals.
+     *
+     * @param duplicate {@code true} for duplicate play
+     */
+    public void setDuplicate(boolean duplicate) {
+        this.duplicate = duplicate;
+    }
+
+    /**
+     * Sets whether every deal is also played as its antithetic twin, whose
+     * shuffles mirror those of the deal.
+     *
+     * @param antithetic {@code true} to pair each deal with its twin
+     */
+    public void setAntithetic(boolean antithetic) {
+        this.antithetic = antithetic;
+    }
+
+    /**
+     * Returns the ratings updated by every game so far.
+     *
+     * @return the ratings
+     */
+    public EloRatings getRatings() {
+        return ratings;
+    }
+
+    /**
+     * Runs a round robin of the built-in bots in duplicate and prints the results.
+     *
+     * @param args optionally the seats, the game limit of a match and the seed
+     */
+    public static void main(String[] args) {
+        int seats = args.length > 0 ? Integer.parseInt(args[0]) : 2;
+        int maxGames = args.length > 1 ? Integer.parseInt(args[1]) : 4_000;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 50;
+        List<Entrant> entrants = List.of(
+                Entrant.of(Difficulty.MEDIUM),
+                Entrant.of(Difficulty.EASY),
+                new Entrant("Expectimax", s -> new TablebaseStrategy(new ExpectimaxStrategy()), Difficulty.HARD::newBudget),
+                new Entrant("LowestRisk", s -> new LowestRiskStrategy(), () -> DecisionBudget.ofNodes(DecisionBudget.UNLIMITED)),
+                new Entrant("Greedy", s -> new GreedyStrategy(), () -> DecisionBudget.ofNodes(DecisionBudget.UNLIMITED)),
+                new Entrant("Random", RandomStrategy::new, () -> DecisionBudget.ofNodes(DecisionBudget.UNLIMITED)));
+        Tournament tournament = new Tournament(entrants, seats, seed);
+        tournament.setMaxGames(maxGames);
+        tournament.setDuplicate(true);
+        long start = System.nanoTime();
+        for (MatchResult result : tournament.run()) {
+            System.out.println("⚔ " + result);
+        }
+        EloRatings ratings = tournament.getRatings();
+        for (String name : ratings.standings()) {
+            System.out.printf("%-12s %6.0f  (%d games)%n", name, ratings.rating(name), ratings.games(name));
+        }
+        System.out.printf("🏁 Tournament finished in %d ms%n", (System.nanoTime() - start) / 1_000_000);
+    }
+}
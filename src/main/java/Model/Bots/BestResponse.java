@@ -0,0 +1,531 @@
+package Model.Bots;
+
+import Model.Engine.FastRandom;
+import Model.Engine.HeadlessGame;
+import Model.Engine.Rules;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * Approximate heads-up best response to a fixed bot strategy.
+ * <p>
+ * The responder plays over the abstraction of {@link CfrTable}: an information
+ * set is a pile band and the value classes of a four-card hand, and a move is one
+ * of its slots. The solver keeps, for every slot of every information set, the
+ * average outcome of the games in which the responder took it there: the cached
+ * value of that subtree. Each iteration deals a game, lets the responder follow
+ * its current best slots and the target its own strategy for a random number of
+ * the responder's decisions, and then tries every playable slot of the next one,
+ * finishing each branch the same way. The outcomes refine the values of that
+ * information set, and so the slots chosen in later playouts: Monte Carlo policy
+ * iteration, which converges towards the best response within the abstraction.
+ * </p>
+ *
+ * <p>The response starts as greedy play, and an information set only switches to
+ * its best slot once every slot counted has {@value #MIN_VISITS} games behind it;
+ * trusting a handful of noisy games makes the response weaker than greedy play.
+ * The response is therefore never much worse than greedy play, and the
+ * exploitability it measures is a lower bound that rises with training.</p>
+ *
+ * <p>An epoch is split into {@link #TASKS} tasks on the {@link SearchPool}, each
+ * with its own tables and its own copy of the target strategy. Every task reads
+ * the values as they were at the start of the epoch and collects its own sums,
+ * merged in task order, so a given seed always gives the same response whatever
+ * the number of cores. The values are never recomputed: more epochs only refine
+ * them, and a {@link #checkpoint(Path) checkpoint} carries them to a later run.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class BestResponse {
+
+    /** Identifies a checkpoint file ("50ZB"). */
+    static final int CHECKPOINT_MAGIC = 0x35305A42;
+
+    /** Number of tasks an epoch is split into. */
+    static final int TASKS = 8;
+
+    /** Largest number of responder decisions played before the branching one. */
+    static final int MAX_OPENING_DECISIONS = 40;
+
+    /** Games a slot needs before its average outcome is trusted over greedy play. */
+    static final int MIN_VISITS = 64;
+
+    /** Number of entries of the value tables. */
+    private static final int ENTRIES = CfrTable.INFO_SETS * CfrTable.SLOTS;
+
+    /** Creates the target strategy of a task from a seed. */
+    private final LongFunction<BotStrategy> targets;
+
+    /** Creates the budget of the target strategy. */
+    private final Supplier<DecisionBudget> budgets;
+
+    /** Iterations per epoch. */
+    private final int iterationsPerEpoch;
+
+    /** Seed of the whole computation. */
+    private final long seed;
+
+    /** Sum of the outcomes of every slot. */
+    private final double[] valueSums = new double[ENTRIES];
+
+    /** Games behind every slot. */
+    private final long[] visits = new long[ENTRIES];
+
+    /** Epochs completed. */
+    private int epochs;
+
+    /** Tasks of an epoch, kept to reuse their buffers. */
+    private final Worker[] workers = new Worker[TASKS];
+
+    /**
+     * Creates a solver.
+     *
+     * @param targets            creates the target strategy from a seed; called for
+     *                           every task of every epoch
+     * @param budgets            creates the budget of each target strategy
+     * @param iterationsPerEpoch the iterations per epoch, at least {@link #TASKS}
+     * @param seed               the seed of the computation
+     * @throws IllegalArgumentException if there are too few iterations
+     */
+    public BestResponse(LongFunction<BotStrategy> targets, Supplier<DecisionBudget> budgets,
+                        int iterationsPerEpoch, long seed) {
+        if (iterationsPerEpoch < TASKS) {
+            throw new IllegalArgumentException("Need at least " + TASKS + " iterations per epoch");
+        }
+        this.targets = targets;
+        this.budgets = budgets;
+        this.iterationsPerEpoch = iterationsPerEpoch;
+        this.seed = seed;
+    }
+
+    /**
+     * Runs more epochs.
+     *
+     * @param count the number of epochs to run
+     * @return this solver
+     * @throws IllegalStateException if a task fails or the thread is interrupted
+     */
+    public BestResponse train(int count) {
+        for (int e = 0; e < count; e++) {
+            byte[] policy = bestSlots();
+            List<Callable<Worker>> tasks = new ArrayList<>(TASKS);
+            for (int task = 0; task < TASKS; task++) {
+                if (workers[task] == null) {
+                    workers[task] = new Worker();
+                }
+                Worker worker = workers[task];
+                long taskSeed = FastRandom.mix(seed + (long) epochs * TASKS + task);
+                worker.prepare(iterationsPerEpoch / TASKS + (task < iterationsPerEpoch % TASKS ? 1 : 0),
+                        taskSeed, policy, targets.apply(taskSeed));
+                tasks.add(worker);
+            }
+            try {
+                for (Future<Worker> future : SearchPool.get().invokeAll(tasks)) {
+                    future.get();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Best response interrupted", ex);
+            } catch (ExecutionException ex) {
+                throw new IllegalStateException("Best response task failed", ex.getCause());
+            }
+            epochs++;
+            for (Worker worker : workers) {
+                for (int i = 0; i < ENTRIES; i++) {
+                    valueSums[i] += worker.sumDeltas[i];
+                    visits[i] += worker.visitDeltas[i];
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns the current best response as a strategy. Heads-up positions with a
+     * full hand follow the best slot of their information set; everything else,
+     * and information sets never explored, is played greedily.
+     *
+     * @return a new strategy, independent of later training
+     */
+    public BotStrategy strategy() {
+        return new Responder(bestSlots());
+    }
+
+    /**
+     * Returns the average outcome of a slot.
+     *
+     * @param infoSet the information set
+     * @param slot    the slot
+     * @return the share of the games won after taking the slot, or {@code NaN} if never tried
+     */
+    public double value(int infoSet, int slot) {
+        int entry = infoSet * CfrTable.SLOTS + slot;
+        return visits[entry] == 0 ? Double.NaN : valueSums[entry] / visits[entry];
+    }
+
+    /**
+     * Returns the number of information sets with at least one slot explored.
+     *
+     * @return the explored information sets
+     */
+    public int exploredInfoSets() {
+        int explored = 0;
+        for (int infoSet = 0; infoSet < CfrTable.INFO_SETS; infoSet++) {
+            for (int slot = 0; slot < CfrTable.SLOTS; slot++) {
+                if (visits[infoSet * CfrTable.SLOTS + slot] > 0) {
+                    explored++;
+                    break;
+                }
+            }
+        }
+        return explored;
+    }
+
+    /**
+     * Returns the iterations run so far.
+     *
+     * @return the iterations
+     */
+    public long getIterations() {
+        return (long) epochs * iterationsPerEpoch;
+    }
+
+    /**
+     * Returns the epochs completed.
+     *
+     * @return the epochs
+     */
+    public int getEpochs() {
+        return epochs;
+    }
+
+    /**
+     * Saves everything needed to continue training. The file is written next to
+     * the target and then moved over it, so a crash never leaves half a checkpoint.
+     *
+     * @param file the checkpoint file
+     * @throws IOException if the file cannot be written
+     */
+    public void checkpoint(Path file) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream stream = Files.newOutputStream(temporary);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+            out.writeInt(CHECKPOINT_MAGIC);
+            out.writeInt(CfrTable.VERSION);
+            out.writeInt(iterationsPerEpoch);
+            out.writeLong(seed);
+            out.writeInt(epochs);
+            for (int i = 0; i < ENTRIES; i++) {
+                out.writeDouble(valueSums[i]);
+                out.writeLong(visits[i]);
+            }
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Restores a solver from a checkpoint. The target cannot be saved, so it is
+     * given again and must be the one the checkpoint was trained against.
+     *
+     * @param file    the checkpoint file
+     * @param targets creates the target strategy from a seed
+     * @param budgets creates the budget of each target strategy
+     * @return the solver, ready to continue training
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a checkpoint of this version
+     */
+    public static BestResponse resume(Path file, LongFunction<BotStrategy> targets,
+                                      Supplier<DecisionBudget> budgets) throws IOException {
+        try (InputStream stream = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(stream))) {
+            if (in.readInt() != CHECKPOINT_MAGIC || in.readInt() != CfrTable.VERSION) {
+                throw new IllegalArgumentException("Not a 50zo best-response checkpoint of version "
+                        + CfrTable.VERSION);
+            }
+            BestResponse response = new BestResponse(targets, budgets, in.readInt(), in.readLong());
+            response.epochs = in.readInt();
+            for (int i = 0; i < ENTRIES; i++) {
+                response.valueSums[i] = in.readDouble();
+                response.visits[i] = in.readLong();
+            }
+            return response;
+        }
+    }
+
+    /**
+     * Returns the slot with the best average outcome of every information set.
+     *
+     * @return the best slot of every information set, or {@code -1} where none was tried
+     */
+    private byte[] bestSlots() {
+        byte[] policy = new byte[CfrTable.INFO_SETS];
+        for (int infoSet = 0; infoSet < CfrTable.INFO_SETS; infoSet++) {
+            int best = -1;
+            double bestValue = -1;
+            for (int slot = 0; slot < CfrTable.SLOTS; slot++) {
+                int entry = infoSet * CfrTable.SLOTS + slot;
+                if (visits[entry] >= MIN_VISITS && valueSums[entry] / visits[entry] > bestValue) {
+                    best = slot;
+                    bestValue = valueSums[entry] / visits[entry];
+                }
+            }
+            policy[infoSet] = (byte) best;
+        }
+        return policy;
+    }
+
+    /**
+     * Chooses the card of the responder in a heads-up position.
+     *
+     * @param policy    the best slot of every information set
+     * @param pileValue the pile value
+     * @param ranks     the ranks of the hand, {@link Rules#HAND_SIZE} cards
+     * @param classes   a buffer of {@link CfrTable#SLOTS} entries for the slot classes
+     * @return the position of the card, or {@code -1} if none is playable
+     */
+    private static int respond(byte[] policy, int pileValue, int[] ranks, int[] classes) {
+        int slot = policy[CfrTable.infoSet(pileValue, ranks, classes)];
+        if (slot >= 0 && CfrTable.playable(pileValue, classes[slot])) {
+            return CfrTable.cardOf(ranks, classes[slot]);
+        }
+        int best = -1;
+        int bestPile = Integer.MIN_VALUE;
+        for (int i = 0; i < Rules.HAND_SIZE; i++) {
+            if (Rules.canPlay(pileValue, ranks[i]) && Rules.play(pileValue, ranks[i]) > bestPile) {
+                best = i;
+                bestPile = Rules.play(pileValue, ranks[i]);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Plays the best response computed so far.
+     */
+    private static final class Responder implements BotStrategy {
+
+        /** Best slot of every information set. */
+        private final byte[] policy;
+
+        /** Fallback outside heads-up play. */
+        private final GreedyStrategy fallback = new GreedyStrategy();
+
+        /** Ranks of the hand; reused for every decision. */
+        private final int[] ranks = new int[Rules.HAND_SIZE];
+
+        /** Slot classes of the hand; reused for every decision. */
+        private final int[] classes = new int[CfrTable.SLOTS];
+
+        /**
+         * Creates a responder.
+         *
+         * @param policy the best slot of every information set
+         */
+        Responder(byte[] policy) {
+            this.policy = policy;
+        }
+
+        /**
+         * Plays the best slot of the information set, or asks the fallback.
+         *
+         * @param view   what the deciding player knows about the table
+         * @param budget the compute budget of this decision; one node per lookup
+         * @return the position of the chosen card, or {@code -1} if none is playable
+         */
+        @Override
+        public int decide(DecisionView view, DecisionBudget budget) {
+            if (!EndgameTablebase.covers(view)) {
+                return fallback.decide(view, budget);
+            }
+            budget.visit();
+            for (int i = 0; i < Rules.HAND_SIZE; i++) {
+                ranks[i] = view.getHandRank(i);
+            }
+            return respond(policy, view.getPileValue(), ranks, classes);
+        }
+
+        /**
+         * Returns the name of the strategy.
+         *
+         * @return the name for logs and tournament tables
+         */
+        @Override
+        public String name() {
+            return "BestResponse";
+        }
+    }
+
+    /**
+     * Runs a share of an epoch's iterations and collects its sums.
+     */
+    private final class Worker implements Callable<Worker> {
+
+        /** Outcome sums of this epoch. */
+        final double[] sumDeltas = new double[ENTRIES];
+
+        /** Visits of this epoch. */
+        final long[] visitDeltas = new long[ENTRIES];
+
+        /** Table of the dealt game. */
+        private final HeadlessGame root = new HeadlessGame(2);
+
+        /** Table of the branch being finished. */
+        private final HeadlessGame branch = new HeadlessGame(2);
+
+        /** View loaded for the target. */
+        private final DecisionView view = new DecisionView();
+
+        /** Ranks of the hand being decided. */
+        private final int[] ranks = new int[Rules.HAND_SIZE];
+
+        /** Slot classes of the hand being decided. */
+        private final int[] classes = new int[CfrTable.SLOTS];
+
+        /** Ranks of the hand at the branching decision. */
+        private final int[] rootRanks = new int[Rules.HAND_SIZE];
+
+        /** Slot classes of the branching decision. */
+        private final int[] rootClasses = new int[CfrTable.SLOTS];
+
+        /** Source of the deals and branching points. */
+        private final FastRandom random = new FastRandom(0);
+
+        /** Budget of the target. */
+        private final DecisionBudget budget = budgets.get();
+
+        /** Best slots at the start of the epoch. */
+        private byte[] policy;
+
+        /** Strategy of the target for this epoch. */
+        private BotStrategy target;
+
+        /** Iterations of this epoch. */
+        private int iterations;
+
+        /**
+         * Clears the sums and sets the work of an epoch.
+         *
+         * @param iterations the iterations to run
+         * @param taskSeed   the seed of this task in this epoch
+         * @param policy     the best slots at the start of the epoch
+         * @param target     the target strategy of this task
+         */
+        void prepare(int iterations, long taskSeed, byte[] policy, BotStrategy target) {
+            this.iterations = iterations;
+            this.policy = policy;
+            this.target = target;
+            random.seed(taskSeed);
+            Arrays.fill(sumDeltas, 0);
+            Arrays.fill(visitDeltas, 0);
+        }
+
+        /**
+         * Runs the iterations.
+         *
+         * @return this task, with its sums filled
+         */
+        @Override
+        public Worker call() {
+            for (int i = 0; i < iterations; i++) {
+                int responder = i & 1;
+                root.reset(random.nextLong());
+                if (!advance(root, responder, random.nextInt(MAX_OPENING_DECISIONS + 1))) {
+                    continue;
+                }
+                int pileValue = root.pileValue();
+                loadHand(root, responder);
+                System.arraycopy(ranks, 0, rootRanks, 0, Rules.HAND_SIZE);
+                int base = CfrTable.infoSet(pileValue, rootRanks, rootClasses) * CfrTable.SLOTS;
+                for (int slot = 0; slot < CfrTable.SLOTS; slot++) {
+                    if (!CfrTable.playable(pileValue, rootClasses[slot])) {
+                        continue;
+                    }
+                    branch.copyFrom(root);
+                    branch.play(CfrTable.cardOf(rootRanks, rootClasses[slot]));
+                    advance(branch, responder, Integer.MAX_VALUE);
+                    sumDeltas[base + slot] += outcome(branch, responder);
+                    visitDeltas[base + slot]++;
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Plays a game forward, the responder with the best slots and the target
+         * with its strategy, until a number of responder decisions has been played.
+         * The rare responder turns with a short hand are played greedily and not counted.
+         *
+         * @param game      the table, which is modified
+         * @param responder the seat of the responder
+         * @param decisions the responder decisions to play before stopping
+         * @return {@code true} if the responder is to decide, {@code false} if the
+         *         game ended first
+         */
+        private boolean advance(HeadlessGame game, int responder, int decisions) {
+            while (!game.isOver()) {
+                if (game.eliminateIfStuck()) {
+                    continue;
+                }
+                if (game.currentSeat() != responder) {
+                    int choice = target.decide(view.load(game), budget.start());
+                    game.play(choice);
+                    continue;
+                }
+                if (game.handSize(responder) != Rules.HAND_SIZE) {
+                    game.playGreedyTurn();
+                    continue;
+                }
+                if (decisions-- == 0) {
+                    return true;
+                }
+                loadHand(game, responder);
+                game.play(respond(policy, game.pileValue(), ranks, classes));
+            }
+            return false;
+        }
+
+        /**
+         * Copies the ranks of a hand into {@link #ranks}.
+         *
+         * @param game the table
+         * @param seat the seat whose hand is read
+         */
+        private void loadHand(HeadlessGame game, int seat) {
+            for (int i = 0; i < Rules.HAND_SIZE; i++) {
+                ranks[i] = Rules.rankOf(game.handCard(seat, i));
+            }
+        }
+
+        /**
+         * Scores a finished game.
+         *
+         * @param game      the finished table
+         * @param responder the seat of the responder
+         * @return 1 for a win, 0 for a loss, 0.5 if the game hit the turn limit
+         */
+        private double outcome(HeadlessGame game, int responder) {
+            if (game.winner() < 0) {
+                return 0.5;
+            }
+            return game.winner() == responder ? 1 : 0;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package Model.Bots;
+
+/**
+ * The way a GPU player chooses which card to play.
+ * <p>
+ * {@link Model.Players.PlayerGPU} keeps the threading, the turn protocol and the
+ * table updates, and only asks its strategy for a card; any strategy, from a
+ * one-line heuristic to an expensive search, can be plugged in without touching
+ * that code. The same strategies drive headless games through
+ * {@link DecisionView#load(Model.Engine.HeadlessGame)}.
+ * </p>
+ *
+ * <p>A strategy must respect its {@link DecisionBudget}: it counts the positions it
+ * evaluates with {@link DecisionBudget#visit()} and returns its best answer so far
+ * once the budget is exhausted. A strategy instance is used by one player at a
+ * time, so it may keep reusable buffers.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public interface BotStrategy {
+
+    /**
+     * Chooses the card to play.
+     *
+     * @param view   what the deciding player knows about the table
+     * @param budget the compute budget of this decision, already started
+     * @return the position in the hand of a playable card, or {@code -1} if no card
+     *         of the hand can be played
+     */
+    int decide(DecisionView view, DecisionBudget budget);
+
+    /**
+     * Returns a short name for logs, metrics and tournament tables.
+     *
+     * @return the name of the strategy
+     */
+    default String name() {
+        return getClass().getSimpleName().replace("Strategy", "");
+    }
+}
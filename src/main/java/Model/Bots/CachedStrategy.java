@@ -0,0 +1,91 @@
+package Model.Bots;
+
+/**
+ * Answers repeated positions from the {@link DecisionCache} and searches the rest
+ * with another strategy.
+ * <p>
+ * Before asking its fallback, the strategy looks the canonical key of the view up
+ * in the cache; on a hit it plays a card of the cached rank and skips the search
+ * entirely. Every decision searched with the whole budget is offered to the cache,
+ * so positions met at any table of the JVM are only searched until they become
+ * popular; a search scaled down by a {@link DecisionScheduler}, cut short by its
+ * cap or cancelled, as pondering is, is played but never cached, so a bad moment
+ * of the machine does not become every table's answer. The salt keeps
+ * apart bots whose decisions differ for the same position, such as two difficulty
+ * levels of the same search.
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class CachedStrategy implements BotStrategy {
+
+    /** Cache of decisions, usually the shared one. */
+    private final DecisionCache cache;
+
+    /** Strategy used on a miss. */
+    private final BotStrategy fallback;
+
+    /** Salt of the keys of this bot. */
+    private final long salt;
+
+    /**
+     * Creates a strategy over the shared cache.
+     *
+     * @param fallback the strategy used on a miss
+     * @param salt     the salt of the keys; bots that may share decisions use the same one
+     */
+    public CachedStrategy(BotStrategy fallback, long salt) {
+        this(DecisionCache.shared(), fallback, salt);
+    }
+
+    /**
+     * Creates a strategy over a given cache.
+     *
+     * @param cache    the cache of decisions
+     * @param fallback the strategy used on a miss
+     * @param salt     the salt of the keys; bots that may share decisions use the same one
+     */
+    public CachedStrategy(DecisionCache cache, BotStrategy fallback, long salt) {
+        this.cache = cache;
+        this.fallback = fallback;
+        this.salt = salt;
+    }
+
+    /**
+     * Plays a card of the cached rank, or asks the fallback and caches its answer
+     * if the search had its whole budget.
+     *
+     * @param view   what the deciding player knows about the table
+     * @param budget the compute budget of this decision; one node per lookup
+     * @return the position of the chosen card, or {@code -1} if none is playable
+     */
+    @Override
+    public int decide(DecisionView view, DecisionBudget budget) {
+        long key = DecisionCache.key(view, salt);
+        budget.visit();
+        int rank = cache.get(key);
+        if (rank != DecisionCache.MISS) {
+            for (int i = 0; i < view.getHandSize(); i++) {
+                if (view.getHandRank(i) == rank && view.isPlayable(i)) {
+                    return i;
+                }
+            }
+        }
+        int choice = fallback.decide(view, budget);
+        if (choice >= 0 && budget.isFullScale()) {
+            cache.put(key, view.getHandRank(choice));
+        }
+        return choice;
+    }
+
+    /**
+     * Returns the name of the strategy and of its fallback.
+     *
+     * @return the name for logs and tournament tables
+     */
+    @Override
+    public String name() {
+        return "Cached+" + fallback.name();
+    }
+}
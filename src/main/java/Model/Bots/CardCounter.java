@@ -0,0 +1,253 @@
+package Model.Bots;
+
+import Model.Cards.Card;
+import Model.Cards.CardPile;
+import Model.Cards.ICardObserver;
+import Model.Engine.Rules;
+
+import java.util.List;
+
+/**
+ * Running count of the cards one seat has not seen.
+ * <p>
+ * Every seat sees the cards played on the pile and the cards it holds; everything
+ * else (the deck and the other hands) is unseen. The counter keeps, per rank, the
+ * number of unseen cards, the cards on the pile and the cards of the seat's hand,
+ * and updates them in constant time per card on each event:
+ * </p>
+ * <ul>
+ *   <li>a card drawn or dealt to the seat ({@link #onCardTaken(Card)})</li>
+ *   <li>a card played by the seat ({@link #onOwnCardPlayed(Card)}) or by anyone
+ *       ({@link #onCardPlayed(Card)}, received from the {@link CardPile})</li>
+ *   <li>pile cards shuffled back into the deck ({@link #onPileRecycled(List)})</li>
+ *   <li>the seat's hand returned to the deck when it is eliminated
+ *       ({@link #onHandReturned()})</li>
+ * </ul>
+ *
+ * <p>The probability that the next unseen card has a given rank and the expected
+ * value of that card are answered in constant time, and {@link #copyTo(DecisionView)}
+ * fills a bot's view without walking the pile. Events arrive from the player
+ * threads, the JavaFX application thread and the recharge thread, so every method
+ * is synchronized.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class CardCounter implements ICardObserver {
+
+    /** Number of standard decks in the shoe. */
+    private final int decks;
+
+    /** Unseen cards of each rank. */
+    private final int[] unseen = new int[Rules.RANKS];
+
+    /** Cards of each rank on the pile. */
+    private final int[] pile = new int[Rules.RANKS];
+
+    /** Cards of each rank in the seat's hand. */
+    private final int[] hand = new int[Rules.RANKS];
+
+    /** Total number of unseen cards. */
+    private int unseenTotal;
+
+    /** Sum of the values of the unseen cards, Aces counted as 10. */
+    private int unseenValue;
+
+    /**
+     * Creates a counter for a shoe where every card is still unseen.
+     *
+     * @param decks the number of standard decks in the shoe
+     */
+    public CardCounter(int decks) {
+        this.decks = decks;
+        reset();
+    }
+
+    /**
+     * Forgets everything seen: every card of the shoe is unseen again.
+     */
+    public synchronized void reset() {
+        for (int rank = 0; rank < Rules.RANKS; rank++) {
+            unseen[rank] = decks * Rules.SUITS;
+            pile[rank] = 0;
+            hand[rank] = 0;
+        }
+        unseenTotal = decks * Rules.DECK_SIZE;
+        unseenValue = 0;
+        for (int rank = 0; rank < Rules.RANKS; rank++) {
+            unseenValue += unseen[rank] * Rules.value(rank);
+        }
+    }
+
+    /**
+     * Starts following a pile: the cards already on it are counted as seen and the
+     * counter is registered for its later events.
+     *
+     * @param cardPile the pile of the game
+     */
+    public void attach(CardPile cardPile) {
+        synchronized (this) {
+            for (Card card : cardPile.getCards()) {
+                onCardPlayed(card);
+            }
+        }
+        cardPile.addObserver(this);
+    }
+
+    /**
+     * Records a card dealt or drawn into the seat's hand.
+     *
+     * @param card the card taken
+     */
+    public synchronized void onCardTaken(Card card) {
+        int rank = rankOf(card);
+        hand[rank]++;
+        see(rank);
+    }
+
+    /**
+     * Records that the seat is about to play one of its cards. The pile will report
+     * the same card through {@link #onCardPlayed(Card)}; the card is handed back to
+     * the unseen count here so that it is not counted as seen twice.
+     *
+     * @param card the card leaving the seat's hand
+     */
+    public synchronized void onOwnCardPlayed(Card card) {
+        int rank = rankOf(card);
+        if (hand[rank] > 0) {
+            hand[rank]--;
+            unsee(rank);
+        }
+    }
+
+    /**
+     * Records a card placed face up on the pile.
+     *
+     * @param card the card played
+     */
+    @Override
+    public synchronized void onCardPlayed(Card card) {
+        int rank = rankOf(card);
+        pile[rank]++;
+        see(rank);
+    }
+
+    /**
+     * Records pile cards moved back into the deck; they are unseen again.
+     *
+     * @param cards the cards moved back into the deck
+     */
+    @Override
+    public synchronized void onPileRecycled(List<Card> cards) {
+        for (Card card : cards) {
+            int rank = rankOf(card);
+            if (pile[rank] > 0) {
+                pile[rank]--;
+                unsee(rank);
+            }
+        }
+    }
+
+    /**
+     * Records that the seat's whole hand went back into the deck.
+     */
+    public synchronized void onHandReturned() {
+        for (int rank = 0; rank < Rules.RANKS; rank++) {
+            while (hand[rank] > 0) {
+                hand[rank]--;
+                unsee(rank);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of unseen cards of a rank.
+     *
+     * @param rank the rank
+     * @return the number of cards of that rank in the deck or in other hands
+     */
+    public synchronized int getUnseen(int rank) {
+        return unseen[rank];
+    }
+
+    /**
+     * Returns the total number of unseen cards.
+     *
+     * @return the number of cards in the deck or in other hands
+     */
+    public synchronized int getUnseenTotal() {
+        return unseenTotal;
+    }
+
+    /**
+     * Returns the probability that a random unseen card has a given rank, which is
+     * the probability of drawing it next.
+     *
+     * @param rank the rank
+     * @return a probability between 0 and 1, 0 if nothing is unseen
+     */
+    public synchronized double probabilityOf(int rank) {
+        return unseenTotal == 0 ? 0 : (double) unseen[rank] / unseenTotal;
+    }
+
+    /**
+     * Returns the expected value added to the pile by a random unseen card, with
+     * Aces worth 1 when 10 would pass the limit.
+     *
+     * @param pileValue the pile value the card would be played on
+     * @return the expected value, 0 if nothing is unseen
+     */
+    public synchronized double expectedValue(int pileValue) {
+        if (unseenTotal == 0) {
+            return 0;
+        }
+        int aceValue = Rules.play(pileValue, Rules.ACE) - pileValue;
+        int value = unseenValue - unseen[Rules.ACE] * (Rules.value(Rules.ACE) - aceValue);
+        return (double) value / unseenTotal;
+    }
+
+    /**
+     * Replaces the unseen counts of a view with the ones of this counter.
+     *
+     * @param view the view of the deciding seat
+     */
+    public synchronized void copyTo(DecisionView view) {
+        for (int rank = 0; rank < Rules.RANKS; rank++) {
+            view.setUnseen(rank, unseen[rank]);
+        }
+    }
+
+    /**
+     * Removes one card of a rank from the unseen cards.
+     *
+     * @param rank the rank
+     */
+    private void see(int rank) {
+        if (unseen[rank] > 0) {
+            unseen[rank]--;
+            unseenTotal--;
+            unseenValue -= Rules.value(rank);
+        }
+    }
+
+    /**
+     * Adds one card of a rank to the unseen cards.
+     *
+     * @param rank the rank
+     */
+    private void unsee(int rank) {
+        unseen[rank]++;
+        unseenTotal++;
+        unseenValue += Rules.value(rank);
+    }
+
+    /**
+     * Returns the rank of a graphical card.
+     *
+     * @param card the card
+     * @return its rank, as in {@link Rules}
+     */
+    private static int rankOf(Card card) {
+        return Rules.rankOf(card.getSymbol());
+    }
+}
@@ -0,0 +1,504 @@
+package Model.Bots;
+
+import Model.Engine.FastRandom;
+import Model.Engine.HeadlessGame;
+import Model.Engine.Rules;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * CFR+ solver for heads-up 50zo over the abstraction of {@link CfrTable}.
+ * <p>
+ * Each iteration deals a game, plays a random number of opening turns to reach a
+ * varied position, and then runs one external-sampling traversal per seat. At
+ * the traversing seat's information sets every move slot is tried on a copy of
+ * the table; the other seat's moves and the shuffles are sampled. A traversal
+ * looks {@link #DEFAULT_DEPTH} own decisions ahead and scores the position there
+ * with a greedy playout; a win is worth 1 and a loss 0. The regrets use CFR+
+ * (they are floored at zero after every epoch) and the average strategy weighs
+ * each epoch by its number, so later, better strategies count more.
+ * </p>
+ *
+ * <p>An epoch is split into {@link #TASKS} tasks on the {@link SearchPool}. Every
+ * task reads the strategy as it was at the start of the epoch and collects its own
+ * regret and strategy deltas, which are merged in task order, so a given seed
+ * always gives the same strategy whatever the number of cores. Each task seed is
+ * derived from the solver seed and the epoch number, so training from a
+ * {@link #checkpoint(Path) checkpoint} continues exactly as an uninterrupted run.</p>
+ *
+ * <p>After each epoch the solver records {@link #exploitabilityBound()}: the sum
+ * over information sets of the largest positive regret, divided by the
+ * iterations. CFR bounds the exploitability of the average strategy by this value,
+ * and it falls as training converges.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class CfrSolver {
+
+    /** Identifies a checkpoint file ("50ZK"). */
+    static final int CHECKPOINT_MAGIC = 0x35305A4B;
+
+    /** Own decisions explored by a traversal before the greedy playout. */
+    public static final int DEFAULT_DEPTH = 2;
+
+    /** Number of tasks an epoch is split into. */
+    static final int TASKS = 8;
+
+    /** Largest number of opening turns played before a traversal. */
+    static final int MAX_OPENING_TURNS = 80;
+
+    /** Turns after which a playout is scored as a draw. */
+    static final int PLAYOUT_TURN_LIMIT = 400;
+
+    /** Number of entries of the regret and strategy arrays. */
+    private static final int ENTRIES = CfrTable.INFO_SETS * CfrTable.SLOTS;
+
+    /** Iterations per epoch. */
+    private final int iterationsPerEpoch;
+
+    /** Own decisions explored per traversal. */
+    private final int depth;
+
+    /** Seed of the whole training. */
+    private final long seed;
+
+    /** Cumulative CFR+ regrets, never negative. */
+    private final double[] regrets = new double[ENTRIES];
+
+    /** Weighted sums of the strategies played. */
+    private final double[] strategySums = new double[ENTRIES];
+
+    /** Epochs completed. */
+    private int epochs;
+
+    /** Exploitability bound after each epoch. */
+    private final List<Double> history = new ArrayList<>();
+
+    /** Tasks of an epoch, kept to reuse their buffers. */
+    private final Worker[] workers = new Worker[TASKS];
+
+    /**
+     * Creates a solver.
+     *
+     * @param iterationsPerEpoch the iterations per epoch, at least {@link #TASKS}
+     * @param depth              the own decisions explored per traversal, at least 1
+     * @param seed               the seed of the training
+     * @throws IllegalArgumentException if a setting is out of range
+     */
+    public CfrSolver(int iterationsPerEpoch, int depth, long seed) {
+        if (iterationsPerEpoch < TASKS || depth < 1) {
+            throw new IllegalArgumentException("Need at least " + TASKS + " iterations and depth 1");
+        }
+        this.iterationsPerEpoch = iterationsPerEpoch;
+        this.depth = depth;
+        this.seed = seed;
+    }
+
+    /**
+     * Runs more epochs.
+     *
+     * @param count the number of epochs to run
+     * @return this solver
+     * @throws IllegalStateException if a task fails or the thread is interrupted
+     */
+    public CfrSolver train(int count) {
+        for (int e = 0; e < count; e++) {
+            List<Callable<Worker>> tasks = new ArrayList<>(TASKS);
+            for (int task = 0; task < TASKS; task++) {
+                if (workers[task] == null) {
+                    workers[task] = new Worker();
+                }
+                Worker worker = workers[task];
+                worker.prepare(iterationsPerEpoch / TASKS + (task < iterationsPerEpoch % TASKS ? 1 : 0),
+                        FastRandom.mix(seed + (long) epochs * TASKS + task));
+                tasks.add(worker);
+            }
+            try {
+                for (Future<Worker> future : SearchPool.get().invokeAll(tasks)) {
+                    future.get();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("CFR training interrupted", ex);
+            } catch (ExecutionException ex) {
+                throw new IllegalStateException("CFR task failed", ex.getCause());
+            }
+            epochs++;
+            for (Worker worker : workers) {
+                for (int i = 0; i < ENTRIES; i++) {
+                    regrets[i] += worker.regretDeltas[i];
+                    strategySums[i] += epochs * worker.strategyDeltas[i];
+                }
+            }
+            for (int i = 0; i < ENTRIES; i++) {
+                regrets[i] = Math.max(0, regrets[i]);
+            }
+            history.add(exploitabilityBound());
+        }
+        return this;
+    }
+
+    /**
+     * Returns the bound on the exploitability of the average strategy: the sum over
+     * information sets of the largest regret, divided by the iterations.
+     *
+     * @return the bound, in games won per game; 0 before training
+     */
+    public double exploitabilityBound() {
+        long iterations = getIterations();
+        if (iterations == 0) {
+            return 0;
+        }
+        double sum = 0;
+        for (int infoSet = 0; infoSet < CfrTable.INFO_SETS; infoSet++) {
+            double largest = 0;
+            for (int slot = 0; slot < CfrTable.SLOTS; slot++) {
+                largest = Math.max(largest, regrets[infoSet * CfrTable.SLOTS + slot]);
+            }
+            sum += largest;
+        }
+        return sum / iterations;
+    }
+
+    /**
+     * Returns the exploitability bound recorded after each epoch.
+     *
+     * @return the bounds, oldest first
+     */
+    public List<Double> getHistory() {
+        return Collections.unmodifiableList(history);
+    }
+
+    /**
+     * Returns the iterations run so far.
+     *
+     * @return the iterations
+     */
+    public long getIterations() {
+        return (long) epochs * iterationsPerEpoch;
+    }
+
+    /**
+     * Returns the average strategy.
+     *
+     * @return the strategy table
+     */
+    public CfrTable table() {
+        float[] probabilities = new float[ENTRIES];
+        for (int infoSet = 0; infoSet < CfrTable.INFO_SETS; infoSet++) {
+            int base = infoSet * CfrTable.SLOTS;
+            double total = 0;
+            for (int slot = 0; slot < CfrTable.SLOTS; slot++) {
+                total += strategySums[base + slot];
+            }
+            for (int slot = 0; total > 0 && slot < CfrTable.SLOTS; slot++) {
+                probabilities[base + slot] = (float) (strategySums[base + slot] / total);
+            }
+        }
+        return new CfrTable(probabilities, getIterations());
+    }
+
+    /**
+     * Saves everything needed to continue training. The file is written next to
+     * the target and then moved over it, so a crash never leaves half a checkpoint.
+     *
+     * @param file the checkpoint file
+     * @throws IOException if the file cannot be written
+     */
+    public void checkpoint(Path file) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream stream = Files.newOutputStream(temporary);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+            out.writeInt(CHECKPOINT_MAGIC);
+            out.writeInt(CfrTable.VERSION);
+            out.writeInt(iterationsPerEpoch);
+            out.writeInt(depth);
+            out.writeLong(seed);
+            out.writeInt(epochs);
+            for (double bound : history) {
+                out.writeDouble(bound);
+            }
+            for (int i = 0; i < ENTRIES; i++) {
+                out.writeDouble(regrets[i]);
+                out.writeDouble(strategySums[i]);
+            }
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Restores a solver from a checkpoint.
+     *
+     * @param file the checkpoint file
+     * @return the solver, ready to continue training
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a checkpoint of this version
+     */
+    public static CfrSolver resume(Path file) throws IOException {
+        try (InputStream stream = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(stream))) {
+            if (in.readInt() != CHECKPOINT_MAGIC || in.readInt() != CfrTable.VERSION) {
+                throw new IllegalArgumentException("Not a 50zo CFR checkpoint of version " + CfrTable.VERSION);
+            }
+            CfrSolver solver = new CfrSolver(in.readInt(), in.readInt(), in.readLong());
+            solver.epochs = in.readInt();
+            for (int e = 0; e < solver.epochs; e++) {
+                solver.history.add(in.readDouble());
+            }
+            for (int i = 0; i < ENTRIES; i++) {
+                solver.regrets[i] = in.readDouble();
+                solver.strategySums[i] = in.readDouble();
+            }
+            return solver;
+        }
+    }
+
+    /**
+     * Trains a strategy, checkpointing after every epoch, and writes it.
+     *
+     * @param args the strategy file, the checkpoint file, then optionally the epochs
+     *             and the iterations per epoch
+     * @throws IOException if a file cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        Path output = Paths.get(args.length > 0 ? args[0] : CfrTable.DEFAULT_FILE);
+        Path checkpoint = Paths.get(args.length > 1 ? args[1] : "50zo-cfr.ckpt");
+        int epochs = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+        int iterations = args.length > 3 ? Integer.parseInt(args[3]) : 20_000;
+        CfrSolver solver = Files.exists(checkpoint)
+                ? resume(checkpoint) : new CfrSolver(iterations, DEFAULT_DEPTH, 50);
+        long start = System.nanoTime();
+        while (solver.epochs < epochs) {
+            solver.train(1).checkpoint(checkpoint);
+            System.out.printf("🧮 Epoch %d: %d iterations, exploitability bound %.5f, %d ms%n",
+                    solver.epochs, solver.getIterations(), solver.exploitabilityBound(),
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+        solver.table().write(output);
+        System.out.println("🏁 CFR strategy written to " + output);
+    }
+
+    /**
+     * Current CFR+ strategy of an information set, by regret matching over the
+     * playable slots; uniform over them when no slot has positive regret.
+     *
+     * @param infoSet   the information set
+     * @param pileValue the pile value
+     * @param classes   the classes of the slots
+     * @param strategy  receives the probability of each slot
+     */
+    private void currentStrategy(int infoSet, int pileValue, int[] classes, double[] strategy) {
+        int base = infoSet * CfrTable.SLOTS;
+        double total = 0;
+        int playable = 0;
+        for (int slot = 0; slot < CfrTable.SLOTS; slot++) {
+            strategy[slot] = CfrTable.playable(pileValue, classes[slot]) ? regrets[base + slot] : 0;
+            total += strategy[slot];
+            if (CfrTable.playable(pileValue, classes[slot])) {
+                playable++;
+            }
+        }
+        for (int slot = 0; slot < CfrTable.SLOTS; slot++) {
+            if (total > 0) {
+                strategy[slot] /= total;
+            } else {
+                strategy[slot] = CfrTable.playable(pileValue, classes[slot]) ? 1.0 / playable : 0;
+            }
+        }
+    }
+
+    /**
+     * Runs a share of an epoch's iterations and collects its deltas.
+     */
+    private final class Worker implements Callable<Worker> {
+
+        /** Regret changes of this epoch. */
+        final double[] regretDeltas = new double[ENTRIES];
+
+        /** Strategy sums of this epoch. */
+        final double[] strategyDeltas = new double[ENTRIES];
+
+        /** Table of the dealt game. */
+        private final HeadlessGame root = new HeadlessGame(2);
+
+        /** One table per depth for the explored moves. */
+        private final HeadlessGame[] branches = new HeadlessGame[depth + 1];
+
+        /** Slot classes per depth. */
+        private final int[][] classes = new int[depth + 1][CfrTable.SLOTS];
+
+        /** Current strategy per depth. */
+        private final double[][] strategies = new double[depth + 1][CfrTable.SLOTS];
+
+        /** Move values per depth. */
+        private final double[][] values = new double[depth + 1][CfrTable.SLOTS];
+
+        /** Ranks of the hand being decided, per depth. */
+        private final int[][] hands = new int[depth + 1][Rules.HAND_SIZE];
+
+        /** Source of the deals, openings and sampled moves. */
+        private final FastRandom random = new FastRandom(0);
+
+        /** Iterations of this epoch. */
+        private int iterations;
+
+        /**
+         * Creates a task with its buffers.
+         */
+        Worker() {
+            for (int d = 0; d <= depth; d++) {
+                branches[d] = new HeadlessGame(2);
+            }
+        }
+
+        /**
+         * Clears the deltas and sets the work of an epoch.
+         *
+         * @param iterations the iterations to run
+         * @param taskSeed   the seed of this task in this epoch
+         */
+        void prepare(int iterations, long taskSeed) {
+            this.iterations = iterations;
+            random.seed(taskSeed);
+            Arrays.fill(regretDeltas, 0);
+            Arrays.fill(strategyDeltas, 0);
+        }
+
+        /**
+         * Runs the iterations.
+         *
+         * @return this task, with its deltas filled
+         */
+        @Override
+        public Worker call() {
+            for (int i = 0; i < iterations; i++) {
+                root.reset(random.nextLong());
+                int opening = random.nextInt(MAX_OPENING_TURNS + 1);
+                for (int turn = 0; turn < opening && !root.isOver(); turn++) {
+                    if (random.nextInt(4) == 0) {
+                        root.playRandomTurn();
+                    } else {
+                        root.playGreedyTurn();
+                    }
+                }
+                for (int player = 0; player < 2 && !root.isOver(); player++) {
+                    branches[depth].copyFrom(root);
+                    traverse(branches[depth], player, depth);
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Plays a position forward for one traversing seat and returns its value.
+         *
+         * @param game   the table, which is modified
+         * @param player the traversing seat
+         * @param level  the own decisions still explored
+         * @return the expected outcome for the traversing seat
+         */
+        private double traverse(HeadlessGame game, int player, int level) {
+            while (true) {
+                if (game.isOver()) {
+                    return outcome(game, player);
+                }
+                if (game.eliminateIfStuck()) {
+                    continue;
+                }
+                int seat = game.currentSeat();
+                if (seat == player && level == 0) {
+                    return playout(game, player);
+                }
+                int[] ranks = hands[level];
+                for (int i = 0; i < Rules.HAND_SIZE; i++) {
+                    ranks[i] = Rules.rankOf(game.handCard(seat, i));
+                }
+                int[] slotClasses = classes[level];
+                double[] strategy = strategies[level];
+                int pileValue = game.pileValue();
+                int infoSet = CfrTable.infoSet(pileValue, ranks, slotClasses);
+                currentStrategy(infoSet, pileValue, slotClasses, strategy);
+                int base = infoSet * CfrTable.SLOTS;
+
+                if (seat != player) {
+                    double target = random.nextDouble();
+                    int chosen = -1;
+                    for (int slot = 0; slot < CfrTable.SLOTS; slot++) {
+                        strategyDeltas[base + slot] += strategy[slot];
+                        if (strategy[slot] > 0 && (chosen < 0 || target >= 0)) {
+                            chosen = slot;
+                        }
+                        target -= strategy[slot];
+                    }
+                    game.play(CfrTable.cardOf(ranks, slotClasses[chosen]));
+                    continue;
+                }
+
+                double[] slotValues = values[level];
+                double expected = 0;
+                HeadlessGame branch = branches[level - 1];
+                for (int slot = 0; slot < CfrTable.SLOTS; slot++) {
+                    if (!CfrTable.playable(pileValue, slotClasses[slot])) {
+                        continue;
+                    }
+                    branch.copyFrom(game);
+                    branch.play(CfrTable.cardOf(ranks, slotClasses[slot]));
+                    slotValues[slot] = traverse(branch, player, level - 1);
+                    expected += strategy[slot] * slotValues[slot];
+                }
+                for (int slot = 0; slot < CfrTable.SLOTS; slot++) {
+                    if (CfrTable.playable(pileValue, slotClasses[slot])) {
+                        regretDeltas[base + slot] += slotValues[slot] - expected;
+                    }
+                }
+                return expected;
+            }
+        }
+
+        /**
+         * Finishes a game with greedy play on both sides.
+         *
+         * @param game   the table, which is modified
+         * @param player the traversing seat
+         * @return 1 if the seat wins, 0 if it loses, 0.5 if the playout is cut short
+         */
+        private double playout(HeadlessGame game, int player) {
+            for (int turn = 0; turn < PLAYOUT_TURN_LIMIT && !game.isOver(); turn++) {
+                game.playGreedyTurn();
+            }
+            return game.isOver() ? outcome(game, player) : 0.5;
+        }
+
+        /**
+         * Scores a finished game.
+         *
+         * @param game   the finished table
+         * @param player the traversing seat
+         * @return 1 for a win, 0 for a loss, 0.5 if the game hit the turn limit
+         */
+        private double outcome(HeadlessGame game, int player) {
+            if (game.winner() < 0) {
+                return 0.5;
+            }
+            return game.winner() == player ? 1 : 0;
+        }
+    }
+}
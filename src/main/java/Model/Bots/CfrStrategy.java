@@ -0,0 +1,87 @@
+package Model.Bots;
+
+import Model.Engine.FastRandom;
+import Model.Engine.Rules;
+
+/**
+ * Plays heads-up positions by sampling the equilibrium strategy of a
+ * {@link CfrTable}, and everything else with another strategy.
+ * <p>
+ * Sampling instead of always taking the most likely move is what keeps a mixed
+ * strategy hard to exploit; a decision still reads at most four table entries.
+ * Without a table every decision goes to the fallback strategy.
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class CfrStrategy implements BotStrategy {
+
+    /** Strategy computed by the solver, or {@code null}. */
+    private final CfrTable table;
+
+    /** Strategy used outside heads-up play. */
+    private final BotStrategy fallback;
+
+    /** Source of the sampled moves. */
+    private final FastRandom random;
+
+    /** Ranks of the hand; reused for every decision. */
+    private final int[] ranks = new int[Rules.HAND_SIZE];
+
+    /** Slot classes of the hand; reused for every decision. */
+    private final int[] classes = new int[CfrTable.SLOTS];
+
+    /**
+     * Creates a strategy that uses the shared table, if one is available.
+     *
+     * @param fallback the strategy used outside heads-up play
+     * @param seed     the seed of the sampled moves
+     */
+    public CfrStrategy(BotStrategy fallback, long seed) {
+        this(CfrTable.shared(), fallback, seed);
+    }
+
+    /**
+     * Creates a strategy.
+     *
+     * @param table    the strategy computed by the solver, or {@code null} for none
+     * @param fallback the strategy used outside heads-up play
+     * @param seed     the seed of the sampled moves
+     */
+    public CfrStrategy(CfrTable table, BotStrategy fallback, long seed) {
+        this.table = table;
+        this.fallback = fallback;
+        this.random = new FastRandom(seed);
+    }
+
+    /**
+     * Samples a card from the table, or asks the fallback.
+     *
+     * @param view   what the deciding player knows about the table
+     * @param budget the compute budget of this decision; one node per lookup
+     * @return the position of the chosen card, or {@code -1} if none is playable
+     */
+    @Override
+    public int decide(DecisionView view, DecisionBudget budget) {
+        if (table == null || !EndgameTablebase.covers(view)) {
+            return fallback.decide(view, budget);
+        }
+        budget.visit();
+        for (int i = 0; i < Rules.HAND_SIZE; i++) {
+            ranks[i] = view.getHandRank(i);
+        }
+        return table.sample(view.getPileValue(), ranks, random, classes);
+    }
+
+    /**
+     * Returns the name of the strategy and of its fallback, or of the fallback
+     * alone when there is no table.
+     *
+     * @return the name for logs and tournament tables
+     */
+    @Override
+    public String name() {
+        return table == null ? fallback.name() : "CFR+" + fallback.name();
+    }
+}
@@ -0,0 +1,302 @@
+package Model.Bots;
+
+import Model.Engine.FastRandom;
+import Model.Engine.Rules;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Heads-up strategy computed by {@link CfrSolver}.
+ * <p>
+ * The abstraction groups the positions a player cannot tell apart well enough
+ * into information sets: the pile in a band ({@link #band(int)}: below 0, steps
+ * of 5 up to 29, then every value from 30 to 50 where each point matters) and the
+ * hand as its counts of value classes, one of the {@link EndgameTablebase#HANDS}
+ * four-card hands. The moves of an information set are the distinct classes of
+ * the hand, at most four, in increasing class order (the move <em>slots</em>).
+ * </p>
+ *
+ * <p>The table holds the probability of each slot in a flat {@code float} array,
+ * so sampling a move reads at most four entries. Information sets the solver
+ * never reached have no probabilities; there the card leaving the highest pile is
+ * played, as {@link GreedyStrategy} would. The file is a small header (MAGIC,
+ * VERSION, INFO_SETS, iterations) followed by the array.</p>
+ *
+ * <p>A table is never modified after it is built, so it can be shared by every
+ * bot in the JVM; the one named by the {@value #FILE_PROPERTY} system property
+ * (by default {@value #DEFAULT_FILE}) is read once by {@link #shared()}.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class CfrTable {
+
+    /** Identifies a strategy file ("50ZC"). */
+    public static final int MAGIC = 0x35305A43;
+
+    /** Version of the file layout. */
+    public static final int VERSION = 1;
+
+    /** System property naming the file read by {@link #shared()}. */
+    public static final String FILE_PROPERTY = "zo.cfr";
+
+    /** File read by {@link #shared()} when the property is not set. */
+    public static final String DEFAULT_FILE = "50zo-cfr.bin";
+
+    /** Number of pile bands. */
+    public static final int BANDS = 28;
+
+    /** Number of information sets. */
+    public static final int INFO_SETS = BANDS * EndgameTablebase.HANDS;
+
+    /** Largest number of moves of an information set. */
+    public static final int SLOTS = Rules.HAND_SIZE;
+
+    /** Probability of each slot, {@code [infoSet * SLOTS + slot]}. */
+    private final float[] probabilities;
+
+    /** Solver iterations behind the strategy. */
+    private final long iterations;
+
+    /**
+     * Creates a table over computed probabilities.
+     *
+     * @param probabilities the probability of each slot; the array is not copied
+     * @param iterations    the solver iterations behind the strategy
+     * @throws IllegalArgumentException if the array does not have one entry per slot
+     */
+    public CfrTable(float[] probabilities, long iterations) {
+        if (probabilities.length != INFO_SETS * SLOTS) {
+            throw new IllegalArgumentException("A CFR table has " + INFO_SETS * SLOTS + " entries");
+        }
+        this.probabilities = probabilities;
+        this.iterations = iterations;
+    }
+
+    /**
+     * Holder class that reads the shared strategy on first use.
+     */
+    private static class Holder {
+        private static final CfrTable INSTANCE = load();
+
+        /**
+         * Reads the file named by {@link #FILE_PROPERTY}, if it exists.
+         *
+         * @return the strategy, or {@code null} if there is no usable file
+         */
+        private static CfrTable load() {
+            Path file = Paths.get(System.getProperty(FILE_PROPERTY, DEFAULT_FILE));
+            if (!Files.isReadable(file)) {
+                return null;
+            }
+            try {
+                return read(file);
+            } catch (IOException | IllegalArgumentException e) {
+                System.err.println("⚠ CFR strategy not loaded from " + file + ": " + e.getMessage());
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Returns the strategy shared by every bot, read on first use.
+     *
+     * @return the strategy, or {@code null} if no strategy file is available
+     */
+    public static CfrTable shared() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Reads a strategy file.
+     *
+     * @param file the file written by {@link #write(Path)}
+     * @return the strategy
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a strategy of this version
+     */
+    public static CfrTable read(Path file) throws IOException {
+        try (InputStream stream = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(stream))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readInt() != INFO_SETS) {
+                throw new IllegalArgumentException("Not a 50zo CFR strategy of version " + VERSION);
+            }
+            long iterations = in.readLong();
+            float[] probabilities = new float[INFO_SETS * SLOTS];
+            for (int i = 0; i < probabilities.length; i++) {
+                probabilities[i] = in.readFloat();
+            }
+            return new CfrTable(probabilities, iterations);
+        }
+    }
+
+    /**
+     * Writes the strategy.
+     *
+     * @param file the file to write; it is replaced if it exists
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path file) throws IOException {
+        try (OutputStream stream = Files.newOutputStream(file);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(INFO_SETS);
+            out.writeLong(iterations);
+            for (float probability : probabilities) {
+                out.writeFloat(probability);
+            }
+        }
+    }
+
+    /**
+     * Samples a card of a hand from the strategy.
+     *
+     * @param pileValue the pile value
+     * @param ranks     the ranks of the hand, which must hold {@link Rules#HAND_SIZE} cards
+     * @param random    the source of the choice
+     * @param classes   a buffer of {@link #SLOTS} entries for the slot classes
+     * @return the position of the chosen card, or {@code -1} if none is playable
+     */
+    public int sample(int pileValue, int[] ranks, FastRandom random, int[] classes) {
+        int infoSet = infoSet(pileValue, ranks, classes);
+        int base = infoSet * SLOTS;
+        double total = 0;
+        for (int slot = 0; slot < SLOTS; slot++) {
+            if (playable(pileValue, classes[slot])) {
+                total += probabilities[base + slot];
+            }
+        }
+        if (total <= 0) {
+            return highestPile(pileValue, ranks);
+        }
+        double target = random.nextDouble() * total;
+        int chosen = -1;
+        for (int slot = 0; slot < SLOTS; slot++) {
+            if (playable(pileValue, classes[slot])) {
+                chosen = slot;
+                target -= probabilities[base + slot];
+                if (target < 0) {
+                    break;
+                }
+            }
+        }
+        return cardOf(ranks, classes[chosen]);
+    }
+
+    /**
+     * Returns the probability of a slot.
+     *
+     * @param infoSet the information set
+     * @param slot    the slot
+     * @return the probability of playing the slot's class
+     */
+    public float probability(int infoSet, int slot) {
+        return probabilities[infoSet * SLOTS + slot];
+    }
+
+    /**
+     * Returns the solver iterations behind the strategy.
+     *
+     * @return the iterations
+     */
+    public long getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Returns the information set of a full hand and fills its slot classes.
+     *
+     * @param pileValue the pile value
+     * @param ranks     the ranks of the hand, {@link Rules#HAND_SIZE} cards
+     * @param classes   receives the distinct classes in increasing order, then {@code -1}s
+     * @return the information set
+     */
+    static int infoSet(int pileValue, int[] ranks, int[] classes) {
+        for (int i = 0; i < Rules.HAND_SIZE; i++) {
+            classes[i] = EndgameTablebase.classOf(ranks[i]);
+        }
+        int hand = EndgameTablebase.handIndex(classes);
+        int slots = 0;
+        for (int i = 0; i < Rules.HAND_SIZE; i++) {
+            if (i == 0 || classes[i] != classes[slots - 1]) {
+                classes[slots++] = classes[i];
+            }
+        }
+        while (slots < SLOTS) {
+            classes[slots++] = -1;
+        }
+        return band(pileValue) * EndgameTablebase.HANDS + hand;
+    }
+
+    /**
+     * Returns the band of a pile value.
+     *
+     * @param pileValue the pile value
+     * @return 0 below 0, 1 to 6 for steps of 5 up to 29, then 7 to 27 for 30 to 50
+     */
+    static int band(int pileValue) {
+        if (pileValue < 0) {
+            return 0;
+        }
+        if (pileValue < 30) {
+            return 1 + pileValue / 5;
+        }
+        return 7 + pileValue - 30;
+    }
+
+    /**
+     * Tells whether a slot holds a class that can be played.
+     *
+     * @param pileValue the pile value
+     * @param valueClass the class of the slot, or {@code -1} for an empty slot
+     * @return {@code true} if a card of the class can be played
+     */
+    static boolean playable(int pileValue, int valueClass) {
+        return valueClass >= 0 && Rules.canPlay(pileValue, EndgameTablebase.rankOf(valueClass));
+    }
+
+    /**
+     * Returns the position of the first card of a class in a hand.
+     *
+     * @param ranks      the ranks of the hand
+     * @param valueClass the class
+     * @return the position of the card
+     */
+    static int cardOf(int[] ranks, int valueClass) {
+        for (int i = 0; i < Rules.HAND_SIZE; i++) {
+            if (EndgameTablebase.classOf(ranks[i]) == valueClass) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("No card of class " + valueClass + " in the hand");
+    }
+
+    /**
+     * Returns the position of the card leaving the highest pile.
+     *
+     * @param pileValue the pile value
+     * @param ranks     the ranks of the hand
+     * @return the position of the card, or {@code -1} if none is playable
+     */
+    private static int highestPile(int pileValue, int[] ranks) {
+        int best = -1;
+        int bestPile = Integer.MIN_VALUE;
+        for (int i = 0; i < Rules.HAND_SIZE; i++) {
+            if (Rules.canPlay(pileValue, ranks[i]) && Rules.play(pileValue, ranks[i]) > bestPile) {
+                best = i;
+                bestPile = Rules.play(pileValue, ranks[i]);
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,298 @@
+package Model.Bots;
+
+/**
+ * The compute budget of one bot decision, and the record of how much of it was used.
+ * <p>
+ * A budget limits a decision both in wall-clock time and in search nodes (one node
+ * being one position a strategy evaluates). The caller {@link #start() starts} the
+ * budget just before calling {@link BotStrategy#decide}; the strategy calls
+ * {@link #visit()} for every node it evaluates and stops as soon as it returns
+ * {@code false}; afterwards {@link #usedNanos()} and {@link #usedNodes()} report
+ * what the decision actually cost.
+ * </p>
+ *
+ * <p>Checking the clock is much more expensive than counting a node, so
+ * {@link #visit()} only reads it every {@value #CLOCK_CHECK_INTERVAL} nodes.
+ * A budget is reusable but not thread-safe: searches that split work across
+ * threads give each worker its own count and report it with {@link #addNodes(long)}.
+ * The one exception is {@link #cancel()}, which any thread may call to end a
+ * speculative decision early; the search notices it at its next clock check.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class DecisionBudget {
+
+    /** Number of visited nodes between two reads of the clock. */
+    private static final int CLOCK_CHECK_INTERVAL = 64;
+
+    /** Value meaning that a limit is not enforced. */
+    public static final long UNLIMITED = Long.MAX_VALUE;
+
+    /** Maximum time of a decision, in nanoseconds. */
+    private final long maxNanos;
+
+    /** Maximum number of nodes of a decision. */
+    private final long maxNodes;
+
+    /** {@link System#nanoTime()} at which the decision started. */
+    private long startNanos;
+
+    /** {@link System#nanoTime()} at which the decision must end. */
+    private long deadline;
+
+    /** Node limit of the current decision, after scaling. */
+    private long nodeLimit;
+
+    /** Nodes visited since the decision started. */
+    private long nodes;
+
+    /** {@link System#nanoTime()} at which the decision finished, or {@code 0} while it runs. */
+    private long endNanos;
+
+    /** Whether a limit has been reached. */
+    private boolean exhausted;
+
+    /** Whether the current decision started with less than the full limits. */
+    private boolean scaled;
+
+    /** Whether the time cap shortened the time limit of the current decision. */
+    private boolean capped;
+
+    /** Whether another thread asked the decision to stop. */
+    private volatile boolean cancelled;
+
+    /**
+     * Creates a budget with the given limits.
+     *
+     * @param maxNanos maximum time of a decision in nanoseconds, or {@link #UNLIMITED}
+     * @param maxNodes maximum number of nodes of a decision, or {@link #UNLIMITED}
+     * @throws IllegalArgumentException if a limit is not positive
+     */
+    public DecisionBudget(long maxNanos, long maxNodes) {
+        if (maxNanos <= 0 || maxNodes <= 0) {
+            throw new IllegalArgumentException("Budget limits must be positive");
+        }
+        this.maxNanos = maxNanos;
+        this.maxNodes = maxNodes;
+    }
+
+    /**
+     * Creates a budget limited only by time.
+     *
+     * @param millis maximum time of a decision in milliseconds
+     * @return the budget
+     */
+    public static DecisionBudget ofMillis(long millis) {
+        return new DecisionBudget(millis * 1_000_000L, UNLIMITED);
+    }
+
+    /**
+     * Creates a budget limited only by the number of nodes.
+     *
+     * @param nodes maximum number of nodes of a decision
+     * @return the budget
+     */
+    public static DecisionBudget ofNodes(long nodes) {
+        return new DecisionBudget(UNLIMITED, nodes);
+    }
+
+    /**
+     * Starts a new decision: clears the counters and sets the deadline.
+     *
+     * @return this budget
+     */
+    public DecisionBudget start() {
+        return start(1.0, UNLIMITED);
+    }
+
+    /**
+     * Starts a new decision with scaled-down limits and a hard time cap. Both
+     * limits are multiplied by {@code scale} (keeping at least one node and one
+     * microsecond), then the time limit is capped at {@code hardNanos}, so even a
+     * budget limited only by nodes cannot run past the cap.
+     *
+     * @param scale     the fraction of the limits this decision may use, in (0, 1]
+     * @param hardNanos the time cap in nanoseconds, or {@link #UNLIMITED}
+     * @return this budget
+     */
+    public DecisionBudget start(double scale, long hardNanos) {
+        long nanos = maxNanos == UNLIMITED ? UNLIMITED : Math.max(1_000L, (long) (maxNanos * scale));
+        scaled = scale < 1;
+        capped = hardNanos < nanos;
+        nanos = Math.min(nanos, hardNanos);
+        nodeLimit = maxNodes == UNLIMITED ? UNLIMITED : Math.max(1L, (long) (maxNodes * scale));
+        startNanos = System.nanoTime();
+        deadline = nanos == UNLIMITED ? UNLIMITED : startNanos + nanos;
+        nodes = 0;
+        endNanos = 0;
+        exhausted = false;
+        return this;
+    }
+
+    /**
+     * Counts one visited node and tells whether the search may continue.
+     *
+     * @return {@code true} while both the time and the node limits hold
+     */
+    public boolean visit() {
+        if (exhausted) {
+            return false;
+        }
+        nodes++;
+        if (nodes >= nodeLimit) {
+            exhausted = true;
+        } else if ((nodes & (CLOCK_CHECK_INTERVAL - 1)) == 0
+                && (cancelled || deadline != UNLIMITED && System.nanoTime() - deadline >= 0)) {
+            exhausted = true;
+        }
+        return !exhausted;
+    }
+
+    /**
+     * Adds nodes visited elsewhere, e.g. by worker threads of a parallel search.
+     *
+     * @param count the number of nodes to add
+     */
+    public void addNodes(long count) {
+        nodes += count;
+        if (nodes >= nodeLimit) {
+            exhausted = true;
+        }
+    }
+
+    /**
+     * Returns whether a limit has been reached, reading the clock.
+     *
+     * @return {@code true} if the decision must stop now
+     */
+    public boolean isExhausted() {
+        if (!exhausted && (cancelled || deadline != UNLIMITED && System.nanoTime() - deadline >= 0)) {
+            exhausted = true;
+        }
+        return exhausted;
+    }
+
+    /**
+     * Asks the running decision to stop as soon as possible. Unlike the limits,
+     * a cancellation survives {@link #start()}: decisions started afterwards stop
+     * at once, until {@link #clearCancel()} is called.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Allows decisions to run again after {@link #cancel()}.
+     */
+    public void clearCancel() {
+        cancelled = false;
+    }
+
+    /**
+     * Returns whether the budget was cancelled.
+     *
+     * @return {@code true} between {@link #cancel()} and {@link #clearCancel()}
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Returns whether the current decision has had its whole budget so far: it
+     * was not scaled down, not cancelled, and not cut short by the time cap. Only
+     * such a decision is as good as the strategy can play.
+     *
+     * @return {@code true} if nothing but the limits themselves bounded the decision
+     */
+    public boolean isFullScale() {
+        if (cancelled || scaled) {
+            return false;
+        }
+        return !capped || (endNanos == 0 ? System.nanoTime() : endNanos) - deadline < 0;
+    }
+
+    /**
+     * Marks the decision as finished, freezing {@link #usedNanos()}.
+     */
+    public void finish() {
+        if (endNanos == 0) {
+            endNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Returns the time used by the decision.
+     *
+     * @return nanoseconds between {@link #start()} and {@link #finish()}, or until now if not finished
+     */
+    public long usedNanos() {
+        return (endNanos == 0 ? System.nanoTime() : endNanos) - startNanos;
+    }
+
+    /**
+     * Returns the number of nodes used by the decision.
+     *
+     * @return the nodes visited since {@link #start()}
+     */
+    public long usedNodes() {
+        return nodes;
+    }
+
+    /**
+     * Returns the time limit of a decision.
+     *
+     * @return the limit in nanoseconds, or {@link #UNLIMITED}
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Returns the node limit of a decision.
+     *
+     * @return the limit in nodes, or {@link #UNLIMITED}
+     */
+    public long getMaxNodes() {
+        return maxNodes;
+    }
+
+    /**
+     * Returns the nodes the current decision may still visit.
+     *
+     * @return the remaining nodes, never negative, or {@link #UNLIMITED}
+     */
+    public long remainingNodes() {
+        if (nodeLimit == UNLIMITED) {
+            return UNLIMITED;
+        }
+        return Math.max(0, nodeLimit - nodes);
+    }
+
+    /**
+     * Returns the remaining time before the deadline.
+     *
+     * @return the remaining nanoseconds, never negative, or {@link #UNLIMITED};
+     *         {@code 0} once the budget is cancelled
+     */
+    public long remainingNanos() {
+        if (cancelled) {
+            return 0;
+        }
+        if (deadline == UNLIMITED) {
+            return UNLIMITED;
+        }
+        return Math.max(0, deadline - System.nanoTime());
+    }
+
+    /**
+     * Returns the budget usage, e.g. {@code 0.42ms/50.00ms 12 nodes}.
+     *
+     * @return a readable form of the budget usage
+     */
+    @Override
+    public String toString() {
+        String limit = maxNanos == UNLIMITED ? "∞" : String.format("%.2fms", maxNanos / 1e6);
+        return String.format("%.2fms/%s %d nodes", usedNanos() / 1e6, limit, nodes);
+    }
+}
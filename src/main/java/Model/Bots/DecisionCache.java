@@ -0,0 +1,574 @@
+package Model.Bots;
+
+import Model.Engine.FastRandom;
+import Model.Engine.HeadlessGame;
+import Model.Engine.Rules;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of bot decisions shared by every table of the JVM.
+ * <p>
+ * Bots at different tables, and the same bot across games, keep meeting the same
+ * canonical positions. {@link #key(DecisionView, long)} reduces a view to the pile
+ * value, the rank counts of the hand, the seats still playing and the decks in the
+ * shoe, and the cache maps that key to the rank the bot chose. A later hit plays a
+ * card of that rank without searching at all (see {@link CachedStrategy}).
+ * </p>
+ *
+ * <p>The cache is split into {@value #SEGMENTS} segments, each guarded by its own
+ * lock, so concurrent tables rarely contend. Each segment is a segmented LRU of
+ * fixed capacity: new keys enter a probation list, keys hit again move to a
+ * protected list holding {@value #PROTECTED_PERCENT}% of the segment, and the
+ * least recent protected key falls back to probation when that list is full. When a
+ * segment is full, a TinyLFU admission filter compares the estimated frequency of
+ * the new key with that of the probation victim and keeps the more frequent one, so
+ * a burst of one-off positions cannot flush the positions every table sees. The
+ * frequencies live in a count-min sketch of 4-bit counters that are halved
+ * periodically, so old popularity fades.</p>
+ *
+ * <p>Every structure is a primitive array allocated up front: memory stays at the
+ * capacity given at construction however many tables are running, and lookups
+ * allocate nothing.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class DecisionCache {
+
+    /** Value returned by {@link #get(long)} when the key is not cached. */
+    public static final int MISS = Integer.MIN_VALUE;
+
+    /** System property with the capacity of the shared cache, in entries. */
+    public static final String SIZE_PROPERTY = "zo.cache.entries";
+
+    /** Capacity of the shared cache when the property is not set. */
+    public static final int DEFAULT_ENTRIES = 1 << 16;
+
+    /** Number of independently locked segments. */
+    static final int SEGMENTS = 16;
+
+    /** Share of a segment kept for keys hit more than once. */
+    static final int PROTECTED_PERCENT = 80;
+
+    /** Smallest capacity of a segment. */
+    private static final int MIN_SEGMENT = 4;
+
+    /** Segments; the top bits of a key choose one. */
+    private final Segment[] segments;
+
+    /** Lookups that found their key. */
+    private final LongAdder hits = new LongAdder();
+
+    /** Lookups that did not. */
+    private final LongAdder misses = new LongAdder();
+
+    /** Keys removed to make room for another. */
+    private final LongAdder evictions = new LongAdder();
+
+    /** Keys the admission filter turned away. */
+    private final LongAdder rejections = new LongAdder();
+
+    /**
+     * Creates a cache.
+     *
+     * @param entries the capacity in entries, at least {@code 4 * SEGMENTS}
+     * @throws IllegalArgumentException if the capacity is too small
+     */
+    public DecisionCache(int entries) {
+        if (entries < MIN_SEGMENT * SEGMENTS) {
+            throw new IllegalArgumentException("Cache capacity too small: " + entries);
+        }
+        this.segments = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(entries / SEGMENTS);
+        }
+    }
+
+    /**
+     * Holder class that creates the shared cache on first use.
+     */
+    private static class Holder {
+        private static final DecisionCache INSTANCE = new DecisionCache(capacity());
+
+        /**
+         * Reads the capacity from {@link #SIZE_PROPERTY}.
+         *
+         * @return the capacity in entries
+         */
+        private static int capacity() {
+            String value = System.getProperty(SIZE_PROPERTY);
+            if (value == null) {
+                return DEFAULT_ENTRIES;
+            }
+            try {
+                return Math.max(MIN_SEGMENT * SEGMENTS, Integer.parseInt(value.trim()));
+            } catch (NumberFormatException e) {
+                System.err.println("⚠ Invalid " + SIZE_PROPERTY + ": " + value);
+                return DEFAULT_ENTRIES;
+            }
+        }
+    }
+
+    /**
+     * Returns the cache shared by every bot of the JVM.
+     *
+     * @return the shared cache
+     */
+    public static DecisionCache shared() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Computes the canonical key of a decision.
+     * <p>
+     * The key packs the pile value, the count of each rank in the hand as a
+     * {@link HeadlessGame#handCode(int) hand code} (so every order of the same cards
+     * shares a key), the number of seats still playing and the number of decks, then
+     * mixes them with a salt that separates bots whose decisions must not be shared.
+     * </p>
+     *
+     * @param view what the deciding player knows
+     * @param salt the salt of the deciding bot
+     * @return the key
+     */
+    public static long key(DecisionView view, long salt) {
+        long counts = 0;
+        for (int i = 0; i < view.getHandSize(); i++) {
+            counts += HeadlessGame.handUnit(view.getHandRank(i));
+        }
+        long packed = ((view.getPileValue() + 64) & 0x7FL)
+                | ((long) Integer.bitCount(view.getAliveMask()) << 7)
+                | ((long) (view.getDecks() & 0xF) << 11)
+                | (counts << 15);
+        return FastRandom.mix(packed ^ FastRandom.mix(salt));
+    }
+
+    /**
+     * Looks a decision up and records the access.
+     *
+     * @param key the key of the position
+     * @return the cached rank, or {@link #MISS}
+     */
+    public int get(long key) {
+        int value = segment(key).get(key);
+        if (value == MISS) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    /**
+     * Stores a decision, if the admission filter lets it in.
+     *
+     * @param key  the key of the position
+     * @param rank the rank chosen, between 0 and {@code Rules.RANKS - 1}
+     * @throws IllegalArgumentException if the rank is out of range
+     */
+    public void put(long key, int rank) {
+        if (rank < 0 || rank >= Rules.RANKS) {
+            throw new IllegalArgumentException("Invalid rank: " + rank);
+        }
+        int outcome = segment(key).put(key, rank);
+        if (outcome == Segment.EVICTED) {
+            evictions.increment();
+        } else if (outcome == Segment.REJECTED) {
+            rejections.increment();
+        }
+    }
+
+    /**
+     * Empties the cache and its counters.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+        rejections.reset();
+    }
+
+    /**
+     * Returns the number of cached decisions.
+     *
+     * @return the size in entries
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Returns the number of decisions the cache can hold.
+     *
+     * @return the capacity in entries
+     */
+    public int capacity() {
+        return segments[0].capacity * SEGMENTS;
+    }
+
+    /**
+     * Returns the number of lookups that found their key.
+     *
+     * @return the hits since creation or the last {@link #clear()}
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that did not find their key.
+     *
+     * @return the misses since creation or the last {@link #clear()}
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of keys removed to make room for another.
+     *
+     * @return the evictions since creation or the last {@link #clear()}
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the number of keys turned away by the admission filter.
+     *
+     * @return the rejections since creation or the last {@link #clear()}
+     */
+    public long getRejections() {
+        return rejections.sum();
+    }
+
+    /**
+     * Returns the share of lookups that hit.
+     *
+     * @return the hit rate between 0 and 1, or 0 before any lookup
+     */
+    public double hitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    /**
+     * Returns the segment of a key.
+     *
+     * @param key the key
+     * @return the segment chosen by the top bits of the key
+     */
+    private Segment segment(long key) {
+        return segments[(int) (key >>> 60) & (SEGMENTS - 1)];
+    }
+
+    /**
+     * One locked segment: a segmented LRU with TinyLFU admission over fixed arrays.
+     * <p>
+     * Slots are linked in two circular lists whose sentinels are the slots
+     * {@code capacity} (probation) and {@code capacity + 1} (protected); the most
+     * recent slot follows the sentinel. An open-addressing index with linear probing
+     * maps a key to its slot.
+     * </p>
+     */
+    private static final class Segment {
+
+        /** {@link #put} stored the key in a free slot or updated it. */
+        static final int STORED = 0;
+
+        /** {@link #put} stored the key in place of another. */
+        static final int EVICTED = 1;
+
+        /** {@link #put} left the key out. */
+        static final int REJECTED = 2;
+
+        /** Largest value of a frequency counter. */
+        private static final int MAX_COUNT = 15;
+
+        /** Number of slots. */
+        final int capacity;
+
+        /** Largest number of slots in the protected list. */
+        private final int protectedCapacity;
+
+        /** Key of each slot. */
+        private final long[] keys;
+
+        /** Rank stored in each slot. */
+        private final byte[] values;
+
+        /** Whether each slot is in the protected list. */
+        private final boolean[] isProtected;
+
+        /** Previous slot of each slot and sentinel. */
+        private final int[] prev;
+
+        /** Next slot of each slot and sentinel. */
+        private final int[] next;
+
+        /** Sentinel of the probation list. */
+        private final int probation;
+
+        /** Sentinel of the protected list. */
+        private final int protectedHead;
+
+        /** Index from key to slot + 1; 0 is empty. */
+        private final int[] index;
+
+        /** Mask selecting a position of the index. */
+        private final int indexMask;
+
+        /** Frequency counters, four per key. */
+        private final byte[] sketch;
+
+        /** Mask selecting a counter. */
+        private final int sketchMask;
+
+        /** Accesses after which every counter is halved. */
+        private final int sampleSize;
+
+        /** Accesses since the last halving. */
+        private int additions;
+
+        /** Slots in use; slots below this are taken. */
+        private int size;
+
+        /** Slots in the protected list. */
+        private int protectedSize;
+
+        /**
+         * Creates an empty segment.
+         *
+         * @param capacity the number of slots
+         */
+        Segment(int capacity) {
+            this.capacity = capacity;
+            this.protectedCapacity = Math.max(1, capacity * PROTECTED_PERCENT / 100);
+            this.keys = new long[capacity];
+            this.values = new byte[capacity];
+            this.isProtected = new boolean[capacity];
+            this.prev = new int[capacity + 2];
+            this.next = new int[capacity + 2];
+            this.probation = capacity;
+            this.protectedHead = capacity + 1;
+            int tableSize = Integer.highestOneBit(capacity * 2 - 1) << 1;
+            this.index = new int[tableSize];
+            this.indexMask = tableSize - 1;
+            int sketchSize = Integer.highestOneBit(capacity * 4 - 1) << 1;
+            this.sketch = new byte[sketchSize];
+            this.sketchMask = sketchSize - 1;
+            this.sampleSize = capacity * 10;
+            clear();
+        }
+
+        /**
+         * Looks a key up, records the access and promotes the key on a hit.
+         *
+         * @param key the key
+         * @return the stored rank, or {@link #MISS}
+         */
+        synchronized int get(long key) {
+            increment(key);
+            int slot = find(key);
+            if (slot < 0) {
+                return MISS;
+            }
+            unlink(slot);
+            if (!isProtected[slot]) {
+                isProtected[slot] = true;
+                if (++protectedSize > protectedCapacity) {
+                    int demoted = prev[protectedHead];
+                    unlink(demoted);
+                    isProtected[demoted] = false;
+                    protectedSize--;
+                    pushFront(probation, demoted);
+                }
+            }
+            pushFront(protectedHead, slot);
+            return values[slot];
+        }
+
+        /**
+         * Stores a key, evicting the probation victim if the key is more frequent.
+         *
+         * @param key   the key
+         * @param value the rank
+         * @return {@link #STORED}, {@link #EVICTED} or {@link #REJECTED}
+         */
+        synchronized int put(long key, int value) {
+            int slot = find(key);
+            if (slot >= 0) {
+                values[slot] = (byte) value;
+                return STORED;
+            }
+            int outcome = STORED;
+            if (size < capacity) {
+                slot = size++;
+            } else {
+                int victim = prev[probation] != probation ? prev[probation] : prev[protectedHead];
+                if (frequency(key) < frequency(keys[victim])) {
+                    return REJECTED;
+                }
+                unlink(victim);
+                if (isProtected[victim]) {
+                    isProtected[victim] = false;
+                    protectedSize--;
+                }
+                removeFromIndex(keys[victim]);
+                slot = victim;
+                outcome = EVICTED;
+            }
+            keys[slot] = key;
+            values[slot] = (byte) value;
+            addToIndex(key, slot);
+            pushFront(probation, slot);
+            return outcome;
+        }
+
+        /**
+         * Empties the segment and its frequencies.
+         */
+        synchronized void clear() {
+            Arrays.fill(index, 0);
+            Arrays.fill(sketch, (byte) 0);
+            Arrays.fill(isProtected, false);
+            prev[probation] = next[probation] = probation;
+            prev[protectedHead] = next[protectedHead] = protectedHead;
+            size = 0;
+            protectedSize = 0;
+            additions = 0;
+        }
+
+        /**
+         * Returns the number of slots in use.
+         *
+         * @return the size
+         */
+        synchronized int size() {
+            return size;
+        }
+
+        /**
+         * Finds the slot of a key.
+         *
+         * @param key the key
+         * @return the slot, or {@code -1}
+         */
+        private int find(long key) {
+            for (int i = (int) key & indexMask; ; i = (i + 1) & indexMask) {
+                int entry = index[i];
+                if (entry == 0) {
+                    return -1;
+                }
+                if (keys[entry - 1] == key) {
+                    return entry - 1;
+                }
+            }
+        }
+
+        /**
+         * Adds a key to the index.
+         *
+         * @param key  the key, not in the index
+         * @param slot its slot
+         */
+        private void addToIndex(long key, int slot) {
+            int i = (int) key & indexMask;
+            while (index[i] != 0) {
+                i = (i + 1) & indexMask;
+            }
+            index[i] = slot + 1;
+        }
+
+        /**
+         * Removes a key from the index, shifting back the entries probed past it.
+         *
+         * @param key the key, in the index
+         */
+        private void removeFromIndex(long key) {
+            int hole = (int) key & indexMask;
+            while (keys[index[hole] - 1] != key) {
+                hole = (hole + 1) & indexMask;
+            }
+            for (int j = (hole + 1) & indexMask; index[j] != 0; j = (j + 1) & indexMask) {
+                int home = (int) keys[index[j] - 1] & indexMask;
+                // The entry may fill the hole unless its home lies after the hole, up to j
+                boolean between = hole <= j ? home > hole && home <= j : home > hole || home <= j;
+                if (!between) {
+                    index[hole] = index[j];
+                    hole = j;
+                }
+            }
+            index[hole] = 0;
+        }
+
+        /**
+         * Unlinks a slot from its list.
+         *
+         * @param slot the slot
+         */
+        private void unlink(int slot) {
+            next[prev[slot]] = next[slot];
+            prev[next[slot]] = prev[slot];
+        }
+
+        /**
+         * Links a slot as the most recent of a list.
+         *
+         * @param head the sentinel of the list
+         * @param slot the slot
+         */
+        private void pushFront(int head, int slot) {
+            prev[slot] = head;
+            next[slot] = next[head];
+            prev[next[head]] = slot;
+            next[head] = slot;
+        }
+
+        /**
+         * Counts an access to a key, halving every counter once per sample.
+         *
+         * @param key the key
+         */
+        private void increment(long key) {
+            long hash = FastRandom.mix(key);
+            for (int k = 0; k < 4; k++) {
+                int i = (int) Long.rotateRight(hash, 16 * k) & sketchMask;
+                if (sketch[i] < MAX_COUNT) {
+                    sketch[i]++;
+                }
+            }
+            if (++additions >= sampleSize) {
+                for (int i = 0; i < sketch.length; i++) {
+                    sketch[i] >>= 1;
+                }
+                additions /= 2;
+            }
+        }
+
+        /**
+         * Estimates the access frequency of a key.
+         *
+         * @param key the key
+         * @return the smallest of its four counters
+         */
+        private int frequency(long key) {
+            long hash = FastRandom.mix(key);
+            int min = MAX_COUNT;
+            for (int k = 0; k < 4; k++) {
+                min = Math.min(min, sketch[(int) Long.rotateRight(hash, 16 * k) & sketchMask]);
+            }
+            return min;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package Model.Bots;
+
+import Model.Metrics.LatencyHistogram;
+
+/**
+ * Runs the decisions of one bot under a hard deadline, shrinking its budget when
+ * the machine cannot keep up.
+ * <p>
+ * Every decision starts the bot's {@link DecisionBudget} with its limits scaled
+ * by the current <em>scale</em> and its time capped at {@value #TARGET} of the
+ * deadline, so even a budget counted in nodes stops in time; the rest of the
+ * deadline absorbs what the search cannot control, such as the thread being
+ * preempted on a busy machine or the clock being read only every few nodes. After the decision the scheduler
+ * records how long it took; a decision longer than the deadline is an
+ * <em>overrun</em> and the time past the deadline goes to a second histogram.
+ * </p>
+ *
+ * <p>The scale follows the decision times, in the manner of a congestion window:
+ * a decision that takes more than {@value #TARGET} of the deadline halves it
+ * (down to {@value #MIN_SCALE}), and one that takes less than half of that grows
+ * it by a quarter, back up to the full budget. A slow machine therefore gets
+ * shallower searches within a decision or two, and gets the full budget back
+ * once it recovers. A scheduler belongs to one bot and is not thread-safe; the
+ * histograms may be read from any thread.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class DecisionScheduler {
+
+    /** Share of the deadline a search may use, and above which the budget is cut. */
+    public static final double TARGET = 0.75;
+
+    /** Smallest share of the budget a decision gets. */
+    public static final double MIN_SCALE = 1.0 / 64;
+
+    /** Factor applied to the scale after a slow decision. */
+    private static final double DECREASE = 0.5;
+
+    /** Factor applied to the scale after a fast decision. */
+    private static final double INCREASE = 1.25;
+
+    /** Budget of the bot's decisions. */
+    private final DecisionBudget budget;
+
+    /** Hard deadline of a decision, in nanoseconds. */
+    private final long deadlineNanos;
+
+    /** Time cap of a search, leaving some of the deadline as slack. */
+    private final long cap;
+
+    /** Time of every decision. */
+    private final LatencyHistogram decisions = new LatencyHistogram();
+
+    /** Time past the deadline of every overrun. */
+    private final LatencyHistogram overruns = new LatencyHistogram();
+
+    /** Share of the budget the next decision gets. */
+    private volatile double scale = 1;
+
+    /** Time past the deadline of the last decision, or {@code 0}. */
+    private long lastOverrun;
+
+    /**
+     * Creates a scheduler.
+     *
+     * @param budget        the budget of the bot's decisions
+     * @param deadlineNanos the hard deadline of a decision in nanoseconds, or
+     *                      {@link DecisionBudget#UNLIMITED} to only adapt the budget
+     * @throws IllegalArgumentException if the deadline is not positive
+     */
+    public DecisionScheduler(DecisionBudget budget, long deadlineNanos) {
+        if (deadlineNanos <= 0) {
+            throw new IllegalArgumentException("The deadline must be positive");
+        }
+        this.budget = budget;
+        this.deadlineNanos = deadlineNanos;
+        this.cap = deadlineNanos == DecisionBudget.UNLIMITED ? DecisionBudget.UNLIMITED
+                : (long) (deadlineNanos * TARGET);
+    }
+
+    /**
+     * Asks a strategy for a decision within the scaled budget and the deadline.
+     *
+     * @param strategy the strategy of the bot
+     * @param view     what the bot knows about the table
+     * @return the position of the chosen card, or {@code -1} if none is playable
+     */
+    public int decide(BotStrategy strategy, DecisionView view) {
+        budget.start(scale, cap);
+        int choice;
+        try {
+            choice = strategy.decide(view, budget);
+        } finally {
+            budget.finish();
+        }
+        record(budget.usedNanos());
+        return choice;
+    }
+
+    /**
+     * Starts another budget the way the bot's next decision will start: with the
+     * current scale and the time cap. Nothing is recorded, so this suits speculative
+     * decisions such as pondering, and it may be called from any thread.
+     *
+     * @param speculative a budget with the same limits as the bot's own
+     * @return the given budget
+     */
+    public DecisionBudget start(DecisionBudget speculative) {
+        return speculative.start(scale, cap);
+    }
+
+    /**
+     * Records the time of a decision and adapts the scale.
+     *
+     * @param nanos the time of the decision
+     */
+    void record(long nanos) {
+        decisions.record(nanos);
+        lastOverrun = Math.max(0, nanos - deadlineNanos);
+        if (lastOverrun > 0) {
+            overruns.record(lastOverrun);
+        }
+        if (deadlineNanos == DecisionBudget.UNLIMITED) {
+            return;
+        }
+        if (nanos > TARGET * deadlineNanos) {
+            scale = Math.max(MIN_SCALE, scale * DECREASE);
+        } else if (nanos < TARGET * deadlineNanos / 2) {
+            scale = Math.min(1, scale * INCREASE);
+        }
+    }
+
+    /**
+     * Returns the budget of the bot's decisions.
+     *
+     * @return the budget, holding the usage of the last decision
+     */
+    public DecisionBudget getBudget() {
+        return budget;
+    }
+
+    /**
+     * Returns the hard deadline of a decision.
+     *
+     * @return the deadline in nanoseconds, or {@link DecisionBudget#UNLIMITED}
+     */
+    public long getDeadlineNanos() {
+        return deadlineNanos;
+    }
+
+    /**
+     * Returns the share of the budget the next decision gets.
+     *
+     * @return the scale, between {@value #MIN_SCALE} and 1
+     */
+    public double getScale() {
+        return scale;
+    }
+
+    /**
+     * Returns how far the last decision went past the deadline.
+     *
+     * @return the overrun in nanoseconds, or {@code 0} if it was on time
+     */
+    public long getLastOverrun() {
+        return lastOverrun;
+    }
+
+    /**
+     * Returns the histogram of decision times.
+     *
+     * @return the time of every decision
+     */
+    public LatencyHistogram getDecisions() {
+        return decisions;
+    }
+
+    /**
+     * Returns the histogram of overruns.
+     *
+     * @return the time past the deadline of every overrun
+     */
+    public LatencyHistogram getOverruns() {
+        return overruns;
+    }
+}
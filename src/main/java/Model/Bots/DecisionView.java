@@ -0,0 +1,427 @@
+package Model.Bots;
+
+import Model.Cards.Card;
+import Model.Engine.FastRandom;
+import Model.Engine.HeadlessGame;
+import Model.Engine.Rules;
+
+import java.util.List;
+
+/**
+ * What a bot knows when it has to choose a card.
+ * <p>
+ * The view holds only information the deciding player is allowed to see: its own
+ * hand, the pile value, the number of cards every seat holds, the seats still in
+ * the game, the size of the deck and, for each rank, how many cards of that rank
+ * it has not seen (they are in the deck or in another player's hand). Cards are
+ * stored as ranks, encoded as in {@link Rules}. It may also carry, per seat and
+ * rank, the likelihood weights an {@link OpponentModel} inferred from the plays.
+ * </p>
+ *
+ * <p>A view is a mutable, reusable buffer: each bot keeps one and refills it before
+ * every decision with {@link #load(HeadlessGame)} or with the {@code begin}/{@code add}
+ * methods, so deciding does not allocate. It is not thread-safe.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class DecisionView {
+
+    /** Seat of the deciding player. */
+    private int mySeat;
+
+    /** Number of seats at the table. */
+    private int seats;
+
+    /** Number of standard decks in the shoe. */
+    private int decks;
+
+    /** Current value of the pile. */
+    private int pileValue;
+
+    /** Number of cards in the deck. */
+    private int deckSize;
+
+    /** Mask of the seats still in the game. */
+    private int aliveMask;
+
+    /** Ranks of the cards in the deciding player's hand. */
+    private final int[] hand = new int[Rules.HAND_SIZE];
+
+    /** Number of cards in the deciding player's hand. */
+    private int handSize;
+
+    /** Number of cards held by each seat. */
+    private final int[] handSizes = new int[HeadlessGame.MAX_SEATS];
+
+    /** Number of unseen cards of each rank. */
+    private final int[] unseen = new int[Rules.RANKS];
+
+    /** Total number of unseen cards. */
+    private int unseenTotal;
+
+    /** Likelihood weight of each rank in each seat's hand, {@code [seat * RANKS + rank]}. */
+    private final double[] handWeights = new double[HeadlessGame.MAX_SEATS * Rules.RANKS];
+
+    /**
+     * Starts refilling the view for a new decision. The hand is emptied, every
+     * seat is marked alive with an empty hand and no inferred weights, and every
+     * card of the shoe is counted as unseen.
+     *
+     * @param mySeat    the seat of the deciding player
+     * @param seats     the number of seats at the table
+     * @param decks     the number of standard decks in the shoe
+     * @param pileValue the current pile value
+     * @param deckSize  the number of cards in the deck
+     */
+    public void begin(int mySeat, int seats, int decks, int pileValue, int deckSize) {
+        this.mySeat = mySeat;
+        this.seats = seats;
+        this.decks = decks;
+        this.pileValue = pileValue;
+        this.deckSize = deckSize;
+        this.aliveMask = (1 << seats) - 1;
+        this.handSize = 0;
+        for (int i = 0; i < seats; i++) {
+            handSizes[i] = 0;
+        }
+        for (int r = 0; r < Rules.RANKS; r++) {
+            unseen[r] = decks * Rules.SUITS;
+        }
+        unseenTotal = decks * Rules.DECK_SIZE;
+        for (int i = 0; i < seats * Rules.RANKS; i++) {
+            handWeights[i] = 1;
+        }
+    }
+
+    /**
+     * Adds a card to the deciding player's hand; the card is no longer unseen.
+     *
+     * @param rank the rank of the card
+     */
+    public void addHandCard(int rank) {
+        hand[handSize++] = rank;
+        handSizes[mySeat] = handSize;
+        markSeen(rank);
+    }
+
+    /**
+     * Records a card the deciding player has seen outside its hand (on the pile).
+     *
+     * @param rank the rank of the card
+     */
+    public void markSeen(int rank) {
+        if (unseen[rank] > 0) {
+            unseen[rank]--;
+            unseenTotal--;
+        }
+    }
+
+    /**
+     * Sets the number of unseen cards of a rank, e.g. from a {@link CardCounter}.
+     *
+     * @param rank  the rank
+     * @param count the number of cards of that rank in the deck or in other hands
+     */
+    public void setUnseen(int rank, int count) {
+        unseenTotal += count - unseen[rank];
+        unseen[rank] = count;
+    }
+
+    /**
+     * Sets the number of cards held by a seat.
+     *
+     * @param seat  the seat
+     * @param count the number of cards in its hand
+     */
+    public void setHandSize(int seat, int count) {
+        handSizes[seat] = count;
+    }
+
+    /**
+     * Sets the likelihood weight of a rank in a seat's hand, e.g. from an
+     * {@link OpponentModel}.
+     *
+     * @param seat   the seat
+     * @param rank   the rank
+     * @param weight the weight relative to the plain card count; 1 when nothing is known
+     */
+    public void setHandWeight(int seat, int rank, double weight) {
+        handWeights[seat * Rules.RANKS + rank] = weight;
+    }
+
+    /**
+     * Sets the seats still in the game.
+     *
+     * @param aliveMask a mask where bit {@code i} is set while seat {@code i} plays
+     */
+    public void setAliveMask(int aliveMask) {
+        this.aliveMask = aliveMask;
+    }
+
+    /**
+     * Refills the view for the player whose turn it is in a headless game.
+     *
+     * @param game the game
+     * @return this view
+     */
+    public DecisionView load(HeadlessGame game) {
+        return load(game, game.currentSeat());
+    }
+
+    /**
+     * Refills the view with what one seat of a headless game knows, whether or
+     * not it is that seat's turn.
+     *
+     * @param game the game
+     * @param seat the seat of the deciding player
+     * @return this view
+     */
+    public DecisionView load(HeadlessGame game, int seat) {
+        begin(seat, game.seats(), game.decks(), game.pileValue(), game.deckSize());
+        for (int i = 0; i < game.handSize(seat); i++) {
+            addHandCard(Rules.rankOf(game.handCard(seat, i)));
+        }
+        for (int i = 0; i < game.pileSize(); i++) {
+            markSeen(Rules.rankOf(game.pileCard(i)));
+        }
+        for (int s = 0; s < game.seats(); s++) {
+            handSizes[s] = game.handSize(s);
+        }
+        aliveMask = game.aliveMask();
+        return this;
+    }
+
+    /**
+     * Makes this view an exact copy of another one.
+     *
+     * @param other the view to copy
+     * @return this view
+     */
+    public DecisionView copyFrom(DecisionView other) {
+        mySeat = other.mySeat;
+        seats = other.seats;
+        decks = other.decks;
+        pileValue = other.pileValue;
+        deckSize = other.deckSize;
+        aliveMask = other.aliveMask;
+        handSize = other.handSize;
+        System.arraycopy(other.hand, 0, hand, 0, Rules.HAND_SIZE);
+        System.arraycopy(other.handSizes, 0, handSizes, 0, HeadlessGame.MAX_SEATS);
+        System.arraycopy(other.unseen, 0, unseen, 0, Rules.RANKS);
+        unseenTotal = other.unseenTotal;
+        System.arraycopy(other.handWeights, 0, handWeights, 0, handWeights.length);
+        return this;
+    }
+
+    /**
+     * Advances the view past a play another seat may make next: the pile takes
+     * the card, the card is no longer unseen and the seat's weights absorb the
+     * evidence as an {@link OpponentModel} would. The seat is assumed to draw a
+     * replacement, so hand sizes and the deck size are left as they are.
+     *
+     * @param seat the seat that plays
+     * @param rank the rank of the card it plays
+     */
+    public void applyPlay(int seat, int rank) {
+        OpponentModel.update(handWeights, seat * Rules.RANKS, pileValue, rank);
+        pileValue = Rules.play(pileValue, rank);
+        markSeen(rank);
+    }
+
+    /**
+     * Returns a 64-bit digest of everything a strategy reads from the view: the
+     * seats, the pile value, the hand in order, the hand sizes, the alive seats,
+     * the unseen counts and the weights. Equal views have equal fingerprints; the
+     * size of the deck is left out, since no strategy reads it.
+     *
+     * @return the fingerprint
+     */
+    public long fingerprint() {
+        long h = FastRandom.mix(((long) mySeat << 32) ^ ((long) seats << 16) ^ decks);
+        h = FastRandom.mix(h ^ ((long) pileValue << 32) ^ aliveMask);
+        h = FastRandom.mix(h ^ handSize);
+        for (int i = 0; i < handSize; i++) {
+            h = FastRandom.mix(h ^ hand[i]);
+        }
+        for (int s = 0; s < seats; s++) {
+            h = FastRandom.mix(h ^ handSizes[s]);
+        }
+        for (int r = 0; r < Rules.RANKS; r++) {
+            h = FastRandom.mix(h ^ unseen[r]);
+        }
+        for (int i = 0; i < seats * Rules.RANKS; i++) {
+            h = FastRandom.mix(h ^ Double.doubleToLongBits(handWeights[i]));
+        }
+        return h;
+    }
+
+    /**
+     * Adds the cards of a graphical hand to the deciding player's hand.
+     *
+     * @param cards the cards of the hand, in hand order
+     */
+    public void addHand(List<Card> cards) {
+        for (Card card : cards) {
+            addHandCard(Rules.rankOf(card.getSymbol()));
+        }
+    }
+
+    /**
+     * Records the cards of a graphical pile as seen.
+     *
+     * @param cards the cards of the pile
+     */
+    public void markSeen(List<Card> cards) {
+        for (Card card : cards) {
+            markSeen(Rules.rankOf(card.getSymbol()));
+        }
+    }
+
+    /**
+     * Returns the seat of the deciding player.
+     *
+     * @return the seat
+     */
+    public int getMySeat() {
+        return mySeat;
+    }
+
+    /**
+     * Returns the number of seats at the table.
+     *
+     * @return the number of seats
+     */
+    public int getSeats() {
+        return seats;
+    }
+
+    /**
+     * Returns the number of standard decks in the shoe.
+     *
+     * @return the number of decks
+     */
+    public int getDecks() {
+        return decks;
+    }
+
+    /**
+     * Returns the current pile value.
+     *
+     * @return the pile value
+     */
+    public int getPileValue() {
+        return pileValue;
+    }
+
+    /**
+     * Returns the number of cards in the deck.
+     *
+     * @return the deck size
+     */
+    public int getDeckSize() {
+        return deckSize;
+    }
+
+    /**
+     * Returns the seats still in the game.
+     *
+     * @return a mask where bit {@code i} is set while seat {@code i} plays
+     */
+    public int getAliveMask() {
+        return aliveMask;
+    }
+
+    /**
+     * Returns the number of cards in the deciding player's hand.
+     *
+     * @return the hand size
+     */
+    public int getHandSize() {
+        return handSize;
+    }
+
+    /**
+     * Returns the rank of a card in the deciding player's hand.
+     *
+     * @param index the position of the card in the hand
+     * @return the rank of the card
+     */
+    public int getHandRank(int index) {
+        return hand[index];
+    }
+
+    /**
+     * Returns the number of cards held by a seat.
+     *
+     * @param seat the seat
+     * @return the number of cards in its hand
+     */
+    public int getHandSize(int seat) {
+        return handSizes[seat];
+    }
+
+    /**
+     * Returns the number of unseen cards of a rank.
+     *
+     * @param rank the rank
+     * @return the number of cards of that rank in the deck or in other hands
+     */
+    public int getUnseen(int rank) {
+        return unseen[rank];
+    }
+
+    /**
+     * Returns the total number of unseen cards.
+     *
+     * @return the number of cards in the deck or in other hands
+     */
+    public int getUnseenTotal() {
+        return unseenTotal;
+    }
+
+    /**
+     * Returns the likelihood weight of a rank in a seat's hand.
+     *
+     * @param seat the seat
+     * @param rank the rank
+     * @return the weight relative to the plain card count; 1 when nothing is known
+     */
+    public double getHandWeight(int seat, int rank) {
+        return handWeights[seat * Rules.RANKS + rank];
+    }
+
+    /**
+     * Returns whether a card of the hand can be played on the pile.
+     *
+     * @param index the position of the card in the hand
+     * @return {@code true} if the card keeps the pile within the limit
+     */
+    public boolean isPlayable(int index) {
+        return Rules.canPlay(pileValue, hand[index]);
+    }
+
+    /**
+     * Returns the pile value after playing a card of the hand.
+     *
+     * @param index the position of the card in the hand
+     * @return the resulting pile value
+     */
+    public int pileAfter(int index) {
+        return Rules.play(pileValue, hand[index]);
+    }
+
+    /**
+     * Returns the position of the first playable card of the hand.
+     *
+     * @return the index of the card, or {@code -1} if none can be played
+     */
+    public int firstPlayable() {
+        for (int i = 0; i < handSize; i++) {
+            if (isPlayable(i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,176 @@
+package Model.Bots;
+
+import Model.Engine.FastRandom;
+import Model.Engine.HeadlessGame;
+import Model.Engine.Rules;
+
+/**
+ * Turns what a bot knows into a complete game it can play out.
+ * <p>
+ * A {@link DecisionView} hides the other players' hands and the order of the deck.
+ * A determinization deals the unseen cards at random (the other hands first, with
+ * the sizes the bot can see, then the deck) and rebuilds the pile from the cards
+ * that were already played. The other hands are dealt one rank at a time, weighted
+ * by the likelihoods an {@link OpponentModel} put in the view, so a seat that
+ * showed it lacks some rank rarely gets it in a sample. The result is a {@link HeadlessGame} consistent with
+ * everything the bot has seen, positioned on the bot's turn.
+ * </p>
+ *
+ * <p>Suits never affect the rules, so cards are rebuilt from their ranks with
+ * arbitrary suits. All buffers, and the game itself, are reused from one sample to
+ * the next, so sampling does not allocate. Each search worker owns its own
+ * determinizer; an instance is not thread-safe.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class Determinizer {
+
+    /** Game reused for every sample; replaced only when the table shape changes. */
+    private HeadlessGame game;
+
+    /** Cards of the deck, shuffled for every sample. */
+    private int[] unseen = new int[0];
+
+    /** Unseen cards of each rank not dealt yet. */
+    private final int[] remaining = new int[Rules.RANKS];
+
+    /** Cards of the rebuilt pile. */
+    private int[] pile = new int[0];
+
+    /** Hands of every seat, {@link Rules#HAND_SIZE} slots per seat. */
+    private final int[] hands = new int[HeadlessGame.MAX_SEATS * Rules.HAND_SIZE];
+
+    /** Number of cards dealt to each seat. */
+    private final int[] sizes = new int[HeadlessGame.MAX_SEATS];
+
+    /** Number of cards of each rank in the bot's hand. */
+    private final int[] handCounts = new int[Rules.RANKS];
+
+    /**
+     * Samples one complete game consistent with the view.
+     *
+     * @param view   what the bot knows; the bot's seat is the one to move
+     * @param random the random source of the deal
+     * @return the sampled game, valid until the next call on this determinizer
+     */
+    public HeadlessGame sample(DecisionView view, FastRandom random) {
+        prepare(view);
+        int seats = view.getSeats();
+        int me = view.getMySeat();
+
+        // Unseen cards: everything in other hands or in the deck
+        int n = 0;
+        for (int rank = 0; rank < Rules.RANKS; rank++) {
+            remaining[rank] = view.getUnseen(rank);
+            n += remaining[rank];
+        }
+
+        // Played cards: the shoe minus the unseen cards and the bot's hand
+        int pileSize = 0;
+        for (int rank = 0; rank < Rules.RANKS; rank++) {
+            int played = view.getDecks() * Rules.SUITS - view.getUnseen(rank) - handCounts[rank];
+            for (int k = 0; k < played; k++) {
+                pile[pileSize++] = Rules.card(rank, k & 3);
+            }
+        }
+        if (pileSize == 0 && n > 0) {
+            pile[pileSize++] = take(view, me, random);
+            n--;
+        }
+
+        // Hands: the bot's own cards, then the other seats in the sizes it can see,
+        // each card drawn with the seat's inferred weights
+        for (int seat = 0; seat < seats; seat++) {
+            sizes[seat] = 0;
+        }
+        for (int i = 0; i < view.getHandSize(); i++) {
+            hands[me * Rules.HAND_SIZE + i] = Rules.card(view.getHandRank(i), i & 3);
+        }
+        sizes[me] = view.getHandSize();
+        for (int seat = 0; seat < seats; seat++) {
+            if (seat == me || (view.getAliveMask() & (1 << seat)) == 0) {
+                continue;
+            }
+            int count = Math.min(view.getHandSize(seat), n);
+            for (int i = 0; i < count; i++) {
+                hands[seat * Rules.HAND_SIZE + i] = take(view, seat, random);
+            }
+            sizes[seat] = count;
+            n -= count;
+        }
+
+        // Whatever is left is the deck, shuffled
+        n = 0;
+        for (int rank = 0; rank < Rules.RANKS; rank++) {
+            for (int k = 0; k < remaining[rank]; k++) {
+                unseen[n++] = Rules.card(rank, k & 3);
+            }
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = unseen[i];
+            unseen[i] = unseen[j];
+            unseen[j] = tmp;
+        }
+        game.setState(view.getPileValue(), pile, pileSize, unseen, n, hands, sizes,
+                view.getAliveMask(), me, random.nextLong());
+        return game;
+    }
+
+    /**
+     * Takes one of the remaining unseen cards for a seat. A rank is chosen with
+     * probability proportional to its remaining count times the seat's weight for
+     * it; if the weights rule out every remaining card, the counts alone decide.
+     *
+     * @param view   the view with the weights
+     * @param seat   the seat receiving the card; the bot's own seat has no weights
+     * @param random the random source of the deal
+     * @return the card taken
+     */
+    private int take(DecisionView view, int seat, FastRandom random) {
+        double total = 0;
+        for (int rank = 0; rank < Rules.RANKS; rank++) {
+            total += remaining[rank] * view.getHandWeight(seat, rank);
+        }
+        boolean weighted = total > 0;
+        if (!weighted) {
+            for (int rank = 0; rank < Rules.RANKS; rank++) {
+                total += remaining[rank];
+            }
+        }
+        double target = random.nextDouble() * total;
+        int chosen = -1;
+        for (int rank = 0; rank < Rules.RANKS; rank++) {
+            if (remaining[rank] == 0) {
+                continue;
+            }
+            chosen = rank;
+            target -= remaining[rank] * (weighted ? view.getHandWeight(seat, rank) : 1);
+            if (target < 0) {
+                break;
+            }
+        }
+        remaining[chosen]--;
+        return Rules.card(chosen, remaining[chosen] & 3);
+    }
+
+    /**
+     * Makes sure the game and the buffers fit the table of the view.
+     *
+     * @param view the view about to be sampled
+     */
+    private void prepare(DecisionView view) {
+        if (game == null || game.seats() != view.getSeats() || game.decks() != view.getDecks()) {
+            game = new HeadlessGame(view.getSeats(), view.getDecks());
+            unseen = new int[view.getDecks() * Rules.DECK_SIZE];
+            pile = new int[view.getDecks() * Rules.DECK_SIZE];
+        }
+        for (int rank = 0; rank < Rules.RANKS; rank++) {
+            handCounts[rank] = 0;
+        }
+        for (int i = 0; i < view.getHandSize(); i++) {
+            handCounts[view.getHandRank(i)]++;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package Model.Bots;
+
+/**
+ * Bot difficulty presets, each defined by how much search a decision may use.
+ * <p>
+ * Every level plays heads-up positions from the endgame tablebase, or from the
+ * CFR equilibrium ({@link CfrStrategy}) when only that file is available, and
+ * everything else with Monte Carlo tree search ({@link MctsStrategy}). What
+ * changes is the budget of a decision: a few rollouts for an easy bot, a couple
+ * of thousand for a medium one, and a fixed slice of time on every search worker
+ * for a hard one. An easy bot plays the learned policy ({@link PolicyStrategy})
+ * instead of searching when one is available, since its decisions cost
+ * nanoseconds. Each level also has a hard deadline; a {@link DecisionScheduler}
+ * caps every decision at it and shrinks the budget when decisions get close to
+ * it, so a loaded machine makes the bots search less instead of stalling the table.
+ * Bots of one level share their searched decisions through the
+ * {@link DecisionCache}, so a position searched at one table is answered at once
+ * at every other; the table lookups in front of the search are never cached.
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public enum Difficulty {
+
+    /** A handful of rollouts on one worker. */
+    EASY("Easy", true, false, DecisionBudget.UNLIMITED, 16, 25),
+
+    /** A couple of thousand rollouts on one worker. */
+    MEDIUM("Medium", false, false, DecisionBudget.UNLIMITED, 1_500, 60),
+
+    /** Forty milliseconds on every worker of the search pool. */
+    HARD("Hard", false, true, 40, DecisionBudget.UNLIMITED, 80);
+
+    /** Level used when none is chosen. */
+    public static final Difficulty DEFAULT = MEDIUM;
+
+    /** Name shown to the player. */
+    private final String label;
+
+    /** Whether the learned policy, when available, replaces the search. */
+    private final boolean learned;
+
+    /** Whether the search uses every worker of the {@link SearchPool}. */
+    private final boolean parallel;
+
+    /** Time limit of a decision in milliseconds, or {@link DecisionBudget#UNLIMITED}. */
+    private final long millis;
+
+    /** Rollout limit of a decision, or {@link DecisionBudget#UNLIMITED}. */
+    private final long nodes;
+
+    /** Hard deadline of a decision in milliseconds. */
+    private final long deadlineMillis;
+
+    /**
+     * Creates a level.
+     *
+     * @param label          the name shown to the player
+     * @param learned        whether the learned policy, when available, replaces the search
+     * @param parallel       whether the search uses every worker of the pool
+     * @param millis         the time limit of a decision, or {@link DecisionBudget#UNLIMITED}
+     * @param nodes          the rollout limit of a decision, or {@link DecisionBudget#UNLIMITED}
+     * @param deadlineMillis the hard deadline of a decision
+     */
+    Difficulty(String label, boolean learned, boolean parallel, long millis, long nodes, long deadlineMillis) {
+        this.label = label;
+        this.learned = learned;
+        this.parallel = parallel;
+        this.millis = millis;
+        this.nodes = nodes;
+        this.deadlineMillis = deadlineMillis;
+    }
+
+    /**
+     * Creates the strategy of a bot of this level.
+     *
+     * @param seed the seed of the search
+     * @return a new strategy whose search goes through the shared decision cache,
+     *         for one bot only
+     */
+    public BotStrategy newStrategy(long seed) {
+        return newStrategy(seed, EndgameTablebase.shared(), CfrTable.shared(), DecisionCache.shared());
+    }
+
+    /**
+     * Creates the strategy of a bot of this level without the shared decision
+     * cache, so its decisions depend only on the seed and the budget, as
+     * reproducible measurements need.
+     *
+     * @param seed the seed of the search
+     * @return a new strategy, for one bot only
+     */
+    public BotStrategy newSearch(long seed) {
+        return newStrategy(seed, EndgameTablebase.shared(), CfrTable.shared(), null);
+    }
+
+    /**
+     * Creates the strategy of a bot of this level over given tables. Only the
+     * search is cached: the tablebase, the CFR strategy and the policy answer in
+     * a lookup anyway, and a cached CFR move would turn its sampled, mixed
+     * strategy into a fixed one.
+     *
+     * @param seed      the seed of the search and of the sampled CFR moves
+     * @param tablebase the table of heads-up endgames, or {@code null} for none
+     * @param cfr       the heads-up CFR strategy, or {@code null} for none
+     * @param cache     the cache of searched decisions, or {@code null} for none
+     * @return a new strategy, for one bot only
+     */
+    BotStrategy newStrategy(long seed, EndgameTablebase tablebase, CfrTable cfr, DecisionCache cache) {
+        BotStrategy search = new MctsStrategy(parallel ? SearchPool.parallelism() : 1, seed);
+        if (cache != null) {
+            search = new CachedStrategy(cache, search, ordinal() + 1);
+        }
+        if (learned) {
+            search = new PolicyStrategy(search);
+        }
+        return new TablebaseStrategy(tablebase, new CfrStrategy(cfr, search, seed));
+    }
+
+    /**
+     * Creates the budget of a decision of this level.
+     *
+     * @return a new budget
+     */
+    public DecisionBudget newBudget() {
+        return new DecisionBudget(millis == DecisionBudget.UNLIMITED ? DecisionBudget.UNLIMITED
+                : millis * 1_000_000L, nodes);
+    }
+
+    /**
+     * Creates a scheduler that enforces the deadline of this level on a budget.
+     *
+     * @param budget the budget of the bot, usually from {@link #newBudget()}
+     * @return a new scheduler
+     */
+    public DecisionScheduler newScheduler(DecisionBudget budget) {
+        return new DecisionScheduler(budget, getDeadlineNanos());
+    }
+
+    /**
+     * Returns the hard deadline of a decision.
+     *
+     * @return the deadline in nanoseconds
+     */
+    public long getDeadlineNanos() {
+        return deadlineMillis * 1_000_000L;
+    }
+
+    /**
+     * Returns the name shown to the player.
+     *
+     * @return the label of the level
+     */
+    @Override
+    public String toString() {
+        return label;
+    }
+}
@@ -0,0 +1,382 @@
+package Model.Bots;
+
+import Model.Engine.FastRandom;
+import Model.Engine.HeadlessGame;
+import Model.Engine.Rules;
+
+import java.util.Arrays;
+
+/**
+ * Probability that a seat is eliminated within its next turns.
+ * <p>
+ * A seat is eliminated on its turn when no card of its hand keeps the pile at or
+ * below 50. Given what the seat knows (see {@link DecisionView}), the odds are
+ * computed exactly under this model:
+ * </p>
+ * <ul>
+ *   <li>on its turns the seat plays the card that keeps it safest, then draws a
+ *       random unseen card;</li>
+ *   <li>between two of its turns every other seat plays once. An opponent holds a
+ *       random hand of unseen cards: it is stuck with the hypergeometric
+ *       probability that none of them is playable, and otherwise plays a random
+ *       playable unseen rank;</li>
+ *   <li>the unseen counts are those of the current turn; the few cards that move
+ *       during the horizon are not tracked.</li>
+ * </ul>
+ *
+ * <p>Hypergeometric terms come from a binomial table built once. The pile after
+ * the other seats have played is a distribution over pile values, computed once
+ * per starting pile and kept as tail sums, so the chance of being stuck on the next
+ * turn with a given hand is a single lookup. Longer horizons are cached in a
+ * {@link TranspositionTable} under the canonical state (pile, hand rank counts,
+ * unseen rank counts, opponents, turns), so repeated queries are answered from the
+ * table. An instance is not thread-safe.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class EliminationOdds {
+
+    /** Horizon shown to players: this turn and the next one. */
+    public static final int DEFAULT_TURNS = 2;
+
+    /** Longest horizon accepted, in turns of the seat. */
+    public static final int MAX_TURNS = 4;
+
+    /** Lowest pile value tracked; every card is playable long before it. */
+    private static final int PILE_FLOOR = -50;
+
+    /** Number of pile values tracked. */
+    private static final int PILE_SPAN = Rules.MAX_PILE - PILE_FLOOR + 1;
+
+    /** Largest number of unseen cards: one deck per seat is more than any shoe holds. */
+    private static final int MAX_CARDS = HeadlessGame.MAX_SEATS * Rules.DECK_SIZE;
+
+    /** Binomial coefficients {@code C(n, k)} for {@code n <= MAX_CARDS} and {@code k <= HAND_SIZE}. */
+    private static final double[][] BINOMIAL = new double[MAX_CARDS + 1][Rules.HAND_SIZE + 1];
+
+    static {
+        for (int n = 0; n <= MAX_CARDS; n++) {
+            BINOMIAL[n][0] = 1;
+            for (int k = 1; k <= Rules.HAND_SIZE; k++) {
+                BINOMIAL[n][k] = n == 0 ? 0 : BINOMIAL[n - 1][k - 1] + BINOMIAL[n - 1][k];
+            }
+        }
+    }
+
+    /** Cache of the multi-turn odds. */
+    private final TranspositionTable table;
+
+    /** Rank counts of the seat's hand. */
+    private final int[] hand = new int[Rules.RANKS];
+
+    /** Unseen rank counts. */
+    private final int[] unseen = new int[Rules.RANKS];
+
+    /** Number of unseen cards. */
+    private int unseenTotal;
+
+    /** Pile value on the seat's turn. */
+    private int pile;
+
+    /** Number of other seats still playing. */
+    private int opponents;
+
+    /** Hash of the unseen counts and opponents, part of every cache key. */
+    private long contextKey;
+
+    /**
+     * For each starting pile, {@code tail[start][i]} is the probability that the
+     * pile is at least {@code PILE_FLOOR + i} after the other seats have played.
+     */
+    private final double[][] tail = new double[PILE_SPAN][PILE_SPAN + 1];
+
+    /** Whether the row of {@link #tail} for a starting pile is computed. */
+    private final boolean[] tailReady = new boolean[PILE_SPAN];
+
+    /** Scratch distributions of the opponent plays. */
+    private final double[] current = new double[PILE_SPAN];
+
+    /** Scratch distributions of the opponent plays. */
+    private final double[] next = new double[PILE_SPAN];
+
+    /**
+     * Creates an engine with its own cache.
+     */
+    public EliminationOdds() {
+        this(new TranspositionTable(12));
+    }
+
+    /**
+     * Creates an engine that caches its results in the given table.
+     *
+     * @param table the cache, which must not be shared with a search
+     */
+    public EliminationOdds(TranspositionTable table) {
+        this.table = table;
+    }
+
+    /**
+     * Loads the position of the deciding seat of a view.
+     *
+     * @param view what the seat knows
+     * @return this engine
+     */
+    public EliminationOdds load(DecisionView view) {
+        pile = view.getPileValue();
+        opponents = Integer.bitCount(view.getAliveMask()) - 1;
+        unseenTotal = view.getUnseenTotal();
+        long key = FastRandom.mix(opponents);
+        for (int rank = 0; rank < Rules.RANKS; rank++) {
+            hand[rank] = 0;
+            unseen[rank] = view.getUnseen(rank);
+            key = FastRandom.mix(key ^ ((long) unseen[rank] << 8 | rank));
+        }
+        for (int i = 0; i < view.getHandSize(); i++) {
+            hand[view.getHandRank(i)]++;
+        }
+        if (key != contextKey) {
+            contextKey = key;
+            Arrays.fill(tailReady, false);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the probability that the loaded seat is eliminated within its next turns.
+     *
+     * @param turns the horizon, between 1 (this turn) and {@link #MAX_TURNS}
+     * @return the probability of elimination, between 0 and 1
+     * @throws IllegalArgumentException if the horizon is out of range
+     */
+    public double probability(int turns) {
+        checkTurns(turns);
+        return eliminated(pile, turns);
+    }
+
+    /**
+     * Returns the probability that the loaded seat is eliminated within its next
+     * turns if it plays a given card now and its best cards afterwards.
+     *
+     * @param rank  the rank of a playable card of the hand
+     * @param turns the horizon, between 2 and {@link #MAX_TURNS}
+     * @return the probability of elimination, between 0 and 1
+     * @throws IllegalArgumentException if the card cannot be played or the horizon is out of range
+     */
+    public double probabilityAfter(int rank, int turns) {
+        checkTurns(turns);
+        if (turns < 2 || hand[rank] == 0 || !Rules.canPlay(pile, rank)) {
+            throw new IllegalArgumentException("Not a playable card for a later turn: " + Rules.symbol(rank));
+        }
+        hand[rank]--;
+        double odds = afterPlay(Rules.play(pile, rank), turns);
+        hand[rank]++;
+        return odds;
+    }
+
+    /**
+     * Returns the probability that a hand dealt from the unseen cards holds no
+     * playable card (hypergeometric: drawing without replacement).
+     *
+     * @param unplayable the number of unseen cards that cannot be played
+     * @param total      the number of unseen cards
+     * @param handSize   the number of cards in the hand
+     * @return the probability that every card of the hand is unplayable
+     */
+    public static double stuckProbability(int unplayable, int total, int handSize) {
+        total = Math.min(total, MAX_CARDS);
+        handSize = Math.min(handSize, total);
+        if (handSize == 0) {
+            return 1;
+        }
+        return BINOMIAL[Math.min(unplayable, total)][handSize] / BINOMIAL[total][handSize];
+    }
+
+    /**
+     * Computes the odds of elimination from a turn of the seat.
+     *
+     * @param pile  the pile value on the seat's turn
+     * @param turns the turns left, including this one
+     * @return the probability of elimination
+     */
+    private double eliminated(int pile, int turns) {
+        if (opponents == 0) {
+            return 0;
+        }
+        if (pile > handLimit()) {
+            return 1;
+        }
+        if (turns == 1) {
+            return 0;
+        }
+        long key = key(pile, turns);
+        long entry = table.probe(key);
+        if (entry != TranspositionTable.MISS && TranspositionTable.depthOf(entry) == turns) {
+            return TranspositionTable.valueOf(entry);
+        }
+        double best = 1;
+        for (int rank = 0; rank < Rules.RANKS; rank++) {
+            if (hand[rank] > 0 && Rules.canPlay(pile, rank)) {
+                hand[rank]--;
+                best = Math.min(best, afterPlay(Rules.play(pile, rank), turns));
+                hand[rank]++;
+            }
+        }
+        table.store(key, turns, best, -1);
+        return best;
+    }
+
+    /**
+     * Computes the odds of elimination after the seat played: it draws, the other
+     * seats play, and its next turn starts.
+     *
+     * @param pile  the pile value after the seat's card
+     * @param turns the turns left, including the one just played
+     * @return the probability of elimination
+     */
+    private double afterPlay(int pile, int turns) {
+        double[] after = tailFrom(pile);
+        if (unseenTotal == 0) {
+            return nextTurn(after, turns);
+        }
+        double sum = 0;
+        for (int rank = 0; rank < Rules.RANKS; rank++) {
+            if (unseen[rank] == 0) {
+                continue;
+            }
+            hand[rank]++;
+            sum += unseen[rank] * nextTurn(after, turns);
+            hand[rank]--;
+        }
+        return sum / unseenTotal;
+    }
+
+    /**
+     * Computes the odds of elimination from the seat's next turn, averaged over the
+     * pile left by the other seats.
+     *
+     * @param after the tail sums of the pile after the other seats played
+     * @param turns the turns left, including the one just played
+     * @return the probability of elimination
+     */
+    private double nextTurn(double[] after, int turns) {
+        int limit = handLimit();
+        double stuck = limit >= Rules.MAX_PILE ? 0 : after[index(limit + 1)];
+        if (turns == 2 || stuck == 1) {
+            return stuck;
+        }
+        double sum = stuck;
+        int top = index(Math.min(limit, Rules.MAX_PILE));
+        for (int i = 0; i <= top; i++) {
+            double mass = after[i] - after[i + 1];
+            if (mass > 0) {
+                sum += mass * eliminated(PILE_FLOOR + i, turns - 1);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the tail sums of the pile after every other seat played once.
+     *
+     * @param start the pile value after the seat's card
+     * @return the row of {@link #tail} for that pile
+     */
+    private double[] tailFrom(int start) {
+        int origin = index(start);
+        double[] row = tail[origin];
+        if (tailReady[origin]) {
+            return row;
+        }
+        Arrays.fill(current, 0);
+        current[origin] = 1;
+        for (int ply = 0; ply < opponents; ply++) {
+            Arrays.fill(next, 0);
+            for (int i = 0; i < PILE_SPAN; i++) {
+                double mass = current[i];
+                if (mass == 0) {
+                    continue;
+                }
+                int value = PILE_FLOOR + i;
+                int playable = 0;
+                for (int rank = 0; rank < Rules.RANKS; rank++) {
+                    if (Rules.canPlay(value, rank)) {
+                        playable += unseen[rank];
+                    }
+                }
+                double stuck = stuckProbability(unseenTotal - playable, unseenTotal, Rules.HAND_SIZE);
+                next[i] += mass * stuck;
+                if (playable == 0) {
+                    continue;
+                }
+                double share = mass * (1 - stuck) / playable;
+                for (int rank = 0; rank < Rules.RANKS; rank++) {
+                    if (unseen[rank] > 0 && Rules.canPlay(value, rank)) {
+                        next[index(Rules.play(value, rank))] += share * unseen[rank];
+                    }
+                }
+            }
+            System.arraycopy(next, 0, current, 0, PILE_SPAN);
+        }
+        row[PILE_SPAN] = 0;
+        for (int i = PILE_SPAN - 1; i >= 0; i--) {
+            row[i] = row[i + 1] + current[i];
+        }
+        tailReady[origin] = true;
+        return row;
+    }
+
+    /**
+     * Returns the highest pile on which the hand still holds a playable card.
+     *
+     * @return the pile limit, or {@link Integer#MIN_VALUE} if the hand is empty
+     */
+    private int handLimit() {
+        int limit = Integer.MIN_VALUE;
+        for (int rank = 0; rank < Rules.RANKS; rank++) {
+            if (hand[rank] > 0) {
+                int lowest = rank == Rules.ACE ? 1 : Rules.value(rank);
+                limit = Math.max(limit, Rules.MAX_PILE - lowest);
+            }
+        }
+        return limit;
+    }
+
+    /**
+     * Computes the cache key of a turn of the seat.
+     *
+     * @param pile  the pile value
+     * @param turns the turns left
+     * @return the 64-bit key
+     */
+    private long key(int pile, int turns) {
+        long h = FastRandom.mix(contextKey ^ ((pile & 0xFFFFL) | (long) turns << 16));
+        for (int rank = 0; rank < Rules.RANKS; rank++) {
+            h = FastRandom.mix(h ^ ((long) hand[rank] << 4 | rank));
+        }
+        return h;
+    }
+
+    /**
+     * Returns the position of a pile value in the tracked range; lower piles are
+     * clamped to the floor.
+     *
+     * @param pile the pile value, at most {@link Rules#MAX_PILE}
+     * @return the index between 0 and {@code PILE_SPAN - 1}
+     */
+    private static int index(int pile) {
+        return Math.max(pile, PILE_FLOOR) - PILE_FLOOR;
+    }
+
+    /**
+     * Validates a horizon.
+     *
+     * @param turns the horizon
+     * @throws IllegalArgumentException if it is out of range
+     */
+    private static void checkTurns(int turns) {
+        if (turns < 1 || turns > MAX_TURNS) {
+            throw new IllegalArgumentException("Horizon out of range: " + turns);
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package Model.Bots;
+
+import Model.Engine.Rules;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Offline solver that writes the heads-up {@link EndgameTablebase}.
+ * <p>
+ * Every position of the table is a pile value and the four-card hand of the
+ * player to move, over the value classes of {@link EndgameTablebase}. The chance
+ * model is the one of a fresh shoe: each draw is a class with its share of a
+ * deck, and the opponent holds four such cards and plays like
+ * {@link GreedyStrategy}, the default GPU player. The player to move loses when
+ * it has no playable card and wins when the opponent has none.
+ * </p>
+ *
+ * <p>The win probabilities are the least fixed point of
+ * {@code W(p, H) = max over playable r of sum over draws d of
+ * P(d) * (P(stuck | p') + sum over replies v of P(v | p') * W(v, H - r + d))},
+ * found by value iteration starting from zero. Each sweep splits the piles
+ * across the {@link SearchPool}; a sweep reads only the previous one, so the
+ * result does not depend on the number of threads. The deck recharge never
+ * changes the chance model, so no position ever leaves the table.</p>
+ *
+ * <p>Run {@code main} once to write the file; bots then only map it.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class EndgameSolver {
+
+    /** Default number of value iterations. */
+    public static final int DEFAULT_ITERATIONS = 400;
+
+    /** Default largest change of a sweep at which the iteration stops. */
+    public static final double DEFAULT_TOLERANCE = 1e-7;
+
+    /** Number of classes, see {@link EndgameTablebase#CLASSES}. */
+    private static final int CLASSES = EndgameTablebase.CLASSES;
+
+    /** Number of hands, see {@link EndgameTablebase#HANDS}. */
+    private static final int HANDS = EndgameTablebase.HANDS;
+
+    /** Number of piles, see {@link EndgameTablebase#PILE_SPAN}. */
+    private static final int SPAN = EndgameTablebase.PILE_SPAN;
+
+    /** Largest number of sweeps. */
+    private final int maxIterations;
+
+    /** Largest change of a sweep at which the iteration stops. */
+    private final double tolerance;
+
+    /** Probability of drawing each class from a fresh shoe. */
+    private final double[] draw = new double[CLASSES];
+
+    /** Classes of each hand, sorted. */
+    private final int[][] handClasses = new int[HANDS][Rules.HAND_SIZE];
+
+    /** Hand reached by playing a class and drawing another: {@code [hand][played * CLASSES + drawn]}. */
+    private final int[][] nextHand = new int[HANDS][CLASSES * CLASSES];
+
+    /** Probability that the greedy opponent is stuck, per pile index. */
+    private final double[] opponentStuck = new double[SPAN];
+
+    /** Piles the greedy opponent may leave, per pile index. */
+    private final int[][] replyPile = new int[SPAN][];
+
+    /** Probability of each reply in {@link #replyPile}. */
+    private final double[][] replyProbability = new double[SPAN][];
+
+    /** Win probability of the player to move, {@code [pile index * HANDS + hand]}. */
+    private double[] win = new double[SPAN * HANDS];
+
+    /** Best class to play, or {@link EndgameTablebase#NO_MOVE}. */
+    private final byte[] best = new byte[SPAN * HANDS];
+
+    /** Sweeps run by the last {@link #solve()}. */
+    private int iterations;
+
+    /** Largest change of the last sweep. */
+    private double residual;
+
+    /**
+     * Creates a solver with the default number of iterations and tolerance.
+     */
+    public EndgameSolver() {
+        this(DEFAULT_ITERATIONS, DEFAULT_TOLERANCE);
+    }
+
+    /**
+     * Creates a solver.
+     *
+     * @param maxIterations largest number of sweeps, at least 1
+     * @param tolerance     largest change of a sweep at which the iteration stops
+     * @throws IllegalArgumentException if {@code maxIterations} is not positive
+     */
+    public EndgameSolver(int maxIterations, double tolerance) {
+        if (maxIterations < 1) {
+            throw new IllegalArgumentException("maxIterations must be positive: " + maxIterations);
+        }
+        this.maxIterations = maxIterations;
+        this.tolerance = tolerance;
+        for (int rank = 0; rank < Rules.RANKS; rank++) {
+            draw[EndgameTablebase.classOf(rank)] += 1.0 / Rules.RANKS;
+        }
+        enumerateHands();
+        for (int pile = 0; pile < SPAN; pile++) {
+            greedyReplies(pile);
+        }
+    }
+
+    /**
+     * Runs value iteration until the largest change of a sweep is below the
+     * tolerance or the iteration limit is reached.
+     *
+     * @return this solver
+     */
+    public EndgameSolver solve() {
+        double[] next = new double[win.length];
+        Arrays.fill(win, 0);
+        iterations = 0;
+        do {
+            double[] previous = win;
+            double[] target = next;
+            residual = SearchPool.get().submit(() -> IntStream.range(0, SPAN).parallel()
+                    .mapToDouble(pile -> sweep(pile, previous, target))
+                    .max().orElse(0)).join();
+            next = previous;
+            win = target;
+            iterations++;
+        } while (residual > tolerance && iterations < maxIterations);
+        return this;
+    }
+
+    /**
+     * Returns the win probability of a solved position.
+     *
+     * @param pile      the pile value
+     * @param handIndex the index of the hand
+     * @return the probability that the player to move wins
+     */
+    public double winProbability(int pile, int handIndex) {
+        return win[EndgameTablebase.pileIndex(pile) * HANDS + handIndex];
+    }
+
+    /**
+     * Returns the best class to play in a solved position.
+     *
+     * @param pile      the pile value
+     * @param handIndex the index of the hand
+     * @return the class, or {@code -1} if no card can be played
+     */
+    public int bestClass(int pile, int handIndex) {
+        int value = best[EndgameTablebase.pileIndex(pile) * HANDS + handIndex] & 0xFF;
+        return value == EndgameTablebase.NO_MOVE ? -1 : value;
+    }
+
+    /**
+     * Returns the number of sweeps run by the last {@link #solve()}.
+     *
+     * @return the iterations
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Returns the largest change of the last sweep.
+     *
+     * @return the residual
+     */
+    public double getResidual() {
+        return residual;
+    }
+
+    /**
+     * Writes the solved table in the format read by {@link EndgameTablebase}.
+     *
+     * @param file the file to write; it is replaced if it exists
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path file) throws IOException {
+        try (OutputStream stream = Files.newOutputStream(file);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+            out.writeInt(EndgameTablebase.MAGIC);
+            out.writeInt(EndgameTablebase.VERSION);
+            out.writeInt(EndgameTablebase.PILE_FLOOR);
+            out.writeInt(SPAN);
+            out.writeInt(HANDS);
+            out.writeInt(iterations);
+            for (int i = 0; i < win.length; i++) {
+                int value = (int) Math.round(win[i] * 65535);
+                out.writeInt(value | (best[i] & 0xFF) << 16);
+            }
+        }
+    }
+
+    /**
+     * Solves the tablebase and writes it.
+     *
+     * @param args the output file, then optionally the maximum number of iterations
+     * @throws IOException if the file cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        Path file = Paths.get(args.length > 0 ? args[0] : EndgameTablebase.DEFAULT_FILE);
+        int maxIterations = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ITERATIONS;
+        long start = System.nanoTime();
+        EndgameSolver solver = new EndgameSolver(maxIterations, DEFAULT_TOLERANCE).solve();
+        solver.write(file);
+        System.out.printf("🏁 Endgame tablebase written to %s: %d iterations, residual %.2e, %d ms%n",
+                file, solver.getIterations(), solver.getResidual(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Computes one pile row of a sweep.
+     *
+     * @param pile     the pile index
+     * @param previous the win probabilities of the previous sweep
+     * @param target   the array receiving the new win probabilities
+     * @return the largest change in the row
+     */
+    private double sweep(int pile, double[] previous, double[] target) {
+        int pileValue = pile + EndgameTablebase.PILE_FLOOR;
+        double change = 0;
+        for (int hand = 0; hand < HANDS; hand++) {
+            double bestValue = 0;
+            int bestClass = EndgameTablebase.NO_MOVE;
+            int[] classes = handClasses[hand];
+            for (int i = 0; i < Rules.HAND_SIZE; i++) {
+                int played = classes[i];
+                if ((i > 0 && classes[i - 1] == played)
+                        || !Rules.canPlay(pileValue, EndgameTablebase.rankOf(played))) {
+                    continue;
+                }
+                int after = EndgameTablebase.pileIndex(Rules.play(pileValue, EndgameTablebase.rankOf(played)));
+                int[] replies = replyPile[after];
+                double[] odds = replyProbability[after];
+                double value = 0;
+                for (int drawn = 0; drawn < CLASSES; drawn++) {
+                    int reached = nextHand[hand][played * CLASSES + drawn];
+                    double outcome = opponentStuck[after];
+                    for (int k = 0; k < replies.length; k++) {
+                        outcome += odds[k] * previous[replies[k] * HANDS + reached];
+                    }
+                    value += draw[drawn] * outcome;
+                }
+                if (bestClass == EndgameTablebase.NO_MOVE || value > bestValue) {
+                    bestValue = value;
+                    bestClass = played;
+                }
+            }
+            int index = pile * HANDS + hand;
+            change = Math.max(change, Math.abs(bestValue - previous[index]));
+            target[index] = bestValue;
+            best[index] = (byte) bestClass;
+        }
+        return change;
+    }
+
+    /**
+     * Fills the classes of every hand and the hand reached by each play and draw.
+     */
+    private void enumerateHands() {
+        int[] classes = new int[Rules.HAND_SIZE];
+        for (int a = 0; a < CLASSES; a++) {
+            for (int b = a; b < CLASSES; b++) {
+                for (int c = b; c < CLASSES; c++) {
+                    for (int d = c; d < CLASSES; d++) {
+                        classes[0] = a;
+                        classes[1] = b;
+                        classes[2] = c;
+                        classes[3] = d;
+                        int hand = EndgameTablebase.handIndex(classes);
+                        handClasses[hand] = classes.clone();
+                    }
+                }
+            }
+        }
+        for (int hand = 0; hand < HANDS; hand++) {
+            for (int i = 0; i < Rules.HAND_SIZE; i++) {
+                for (int drawn = 0; drawn < CLASSES; drawn++) {
+                    int[] reached = handClasses[hand].clone();
+                    reached[i] = drawn;
+                    nextHand[hand][handClasses[hand][i] * CLASSES + drawn] = EndgameTablebase.handIndex(reached);
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the replies of the greedy opponent on a pile. Its four cards are
+     * independent draws; it plays the card leaving the highest pile, so it leaves
+     * pile {@code v} when it holds a card reaching {@code v} and none reaching higher.
+     *
+     * @param pile the pile index the opponent plays on
+     */
+    private void greedyReplies(int pile) {
+        int pileValue = pile + EndgameTablebase.PILE_FLOOR;
+        double[] reach = new double[SPAN];
+        double playable = 0;
+        for (int c = 0; c < CLASSES; c++) {
+            int rank = EndgameTablebase.rankOf(c);
+            if (Rules.canPlay(pileValue, rank)) {
+                reach[EndgameTablebase.pileIndex(Rules.play(pileValue, rank))] += draw[c];
+                playable += draw[c];
+            }
+        }
+        opponentStuck[pile] = Math.pow(1 - playable, Rules.HAND_SIZE);
+
+        int count = 0;
+        for (double share : reach) {
+            if (share > 0) {
+                count++;
+            }
+        }
+        replyPile[pile] = new int[count];
+        replyProbability[pile] = new double[count];
+        double higher = 0;
+        for (int v = SPAN - 1, k = 0; v >= 0; v--) {
+            if (reach[v] > 0) {
+                replyPile[pile][k] = v;
+                replyProbability[pile][k] = Math.pow(1 - higher, Rules.HAND_SIZE)
+                        - Math.pow(1 - higher - reach[v], Rules.HAND_SIZE);
+                higher += reach[v];
+                k++;
+            }
+        }
+    }
+}
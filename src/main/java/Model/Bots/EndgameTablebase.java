@@ -0,0 +1,281 @@
+package Model.Bots;
+
+import Model.Engine.Rules;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Read-only view of a heads-up endgame tablebase written by {@link EndgameSolver}.
+ * <p>
+ * Once only two seats are left, the position of the player to move is described
+ * by the pile value and its four cards. Ranks with the same value behave the same,
+ * so J, Q and K form one class and a hand is a multiset of {@link #CLASSES} classes,
+ * one of {@link #HANDS} possible hands. For every pile between {@link #PILE_FLOOR}
+ * and 50 and every hand, the file stores the probability of winning and the class
+ * of the best card to play.
+ * </p>
+ *
+ * <p>The file is memory-mapped, so opening it reads only the header and a lookup is
+ * one index computation and one {@code int} read, with no deserialization. Pages
+ * are loaded by the operating system on first use. The layout is:</p>
+ * <pre>
+ * header   MAGIC, VERSION, PILE_FLOOR, PILE_SPAN, HANDS, iterations  (6 ints)
+ * entries  PILE_SPAN * HANDS ints, pile-major:
+ *          bits 0-15 win probability * 65535, bits 16-23 best class (0xFF if stuck)
+ * </pre>
+ *
+ * <p>A tablebase is immutable and can be shared by every bot in the JVM; the one
+ * named by the {@value #FILE_PROPERTY} system property (by default
+ * {@value #DEFAULT_FILE} in the working directory) is mapped once by
+ * {@link #shared()}.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class EndgameTablebase {
+
+    /** Identifies a tablebase file ("50ZT"). */
+    public static final int MAGIC = 0x35305A54;
+
+    /** Version of the file layout. */
+    public static final int VERSION = 1;
+
+    /** System property naming the file mapped by {@link #shared()}. */
+    public static final String FILE_PROPERTY = "zo.tablebase";
+
+    /** File mapped by {@link #shared()} when the property is not set. */
+    public static final String DEFAULT_FILE = "50zo-endgame.tb";
+
+    /** Number of value classes: 2 to 10 alone, J/Q/K together, and the Ace. */
+    public static final int CLASSES = 11;
+
+    /** Lowest pile stored; lower piles are looked up as this one. */
+    public static final int PILE_FLOOR = -40;
+
+    /** Number of pile values stored. */
+    public static final int PILE_SPAN = Rules.MAX_PILE - PILE_FLOOR + 1;
+
+    /** Number of four-card hands over the value classes, C(14, 4). */
+    public static final int HANDS = 1001;
+
+    /** Size of the header in bytes. */
+    static final int HEADER_BYTES = 6 * Integer.BYTES;
+
+    /** Class of the best card of an entry where the player is stuck. */
+    static final int NO_MOVE = 0xFF;
+
+    /** Mapped entries of the file. */
+    private final ByteBuffer entries;
+
+    /** Value iterations run by the solver that wrote the file. */
+    private final int iterations;
+
+    /**
+     * Creates a tablebase over a buffer holding a complete file.
+     *
+     * @param buffer the file contents, starting at the header
+     * @throws IllegalArgumentException if the buffer is not a tablebase of this version
+     */
+    EndgameTablebase(ByteBuffer buffer) {
+        if (buffer.capacity() < HEADER_BYTES + PILE_SPAN * HANDS * Integer.BYTES
+                || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION
+                || buffer.getInt(8) != PILE_FLOOR || buffer.getInt(12) != PILE_SPAN
+                || buffer.getInt(16) != HANDS) {
+            throw new IllegalArgumentException("Not a 50zo endgame tablebase of version " + VERSION);
+        }
+        this.iterations = buffer.getInt(20);
+        this.entries = buffer;
+    }
+
+    /**
+     * Memory-maps a tablebase file.
+     *
+     * @param file the file written by {@link EndgameSolver}
+     * @return the tablebase
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a tablebase of this version
+     */
+    public static EndgameTablebase open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new EndgameTablebase(buffer);
+        }
+    }
+
+    /**
+     * Holder class that maps the shared tablebase on first use.
+     */
+    private static class Holder {
+        private static final EndgameTablebase INSTANCE = load();
+
+        /**
+         * Maps the file named by {@link #FILE_PROPERTY}, if it exists.
+         *
+         * @return the tablebase, or {@code null} if there is no usable file
+         */
+        private static EndgameTablebase load() {
+            Path file = Paths.get(System.getProperty(FILE_PROPERTY, DEFAULT_FILE));
+            if (!Files.isReadable(file)) {
+                return null;
+            }
+            try {
+                return open(file);
+            } catch (IOException | IllegalArgumentException e) {
+                System.err.println("⚠ Endgame tablebase not loaded from " + file + ": " + e.getMessage());
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Returns the tablebase shared by every bot, mapped on first use.
+     *
+     * @return the tablebase, or {@code null} if no tablebase file is available
+     */
+    public static EndgameTablebase shared() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Tells whether a position of a view is covered: two seats left and a full hand.
+     *
+     * @param view what the deciding player knows
+     * @return {@code true} if the tablebase has the position
+     */
+    public static boolean covers(DecisionView view) {
+        return Integer.bitCount(view.getAliveMask()) == 2 && view.getHandSize() == Rules.HAND_SIZE;
+    }
+
+    /**
+     * Returns the probability that the player to move wins.
+     *
+     * @param pile      the pile value
+     * @param handIndex the index of the hand, see {@link #handIndex(DecisionView)}
+     * @return the probability of winning, between 0 and 1
+     */
+    public double winProbability(int pile, int handIndex) {
+        return (entry(pile, handIndex) & 0xFFFF) / 65535.0;
+    }
+
+    /**
+     * Returns the class of the best card to play.
+     *
+     * @param pile      the pile value
+     * @param handIndex the index of the hand, see {@link #handIndex(DecisionView)}
+     * @return the class of the card, or {@code -1} if no card can be played
+     */
+    public int bestClass(int pile, int handIndex) {
+        int best = (entry(pile, handIndex) >>> 16) & 0xFF;
+        return best == NO_MOVE ? -1 : best;
+    }
+
+    /**
+     * Returns the number of value iterations run by the solver.
+     *
+     * @return the iterations
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Returns the index of the hand of a view.
+     *
+     * @param view a view with a full hand
+     * @return the index of the hand, between 0 and {@link #HANDS} - 1
+     */
+    public static int handIndex(DecisionView view) {
+        int[] classes = new int[Rules.HAND_SIZE];
+        for (int i = 0; i < Rules.HAND_SIZE; i++) {
+            classes[i] = classOf(view.getHandRank(i));
+        }
+        return handIndex(classes);
+    }
+
+    /**
+     * Returns the index of a four-card hand given by its classes. The sorted classes
+     * {@code c1 <= c2 <= c3 <= c4} map to the combination {@code c1 < c2+1 < c3+2 < c4+3}
+     * of 14 elements, ranked in colexicographic order.
+     *
+     * @param classes the classes of the four cards, in any order; the array is sorted
+     * @return the index of the hand
+     */
+    static int handIndex(int[] classes) {
+        Arrays.sort(classes);
+        int index = 0;
+        for (int i = 0; i < Rules.HAND_SIZE; i++) {
+            index += binomial(classes[i] + i, i + 1);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the value class of a rank.
+     *
+     * @param rank the rank
+     * @return the class: the rank itself up to the 10, 9 for J/Q/K, 10 for the Ace
+     */
+    public static int classOf(int rank) {
+        if (rank == Rules.ACE) {
+            return CLASSES - 1;
+        }
+        return Math.min(rank, Rules.rankOf("J"));
+    }
+
+    /**
+     * Returns a rank that belongs to a class.
+     *
+     * @param valueClass the class
+     * @return the lowest rank of the class
+     */
+    public static int rankOf(int valueClass) {
+        return valueClass == CLASSES - 1 ? Rules.ACE : valueClass;
+    }
+
+    /**
+     * Returns the position of a pile in the stored range; lower piles are clamped.
+     *
+     * @param pile the pile value, at most 50
+     * @return the index between 0 and {@link #PILE_SPAN} - 1
+     */
+    static int pileIndex(int pile) {
+        return Math.max(pile, PILE_FLOOR) - PILE_FLOOR;
+    }
+
+    /**
+     * Returns a small binomial coefficient.
+     *
+     * @param n the size of the set
+     * @param k the size of the subset
+     * @return {@code C(n, k)}, 0 when {@code k > n}
+     */
+    static int binomial(int n, int k) {
+        if (k > n) {
+            return 0;
+        }
+        long result = 1;
+        for (int i = 1; i <= k; i++) {
+            result = result * (n - k + i) / i;
+        }
+        return (int) result;
+    }
+
+    /**
+     * Reads a packed entry.
+     *
+     * @param pile      the pile value
+     * @param handIndex the index of the hand
+     * @return the packed entry
+     */
+    private int entry(int pile, int handIndex) {
+        return entries.getInt(HEADER_BYTES + (pileIndex(pile) * HANDS + handIndex) * Integer.BYTES);
+    }
+}
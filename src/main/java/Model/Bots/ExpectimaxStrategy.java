@@ -0,0 +1,360 @@
+package Model.Bots;
+
+import Model.Engine.FastRandom;
+import Model.Engine.HeadlessGame;
+import Model.Engine.Rules;
+
+/**
+ * Strategy that searches the next turns exactly, averaging over the cards that
+ * may be drawn.
+ * <p>
+ * The search sees the game from the deciding player's side and asks how likely it
+ * is to survive its next turns. Its own turns are choice nodes (the best card is
+ * played); its draw and the plays of the other seats are chance nodes over the
+ * unseen ranks, weighted by how many cards of each rank are unseen. An opponent is
+ * assumed to hold a random hand of unseen cards: it is eliminated with the
+ * probability that none of them is playable, and otherwise plays a random playable
+ * unseen rank. A position is worth 0 once the player is stuck and
+ * 1 once it is the last seat left; positions at the search horizon are scored by
+ * how low the values kept in hand are.
+ * </p>
+ *
+ * <p>Suits never change a value, so the search works on rank counts instead of
+ * cards: a position is the pile value, the rank counts of the hand, the unseen rank
+ * counts and the number of opponents. The turns of the player are cached in a
+ * {@link TranspositionTable} under that canonical key, which merges every order of
+ * draws and plays leading to the same counts. The depth grows one turn at a time
+ * until the budget runs out, and the best card of the deepest finished search is
+ * played. To keep a round affordable at large tables, at most
+ * {@link #OPPONENT_PLIES} opponent plays are searched between two turns.</p>
+ *
+ * <p>An instance is reused by a single player; the table may be shared.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class ExpectimaxStrategy implements BotStrategy {
+
+    /** Deepest search allowed, in turns of the deciding player. */
+    public static final int MAX_DEPTH = 12;
+
+    /** Largest number of opponent plays searched between two turns of the player. */
+    public static final int OPPONENT_PLIES = 2;
+
+    /** Lowest score of a position at the search horizon where the player can still play. */
+    private static final double HORIZON_SCORE = 0.9;
+
+    /** Base-2 logarithm of the number of buckets of a private table (1 MiB). */
+    public static final int DEFAULT_TABLE_BITS = 15;
+
+    /** Cache of searched turns. */
+    private final TranspositionTable table;
+
+    /** Deepest search of a decision, in turns of the player. */
+    private final int maxDepth;
+
+    /** Rank counts of the player's hand. */
+    private final int[] hand = new int[Rules.RANKS];
+
+    /** Unseen rank counts. */
+    private final int[] unseen = new int[Rules.RANKS];
+
+    /** Number of cards in the player's hand. */
+    private int handSize;
+
+    /** Number of unseen cards. */
+    private int unseenTotal;
+
+    /** Budget of the current decision. */
+    private DecisionBudget budget;
+
+    /** Whether the current depth ran out of budget before finishing. */
+    private boolean aborted;
+
+    /** Depth of the last finished search of the current decision. */
+    private int completedDepth;
+
+    /**
+     * Creates a search with its own transposition table.
+     */
+    public ExpectimaxStrategy() {
+        this(new TranspositionTable(DEFAULT_TABLE_BITS));
+    }
+
+    /**
+     * Creates a search that stores its positions in the given table.
+     *
+     * @param table the transposition table, possibly shared with other players
+     */
+    public ExpectimaxStrategy(TranspositionTable table) {
+        this(table, MAX_DEPTH);
+    }
+
+    /**
+     * Creates a search with a given table and depth limit.
+     *
+     * @param table    the transposition table, possibly shared with other players
+     * @param maxDepth the deepest search, between 1 and {@link #MAX_DEPTH} turns
+     * @throws IllegalArgumentException if the depth is out of range
+     */
+    public ExpectimaxStrategy(TranspositionTable table, int maxDepth) {
+        if (maxDepth < 1 || maxDepth > MAX_DEPTH) {
+            throw new IllegalArgumentException("Depth out of range: " + maxDepth);
+        }
+        this.table = table;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int decide(DecisionView view, DecisionBudget budget) {
+        int first = view.firstPlayable();
+        if (first < 0) {
+            return -1;
+        }
+        this.budget = budget;
+        handSize = view.getHandSize();
+        unseenTotal = view.getUnseenTotal();
+        for (int rank = 0; rank < Rules.RANKS; rank++) {
+            hand[rank] = 0;
+            unseen[rank] = view.getUnseen(rank);
+        }
+        for (int i = 0; i < handSize; i++) {
+            hand[view.getHandRank(i)]++;
+        }
+        int opponents = Integer.bitCount(view.getAliveMask()) - 1;
+        int pile = view.getPileValue();
+
+        table.newSearch();
+        int bestRank = -1;
+        completedDepth = 0;
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            aborted = false;
+            turn(pile, depth, opponents);
+            if (aborted) {
+                break;
+            }
+            long entry = table.probe(key(pile, opponents));
+            if (entry != TranspositionTable.MISS) {
+                bestRank = TranspositionTable.rankOf(entry);
+            }
+            completedDepth = depth;
+        }
+        this.budget = null;
+
+        for (int i = 0; i < view.getHandSize(); i++) {
+            if (view.getHandRank(i) == bestRank && view.isPlayable(i)) {
+                return i;
+            }
+        }
+        return first;
+    }
+
+    /**
+     * Returns the depth reached by the last decision.
+     *
+     * @return the number of turns of the deepest finished search, 0 if none finished
+     */
+    public int getCompletedDepth() {
+        return completedDepth;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String name() {
+        return "Expectimax";
+    }
+
+    /**
+     * Values a turn of the player: the best of its playable ranks.
+     *
+     * @param pile      the pile value
+     * @param depth     the turns left to search, including this one
+     * @param opponents the number of opponents still playing
+     * @return the probability of surviving the searched turns
+     */
+    private double turn(int pile, int depth, int opponents) {
+        if (!budget.visit()) {
+            aborted = true;
+            return 0;
+        }
+        if (opponents == 0) {
+            return 1;
+        }
+        int playable = 0;
+        for (int rank = 0; rank < Rules.RANKS; rank++) {
+            if (hand[rank] > 0 && Rules.canPlay(pile, rank)) {
+                playable += hand[rank];
+            }
+        }
+        if (playable == 0) {
+            return 0;
+        }
+        if (depth == 0) {
+            return horizon();
+        }
+
+        long key = key(pile, opponents);
+        long entry = table.probe(key);
+        if (entry != TranspositionTable.MISS && TranspositionTable.depthOf(entry) >= depth) {
+            return TranspositionTable.valueOf(entry);
+        }
+
+        double best = -1;
+        int bestRank = -1;
+        for (int rank = 0; rank < Rules.RANKS; rank++) {
+            if (hand[rank] == 0 || !Rules.canPlay(pile, rank)) {
+                continue;
+            }
+            hand[rank]--;
+            handSize--;
+            double value = draw(Rules.play(pile, rank), depth, opponents);
+            hand[rank]++;
+            handSize++;
+            if (aborted) {
+                return 0;
+            }
+            if (value > best) {
+                best = value;
+                bestRank = rank;
+            }
+        }
+        table.store(key, depth, best, bestRank);
+        return best;
+    }
+
+    /**
+     * Values the player's draw after it played: the average over the unseen ranks.
+     *
+     * @param pile      the pile value
+     * @param depth     the turns left to search, including the current one
+     * @param opponents the number of opponents still playing
+     * @return the probability of surviving the searched turns
+     */
+    private double draw(int pile, int depth, int opponents) {
+        int plies = Math.min(opponents, OPPONENT_PLIES);
+        if (unseenTotal == 0) {
+            return opponent(pile, depth, opponents, plies);
+        }
+        double sum = 0;
+        int total = unseenTotal;
+        for (int rank = 0; rank < Rules.RANKS && !aborted; rank++) {
+            int count = unseen[rank];
+            if (count == 0) {
+                continue;
+            }
+            unseen[rank]--;
+            unseenTotal--;
+            hand[rank]++;
+            handSize++;
+            sum += count * opponent(pile, depth, opponents, plies);
+            hand[rank]--;
+            handSize--;
+            unseen[rank]++;
+            unseenTotal++;
+        }
+        return sum / total;
+    }
+
+    /**
+     * Values the play of an opponent. The opponent holds {@link Rules#HAND_SIZE}
+     * unseen cards: it is stuck, and eliminated, when none of them is playable;
+     * otherwise it plays one of the playable unseen ranks, in proportion to their
+     * counts.
+     *
+     * @param pile      the pile value
+     * @param depth     the turns left to search, including the current one
+     * @param opponents the number of opponents still playing
+     * @param plies     the opponent plays left before the player's next turn
+     * @return the probability of surviving the searched turns
+     */
+    private double opponent(int pile, int depth, int opponents, int plies) {
+        if (plies == 0 || opponents == 0) {
+            return turn(pile, depth - 1, opponents);
+        }
+        int total = 0;
+        for (int rank = 0; rank < Rules.RANKS; rank++) {
+            if (Rules.canPlay(pile, rank)) {
+                total += unseen[rank];
+            }
+        }
+        double stuck = stuckProbability(unseenTotal - total);
+        double value = stuck == 0 ? 0 : stuck * opponent(pile, depth, opponents - 1, plies - 1);
+        if (total == 0 || aborted) {
+            return value;
+        }
+        double sum = 0;
+        for (int rank = 0; rank < Rules.RANKS && !aborted; rank++) {
+            int count = unseen[rank];
+            if (count == 0 || !Rules.canPlay(pile, rank)) {
+                continue;
+            }
+            unseen[rank]--;
+            unseenTotal--;
+            sum += count * opponent(Rules.play(pile, rank), depth, opponents, plies - 1);
+            unseen[rank]++;
+            unseenTotal++;
+        }
+        return value + (1 - stuck) * sum / total;
+    }
+
+    /**
+     * Scores a turn of the player at the search horizon, where it can still play.
+     * Low cards stay playable on any pile while high cards are the first to become
+     * dead, so the score rises slightly with the share of low values kept in hand.
+     *
+     * @return a score between {@link #HORIZON_SCORE} and 1
+     */
+    private double horizon() {
+        int flexibility = 0;
+        for (int rank = 0; rank < Rules.RANKS; rank++) {
+            flexibility += hand[rank] * (10 - Rules.value(rank));
+        }
+        return HORIZON_SCORE + (1 - HORIZON_SCORE) * flexibility / (20.0 * handSize);
+    }
+
+    /**
+     * Computes the probability that a hand dealt from the unseen cards holds no
+     * playable card (hypergeometric, drawing without replacement).
+     *
+     * @param unplayable the number of unseen cards that cannot be played
+     * @return the probability that every card of the hand is unplayable
+     */
+    private double stuckProbability(int unplayable) {
+        int cards = Math.min(Rules.HAND_SIZE, unseenTotal);
+        if (cards == 0) {
+            return 1;
+        }
+        double probability = 1;
+        for (int i = 0; i < cards && probability > 0; i++) {
+            probability *= (double) Math.max(0, unplayable - i) / (unseenTotal - i);
+        }
+        return probability;
+    }
+
+    /**
+     * Computes the canonical key of a turn of the player: the pile value, the number
+     * of opponents, and the rank counts of the hand and of the unseen cards, packed
+     * as a {@link HeadlessGame#handCode(int) hand code} and a
+     * {@link HeadlessGame#pileCode() pile code}.
+     *
+     * @param pile      the pile value
+     * @param opponents the number of opponents still playing
+     * @return the 64-bit key of the position
+     */
+    long key(int pile, int opponents) {
+        long handCode = 0;
+        long unseenCode = 0;
+        for (int rank = 0; rank < Rules.RANKS; rank++) {
+            handCode += hand[rank] * HeadlessGame.handUnit(rank);
+            unseenCode += unseen[rank] * HeadlessGame.pileUnit(rank);
+        }
+        long h = FastRandom.mix((pile & 0xFFFFL) | ((long) opponents << 16));
+        h = FastRandom.mix(h ^ handCode);
+        return FastRandom.mix(h ^ unseenCode);
+    }
+}
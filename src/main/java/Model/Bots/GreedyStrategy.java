@@ -0,0 +1,36 @@
+package Model.Bots;
+
+/**
+ * Plays the card that raises the pile the most without going over 50.
+ * <p>
+ * Pushing the pile as close to the limit as possible leaves the next players the
+ * fewest playable cards, and keeps this player's figures and nines (the cards that
+ * lower or hold the pile) for later. Ties keep the first card of the hand.
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class GreedyStrategy implements BotStrategy {
+
+    /**
+     * Chooses the playable card with the highest resulting pile value.
+     *
+     * @param view   what the deciding player knows about the table
+     * @param budget the compute budget of this decision; one node per card evaluated
+     * @return the position of the chosen card, or {@code -1} if none is playable
+     */
+    @Override
+    public int decide(DecisionView view, DecisionBudget budget) {
+        int best = -1;
+        int bestPile = Integer.MIN_VALUE;
+        for (int i = 0; i < view.getHandSize(); i++) {
+            budget.visit();
+            if (view.isPlayable(i) && view.pileAfter(i) > bestPile) {
+                best = i;
+                bestPile = view.pileAfter(i);
+            }
+        }
+        return best;
+    }
+}
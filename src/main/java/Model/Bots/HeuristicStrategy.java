@@ -0,0 +1,176 @@
+package Model.Bots;
+
+import Model.Engine.Rules;
+
+import java.util.List;
+
+/**
+ * Plays the card with the best weighted score, with weights meant to be tuned.
+ * <p>
+ * Every playable card is scored from a few features of the move, each with its
+ * own weight:
+ * </p>
+ * <ul>
+ *   <li>{@link #PILE}: the pile after the card, divided by 50. A positive weight
+ *       pushes the pile up like {@link GreedyStrategy}, a negative one keeps it low.</li>
+ *   <li>{@link #RISK}: the chance of being stuck on the next turn after the card,
+ *       from {@link EliminationOdds}, weighed negatively.</li>
+ *   <li>{@link #DANGER}: the pile from which that chance is computed at all; below
+ *       it the risk term is zero, which also saves its cost.</li>
+ *   <li>{@link #SAVE_LOWERING}: a penalty for spending a nine or a figure, the
+ *       cards that hold or lower the pile, while the pile is under the danger level.</li>
+ *   <li>{@link #ACE_HIGH}: a bonus for playing an Ace while it still counts 10.</li>
+ * </ul>
+ * <p>
+ * Ties keep the first card of the hand. The defaults are a reasonable hand-made
+ * setting; {@code Model.Arena.ParameterSearch} tunes them on the headless engine.
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class HeuristicStrategy implements BotStrategy {
+
+    /** Index of the weight of the resulting pile. */
+    public static final int PILE = 0;
+
+    /** Index of the weight of the risk of being stuck. */
+    public static final int RISK = 1;
+
+    /** Index of the pile from which the risk is weighed. */
+    public static final int DANGER = 2;
+
+    /** Index of the penalty for spending a card that holds or lowers the pile. */
+    public static final int SAVE_LOWERING = 3;
+
+    /** Index of the bonus for playing an Ace worth 10. */
+    public static final int ACE_HIGH = 4;
+
+    /** Number of weights. */
+    public static final int WEIGHTS = 5;
+
+    /** Names of the weights, by index. */
+    private static final List<String> NAMES = List.of("pile", "risk", "danger", "saveLowering", "aceHigh");
+
+    /** Default weights. */
+    private static final double[] DEFAULTS = {1, 2, 35, 0.3, 0};
+
+    /** Smallest sensible value of every weight. */
+    private static final double[] LOWER_BOUNDS = {-2, 0, 0, -1, -1};
+
+    /** Largest sensible value of every weight. */
+    private static final double[] UPPER_BOUNDS = {2, 4, Rules.MAX_PILE, 1, 1};
+
+    /** Weights of this strategy. */
+    private final double[] weights;
+
+    /** Odds of elimination of the deciding player. */
+    private final EliminationOdds odds = new EliminationOdds();
+
+    /**
+     * Creates a strategy with the default weights.
+     */
+    public HeuristicStrategy() {
+        this(DEFAULTS);
+    }
+
+    /**
+     * Creates a strategy with the given weights.
+     *
+     * @param weights the weights, indexed by {@link #PILE} and the other constants
+     * @throws IllegalArgumentException if there are not {@link #WEIGHTS} weights
+     */
+    public HeuristicStrategy(double[] weights) {
+        if (weights.length != WEIGHTS) {
+            throw new IllegalArgumentException("Expected " + WEIGHTS + " weights, got " + weights.length);
+        }
+        this.weights = weights.clone();
+    }
+
+    /**
+     * Chooses the playable card with the highest score.
+     *
+     * @param view   what the deciding player knows about the table
+     * @param budget the compute budget of this decision; one node per card evaluated
+     * @return the position of the chosen card, or {@code -1} if none is playable
+     */
+    @Override
+    public int decide(DecisionView view, DecisionBudget budget) {
+        boolean danger = false;
+        int best = -1;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < view.getHandSize(); i++) {
+            if (!view.isPlayable(i)) {
+                continue;
+            }
+            if (!budget.visit() && best >= 0) {
+                break;
+            }
+            int rank = view.getHandRank(i);
+            int pile = view.pileAfter(i);
+            double score = weights[PILE] * pile / Rules.MAX_PILE;
+            if (pile >= weights[DANGER]) {
+                if (!danger) {
+                    odds.load(view);
+                    danger = true;
+                }
+                score -= weights[RISK] * odds.probabilityAfter(rank, EliminationOdds.DEFAULT_TURNS);
+            } else if (Rules.value(rank) <= 0) {
+                score -= weights[SAVE_LOWERING];
+            }
+            if (rank == Rules.ACE && pile - view.getPileValue() == Rules.value(Rules.ACE)) {
+                score += weights[ACE_HIGH];
+            }
+            if (score > bestScore) {
+                best = i;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns a copy of the weights of this strategy.
+     *
+     * @return the weights
+     */
+    public double[] getWeights() {
+        return weights.clone();
+    }
+
+    /**
+     * Returns the names of the weights, by index.
+     *
+     * @return an unmodifiable list of {@link #WEIGHTS} names
+     */
+    public static List<String> weightNames() {
+        return NAMES;
+    }
+
+    /**
+     * Returns the default weights.
+     *
+     * @return a new array
+     */
+    public static double[] defaultWeights() {
+        return DEFAULTS.clone();
+    }
+
+    /**
+     * Returns the smallest sensible value of every weight.
+     *
+     * @return a new array
+     */
+    public static double[] lowerBounds() {
+        return LOWER_BOUNDS.clone();
+    }
+
+    /**
+     * Returns the largest sensible value of every weight.
+     *
+     * @return a new array
+     */
+    public static double[] upperBounds() {
+        return UPPER_BOUNDS.clone();
+    }
+}
@@ -0,0 +1,364 @@
+package Model.Bots;
+
+import Model.Engine.FastRandom;
+import Model.Engine.HeadlessGame;
+import Model.Engine.Rules;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Ranks the cards of the human player's hand in the background and suggests one.
+ * <p>
+ * When the human's turn starts, {@link #start(DecisionView)} copies the human's
+ * view and hands it to the engine's own worker thread. The worker evaluates the
+ * playable cards in rounds: each round plays every card in {@value #BATCH}
+ * determinizations of the hidden cards and finishes them with greedy playouts,
+ * scoring a win as 1, an elimination as 0 and an unfinished game as a share of the
+ * survivors, as {@link MctsStrategy} does. The ranking is refined until
+ * {@value #DEFAULT_MILLIS} ms have passed or every card has
+ * {@value #MAX_PLAYOUTS} playouts.
+ * </p>
+ *
+ * <p>Each time the best card changes, and once more when the search ends, a
+ * {@link Hint} is posted through the executor given at construction (the JavaFX
+ * dispatcher in the game window); the worker never touches the interface itself.
+ * {@link #cancel()} stops the search after the card it is playing out and voids
+ * every hint already posted but not yet delivered, so a click on a card is never
+ * followed by a stale highlight. The worker runs on a bounded executor of one
+ * daemon thread and one queued search: starting a new search discards the one
+ * still waiting.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class HintEngine {
+
+    /** Default search time of one hint, in milliseconds. */
+    public static final long DEFAULT_MILLIS = 1500;
+
+    /** Playouts of each card per round. */
+    public static final int BATCH = 64;
+
+    /** Largest number of playouts of one card. */
+    public static final int MAX_PLAYOUTS = 20_000;
+
+    /** Turns after which a playout is scored as unfinished. */
+    private static final int PLAYOUT_TURN_LIMIT = 400;
+
+    /**
+     * Ranking of the cards of a hand at one point of the search.
+     */
+    public static final class Hint {
+
+        /** Position of the suggested card, or {@code -1} if no card is playable. */
+        private final int best;
+
+        /** Mean score of each position, or {@code NaN} for an unplayable card. */
+        private final double[] scores;
+
+        /** Playouts of each playable card behind the scores. */
+        private final int playouts;
+
+        /** Whether the search is over. */
+        private final boolean last;
+
+        /**
+         * Creates a hint.
+         *
+         * @param best     the position of the suggested card
+         * @param scores   the mean score of each position; the array is not copied
+         * @param playouts the playouts of each playable card
+         * @param last     whether the search is over
+         */
+        private Hint(int best, double[] scores, int playouts, boolean last) {
+            this.best = best;
+            this.scores = scores;
+            this.playouts = playouts;
+            this.last = last;
+        }
+
+        /**
+         * Returns the position of the suggested card.
+         *
+         * @return the position in the hand, or {@code -1} if no card is playable
+         */
+        public int getBest() {
+            return best;
+        }
+
+        /**
+         * Returns the mean score of a card: its estimated chance of winning.
+         *
+         * @param index the position of the card in the hand
+         * @return the score between 0 and 1 (0 when the card is the only playable one
+         *         and was not searched), or {@code NaN} if the card cannot be played
+         */
+        public double getScore(int index) {
+            return scores[index];
+        }
+
+        /**
+         * Returns the number of positions in the hand.
+         *
+         * @return the size of the hand
+         */
+        public int size() {
+            return scores.length;
+        }
+
+        /**
+         * Returns the playouts of each playable card behind the scores.
+         *
+         * @return the playouts per card
+         */
+        public int getPlayouts() {
+            return playouts;
+        }
+
+        /**
+         * Returns whether this is the final hint of the search.
+         *
+         * @return {@code true} if the search is over
+         */
+        public boolean isFinal() {
+            return last;
+        }
+    }
+
+    /** Delivers the hints, e.g. on the JavaFX application thread. */
+    private final Executor delivery;
+
+    /** Receives the hints on the delivery executor. */
+    private final Consumer<Hint> listener;
+
+    /** Search time of one hint, in nanoseconds. */
+    private final long searchNanos;
+
+    /** Single worker with room for one waiting search. */
+    private final ThreadPoolExecutor worker;
+
+    /** Deals the hidden cards of each playout. */
+    private final Determinizer determinizer = new Determinizer();
+
+    /** Source of the playouts. */
+    private final FastRandom random;
+
+    /** View of the search; copied from the caller's view when it starts. */
+    private final DecisionView view = new DecisionView();
+
+    /** Sum of the scores of each position. */
+    private final double[] value = new double[Rules.HAND_SIZE];
+
+    /** Incremented by every start and cancellation; a search only posts for its own. */
+    private volatile int generation;
+
+    /** Search of the current generation, or {@code null}. */
+    private Future<?> task;
+
+    /**
+     * Creates an engine with the default search time.
+     *
+     * @param delivery the executor that delivers the hints
+     * @param listener receives the hints on the delivery executor
+     */
+    public HintEngine(Executor delivery, Consumer<Hint> listener) {
+        this(delivery, listener, DEFAULT_MILLIS, System.nanoTime());
+    }
+
+    /**
+     * Creates an engine.
+     *
+     * @param delivery the executor that delivers the hints
+     * @param listener receives the hints on the delivery executor
+     * @param millis   the search time of one hint, in milliseconds
+     * @param seed     the seed of the playouts
+     */
+    public HintEngine(Executor delivery, Consumer<Hint> listener, long millis, long seed) {
+        this.delivery = delivery;
+        this.listener = listener;
+        this.searchNanos = millis * 1_000_000L;
+        this.random = new FastRandom(seed);
+        this.worker = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "50zo-hint");
+                    thread.setPriority(Thread.NORM_PRIORITY - 1);
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardOldestPolicy());
+    }
+
+    /**
+     * Cancels the current search and starts ranking the cards of a hand.
+     *
+     * @param humanView the view of the human player; it is copied
+     */
+    public synchronized void start(DecisionView humanView) {
+        cancel();
+        DecisionView copy = new DecisionView().copyFrom(humanView);
+        int mine = generation;
+        task = worker.submit(() -> search(copy, mine));
+    }
+
+    /**
+     * Cancels the current search and voids every hint not delivered yet.
+     * The worker stops at the end of its current round.
+     */
+    public synchronized void cancel() {
+        generation++;
+        if (task != null) {
+            task.cancel(false);
+            task = null;
+        }
+    }
+
+    /**
+     * Stops the worker thread for good and waits for it to end.
+     *
+     * @return {@code true} if the worker ended within a second
+     */
+    public boolean shutdown() {
+        cancel();
+        worker.shutdown();
+        try {
+            return worker.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Waits until the current search has ended.
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    void await() throws InterruptedException {
+        Future<?> current;
+        synchronized (this) {
+            current = task;
+        }
+        if (current == null) {
+            return;
+        }
+        try {
+            current.get();
+        } catch (ExecutionException | CancellationException e) {
+            // A failed or dropped search has nothing more to wait for
+        }
+    }
+
+    /**
+     * Runs one search; called on the worker thread.
+     *
+     * @param source the view of the search
+     * @param mine   the generation of the search
+     */
+    private void search(DecisionView source, int mine) {
+        long deadline = System.nanoTime() + searchNanos;
+        view.copyFrom(source);
+        int size = view.getHandSize();
+        int playable = 0;
+        for (int i = 0; i < size; i++) {
+            value[i] = 0;
+            if (view.isPlayable(i)) {
+                playable++;
+            }
+        }
+        if (playable <= 1) {
+            post(mine, size, 0, true);
+            return;
+        }
+
+        int playouts = 0;
+        int lastBest = -1;
+        while (generation == mine && playouts < MAX_PLAYOUTS && System.nanoTime() - deadline < 0) {
+            for (int i = 0; i < size && generation == mine; i++) {
+                if (!view.isPlayable(i)) {
+                    continue;
+                }
+                for (int k = 0; k < BATCH; k++) {
+                    value[i] += playout(i);
+                }
+            }
+            playouts += BATCH;
+            int best = best(size);
+            if (best != lastBest) {
+                lastBest = best;
+                post(mine, size, playouts, false);
+            }
+        }
+        post(mine, size, playouts, true);
+    }
+
+    /**
+     * Plays a card in one determinization and finishes the game greedily.
+     *
+     * @param index the position of the card in the hand
+     * @return 1 for a win, 0 for an elimination, a share of the survivors otherwise
+     */
+    private double playout(int index) {
+        int me = view.getMySeat();
+        HeadlessGame game = determinizer.sample(view, random);
+        game.play(index);
+        int turns = 0;
+        while (!game.isOver() && game.isAlive(me) && turns++ < PLAYOUT_TURN_LIMIT) {
+            game.playGreedyTurn();
+        }
+        if (!game.isAlive(me)) {
+            return 0;
+        }
+        if (game.isOver()) {
+            return game.winner() == me ? 1 : 0;
+        }
+        return 1.0 / game.aliveCount();
+    }
+
+    /**
+     * Returns the playable position with the highest total score.
+     *
+     * @param size the size of the hand
+     * @return the position of the best card
+     */
+    private int best(int size) {
+        int best = -1;
+        for (int i = 0; i < size; i++) {
+            if (view.isPlayable(i) && (best < 0 || value[i] > value[best])) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Posts the current ranking, unless the search was cancelled. The hint is
+     * checked again on delivery, so a cancellation in between voids it.
+     *
+     * @param mine     the generation of the search
+     * @param size     the size of the hand
+     * @param playouts the playouts of each playable card
+     * @param last     whether the search is over
+     */
+    private void post(int mine, int size, int playouts, boolean last) {
+        if (generation != mine) {
+            return;
+        }
+        double[] scores = new double[size];
+        for (int i = 0; i < size; i++) {
+            scores[i] = !view.isPlayable(i) ? Double.NaN : playouts == 0 ? 0 : value[i] / playouts;
+        }
+        Hint hint = new Hint(best(size), scores, playouts, last);
+        delivery.execute(() -> {
+            if (generation == mine) {
+                listener.accept(hint);
+            }
+        });
+    }
+}
@@ -0,0 +1,51 @@
+package Model.Bots;
+
+/**
+ * Plays the card that keeps this player safest for its next turn.
+ * <p>
+ * A player is eliminated when the pile is too high for every card it holds. For
+ * each playable card, this strategy asks {@link EliminationOdds} for the chance
+ * that the player will be stuck next turn if it plays that card, once it has drawn
+ * and the other seats have played. The card with the lowest chance wins; ties go
+ * to the card that leaves the lowest pile.
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class LowestRiskStrategy implements BotStrategy {
+
+    /** Odds of elimination of the deciding player. */
+    private final EliminationOdds odds = new EliminationOdds();
+
+    /**
+     * Chooses the playable card with the lowest estimated risk of elimination.
+     *
+     * @param view   what the deciding player knows about the table
+     * @param budget the compute budget of this decision; one node per card evaluated
+     * @return the position of the chosen card, or {@code -1} if none is playable
+     */
+    @Override
+    public int decide(DecisionView view, DecisionBudget budget) {
+        odds.load(view);
+        int best = -1;
+        double bestRisk = Double.MAX_VALUE;
+        int bestPile = Integer.MAX_VALUE;
+        for (int i = 0; i < view.getHandSize(); i++) {
+            if (!view.isPlayable(i)) {
+                continue;
+            }
+            if (!budget.visit() && best >= 0) {
+                break;
+            }
+            int pile = view.pileAfter(i);
+            double risk = odds.probabilityAfter(view.getHandRank(i), EliminationOdds.DEFAULT_TURNS);
+            if (risk < bestRisk || (risk == bestRisk && pile < bestPile)) {
+                best = i;
+                bestRisk = risk;
+                bestPile = pile;
+            }
+        }
+        return best;
+    }
+}
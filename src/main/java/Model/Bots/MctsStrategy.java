@@ -0,0 +1,324 @@
+package Model.Bots;
+
+import Model.Engine.FastRandom;
+import Model.Engine.HeadlessGame;
+import Model.Engine.Rules;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Strategy that chooses a card by Monte Carlo search over the hidden cards.
+ * <p>
+ * Every iteration samples a complete game consistent with what the bot has seen
+ * (see {@link Determinizer}), picks one of the playable cards with the UCB1 rule,
+ * plays it and finishes the game with a fast rollout policy. A win is worth 1; a
+ * rollout that reaches the turn limit while the bot is still playing is worth an
+ * equal share among the seats left. The card with the most visits is played.
+ * </p>
+ *
+ * <p>The search is root-parallel: each worker keeps its own statistics, its own
+ * {@link FastRandom} and its own {@link Determinizer}, and the workers run on the
+ * shared {@link SearchPool}, or on the {@link PonderPool} when the decision is
+ * pondered. Their statistics are added up when the budget runs out,
+ * so the strategy is anytime and the workers never share mutable state while they
+ * search. Rollouts reuse the same {@link HeadlessGame} and do not allocate.</p>
+ *
+ * <p>An instance is reused by a single player for all its decisions.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class MctsStrategy implements BotStrategy {
+
+    /** Exploration constant of the UCB1 rule. */
+    public static final double EXPLORATION = Math.sqrt(2);
+
+    /** Probability that a rollout turn plays the greedy card instead of a random one. */
+    public static final double DEFAULT_GREEDY_ROLLOUT = 0.8;
+
+    /** Maximum number of turns played by a rollout. */
+    private static final int ROLLOUT_TURN_LIMIT = 400;
+
+    /** Playable positions of the hand in the current decision. */
+    private final int[] moves = new int[Rules.HAND_SIZE];
+
+    /** Workers of the search, one task each on the shared pool. */
+    private final Worker[] workers;
+
+    /** Tasks submitted for every decision; the same list is reused. */
+    private final List<Callable<Void>> tasks;
+
+    /** Probability that a rollout turn plays greedily. */
+    private final double greedyRollout;
+
+    /** Seed of the first decision. */
+    private final long seed;
+
+    /** Number of decisions taken, used to derive a fresh seed per decision. */
+    private long decisions;
+
+    /** Iterations still allowed by the node limit of the current decision. */
+    private final AtomicLong iterationsLeft = new AtomicLong();
+
+    /** Deadline of the current decision, in {@link System#nanoTime()} units. */
+    private volatile long deadline;
+
+    /** Whether the current decision has a deadline. */
+    private volatile boolean timed;
+
+    /** Budget of the current decision, polled for cancellation. */
+    private volatile DecisionBudget budget;
+
+    /**
+     * Creates a search with one worker per thread of the shared pool.
+     */
+    public MctsStrategy() {
+        this(SearchPool.parallelism(), System.nanoTime());
+    }
+
+    /**
+     * Creates a search with a given number of workers.
+     *
+     * @param workerCount the number of workers, at least one
+     * @param seed        the seed of the search; with one worker and a node budget
+     *                    the decisions are reproducible
+     */
+    public MctsStrategy(int workerCount, long seed) {
+        this(workerCount, seed, DEFAULT_GREEDY_ROLLOUT);
+    }
+
+    /**
+     * Creates a search with a given number of workers and rollout policy.
+     *
+     * @param workerCount   the number of workers, at least one
+     * @param seed          the seed of the search
+     * @param greedyRollout the probability that a rollout turn plays greedily
+     * @throws IllegalArgumentException if there are no workers or the probability is out of range
+     */
+    public MctsStrategy(int workerCount, long seed, double greedyRollout) {
+        if (workerCount < 1) {
+            throw new IllegalArgumentException("At least one worker is required");
+        }
+        if (greedyRollout < 0 || greedyRollout > 1) {
+            throw new IllegalArgumentException("Rollout probability must be between 0 and 1");
+        }
+        this.seed = seed;
+        this.greedyRollout = greedyRollout;
+        this.workers = new Worker[workerCount];
+        this.tasks = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = new Worker();
+            tasks.add(workers[i]);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int decide(DecisionView view, DecisionBudget budget) {
+        int count = 0;
+        for (int i = 0; i < view.getHandSize(); i++) {
+            if (view.isPlayable(i)) {
+                moves[count++] = i;
+            }
+        }
+        budget.visit();
+        if (count <= 1) {
+            return count == 0 ? -1 : moves[0];
+        }
+
+        long remaining = budget.remainingNanos();
+        timed = remaining != DecisionBudget.UNLIMITED;
+        deadline = timed ? System.nanoTime() + remaining : 0;
+        iterationsLeft.set(budget.remainingNodes());
+        this.budget = budget;
+
+        long decisionSeed = FastRandom.mix(seed + decisions++);
+        for (int w = 0; w < workers.length; w++) {
+            workers[w].prepare(view, count, FastRandom.mix(decisionSeed + w));
+        }
+        if (workers.length == 1) {
+            workers[0].call();
+        } else if (PonderPool.isPonderThread()) {
+            PonderPool.invokeAll(tasks);
+        } else {
+            SearchPool.get().invokeAll(tasks);
+        }
+
+        long iterations = 0;
+        int best = -1;
+        long bestVisits = -1;
+        double bestValue = -1;
+        for (int arm = 0; arm < count; arm++) {
+            long visits = 0;
+            double value = 0;
+            for (Worker worker : workers) {
+                visits += worker.visits[arm];
+                value += worker.value[arm];
+            }
+            iterations += visits;
+            double mean = visits == 0 ? 0 : value / visits;
+            if (visits > bestVisits || (visits == bestVisits && mean > bestValue)) {
+                best = arm;
+                bestVisits = visits;
+                bestValue = mean;
+            }
+        }
+        budget.addNodes(iterations);
+        if (iterations == 0) {
+            return greedy(view, count);
+        }
+        return moves[best];
+    }
+
+    /**
+     * Returns the card leaving the highest pile; used when no iteration finished in time.
+     *
+     * @param view  the view of the decision
+     * @param count the number of playable positions
+     * @return the chosen position of the hand
+     */
+    private int greedy(DecisionView view, int count) {
+        int best = moves[0];
+        for (int i = 1; i < count; i++) {
+            if (view.pileAfter(moves[i]) > view.pileAfter(best)) {
+                best = moves[i];
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Tells whether the current decision may run one more iteration.
+     *
+     * @return {@code true} while the deadline and the node limit hold and the
+     *         budget was not cancelled
+     */
+    private boolean mayContinue() {
+        if (budget.isCancelled() || timed && System.nanoTime() - deadline >= 0) {
+            return false;
+        }
+        return iterationsLeft.getAndDecrement() > 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String name() {
+        return "MCTS";
+    }
+
+    /**
+     * One root-parallel search worker: its own statistics, random source and sampled game.
+     */
+    private final class Worker implements Callable<Void> {
+
+        /** Visits of each playable card. */
+        private final long[] visits = new long[Rules.HAND_SIZE];
+
+        /** Sum of the rewards of each playable card. */
+        private final double[] value = new double[Rules.HAND_SIZE];
+
+        /** Random source of the determinizations and rollouts. */
+        private final FastRandom random = new FastRandom(0);
+
+        /** Sampler of complete games. */
+        private final Determinizer determinizer = new Determinizer();
+
+        /** View of the current decision, read-only while searching. */
+        private DecisionView view;
+
+        /** Number of playable positions. */
+        private int count;
+
+        /**
+         * Resets the worker for a new decision.
+         *
+         * @param view  the view of the decision
+         * @param count the number of playable positions
+         * @param seed  the seed of this worker
+         */
+        private void prepare(DecisionView view, int count, long seed) {
+            this.view = view;
+            this.count = count;
+            random.seed(seed);
+            for (int i = 0; i < Rules.HAND_SIZE; i++) {
+                visits[i] = 0;
+                value[i] = 0;
+            }
+        }
+
+        /**
+         * Runs iterations until the budget of the decision runs out.
+         *
+         * @return nothing
+         */
+        @Override
+        public Void call() {
+            int me = view.getMySeat();
+            long total = 0;
+            while (mayContinue()) {
+                int arm = select(total);
+                HeadlessGame game = determinizer.sample(view, random);
+                game.play(moves[arm]);
+                int turns = 0;
+                while (!game.isOver() && game.isAlive(me) && turns++ < ROLLOUT_TURN_LIMIT) {
+                    if (random.nextDouble() < greedyRollout) {
+                        game.playGreedyTurn();
+                    } else {
+                        game.playRandomTurn();
+                    }
+                }
+                visits[arm]++;
+                value[arm] += reward(game, me);
+                total++;
+            }
+            return null;
+        }
+
+        /**
+         * Picks the card to try next with the UCB1 rule.
+         *
+         * @param total the number of iterations run so far by this worker
+         * @return the position in {@code moves} of the card to try
+         */
+        private int select(long total) {
+            int best = 0;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            double log = Math.log(Math.max(1, total));
+            for (int arm = 0; arm < count; arm++) {
+                if (visits[arm] == 0) {
+                    return arm;
+                }
+                double score = value[arm] / visits[arm] + EXPLORATION * Math.sqrt(log / visits[arm]);
+                if (score > bestScore) {
+                    best = arm;
+                    bestScore = score;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Scores the end of a rollout for the deciding seat.
+         *
+         * @param game the game after the rollout
+         * @param me   the deciding seat
+         * @return 1 for a win, 0 after an elimination, an equal share otherwise
+         */
+        private double reward(HeadlessGame game, int me) {
+            if (!game.isAlive(me)) {
+                return 0;
+            }
+            if (game.isOver()) {
+                return game.winner() == me ? 1 : 0;
+            }
+            return 1.0 / game.aliveCount();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package Model.Bots;
+
+import Model.Engine.HeadlessGame;
+import Model.Engine.Rules;
+
+/**
+ * Bayesian estimate of what each seat holds, from the plays everyone can see.
+ * <p>
+ * For every seat and rank the model keeps a likelihood weight: how much more or
+ * less likely than the plain card count it is that a card of that seat has that
+ * rank. Weights start at 1. A play is evidence about the cards the seat kept: a
+ * seat that plays a card when another rank would have left a higher pile
+ * (a K on 45 instead of a 5) most likely did not hold that rank, so its weight is
+ * multiplied by {@link #SURPRISE}, the chance that a player holding it still makes
+ * that play. Then one of the four cards is a fresh draw about which nothing is
+ * known, so the weights move a quarter of the way back to 1. An eliminated seat
+ * returns its hand to the deck and its weights are reset.
+ * </p>
+ *
+ * <p>Each event costs one pass over the ranks and allocates nothing. The weights
+ * are copied into a {@link DecisionView} with {@link #copyTo(DecisionView)}, where
+ * the {@link Determinizer} uses them to deal sharper samples of the hidden hands.
+ * Plays are public, so one model serves every seat of a match; events arrive from
+ * the player threads, so every method is synchronized.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class OpponentModel {
+
+    /** Chance that a seat holding a card that leaves a higher pile plays a lower one. */
+    public static final double SURPRISE = 0.35;
+
+    /** Share of a hand replaced by the draw after each play. */
+    private static final double FRESH = 1.0 / Rules.HAND_SIZE;
+
+    /** Likelihood weights, {@code [seat * RANKS + rank]}. */
+    private final double[] weights = new double[HeadlessGame.MAX_SEATS * Rules.RANKS];
+
+    /**
+     * Creates a model where nothing has been observed.
+     */
+    public OpponentModel() {
+        reset();
+    }
+
+    /**
+     * Forgets every observation.
+     */
+    public synchronized void reset() {
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = 1;
+        }
+    }
+
+    /**
+     * Records a play.
+     *
+     * @param seat       the seat that played
+     * @param pileBefore the pile value before the play
+     * @param rank       the rank of the card played
+     */
+    public synchronized void onPlay(int seat, int pileBefore, int rank) {
+        update(weights, seat * Rules.RANKS, pileBefore, rank);
+    }
+
+    /**
+     * Applies the evidence of a play to the weights of one seat. Shared with
+     * {@link DecisionView#applyPlay(int, int)}, so a predicted view carries exactly
+     * the weights the model will hold once the play is made.
+     *
+     * @param weights    the weights, {@code [seat * RANKS + rank]}
+     * @param base       the index of the seat's first weight
+     * @param pileBefore the pile value before the play
+     * @param rank       the rank of the card played
+     */
+    static void update(double[] weights, int base, int pileBefore, int rank) {
+        int after = Rules.play(pileBefore, rank);
+        for (int r = 0; r < Rules.RANKS; r++) {
+            double weight = weights[base + r];
+            if (Rules.canPlay(pileBefore, r) && Rules.play(pileBefore, r) > after) {
+                weight *= SURPRISE;
+            }
+            weights[base + r] = weight * (1 - FRESH) + FRESH;
+        }
+    }
+
+    /**
+     * Records that a seat was eliminated; its cards went back into the deck.
+     *
+     * @param seat the eliminated seat
+     */
+    public synchronized void onEliminated(int seat) {
+        int base = seat * Rules.RANKS;
+        for (int r = 0; r < Rules.RANKS; r++) {
+            weights[base + r] = 1;
+        }
+    }
+
+    /**
+     * Returns the likelihood weight of a rank in a seat's hand.
+     *
+     * @param seat the seat
+     * @param rank the rank
+     * @return the weight, 1 when nothing is known
+     */
+    public synchronized double weight(int seat, int rank) {
+        return weights[seat * Rules.RANKS + rank];
+    }
+
+    /**
+     * Copies the weights of every other seat into a view.
+     *
+     * @param view the view of the deciding seat, already begun
+     */
+    public synchronized void copyTo(DecisionView view) {
+        for (int seat = 0; seat < view.getSeats(); seat++) {
+            if (seat == view.getMySeat()) {
+                continue;
+            }
+            for (int r = 0; r < Rules.RANKS; r++) {
+                view.setHandWeight(seat, r, weights[seat * Rules.RANKS + r]);
+            }
+        }
+    }
+}
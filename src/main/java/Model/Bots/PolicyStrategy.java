@@ -0,0 +1,72 @@
+package Model.Bots;
+
+import Model.Engine.Rules;
+
+/**
+ * Plays from a {@link PolicyTable} learned by self-play.
+ * <p>
+ * A decision is one table read per card of the hand, so it costs nanoseconds
+ * whatever the budget. Without a table the decision goes to the fallback
+ * strategy.
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class PolicyStrategy implements BotStrategy {
+
+    /** Learned policy, or {@code null}. */
+    private final PolicyTable policy;
+
+    /** Strategy used when there is no policy. */
+    private final BotStrategy fallback;
+
+    /** Ranks of the hand; reused for every decision. */
+    private final int[] ranks = new int[Rules.HAND_SIZE];
+
+    /**
+     * Creates a strategy that uses the shared policy, if one is available.
+     *
+     * @param fallback the strategy used when there is no policy
+     */
+    public PolicyStrategy(BotStrategy fallback) {
+        this(PolicyTable.shared(), fallback);
+    }
+
+    /**
+     * Creates a strategy over a given policy.
+     *
+     * @param policy   the learned policy, or {@code null} for none
+     * @param fallback the strategy used when there is no policy
+     */
+    public PolicyStrategy(PolicyTable policy, BotStrategy fallback) {
+        this.policy = policy;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Plays the card with the best learned value, or asks the fallback.
+     *
+     * @param view   what the deciding player knows about the table
+     * @param budget the compute budget of this decision; one node per card evaluated
+     * @return the position of the chosen card, or {@code -1} if none is playable
+     */
+    @Override
+    public int decide(DecisionView view, DecisionBudget budget) {
+        if (policy == null) {
+            return fallback.decide(view, budget);
+        }
+        budget.addNodes(view.getHandSize());
+        return policy.choose(view, ranks);
+    }
+
+    /**
+     * Returns the name of the strategy, or of its fallback when there is no policy.
+     *
+     * @return the name for logs and tournament tables
+     */
+    @Override
+    public String name() {
+        return policy == null ? fallback.name() : "Policy";
+    }
+}
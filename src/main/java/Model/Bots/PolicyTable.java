@@ -0,0 +1,265 @@
+package Model.Bots;
+
+import Model.Engine.Rules;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Tabular policy learned by {@link PolicyTrainer}.
+ * <p>
+ * Every legal play is described by what it leaves behind, in canonical features:
+ * the seats left (2, 3, or 4 and more), the pile after the play and the value
+ * classes of the three cards kept (see {@link EndgameTablebase#classOf(int)}).
+ * The table stores, for each combination, the learned chance of winning from
+ * there, in a flat {@code float} array. A decision reads one entry per card of
+ * the hand and keeps the best; ties go to the card leaving the highest pile, as
+ * {@link GreedyStrategy} would choose.
+ * </p>
+ *
+ * <p>The artefact is the array itself, preceded by a small header:</p>
+ * <pre>
+ * MAGIC, VERSION, SIZE (ints), games played in training (long), SIZE floats
+ * </pre>
+ *
+ * <p>A table is never modified after it is built, so it can be shared by every
+ * bot in the JVM; the one named by the {@value #FILE_PROPERTY} system property
+ * (by default {@value #DEFAULT_FILE}) is read once by {@link #shared()}.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class PolicyTable {
+
+    /** Identifies a policy file ("50ZP"). */
+    public static final int MAGIC = 0x35305A50;
+
+    /** Version of the file layout. */
+    public static final int VERSION = 1;
+
+    /** System property naming the file read by {@link #shared()}. */
+    public static final String FILE_PROPERTY = "zo.policy";
+
+    /** File read by {@link #shared()} when the property is not set. */
+    public static final String DEFAULT_FILE = "50zo-policy.bin";
+
+    /** Buckets of seats left: 2, 3, and 4 or more. */
+    static final int SEAT_BUCKETS = 3;
+
+    /** Lowest pile after a play that has its own entry; lower piles share it. */
+    static final int PILE_FLOOR = -50;
+
+    /** Number of pile values after a play. */
+    static final int PILES = Rules.MAX_PILE - PILE_FLOOR + 1;
+
+    /** Number of three-card hands over the value classes and a missing card, C(14, 3). */
+    static final int KEPT_HANDS = 364;
+
+    /** Number of entries of the table. */
+    public static final int SIZE = SEAT_BUCKETS * PILES * KEPT_HANDS;
+
+    /** Learned chance of winning after each play. */
+    private final float[] values;
+
+    /** Self-play games behind the values. */
+    private final long games;
+
+    /**
+     * Creates a table over learned values.
+     *
+     * @param values the chance of winning per entry; the array is not copied
+     * @param games  the number of self-play games behind the values
+     * @throws IllegalArgumentException if the array does not have {@link #SIZE} entries
+     */
+    public PolicyTable(float[] values, long games) {
+        if (values.length != SIZE) {
+            throw new IllegalArgumentException("A policy table has " + SIZE + " entries, not " + values.length);
+        }
+        this.values = values;
+        this.games = games;
+    }
+
+    /**
+     * Holder class that reads the shared policy on first use.
+     */
+    private static class Holder {
+        private static final PolicyTable INSTANCE = load();
+
+        /**
+         * Reads the file named by {@link #FILE_PROPERTY}, if it exists.
+         *
+         * @return the policy, or {@code null} if there is no usable file
+         */
+        private static PolicyTable load() {
+            Path file = Paths.get(System.getProperty(FILE_PROPERTY, DEFAULT_FILE));
+            if (!Files.isReadable(file)) {
+                return null;
+            }
+            try {
+                return read(file);
+            } catch (IOException | IllegalArgumentException e) {
+                System.err.println("⚠ Policy not loaded from " + file + ": " + e.getMessage());
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Returns the policy shared by every bot, read on first use.
+     *
+     * @return the policy, or {@code null} if no policy file is available
+     */
+    public static PolicyTable shared() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Reads a policy file.
+     *
+     * @param file the file written by {@link #write(Path)}
+     * @return the policy
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a policy of this version
+     */
+    public static PolicyTable read(Path file) throws IOException {
+        try (InputStream stream = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(stream))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readInt() != SIZE) {
+                throw new IllegalArgumentException("Not a 50zo policy of version " + VERSION);
+            }
+            long games = in.readLong();
+            float[] values = new float[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                values[i] = in.readFloat();
+            }
+            return new PolicyTable(values, games);
+        }
+    }
+
+    /**
+     * Writes the policy.
+     *
+     * @param file the file to write; it is replaced if it exists
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path file) throws IOException {
+        try (OutputStream stream = Files.newOutputStream(file);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(SIZE);
+            out.writeLong(games);
+            for (float value : values) {
+                out.writeFloat(value);
+            }
+        }
+    }
+
+    /**
+     * Chooses the card of a view with the best learned value.
+     *
+     * @param view what the deciding player knows about the table
+     * @param ranks a buffer of at least {@link Rules#HAND_SIZE} entries for the hand ranks
+     * @return the position of the chosen card, or {@code -1} if none is playable
+     */
+    public int choose(DecisionView view, int[] ranks) {
+        for (int i = 0; i < view.getHandSize(); i++) {
+            ranks[i] = view.getHandRank(i);
+        }
+        return choose(Integer.bitCount(view.getAliveMask()), view.getPileValue(), ranks, view.getHandSize());
+    }
+
+    /**
+     * Chooses the card of a hand with the best learned value.
+     *
+     * @param alive     the number of seats left
+     * @param pileValue the pile value
+     * @param ranks     the ranks of the hand
+     * @param handSize  the number of cards in the hand
+     * @return the position of the chosen card, or {@code -1} if none is playable
+     */
+    public int choose(int alive, int pileValue, int[] ranks, int handSize) {
+        int best = -1;
+        float bestValue = 0;
+        int bestPile = 0;
+        for (int i = 0; i < handSize; i++) {
+            if (!Rules.canPlay(pileValue, ranks[i])) {
+                continue;
+            }
+            int after = Rules.play(pileValue, ranks[i]);
+            float value = values[index(alive, after, ranks, handSize, i)];
+            if (best < 0 || value > bestValue || (value == bestValue && after > bestPile)) {
+                best = i;
+                bestValue = value;
+                bestPile = after;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the learned value of an entry.
+     *
+     * @param index the entry
+     * @return the learned chance of winning after the play
+     */
+    public float value(int index) {
+        return values[index];
+    }
+
+    /**
+     * Returns the number of self-play games behind the values.
+     *
+     * @return the games
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Returns the entry describing a play: the seats left, the pile after it and
+     * the value classes of the cards kept. A missing card counts as one more class,
+     * and the kept classes, sorted, are ranked like the hands of
+     * {@link EndgameTablebase#handIndex(int[])}.
+     *
+     * @param alive     the number of seats left
+     * @param after     the pile value after the play
+     * @param ranks     the ranks of the hand
+     * @param handSize  the number of cards in the hand
+     * @param played    the position of the card played
+     * @return the entry of the table
+     */
+    static int index(int alive, int after, int[] ranks, int handSize, int played) {
+        int a = EndgameTablebase.CLASSES;
+        int b = EndgameTablebase.CLASSES;
+        int c = EndgameTablebase.CLASSES;
+        for (int i = 0; i < handSize; i++) {
+            if (i == played) {
+                continue;
+            }
+            int kept = EndgameTablebase.classOf(ranks[i]);
+            if (kept < a) {
+                c = b;
+                b = a;
+                a = kept;
+            } else if (kept < b) {
+                c = b;
+                b = kept;
+            } else if (kept < c) {
+                c = kept;
+            }
+        }
+        int hand = a + EndgameTablebase.binomial(b + 1, 2) + EndgameTablebase.binomial(c + 2, 3);
+        int seats = Math.min(alive, SEAT_BUCKETS + 1) - 2;
+        int pile = Math.max(after, PILE_FLOOR) - PILE_FLOOR;
+        return (seats * PILES + pile) * KEPT_HANDS + hand;
+    }
+}
@@ -0,0 +1,274 @@
+package Model.Bots;
+
+import Model.Engine.FastRandom;
+import Model.Engine.HeadlessGame;
+import Model.Engine.Rules;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Learns a {@link PolicyTable} from self-play on the headless engine.
+ * <p>
+ * Training runs in epochs. In each epoch the {@link SearchPool} plays a batch of
+ * games split into {@link #TASKS} tasks. Seats follow the current table, except
+ * for a share of random plays that keeps exploring; a random subset of the other
+ * seats plays like {@link GreedyStrategy}, so the policy also learns to beat the
+ * default bot and not only itself.
+ * </p>
+ *
+ * <p>The table values what a play leaves behind. Each play of a learning seat is
+ * credited, as in TD(0), with the value of the best play that seat has on its next
+ * turn, with 0 if the seat is eliminated first and with 1 if it wins first. Between
+ * epochs the credits of the tasks are merged in task order, older credits are
+ * halved so the table follows the improving policy, and each entry becomes its
+ * average credit. Entries never played keep the average outcome of their number
+ * of seats, so the greedy tie-break decides there.</p>
+ *
+ * <p>Games get table sizes from 2 to {@link #MAX_TRAINING_SEATS} seats in turn. Every
+ * task has its own seed derived from the trainer's seed, so the same settings
+ * always train the same table, whatever the number of workers.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class PolicyTrainer {
+
+    /** Largest table size played in training. */
+    public static final int MAX_TRAINING_SEATS = 5;
+
+    /** Share of plays chosen at random to keep exploring. */
+    public static final double EXPLORATION = 0.1;
+
+    /** Factor applied to older counts at each epoch. */
+    static final double DECAY = 0.5;
+
+    /** Number of tasks an epoch is split into. */
+    static final int TASKS = 16;
+
+    /** Number of epochs. */
+    private final int epochs;
+
+    /** Games played per epoch. */
+    private final int gamesPerEpoch;
+
+    /** Seed of the whole training. */
+    private final long seed;
+
+    /** Credits of each entry, decayed. */
+    private final double[] wins = new double[PolicyTable.SIZE];
+
+    /** Plays of each entry, decayed. */
+    private final double[] plays = new double[PolicyTable.SIZE];
+
+    /**
+     * Creates a trainer.
+     *
+     * @param epochs        the number of epochs, at least 1
+     * @param gamesPerEpoch the games played per epoch, at least 1
+     * @param seed          the seed of the training
+     * @throws IllegalArgumentException if a count is not positive
+     */
+    public PolicyTrainer(int epochs, int gamesPerEpoch, long seed) {
+        if (epochs < 1 || gamesPerEpoch < 1) {
+            throw new IllegalArgumentException("epochs and gamesPerEpoch must be positive");
+        }
+        this.epochs = epochs;
+        this.gamesPerEpoch = gamesPerEpoch;
+        this.seed = seed;
+    }
+
+    /**
+     * Runs every epoch and returns the learned policy.
+     *
+     * @return the policy after the last epoch
+     * @throws IllegalStateException if a training task fails or is interrupted
+     */
+    public PolicyTable train() {
+        PolicyTable policy = build(0);
+        for (int epoch = 0; epoch < epochs; epoch++) {
+            List<Callable<double[][]>> tasks = new ArrayList<>(TASKS);
+            for (int task = 0; task < TASKS; task++) {
+                int games = gamesPerEpoch / TASKS + (task < gamesPerEpoch % TASKS ? 1 : 0);
+                long taskSeed = FastRandom.mix(seed + (long) epoch * TASKS + task);
+                tasks.add(new Worker(policy, games, taskSeed));
+            }
+            for (int i = 0; i < PolicyTable.SIZE; i++) {
+                wins[i] *= DECAY;
+                plays[i] *= DECAY;
+            }
+            try {
+                for (Future<double[][]> future : SearchPool.get().invokeAll(tasks)) {
+                    double[][] counts = future.get();
+                    for (int i = 0; i < PolicyTable.SIZE; i++) {
+                        wins[i] += counts[0][i];
+                        plays[i] += counts[1][i];
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Training interrupted", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Training task failed", e.getCause());
+            }
+            policy = build((long) (epoch + 1) * gamesPerEpoch);
+        }
+        return policy;
+    }
+
+    /**
+     * Trains a policy and writes it.
+     *
+     * @param args the output file, then optionally the epochs, the games per epoch and the seed
+     * @throws IOException if the file cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        Path file = Paths.get(args.length > 0 ? args[0] : PolicyTable.DEFAULT_FILE);
+        int epochs = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int games = args.length > 2 ? Integer.parseInt(args[2]) : 200_000;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 50;
+        long start = System.nanoTime();
+        PolicyTable policy = new PolicyTrainer(epochs, games, seed).train();
+        policy.write(file);
+        System.out.printf("🏁 Policy written to %s: %d self-play games, %d ms%n",
+                file, policy.getGames(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Builds the table from the counts so far.
+     *
+     * @param games the number of games behind the counts
+     * @return the table
+     */
+    private PolicyTable build(long games) {
+        float[] values = new float[PolicyTable.SIZE];
+        int perBucket = PolicyTable.SIZE / PolicyTable.SEAT_BUCKETS;
+        for (int i = 0; i < PolicyTable.SIZE; i++) {
+            int seats = i / perBucket + 2;
+            values[i] = plays[i] > 0 ? (float) (wins[i] / plays[i]) : 1.0f / seats;
+        }
+        return new PolicyTable(values, games);
+    }
+
+    /**
+     * Plays a share of an epoch's games and credits every entry played.
+     */
+    private static final class Worker implements Callable<double[][]> {
+
+        /** Policy followed by the learning seats. */
+        private final PolicyTable policy;
+
+        /** Games to play. */
+        private final int games;
+
+        /** Seed of this task. */
+        private final long seed;
+
+        /**
+         * Creates a task.
+         *
+         * @param policy the policy of the epoch
+         * @param games  the games to play
+         * @param seed   the seed of this task
+         */
+        Worker(PolicyTable policy, int games, long seed) {
+            this.policy = policy;
+            this.games = games;
+            this.seed = seed;
+        }
+
+        /**
+         * Plays the games.
+         *
+         * @return the credits and the plays of each entry
+         */
+        @Override
+        public double[][] call() {
+            double[] wins = new double[PolicyTable.SIZE];
+            double[] plays = new double[PolicyTable.SIZE];
+            FastRandom random = new FastRandom(seed);
+            HeadlessGame[] tables = new HeadlessGame[MAX_TRAINING_SEATS + 1];
+            int[] ranks = new int[Rules.HAND_SIZE];
+            int[] pending = new int[MAX_TRAINING_SEATS];
+
+            for (int g = 0; g < games; g++) {
+                int size = 2 + g % (MAX_TRAINING_SEATS - 1);
+                if (tables[size] == null) {
+                    tables[size] = new HeadlessGame(size);
+                }
+                HeadlessGame game = tables[size];
+                game.reset(random.nextLong());
+                Arrays.fill(pending, -1);
+                int greedySeats = (int) random.nextLong() & ((1 << size) - 1) & ~(1 << (g % size));
+                while (!game.isOver()) {
+                    int seat = game.currentSeat();
+                    if (game.eliminateIfStuck()) {
+                        credit(wins, plays, pending[seat], 0);
+                        continue;
+                    }
+                    if ((greedySeats >>> seat & 1) != 0) {
+                        game.playGreedyTurn();
+                        continue;
+                    }
+                    int handSize = game.handSize(seat);
+                    for (int i = 0; i < handSize; i++) {
+                        ranks[i] = Rules.rankOf(game.handCard(seat, i));
+                    }
+                    int alive = game.aliveCount();
+                    int pile = game.pileValue();
+                    int best = policy.choose(alive, pile, ranks, handSize);
+                    credit(wins, plays, pending[seat],
+                            policy.value(PolicyTable.index(alive, Rules.play(pile, ranks[best]), ranks, handSize, best)));
+                    int choice = random.nextDouble() < EXPLORATION
+                            ? randomPlayable(pile, ranks, handSize, random) : best;
+                    pending[seat] = PolicyTable.index(alive, Rules.play(pile, ranks[choice]), ranks, handSize, choice);
+                    game.play(choice);
+                }
+                credit(wins, plays, pending[game.winner()], 1);
+            }
+            return new double[][]{wins, plays};
+        }
+
+        /**
+         * Credits an entry with the outcome that followed it.
+         *
+         * @param wins    the wins credited to each entry
+         * @param plays   the plays of each entry
+         * @param entry   the entry, or {@code -1} if the seat has not played yet
+         * @param outcome the value of what followed, between 0 and 1
+         */
+        private static void credit(double[] wins, double[] plays, int entry, double outcome) {
+            if (entry >= 0) {
+                wins[entry] += outcome;
+                plays[entry]++;
+            }
+        }
+
+        /**
+         * Chooses a playable card uniformly at random.
+         *
+         * @param pileValue the pile value
+         * @param ranks     the ranks of the hand
+         * @param handSize  the number of cards in the hand
+         * @param random    the source of the choice
+         * @return the position of the card; the hand has at least one playable card
+         */
+        private static int randomPlayable(int pileValue, int[] ranks, int handSize, FastRandom random) {
+            int chosen = -1;
+            int playable = 0;
+            for (int i = 0; i < handSize; i++) {
+                if (Rules.canPlay(pileValue, ranks[i]) && random.nextInt(++playable) == 0) {
+                    chosen = i;
+                }
+            }
+            return chosen;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package Model.Bots;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Low-priority pool shared by every pondering bot.
+ * <p>
+ * Pondering is speculative work done while other seats play, so it must never
+ * compete with a decision that is actually due or with the JavaFX application
+ * thread. The pool uses half of the cores, and its workers run at
+ * {@link Thread#MIN_PRIORITY} as daemon threads named {@code 50zo-ponder-N}.
+ * Each pondering bot has at most one task queued or running at a time.
+ * </p>
+ *
+ * <p>A search that splits its work while pondering must keep it here rather than
+ * on the {@link SearchPool}, through {@link #invokeAll(List)}; it can tell it is
+ * pondering with {@link #isPonderThread()}.</p>
+ *
+ * <p>This class follows the Singleton pattern using the Initialization-on-demand
+ * holder idiom.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public final class PonderPool {
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private PonderPool() {
+    }
+
+    /**
+     * Holder class that lazily creates the pool on first use.
+     */
+    private static class Holder {
+        private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+        private static final int THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        private static final ExecutorService INSTANCE = new ThreadPoolExecutor(
+                THREADS, THREADS, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new PonderThread(runnable, "50zo-ponder-" + NEXT_ID.getAndIncrement());
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Returns the shared pondering pool.
+     *
+     * @return the pool
+     */
+    public static ExecutorService get() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Returns whether the calling thread is a worker of the pondering pool.
+     *
+     * @return {@code true} if the caller is pondering
+     */
+    public static boolean isPonderThread() {
+        return Thread.currentThread() instanceof PonderThread;
+    }
+
+    /**
+     * Runs tasks on the pondering pool and waits for all of them. The calling
+     * thread, itself a worker, runs the first task and then every task no other
+     * worker has started, so the call finishes even when every worker is busy.
+     *
+     * @param tasks the tasks, at least one
+     * @throws IllegalStateException if a task fails
+     */
+    public static void invokeAll(List<? extends Callable<?>> tasks) {
+        List<FutureTask<?>> futures = new ArrayList<>(tasks.size());
+        for (int i = 1; i < tasks.size(); i++) {
+            FutureTask<?> future = new FutureTask<>(tasks.get(i));
+            futures.add(future);
+            get().execute(future);
+        }
+        try {
+            tasks.get(0).call();
+            for (FutureTask<?> future : futures) {
+                future.run();
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(false));
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            futures.forEach(future -> future.cancel(false));
+            throw new IllegalStateException("Pondering task failed", e instanceof ExecutionException ? e.getCause() : e);
+        }
+    }
+
+    /**
+     * Worker thread of the pondering pool.
+     */
+    private static final class PonderThread extends Thread {
+
+        /**
+         * Creates a worker.
+         *
+         * @param task the task of the worker
+         * @param name the name of the thread
+         */
+        private PonderThread(Runnable task, String name) {
+            super(task, name);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package Model.Bots;
+
+import Model.Engine.Rules;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Precomputes a bot's decision while the seat before it is still playing.
+ * <p>
+ * When the seat that moves right before the bot starts its turn, the bot hands
+ * its current view to {@link #start(DecisionView, int)}. On the
+ * {@link PonderPool}, the ponderer then goes through the ranks that seat could
+ * play, most likely first (unseen count times the seat's inferred weight), and
+ * for each one advances a copy of the view with
+ * {@link DecisionView#applyPlay(int, int)} and asks the strategy for its decision,
+ * with the budget the bot's {@link DecisionScheduler} would give a real turn right
+ * now: the same limits, scaled down while the machine is slow and capped at the
+ * deadline. A search that splits its work keeps it on the pondering pool. When the bot's turn arrives it calls
+ * {@link #cancel()} and then {@link #lookup(DecisionView)}: if the view it built
+ * has the fingerprint of a pondered one, the decision is ready and the turn costs
+ * a table lookup.
+ * </p>
+ *
+ * <p>The strategy is shared with the bot's own turns, which is safe because the
+ * ponderer only calls it while holding a lock and {@link #cancel()} returns only
+ * after the running search has stopped and released it. A cancelled search stops
+ * at the next clock check of its budget and its result is dropped. Every other
+ * method is meant to be called from the bot's thread.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class Ponderer {
+
+    /** Value returned by {@link #lookup(DecisionView)} when the view was not pondered. */
+    public static final int MISS = Integer.MIN_VALUE;
+
+    /** Strategy of the bot. */
+    private final BotStrategy strategy;
+
+    /** Scheduler of the bot's turns, which scales every pondered budget. */
+    private final DecisionScheduler scheduler;
+
+    /** Budget of each pondered decision. */
+    private final DecisionBudget budget;
+
+    /** View of the bot when pondering started. */
+    private final DecisionView base = new DecisionView();
+
+    /** View after one of the predicted plays; reused for every prediction. */
+    private final DecisionView predicted = new DecisionView();
+
+    /** Predicted ranks, most likely first. */
+    private final int[] order = new int[Rules.RANKS];
+
+    /** Likelihood of each predicted rank. */
+    private final double[] likelihood = new double[Rules.RANKS];
+
+    /** Fingerprints of the pondered views. */
+    private final long[] keys = new long[Rules.RANKS];
+
+    /** Decisions of the pondered views. */
+    private final int[] choices = new int[Rules.RANKS];
+
+    /** Number of pondered views; guarded by {@code this}. */
+    private int size;
+
+    /** Seat whose play is predicted. */
+    private int seat;
+
+    /** Held by the pool thread while it uses the strategy. */
+    private final ReentrantLock running = new ReentrantLock();
+
+    /** Incremented by every cancellation; a task only works for its own generation. */
+    private volatile int generation;
+
+    /** Task of the current generation, or {@code null}. */
+    private Future<?> task;
+
+    /**
+     * Creates a ponderer for a bot whose turns are only limited by a budget.
+     *
+     * @param strategy the strategy of the bot
+     * @param limits   the budget of the bot's turns, whose limits every pondered decision gets
+     */
+    public Ponderer(BotStrategy strategy, DecisionBudget limits) {
+        this(strategy, new DecisionScheduler(limits, DecisionBudget.UNLIMITED));
+    }
+
+    /**
+     * Creates a ponderer.
+     *
+     * @param strategy  the strategy of the bot
+     * @param scheduler the scheduler of the bot's turns; its budget gives the
+     *                  limits of every pondered decision and its scale and cap
+     *                  apply to them
+     */
+    public Ponderer(BotStrategy strategy, DecisionScheduler scheduler) {
+        this.strategy = strategy;
+        this.scheduler = scheduler;
+        DecisionBudget limits = scheduler.getBudget();
+        this.budget = new DecisionBudget(limits.getMaxNanos(), limits.getMaxNodes());
+    }
+
+    /**
+     * Cancels any pondering in progress and starts pondering the plays of a seat.
+     *
+     * @param view the bot's view now; it is copied
+     * @param seat the seat that plays before the bot
+     */
+    public void start(DecisionView view, int seat) {
+        cancel();
+        base.copyFrom(view);
+        this.seat = seat;
+        synchronized (this) {
+            size = 0;
+        }
+        budget.clearCancel();
+        int mine = generation;
+        task = PonderPool.get().submit(() -> ponder(mine));
+    }
+
+    /**
+     * Stops pondering. When this method returns the strategy is no longer in use
+     * and the pondered decisions can be looked up.
+     */
+    public void cancel() {
+        generation++;
+        budget.cancel();
+        if (task != null) {
+            task.cancel(false);
+            task = null;
+        }
+        running.lock();
+        running.unlock();
+    }
+
+    /**
+     * Returns the pondered decision of a view.
+     *
+     * @param view the view of the bot's turn
+     * @return the position of the chosen card, {@code -1} if none is playable, or
+     *         {@link #MISS} if this view was not pondered
+     */
+    public synchronized int lookup(DecisionView view) {
+        long key = view.fingerprint();
+        for (int i = 0; i < size; i++) {
+            if (keys[i] == key) {
+                return choices[i];
+            }
+        }
+        return MISS;
+    }
+
+    /**
+     * Returns the number of views pondered since the last start.
+     *
+     * @return the number of decisions ready
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Waits until the current pondering has gone through every predicted play
+     * or was cancelled.
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    void await() throws InterruptedException {
+        Future<?> current = task;
+        if (current == null) {
+            return;
+        }
+        try {
+            current.get();
+        } catch (ExecutionException | CancellationException e) {
+            // A failed or dropped task has nothing more to wait for
+        }
+    }
+
+    /**
+     * Ponders the predicted plays; runs on the pool.
+     *
+     * @param mine the generation the task was submitted for
+     */
+    private void ponder(int mine) {
+        running.lock();
+        try {
+            int count = candidates();
+            for (int i = 0; i < count && generation == mine; i++) {
+                predicted.copyFrom(base);
+                predicted.applyPlay(seat, order[i]);
+                scheduler.start(budget);
+                int choice = strategy.decide(predicted, budget);
+                budget.finish();
+                if (generation != mine) {
+                    break;
+                }
+                synchronized (this) {
+                    keys[size] = predicted.fingerprint();
+                    choices[size] = choice;
+                    size++;
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println("⚠ Pondering failed: " + e.getMessage());
+        } finally {
+            running.unlock();
+        }
+    }
+
+    /**
+     * Lists the ranks the predicted seat can play, most likely first.
+     *
+     * @return the number of ranks in {@link #order}
+     */
+    private int candidates() {
+        int count = 0;
+        for (int rank = 0; rank < Rules.RANKS; rank++) {
+            if (base.getUnseen(rank) == 0 || !Rules.canPlay(base.getPileValue(), rank)) {
+                continue;
+            }
+            double weight = base.getUnseen(rank) * base.getHandWeight(seat, rank);
+            int i = count++;
+            while (i > 0 && likelihood[i - 1] < weight) {
+                order[i] = order[i - 1];
+                likelihood[i] = likelihood[i - 1];
+                i--;
+            }
+            order[i] = rank;
+            likelihood[i] = weight;
+        }
+        return count;
+    }
+}
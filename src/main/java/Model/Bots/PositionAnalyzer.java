@@ -0,0 +1,500 @@
+package Model.Bots;
+
+import Model.Engine.FastRandom;
+import Model.Engine.HeadlessGame;
+import Model.Engine.Rules;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Estimates, for a forked position, the chance of winning after each card the
+ * seat to move can play, and streams the estimates as they sharpen.
+ * <p>
+ * {@link #start(HeadlessGame)} copies the position, usually a fork of a live
+ * match, and hands it to the analyzer's own coordinator thread. The coordinator
+ * runs rounds of playouts on the shared {@link SearchPool}, split in
+ * {@value #TASKS} tasks so the results do not depend on the number of cores.
+ * Every playout deals again the cards the mover cannot see (the other hands and
+ * the order of the deck), plays the candidate card and finishes the game
+ * greedily; a win scores 1, an elimination 0 and an unfinished game a share of
+ * the survivors, as in {@link HintEngine}. The first round plays
+ * {@value #FIRST_ROUND} playouts per card so a first estimate arrives within a
+ * few tens of milliseconds; every later round is twice as long, up to
+ * {@value #MAX_ROUND}, until {@value #DEFAULT_MILLIS} ms have passed or every
+ * card has {@value #MAX_PLAYOUTS} playouts.
+ * </p>
+ *
+ * <p>An {@link Analysis} is posted after every round through the executor given
+ * at construction (the JavaFX dispatcher in the game window); the coordinator
+ * never touches the interface itself. {@link #cancel()} stops the analysis at
+ * the end of the current round and voids every analysis already posted but not
+ * yet delivered. Like the hint engine, the coordinator is a single daemon thread
+ * with room for one waiting analysis: starting a new one discards the one still
+ * waiting.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class PositionAnalyzer {
+
+    /** Default analysis time of one position, in milliseconds. */
+    public static final long DEFAULT_MILLIS = 5000;
+
+    /** Playouts of each card in the first round. */
+    public static final int FIRST_ROUND = 32;
+
+    /** Largest number of playouts of each card in one round. */
+    public static final int MAX_ROUND = 4096;
+
+    /** Largest number of playouts of one card. */
+    public static final int MAX_PLAYOUTS = 200_000;
+
+    /** Tasks of one round; a fixed number keeps the results independent of the cores. */
+    public static final int TASKS = 8;
+
+    /** Turns after which a playout is scored as unfinished. */
+    private static final int PLAYOUT_TURN_LIMIT = 400;
+
+    /** Normal quantile of a two-sided 95% interval. */
+    private static final double Z95 = 1.959964;
+
+    /**
+     * Estimates of every card of the mover's hand at one point of the analysis.
+     */
+    public static final class Analysis {
+
+        /** Seat to move. */
+        private final int seat;
+
+        /** Cards of the mover's hand. */
+        private final int[] cards;
+
+        /** Mean score of each position, or {@code NaN} for an unplayable card. */
+        private final double[] scores;
+
+        /** Playouts of each playable card behind the scores. */
+        private final int playouts;
+
+        /** Whether the analysis is over. */
+        private final boolean last;
+
+        /**
+         * Creates an analysis.
+         *
+         * @param seat     the seat to move
+         * @param cards    the cards of the mover's hand; the array is not copied
+         * @param scores   the mean score of each position; the array is not copied
+         * @param playouts the playouts of each playable card
+         * @param last     whether the analysis is over
+         */
+        private Analysis(int seat, int[] cards, double[] scores, int playouts, boolean last) {
+            this.seat = seat;
+            this.cards = cards;
+            this.scores = scores;
+            this.playouts = playouts;
+            this.last = last;
+        }
+
+        /**
+         * Returns the seat to move in the analyzed position.
+         *
+         * @return the seat, from 0
+         */
+        public int getSeat() {
+            return seat;
+        }
+
+        /**
+         * Returns the number of cards in the mover's hand.
+         *
+         * @return the size of the hand
+         */
+        public int size() {
+            return cards.length;
+        }
+
+        /**
+         * Returns a card of the mover's hand.
+         *
+         * @param index the position of the card in the hand
+         * @return the card, as encoded by {@link Rules#card(int, int)}
+         */
+        public int getCard(int index) {
+            return cards[index];
+        }
+
+        /**
+         * Returns whether a card of the hand can be played.
+         *
+         * @param index the position of the card in the hand
+         * @return {@code true} if playing it keeps the pile within the limit
+         */
+        public boolean isPlayable(int index) {
+            return !Double.isNaN(scores[index]);
+        }
+
+        /**
+         * Returns the estimated chance of winning after playing a card.
+         *
+         * @param index the position of the card in the hand
+         * @return the probability between 0 and 1, or {@code NaN} if the card
+         *         cannot be played
+         */
+        public double getWinProbability(int index) {
+            return scores[index];
+        }
+
+        /**
+         * Returns the half width of the 95% interval of a win probability.
+         *
+         * @param index the position of the card in the hand
+         * @return the margin, {@code 1} before the first playout, or {@code NaN} if
+         *         the card cannot be played
+         */
+        public double getMargin(int index) {
+            if (playouts == 0) {
+                return isPlayable(index) ? 1 : Double.NaN;
+            }
+            double p = scores[index];
+            return Z95 * Math.sqrt(p * (1 - p) / playouts);
+        }
+
+        /**
+         * Returns the playable card with the highest chance of winning.
+         *
+         * @return the position in the hand, or {@code -1} if no card is playable
+         */
+        public int getBest() {
+            int best = -1;
+            for (int i = 0; i < scores.length; i++) {
+                if (isPlayable(i) && (best < 0 || scores[i] > scores[best])) {
+                    best = i;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Returns the playouts of each playable card behind the estimates.
+         *
+         * @return the playouts per card
+         */
+        public int getPlayouts() {
+            return playouts;
+        }
+
+        /**
+         * Returns whether this is the final analysis of the position.
+         *
+         * @return {@code true} if the analysis is over
+         */
+        public boolean isFinal() {
+            return last;
+        }
+    }
+
+    /**
+     * Plays a share of the playouts of one round on the search pool.
+     */
+    private static final class Task implements Callable<Task> {
+
+        /** Copy of the analyzed position, played out and restored for every playout. */
+        private HeadlessGame game;
+
+        /** The analyzed position. */
+        private HeadlessGame root;
+
+        /** Sum of the scores of each position in this round. */
+        private final double[] value = new double[Rules.HAND_SIZE];
+
+        /** Playouts of each card in this round. */
+        private int playouts;
+
+        /** Source of the seeds of the playouts. */
+        private final FastRandom random = new FastRandom(0);
+
+        /**
+         * Prepares the task for a round.
+         *
+         * @param root     the analyzed position
+         * @param playouts the playouts of each card
+         * @param seed     the seed of the round
+         */
+        private void prepare(HeadlessGame root, int playouts, long seed) {
+            if (game == null || game.seats() != root.seats() || game.decks() != root.decks()) {
+                game = new HeadlessGame(root.seats(), root.decks());
+            }
+            this.root = root;
+            this.playouts = playouts;
+            random.seed(seed);
+        }
+
+        /**
+         * Plays every playable card in the round's playouts.
+         *
+         * @return this task
+         */
+        @Override
+        public Task call() {
+            int me = root.currentSeat();
+            for (int i = 0; i < Rules.HAND_SIZE; i++) {
+                value[i] = 0;
+            }
+            for (int k = 0; k < playouts; k++) {
+                long seed = random.nextLong();
+                for (int i = 0; i < root.handSize(me); i++) {
+                    if (root.canPlay(i)) {
+                        value[i] += playout(me, i, seed);
+                    }
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Plays a card in one deal of the hidden cards and finishes the game
+         * greedily. Every card of the hand is tried on the same deal.
+         *
+         * @param me    the seat to move
+         * @param index the position of the card in the hand
+         * @param seed  the seed of the deal
+         * @return 1 for a win, 0 for an elimination, a share of the survivors otherwise
+         */
+        private double playout(int me, int index, long seed) {
+            game.copyFrom(root);
+            game.redeal(me, seed);
+            game.play(index);
+            int turns = 0;
+            while (!game.isOver() && game.isAlive(me) && turns++ < PLAYOUT_TURN_LIMIT) {
+                game.playGreedyTurn();
+            }
+            if (!game.isAlive(me)) {
+                return 0;
+            }
+            if (game.isOver()) {
+                return game.winner() == me ? 1 : 0;
+            }
+            return 1.0 / game.aliveCount();
+        }
+    }
+
+    /** Delivers the analyses, e.g. on the JavaFX application thread. */
+    private final Executor delivery;
+
+    /** Receives the analyses on the delivery executor. */
+    private final Consumer<Analysis> listener;
+
+    /** Analysis time of one position, in nanoseconds. */
+    private final long analysisNanos;
+
+    /** Seed of the playouts. */
+    private final long seed;
+
+    /** Single coordinator with room for one waiting analysis. */
+    private final ThreadPoolExecutor worker;
+
+    /** Tasks of a round, reused from one round to the next. */
+    private final Task[] tasks = new Task[TASKS];
+
+    /** Sum of the scores of each position. */
+    private final double[] value = new double[Rules.HAND_SIZE];
+
+    /** Incremented by every start and cancellation; an analysis only posts for its own. */
+    private volatile int generation;
+
+    /** Analysis of the current generation, or {@code null}. */
+    private Future<?> task;
+
+    /**
+     * Creates an analyzer with the default analysis time.
+     *
+     * @param delivery the executor that delivers the analyses
+     * @param listener receives the analyses on the delivery executor
+     */
+    public PositionAnalyzer(Executor delivery, Consumer<Analysis> listener) {
+        this(delivery, listener, DEFAULT_MILLIS, System.nanoTime());
+    }
+
+    /**
+     * Creates an analyzer.
+     *
+     * @param delivery the executor that delivers the analyses
+     * @param listener receives the analyses on the delivery executor
+     * @param millis   the analysis time of one position, in milliseconds
+     * @param seed     the seed of the playouts
+     */
+    public PositionAnalyzer(Executor delivery, Consumer<Analysis> listener, long millis, long seed) {
+        this.delivery = delivery;
+        this.listener = listener;
+        this.analysisNanos = millis * 1_000_000L;
+        this.seed = seed;
+        this.worker = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "50zo-analysis");
+                    thread.setPriority(Thread.NORM_PRIORITY - 1);
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardOldestPolicy());
+    }
+
+    /**
+     * Cancels the current analysis and starts analyzing a position.
+     *
+     * @param position the position, with the seat to move still to play; it is copied
+     * @throws IllegalArgumentException if the position is not running
+     */
+    public synchronized void start(HeadlessGame position) {
+        if (position.isOver()) {
+            throw new IllegalArgumentException("Cannot analyze a finished game");
+        }
+        cancel();
+        HeadlessGame copy = new HeadlessGame(position.seats(), position.decks());
+        copy.copyFrom(position);
+        int mine = generation;
+        task = worker.submit(() -> analyze(copy, mine));
+    }
+
+    /**
+     * Cancels the current analysis and voids every analysis not delivered yet.
+     * The coordinator stops at the end of its current round.
+     */
+    public synchronized void cancel() {
+        generation++;
+        if (task != null) {
+            task.cancel(false);
+            task = null;
+        }
+    }
+
+    /**
+     * Stops the coordinator thread for good and waits for it to end.
+     *
+     * @return {@code true} if the coordinator ended within a second
+     */
+    public boolean shutdown() {
+        cancel();
+        worker.shutdown();
+        try {
+            return worker.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Waits until the current analysis has ended.
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    void await() throws InterruptedException {
+        Future<?> current;
+        synchronized (this) {
+            current = task;
+        }
+        if (current == null) {
+            return;
+        }
+        try {
+            current.get();
+        } catch (ExecutionException | CancellationException e) {
+            // A failed or dropped analysis has nothing more to wait for
+        }
+    }
+
+    /**
+     * Runs one analysis; called on the coordinator thread.
+     *
+     * @param root the analyzed position
+     * @param mine the generation of the analysis
+     */
+    private void analyze(HeadlessGame root, int mine) {
+        long deadline = System.nanoTime() + analysisNanos;
+        int me = root.currentSeat();
+        int size = root.handSize(me);
+        int playable = 0;
+        for (int i = 0; i < size; i++) {
+            value[i] = 0;
+            if (root.canPlay(i)) {
+                playable++;
+            }
+        }
+        if (playable == 0) {
+            post(root, mine, 0, true);
+            return;
+        }
+
+        int playouts = 0;
+        int round = FIRST_ROUND;
+        long roundSeed = seed ^ root.hash();
+        while (generation == mine && playouts < MAX_PLAYOUTS && System.nanoTime() - deadline < 0) {
+            round = Math.min(round, MAX_PLAYOUTS - playouts);
+            List<Callable<Task>> batch = new ArrayList<>(TASKS);
+            for (int t = 0; t < TASKS; t++) {
+                if (tasks[t] == null) {
+                    tasks[t] = new Task();
+                }
+                tasks[t].prepare(root, round / TASKS + (t < round % TASKS ? 1 : 0),
+                        FastRandom.mix(roundSeed + (long) playouts * TASKS + t));
+                batch.add(tasks[t]);
+            }
+            try {
+                for (Future<Task> future : SearchPool.get().invokeAll(batch)) {
+                    Task done = future.get();
+                    for (int i = 0; i < size; i++) {
+                        value[i] += done.value[i];
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Analysis task failed", e.getCause());
+            }
+            playouts += round;
+            boolean last = playouts >= MAX_PLAYOUTS || System.nanoTime() - deadline >= 0;
+            post(root, mine, playouts, last);
+            round = Math.min(round * 2, MAX_ROUND);
+        }
+    }
+
+    /**
+     * Posts the current estimates, unless the analysis was cancelled. The
+     * analysis is checked again on delivery, so a cancellation in between voids it.
+     *
+     * @param root     the analyzed position
+     * @param mine     the generation of the analysis
+     * @param playouts the playouts of each playable card
+     * @param last     whether the analysis is over
+     */
+    private void post(HeadlessGame root, int mine, int playouts, boolean last) {
+        if (generation != mine) {
+            return;
+        }
+        int me = root.currentSeat();
+        int size = root.handSize(me);
+        int[] cards = new int[size];
+        double[] scores = new double[size];
+        for (int i = 0; i < size; i++) {
+            cards[i] = root.handCard(me, i);
+            scores[i] = !root.canPlay(i) ? Double.NaN : playouts == 0 ? 0 : value[i] / playouts;
+        }
+        Analysis analysis = new Analysis(me, cards, scores, playouts, last);
+        delivery.execute(() -> {
+            if (generation == mine) {
+                listener.accept(analysis);
+            }
+        });
+    }
+}
@@ -0,0 +1,55 @@
+package Model.Bots;
+
+import java.util.SplittableRandom;
+
+/**
+ * Plays a playable card chosen uniformly at random.
+ * <p>
+ * It is the baseline every other strategy is measured against. With a seed, a
+ * sequence of decisions is reproducible.
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class RandomStrategy implements BotStrategy {
+
+    /** Source of the random choices. */
+    private final SplittableRandom random;
+
+    /**
+     * Creates a random strategy with an unpredictable seed.
+     */
+    public RandomStrategy() {
+        this(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Creates a random strategy with the given seed.
+     *
+     * @param seed the seed of the choices
+     */
+    public RandomStrategy(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Chooses a playable card uniformly at random.
+     *
+     * @param view   what the deciding player knows about the table
+     * @param budget the compute budget of this decision; one node per card evaluated
+     * @return the position of the chosen card, or {@code -1} if none is playable
+     */
+    @Override
+    public int decide(DecisionView view, DecisionBudget budget) {
+        int chosen = -1;
+        int playable = 0;
+        for (int i = 0; i < view.getHandSize(); i++) {
+            budget.visit();
+            if (view.isPlayable(i) && random.nextInt(++playable) == 0) {
+                chosen = i;
+            }
+        }
+        return chosen;
+    }
+}
@@ -0,0 +1,62 @@
+package Model.Bots;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * Work-stealing pool shared by every searching bot.
+ * <p>
+ * Search strategies split a decision into tasks and run them here instead of
+ * creating threads per decision. The pool keeps one core free for the JavaFX
+ * application thread and the player threads, and its workers are daemon
+ * threads named {@code 50zo-search-N} so they show up clearly in a thread dump
+ * and never keep the application alive.
+ * </p>
+ *
+ * <p>This class follows the Singleton pattern using the Initialization-on-demand
+ * holder idiom.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public final class SearchPool {
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private SearchPool() {
+    }
+
+    /**
+     * Holder class that lazily creates the pool on first use.
+     */
+    private static class Holder {
+        private static final ForkJoinPool INSTANCE = new ForkJoinPool(
+                Math.max(1, Runtime.getRuntime().availableProcessors() - 1),
+                pool -> {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName("50zo-search-" + thread.getPoolIndex());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                null, false);
+    }
+
+    /**
+     * Returns the shared search pool.
+     *
+     * @return the pool
+     */
+    public static ForkJoinPool get() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Returns the number of workers of the shared pool.
+     *
+     * @return the parallelism of the pool
+     */
+    public static int parallelism() {
+        return get().getParallelism();
+    }
+}
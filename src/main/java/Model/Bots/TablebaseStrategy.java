@@ -0,0 +1,73 @@
+package Model.Bots;
+
+/**
+ * Plays heads-up endgames from the {@link EndgameTablebase} and everything else
+ * with another strategy.
+ * <p>
+ * Once only two seats are left and the hand is full, the best card is one lookup
+ * in the memory-mapped table. Without a table, or on any other position, the
+ * decision goes to the fallback strategy, so this strategy can wrap any bot.
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class TablebaseStrategy implements BotStrategy {
+
+    /** Table of heads-up endgames, or {@code null}. */
+    private final EndgameTablebase tablebase;
+
+    /** Strategy used outside the table. */
+    private final BotStrategy fallback;
+
+    /**
+     * Creates a strategy that uses the shared tablebase, if one is available.
+     *
+     * @param fallback the strategy used outside the table
+     */
+    public TablebaseStrategy(BotStrategy fallback) {
+        this(EndgameTablebase.shared(), fallback);
+    }
+
+    /**
+     * Creates a strategy over a given tablebase.
+     *
+     * @param tablebase the table of heads-up endgames, or {@code null} for none
+     * @param fallback  the strategy used outside the table
+     */
+    public TablebaseStrategy(EndgameTablebase tablebase, BotStrategy fallback) {
+        this.tablebase = tablebase;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Plays a card of the best class stored for the position, or asks the fallback.
+     *
+     * @param view   what the deciding player knows about the table
+     * @param budget the compute budget of this decision; one node per lookup
+     * @return the position of the chosen card, or {@code -1} if none is playable
+     */
+    @Override
+    public int decide(DecisionView view, DecisionBudget budget) {
+        if (tablebase != null && EndgameTablebase.covers(view)) {
+            budget.visit();
+            int best = tablebase.bestClass(view.getPileValue(), EndgameTablebase.handIndex(view));
+            for (int i = 0; i < view.getHandSize(); i++) {
+                if (EndgameTablebase.classOf(view.getHandRank(i)) == best && view.isPlayable(i)) {
+                    return i;
+                }
+            }
+        }
+        return fallback.decide(view, budget);
+    }
+
+    /**
+     * Returns the name of the strategy and of its fallback.
+     *
+     * @return the name for logs and tournament tables
+     */
+    @Override
+    public String name() {
+        return "Tablebase+" + fallback.name();
+    }
+}
@@ -0,0 +1,178 @@
+package Model.Bots;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size, lock-free cache of searched positions.
+ * <p>
+ * Positions are identified by a 64-bit key computed from a canonical state, such
+ * as the rank counts used by {@link ExpectimaxStrategy}. Each entry stores the
+ * value found for the position, the depth it was searched to and the best rank to
+ * play, packed in one {@code long}:
+ * </p>
+ * <pre>
+ * bits  0-31  value (float bits)
+ * bits 32-39  searched depth
+ * bits 40-47  best rank + 1 (0 when unknown)
+ * bits 48-55  generation of the search that stored it
+ * </pre>
+ *
+ * <p>The table uses open addressing with buckets of two entries. The first entry
+ * keeps the deepest result and is replaced only by a result at least as deep or
+ * by any result once it is from an older search; the second entry always takes the
+ * newest result. Entries are written as the pair {@code (key ^ data, data)} without
+ * locks, so a reader that sees a half-written entry simply misses instead of
+ * reading a wrong value. The table can therefore be shared by any number of
+ * searching threads.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class TranspositionTable {
+
+    /** Value returned by {@link #probe(long)} when the key is not in the table. */
+    public static final long MISS = 0L;
+
+    /** Two longs per entry, two entries per bucket. */
+    private static final int LONGS_PER_BUCKET = 4;
+
+    /** Check words and data words, interleaved. */
+    private final AtomicLongArray slots;
+
+    /** Mask selecting a bucket from a key. */
+    private final int bucketMask;
+
+    /** Generation of the current search, used to age out old entries. */
+    private volatile int generation = 1;
+
+    /**
+     * Creates a table with {@code 2^log2Buckets} buckets of two entries.
+     *
+     * @param log2Buckets the base-2 logarithm of the number of buckets, between 1 and 24
+     * @throws IllegalArgumentException if the size is out of range
+     */
+    public TranspositionTable(int log2Buckets) {
+        if (log2Buckets < 1 || log2Buckets > 24) {
+            throw new IllegalArgumentException("Table size out of range: 2^" + log2Buckets);
+        }
+        this.bucketMask = (1 << log2Buckets) - 1;
+        this.slots = new AtomicLongArray((bucketMask + 1) * LONGS_PER_BUCKET);
+    }
+
+    /**
+     * Starts a new search; entries of older searches become the first to be replaced.
+     */
+    public void newSearch() {
+        generation = (generation & 0xFF) == 0xFF ? 1 : generation + 1;
+    }
+
+    /**
+     * Looks a position up.
+     *
+     * @param key the key of the position
+     * @return the packed entry, or {@link #MISS} if the position is not stored
+     */
+    public long probe(long key) {
+        int base = bucket(key);
+        for (int i = base; i < base + LONGS_PER_BUCKET; i += 2) {
+            long data = slots.get(i + 1);
+            if (data != MISS && (slots.get(i) ^ data) == key) {
+                return data;
+            }
+        }
+        return MISS;
+    }
+
+    /**
+     * Stores the result of a search.
+     *
+     * @param key   the key of the position
+     * @param depth the depth the position was searched to
+     * @param value the value found
+     * @param rank  the best rank to play, or {@code -1} if none
+     */
+    public void store(long key, int depth, double value, int rank) {
+        int gen = generation;
+        long data = (Float.floatToRawIntBits((float) value) & 0xFFFFFFFFL)
+                | ((long) Math.min(depth, 0xFF) << 32)
+                | ((long) (rank + 1) << 40)
+                | ((long) gen << 48);
+        int base = bucket(key);
+        long deepest = slots.get(base + 1);
+        int slot = deepest == MISS
+                || (slots.get(base) ^ deepest) == key
+                || depth >= depthOf(deepest)
+                || generationOf(deepest) != gen ? base : base + 2;
+        slots.set(slot + 1, MISS);
+        slots.set(slot, key ^ data);
+        slots.set(slot + 1, data);
+    }
+
+    /**
+     * Empties the table.
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, MISS);
+        }
+    }
+
+    /**
+     * Returns the number of entries the table can hold.
+     *
+     * @return the capacity in entries
+     */
+    public int capacity() {
+        return slots.length() / 2;
+    }
+
+    /**
+     * Returns the value of a packed entry.
+     *
+     * @param data a packed entry returned by {@link #probe(long)}
+     * @return the stored value
+     */
+    public static double valueOf(long data) {
+        return Float.intBitsToFloat((int) data);
+    }
+
+    /**
+     * Returns the searched depth of a packed entry.
+     *
+     * @param data a packed entry returned by {@link #probe(long)}
+     * @return the stored depth
+     */
+    public static int depthOf(long data) {
+        return (int) (data >>> 32) & 0xFF;
+    }
+
+    /**
+     * Returns the best rank of a packed entry.
+     *
+     * @param data a packed entry returned by {@link #probe(long)}
+     * @return the stored rank, or {@code -1} if none
+     */
+    public static int rankOf(long data) {
+        return ((int) (data >>> 40) & 0xFF) - 1;
+    }
+
+    /**
+     * Returns the generation of a packed entry.
+     *
+     * @param data a packed entry
+     * @return the generation of the search that stored it
+     */
+    private static int generationOf(long data) {
+        return (int) (data >>> 48) & 0xFF;
+    }
+
+    /**
+     * Returns the index of the first long of a key's bucket.
+     *
+     * @param key the key of a position
+     * @return the index in {@link #slots}
+     */
+    private int bucket(long key) {
+        return (int) ((key ^ (key >>> 32)) & bucketMask) * LONGS_PER_BUCKET;
+    }
+}
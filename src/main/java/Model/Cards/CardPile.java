@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Represents a pile of cards with an accumulated value in the game.
@@ -39,6 +40,13 @@ public class CardPile {
      */
     int valuePile;
 
+    /**
+     * Observers notified of every card played and every card recycled into the deck.
+     * Registration is rare and events are frequent, so a copy-on-write list lets
+     * every thread notify without locking.
+     */
+    private final List<ICardObserver> observers = new CopyOnWriteArrayList<>();
+
     /**
      * Constructs a new CardPile initialized with one card drawn from the specified deck.
      * The initial pile value is set to the value of this first card.
@@ -72,6 +80,10 @@ public class CardPile {
         if (card.getValue() == 10 && valuePile > 50) {
             valuePile -= 9;
         }
+
+        for (ICardObserver observer : observers) {
+            observer.onCardPlayed(card);
+        }
     }
 
     /**
@@ -98,10 +110,42 @@ public class CardPile {
             for (int i = 0; i < size - 1; i++) {
                 backCards.add(cardPile.poll());
             }
+            for (ICardObserver observer : observers) {
+                observer.onPileRecycled(backCards);
+            }
         }
         return backCards;
     }
 
+    /**
+     * Registers an observer of the cards played on and recycled from this pile.
+     *
+     * @param observer the observer to notify
+     */
+    public void addObserver(ICardObserver observer) {
+        observers.add(observer);
+    }
+
+    /**
+     * Unregisters an observer added with {@link #addObserver(ICardObserver)}.
+     *
+     * @param observer the observer to remove
+     */
+    public void removeObserver(ICardObserver observer) {
+        observers.remove(observer);
+    }
+
+    /**
+     * Returns a copy of every card in the pile, from the bottom to the top.
+     * The pile itself is not modified. Callers racing with {@link RechargeDeck}
+     * must hold the deck's monitor, which is the one the recharge thread uses.
+     *
+     * @return the cards of the pile, the top card last
+     */
+    public List<Card> getCards() {
+        return new ArrayList<>(cardPile);
+    }
+
     /**
      * Returns the top card of the pile (most recently played card) without removing it.
      * The top card is the last card that was added to the pile and represents
@@ -1,10 +1,11 @@
 package Model.Cards;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
- * Represents a standard deck of 52 playing cards.
- * This class manages a complete deck containing all combinations of 13 symbols
+ * Represents a shoe of one or more standard decks of 52 playing cards.
+ * This class manages complete decks containing all combinations of 13 symbols
  * and 4 suits. The deck is implemented as a Deque (double-ended queue) to
  * efficiently support drawing cards from the top and adding cards back.
  *
@@ -18,7 +19,8 @@ import java.util.*;
  *
  *
  * Upon creation, the deck is automatically initialized with all 52 cards
- * and shuffled randomly to ensure fair play.
+ * of every standard deck in the shoe and shuffled randomly to ensure fair play.
+ * Tables with more than four players use several decks, see {@link #decksFor(int)}.
  *
  *
  * @author Juan-David-Brandon
@@ -45,19 +47,68 @@ public class Deck {
      */
     private final List<String> suits = List.of("clubs", "diamonds", "hearts", "spades");
 
+    /**
+     * Number of players that share one standard deck.
+     */
+    public static final int PLAYERS_PER_DECK = 4;
+
+    /**
+     * Number of standard decks shuffled together in this shoe.
+     */
+    private final int decks;
+
+    /**
+     * Source of the cards drawn from an empty deck, or {@code null}.
+     */
+    private volatile Supplier<List<Card>> refill;
+
     /**
      * Constructs a new Deck containing all 52 standard playing cards.
      * The deck is automatically initialized with one card for each combination
      * of symbol and suit, then shuffled randomly to ensure unpredictability.
      */
     public Deck() {
-        deck = new ArrayDeque<>();
+        this(1);
+    }
+
+    /**
+     * Constructs a shoe made of several standard decks shuffled together.
+     *
+     * @param decks the number of standard decks in the shoe
+     * @throws IllegalArgumentException if {@code decks} is less than 1
+     */
+    public Deck(int decks) {
+        if (decks < 1) {
+            throw new IllegalArgumentException("A shoe needs at least one deck: " + decks);
+        }
+        this.decks = decks;
+        deck = new ArrayDeque<>(decks * 52);
         initializeDeck();
     }
 
     /**
-     * Initializes the deck with all 52 cards and shuffles them randomly.
-     * Creates one card for each combination of the 13 symbols and 4 suits,
+     * Returns the number of standard decks needed for a table, one deck for
+     * every {@value #PLAYERS_PER_DECK} players.
+     *
+     * @param players the number of players at the table
+     * @return the number of decks of the shoe
+     */
+    public static int decksFor(int players) {
+        return Math.max(1, (players + PLAYERS_PER_DECK - 1) / PLAYERS_PER_DECK);
+    }
+
+    /**
+     * Returns the number of standard decks in this shoe.
+     *
+     * @return the number of decks
+     */
+    public int getDecks() {
+        return decks;
+    }
+
+    /**
+     * Initializes the deck with all 52 cards of every standard deck and shuffles them randomly.
+     * Creates one card per deck for each combination of the 13 symbols and 4 suits,
      * assigns the appropriate image file path to each card based on its
      * symbol and suit, then shuffles them using a secure random algorithm
      * before adding them to the deck.
@@ -68,11 +119,13 @@ public class Deck {
     private void initializeDeck() {
         List<Card> tempList = new ArrayList<>();
 
-        for (String symbol : symbols) {
-            for (String suit : suits) {
-                String fileName = String.format("/deck/%s_of_%s.png", symbol, suit);
-                Card card = new Card(symbol, fileName);
-                tempList.add(card);
+        for (int d = 0; d < decks; d++) {
+            for (String symbol : symbols) {
+                for (String suit : suits) {
+                    String fileName = String.format("/deck/%s_of_%s.png", symbol, suit);
+                    Card card = new Card(symbol, fileName);
+                    tempList.add(card);
+                }
             }
         }
         Collections.shuffle(tempList);
@@ -93,13 +146,32 @@ public class Deck {
 
     /**
      * Removes and returns the top card from the deck.
-     * This operation reduces the deck size by one.
+     * This operation reduces the deck size by one. If the deck is empty and a
+     * refill source was set, the deck is first made again from the cards it
+     * supplies, under the deck's monitor.
      *
      * @return the card from the top of the deck
      * @throws NoSuchElementException if the deck is empty and no card can be drawn
      */
     public Card getCard() {
-        return deck.pop();
+        synchronized (this) {
+            Supplier<List<Card>> source = refill;
+            if (deck.isEmpty() && source != null) {
+                makeNewDeck(source.get());
+            }
+            return deck.pop();
+        }
+    }
+
+    /**
+     * Sets where the cards come from when a card is drawn from an empty deck.
+     * {@link RechargeDeck} refills the deck in the background, but it only looks
+     * twice a second; with fast players the deck can run dry in between.
+     *
+     * @param refill supplies the cards of the new deck, or {@code null} for none
+     */
+    public void setRefill(Supplier<List<Card>> refill) {
+        this.refill = refill;
     }
 
     /**
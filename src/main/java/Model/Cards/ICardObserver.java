@@ -0,0 +1,33 @@
+package Model.Cards;
+
+import java.util.List;
+
+/**
+ * The {@code ICardObserver} interface receives the public card events of a
+ * {@link CardPile}: the cards every player sees being played and the cards that
+ * leave the pile to refill the deck.
+ *
+ * Events are delivered on the thread that changes the pile (a player thread, the
+ * JavaFX application thread or the {@link RechargeDeck} thread), so implementations
+ * must be thread-safe and return quickly.
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public interface ICardObserver {
+
+    /**
+     * Called after a card is placed on the pile, face up.
+     *
+     * @param card the card played
+     */
+    void onCardPlayed(Card card);
+
+    /**
+     * Called after cards are taken from under the top of the pile to refill the
+     * deck; they are face down again.
+     *
+     * @param cards the cards moved back into the deck
+     */
+    void onPileRecycled(List<Card> cards);
+}
@@ -40,7 +40,9 @@ public class RechargeDeck extends Thread {
     /**
      * Constructs a new RechargeDeck thread with the specified deck and card pile.
      * The thread must be started explicitly using {@link #start()} to begin
-     * monitoring and recharging operations.
+     * monitoring and recharging operations. The pile is also set as the
+     * {@link Deck#setRefill refill} of the deck, so a draw from a deck that ran
+     * dry between two checks recharges it at once.
      *
      * @param deck the deck to monitor and recharge when empty
      * @param cardPile the pile from which to retrieve cards for recharging
@@ -48,6 +50,7 @@ public class RechargeDeck extends Thread {
     public RechargeDeck(Deck deck, CardPile cardPile) {
         this.deck = deck;
         this.cardPile = cardPile;
+        deck.setRefill(cardPile::getBackCards);
     }
 
     /**
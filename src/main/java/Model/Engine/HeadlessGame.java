@@ -0,0 +1,1021 @@
+package Model.Engine;
+
+import java.util.Arrays;
+
+/**
+ * A complete game of 50zo played without threads, locks or JavaFX.
+ * <p>
+ * The whole state lives in primitive arrays, with cards encoded as described in
+ * {@link Rules}. A table runs from {@link #reset(long)} to {@link #isOver()} by
+ * calling {@link #eliminateIfStuck()} and then {@link #play(int)} on every turn, and
+ * can then be reset for the next game without allocating. The same seed always
+ * produces the same deal and the same reshuffles, which makes games reproducible.
+ * </p>
+ *
+ * <p>The rules match the graphical game: every seat receives four cards after the
+ * first card of the pile is turned, seat 0 starts, a player without a playable card
+ * is eliminated and their hand goes to the bottom of the deck, and the pile (except
+ * its top card) is shuffled back into the deck when a player needs to draw from an
+ * empty deck. A game that reaches {@link #MAX_TURNS} turns ends without a winner.</p>
+ *
+ * <p>Every position has a canonical identity that ignores suits, which never change
+ * what a card does, and the order of cards within a hand, the pile and the deck:
+ * {@link #publicCode()}, {@link #pileCode()} and {@link #handCode(int)} pack it into
+ * {@code long}s, and {@link #hash()} is its Zobrist hash (see {@link Zobrist}). Both
+ * are maintained by every draw, play, recharge and elimination, so reading them
+ * never walks the cards. The order of the deck is left out on purpose: it is hidden
+ * from every player and reshuffled on each recharge. The rank counts are packed
+ * with {@link #handUnit(int)} and {@link #pileUnit(int)}, which the decision cache
+ * and the expectimax transposition table use for their keys as well.</p>
+ *
+ * <p>Searches that explore many moves from one position use {@link #makeMove(int)}
+ * and {@link #unmakeMove()} instead of copying the table for every node: each move
+ * pushes an undo record of primitives (the hash, the random state, the move, the
+ * card drawn and, after a recharge, the cards of the old pile), and undoing it
+ * restores the table exactly, shuffles included. The undo stack grows as needed
+ * and is then reused, so a search allocates nothing once it has reached its depth.</p>
+ *
+ * <p>An instance is not thread-safe; each table must be driven by a single thread.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class HeadlessGame {
+
+    /** Largest number of seats a table can have. */
+    public static final int MAX_SEATS = 10;
+
+    /**
+     * Largest number of standard decks in the shoe, enough to deal {@link #MAX_SEATS}
+     * seats; no rank then has more copies than a {@link #pileCode()} field holds.
+     */
+    public static final int MAX_DECKS = 3;
+
+    /** Bits of each rank count in a hand code. */
+    private static final int HAND_BITS = 3;
+
+    /** Bits of each rank count in a pile code. */
+    private static final int PILE_BITS = 4;
+
+    /** Move of {@link #makeMove(int)} that eliminates a seat without a playable card. */
+    public static final int ELIMINATE = -1;
+
+    /** Longs per undo record: the hash, the random state and the packed move. */
+    private static final int UNDO_STRIDE = 3;
+
+    /** Number of turns after which a game is stopped without a winner. */
+    public static final int MAX_TURNS = 10_000;
+
+    /** Number of seats at the table. */
+    private final int seats;
+
+    /** Number of standard decks shuffled together into the shoe. */
+    private final int decks;
+
+    /** Cards of the deck; the top of the deck is at {@code deckSize - 1}. */
+    private final int[] deck;
+
+    /** Number of cards in the deck. */
+    private int deckSize;
+
+    /** Cards of the pile; the top card is at {@code pileSize - 1}. */
+    private final int[] pile;
+
+    /** Number of cards in the pile. */
+    private int pileSize;
+
+    /** Current value of the pile. */
+    private int pileValue;
+
+    /** Hands of every seat, {@link Rules#HAND_SIZE} slots per seat. */
+    private final int[] hands;
+
+    /** Number of cards held by each seat. */
+    private final int[] handSizes;
+
+    /** Rank counts of each seat's hand, three bits per rank (see {@link #handCode(int)}). */
+    private final long[] handCodes;
+
+    /** Number of copies of each rank in the pile. */
+    private final int[] pileCounts = new int[Rules.RANKS];
+
+    /** Rank counts of the pile, four bits per rank (see {@link #pileCode()}). */
+    private long pileCode;
+
+    /** Zobrist hash of the position, updated by every move. */
+    private long hash;
+
+    /** Bit {@code i} is set while seat {@code i} is still in the game. */
+    private int aliveMask;
+
+    /** Number of seats still in the game. */
+    private int aliveCount;
+
+    /** Seat whose turn it is. */
+    private int current;
+
+    /** Number of turns played since the last reset. */
+    private int turns;
+
+    /** Winning seat, or {@code -1} while the game runs or if it ended without a winner. */
+    private int winner;
+
+    /** Whether the game has ended. */
+    private boolean over;
+
+    /** Random source of the shuffles; reseeded, never reallocated. */
+    private final FastRandom random = new FastRandom(0);
+
+    /** Whether the table holds a game, i.e. it has been reset or loaded at least once. */
+    private boolean started;
+
+    /** Undo records of the moves made with {@link #makeMove(int)}, {@value #UNDO_STRIDE} longs each. */
+    private long[] undo = new long[UNDO_STRIDE * 64];
+
+    /** Number of moves that can be undone. */
+    private int undoDepth;
+
+    /** Cards of the piles moved to the deck by recharges, oldest first. */
+    private int[] savedPiles;
+
+    /** Number of cards in {@link #savedPiles}. */
+    private int savedPileSize;
+
+    /**
+     * Creates a table with one standard deck. The table must be {@link #reset(long) reset}
+     * before it is played.
+     *
+     * @param seats the number of seats, between 2 and {@link #MAX_SEATS}
+     * @throws IllegalArgumentException if the number of seats is out of range
+     */
+    public HeadlessGame(int seats) {
+        this(seats, 1);
+    }
+
+    /**
+     * Creates a table whose shoe holds the given number of standard decks.
+     * The table must be {@link #reset(long) reset} before it is played.
+     *
+     * @param seats the number of seats, between 2 and {@link #MAX_SEATS}
+     * @param decks the number of standard decks in the shoe, at most {@link #MAX_DECKS}
+     * @throws IllegalArgumentException if the seats are out of range or the shoe cannot deal them
+     */
+    public HeadlessGame(int seats, int decks) {
+        if (seats < 2 || seats > MAX_SEATS) {
+            throw new IllegalArgumentException("Invalid number of seats: " + seats);
+        }
+        if (decks < 1 || decks > MAX_DECKS || seats * Rules.HAND_SIZE + 1 > decks * Rules.DECK_SIZE) {
+            throw new IllegalArgumentException("Not enough cards for " + seats + " seats: " + decks + " deck(s)");
+        }
+        this.seats = seats;
+        this.decks = decks;
+        int cards = decks * Rules.DECK_SIZE;
+        this.deck = new int[cards];
+        this.pile = new int[cards];
+        this.hands = new int[seats * Rules.HAND_SIZE];
+        this.handSizes = new int[seats];
+        this.handCodes = new long[seats];
+        this.savedPiles = new int[cards];
+    }
+
+    /**
+     * Starts a new game: shuffles the shoe, turns the first card of the pile and
+     * deals four cards to every seat.
+     *
+     * @param seed the seed of the shuffles; equal seeds give equal games
+     */
+    public void reset(long seed) {
+        reset(seed, false);
+    }
+
+    /**
+     * Starts a new game whose shuffles, reshuffles included, are drawn from a
+     * seed or from its antithetic twin (see {@link FastRandom}). The twin draws
+     * every swap of its shuffles from the opposite end of the range, so it deals
+     * a different game that is still fixed by the seed.
+     *
+     * @param seed       the seed of the shuffles; equal seeds give equal games
+     * @param antithetic whether to play the antithetic twin of the seed
+     */
+    public void reset(long seed, boolean antithetic) {
+        random.seed(seed, antithetic);
+        started = true;
+        deckSize = 0;
+        for (int d = 0; d < decks; d++) {
+            for (int card = 0; card < Rules.DECK_SIZE; card++) {
+                deck[deckSize++] = card;
+            }
+        }
+        shuffle(deck, deckSize);
+
+        pileSize = 0;
+        int first = deck[--deckSize];
+        pile[pileSize++] = first;
+        pileValue = Rules.value(Rules.rankOf(first));
+
+        for (int seat = 0; seat < seats; seat++) {
+            handSizes[seat] = 0;
+            handCodes[seat] = 0;
+            for (int i = 0; i < Rules.HAND_SIZE; i++) {
+                draw(seat);
+            }
+        }
+        aliveMask = (1 << seats) - 1;
+        aliveCount = seats;
+        current = 0;
+        turns = 0;
+        winner = -1;
+        over = false;
+        rehash();
+        clearUndo();
+    }
+
+    /**
+     * Loads an arbitrary position, typically one possible layout of the cards a
+     * player cannot see. The arrays are copied; the game continues from the given
+     * seat with a fresh turn count and a random source seeded with {@code seed}.
+     * The caller is responsible for the cards adding up to the shoe.
+     *
+     * @param pileValue the value of the pile
+     * @param pileCards the cards of the pile, the top card last
+     * @param pileSize  the number of cards of the pile
+     * @param deckCards the cards of the deck, the top card last
+     * @param deckSize  the number of cards of the deck
+     * @param hands     the hands, {@link Rules#HAND_SIZE} slots per seat
+     * @param sizes     the number of cards held by each seat
+     * @param aliveMask the seats still in the game
+     * @param current   the seat whose turn it is; must be alive
+     * @param seed      the seed of the following shuffles and random turns
+     */
+    public void setState(int pileValue, int[] pileCards, int pileSize, int[] deckCards, int deckSize,
+                         int[] hands, int[] sizes, int aliveMask, int current, long seed) {
+        this.pileValue = pileValue;
+        System.arraycopy(pileCards, 0, pile, 0, pileSize);
+        this.pileSize = pileSize;
+        System.arraycopy(deckCards, 0, deck, 0, deckSize);
+        this.deckSize = deckSize;
+        System.arraycopy(hands, 0, this.hands, 0, seats * Rules.HAND_SIZE);
+        System.arraycopy(sizes, 0, handSizes, 0, seats);
+        this.aliveMask = aliveMask;
+        this.aliveCount = Integer.bitCount(aliveMask);
+        this.current = current;
+        this.turns = 0;
+        this.winner = -1;
+        this.over = aliveCount <= 1;
+        if (over) {
+            winner = Integer.numberOfTrailingZeros(aliveMask);
+        }
+        random.seed(seed);
+        started = true;
+        rehash();
+        clearUndo();
+    }
+
+    /**
+     * Makes this table an exact copy of another one, random source included, so
+     * both continue with the same shuffles. Nothing is allocated, which lets a
+     * search branch a position once per move without creating tables. The undo
+     * stack is not copied: the copy starts with no move to undo.
+     *
+     * @param other a table with the same number of seats and decks
+     * @throws IllegalArgumentException if the tables have different sizes
+     */
+    public void copyFrom(HeadlessGame other) {
+        if (other.seats != seats || other.decks != decks) {
+            throw new IllegalArgumentException("Cannot copy a table of another size");
+        }
+        System.arraycopy(other.deck, 0, deck, 0, other.deckSize);
+        deckSize = other.deckSize;
+        System.arraycopy(other.pile, 0, pile, 0, other.pileSize);
+        pileSize = other.pileSize;
+        pileValue = other.pileValue;
+        System.arraycopy(other.hands, 0, hands, 0, hands.length);
+        System.arraycopy(other.handSizes, 0, handSizes, 0, seats);
+        System.arraycopy(other.handCodes, 0, handCodes, 0, seats);
+        System.arraycopy(other.pileCounts, 0, pileCounts, 0, Rules.RANKS);
+        pileCode = other.pileCode;
+        hash = other.hash;
+        aliveMask = other.aliveMask;
+        aliveCount = other.aliveCount;
+        current = other.current;
+        turns = other.turns;
+        winner = other.winner;
+        over = other.over;
+        random.copyFrom(other.random);
+        started = other.started;
+        clearUndo();
+    }
+
+    /**
+     * Reseeds the shuffles of this table and deals again every card a seat cannot
+     * see: the hands of the other seats still in the game and the deck are pooled,
+     * shuffled, and dealt back with the same hand sizes. The seat's own hand and
+     * the pile are kept, so the result is another table consistent with what that
+     * seat knows. Nothing is allocated. The undo stack is cleared.
+     *
+     * @param viewer the seat whose hand stays known
+     * @param seed   the new seed of the shuffles
+     */
+    public void redeal(int viewer, long seed) {
+        random.seed(seed);
+        int pooled = deckSize;
+        for (int seat = 0; seat < seats; seat++) {
+            if (seat != viewer && isAlive(seat)) {
+                System.arraycopy(hands, seat * Rules.HAND_SIZE, deck, pooled, handSizes[seat]);
+                pooled += handSizes[seat];
+            }
+        }
+        shuffle(deck, pooled);
+        for (int seat = 0; seat < seats; seat++) {
+            if (seat != viewer && isAlive(seat)) {
+                pooled -= handSizes[seat];
+                System.arraycopy(deck, pooled, hands, seat * Rules.HAND_SIZE, handSizes[seat]);
+            }
+        }
+        deckSize = pooled;
+        rehash();
+        clearUndo();
+    }
+
+    /**
+     * Eliminates the current seat if none of its cards can be played, returning its
+     * hand to the bottom of the deck and passing the turn.
+     *
+     * @return {@code true} if the seat was eliminated, {@code false} if it can play
+     * @throws IllegalStateException if the game is over
+     */
+    public boolean eliminateIfStuck() {
+        checkRunning();
+        if (hasPlayableCard()) {
+            return false;
+        }
+        int base = current * Rules.HAND_SIZE;
+        int count = handSizes[current];
+        System.arraycopy(deck, 0, deck, count, deckSize);
+        System.arraycopy(hands, base, deck, 0, count);
+        deckSize += count;
+        for (int i = 0; i < count; i++) {
+            removeFromHand(current, Rules.rankOf(hands[base + i]));
+        }
+        handSizes[current] = 0;
+        hash ^= Zobrist.alive(current);
+        aliveMask &= ~(1 << current);
+        aliveCount--;
+        advance();
+        return true;
+    }
+
+    /**
+     * Plays a card of the current seat on the pile, draws a replacement and passes
+     * the turn.
+     *
+     * @param handIndex the position of the card in the current seat's hand
+     * @throws IllegalStateException    if the game is over
+     * @throws IllegalArgumentException if the index is out of range or the card cannot be played
+     */
+    public void play(int handIndex) {
+        checkRunning();
+        if (handIndex < 0 || handIndex >= handSizes[current]) {
+            throw new IllegalArgumentException("Invalid hand index: " + handIndex);
+        }
+        int slot = current * Rules.HAND_SIZE + handIndex;
+        int card = hands[slot];
+        int newValue = Rules.play(pileValue, Rules.rankOf(card));
+        if (newValue > Rules.MAX_PILE) {
+            throw new IllegalArgumentException("Card " + Rules.symbol(Rules.rankOf(card))
+                    + " cannot be played on " + pileValue);
+        }
+        int last = current * Rules.HAND_SIZE + handSizes[current] - 1;
+        hands[slot] = hands[last];
+        handSizes[current]--;
+        removeFromHand(current, Rules.rankOf(card));
+        pile[pileSize++] = card;
+        addToPile(Rules.rankOf(card));
+        hash ^= Zobrist.pileValue(pileValue) ^ Zobrist.pileValue(newValue);
+        pileValue = newValue;
+        draw(current);
+        advance();
+    }
+
+    /**
+     * Makes a move that {@link #unmakeMove()} can undo.
+     *
+     * @param move the position of the card to play in the current seat's hand, or
+     *             {@link #ELIMINATE} to eliminate a seat without a playable card
+     * @throws IllegalStateException    if the game is over
+     * @throws IllegalArgumentException if the card cannot be played, or the seat
+     *                                  to eliminate can still play
+     */
+    public void makeMove(int move) {
+        checkRunning();
+        long record = ((pileValue + 2048) & 0xFFFL)
+                | ((long) current << 12)
+                | (over ? 1L << 16 : 0)
+                | ((long) (winner + 1) << 17);
+        long hashBefore = hash;
+        long randomBefore = random.state();
+        int seat = current;
+        if (move == ELIMINATE) {
+            int count = handSizes[seat];
+            if (!eliminateIfStuck()) {
+                throw new IllegalArgumentException("Seat " + seat + " can still play");
+            }
+            record |= (1L << 21) | ((long) count << 24);
+        } else {
+            if (move < 0 || move >= handSizes[seat]) {
+                throw new IllegalArgumentException("Invalid hand index: " + move);
+            }
+            int base = seat * Rules.HAND_SIZE;
+            int card = hands[base + move];
+            int sizeBefore = handSizes[seat];
+            int pileBefore = pileSize;
+            int bottom = pile[0];
+            play(move);
+            record |= ((long) move << 22) | ((long) (card + 1) << 24);
+            if (handSizes[seat] == sizeBefore) {
+                record |= (long) (hands[base + sizeBefore - 1] + 1) << 31;
+            }
+            if (pileSize == 1) {
+                // The draw recharged the deck: keep the old pile, whose bottom card was overwritten
+                savePile(bottom, pileBefore);
+                record |= (long) pileBefore << 38;
+            }
+        }
+        if (undoDepth * UNDO_STRIDE == undo.length) {
+            undo = Arrays.copyOf(undo, undo.length * 2);
+        }
+        int at = undoDepth++ * UNDO_STRIDE;
+        undo[at] = hashBefore;
+        undo[at + 1] = randomBefore;
+        undo[at + 2] = record;
+    }
+
+    /**
+     * Undoes the last move made with {@link #makeMove(int)}, restoring every card,
+     * the turn, the hash and the random source to what they were before it.
+     *
+     * @throws IllegalStateException if there is no move to undo
+     */
+    public void unmakeMove() {
+        if (undoDepth == 0) {
+            throw new IllegalStateException("No move to undo");
+        }
+        int at = --undoDepth * UNDO_STRIDE;
+        long record = undo[at + 2];
+        int seat = (int) (record >>> 12) & 0xF;
+        int base = seat * Rules.HAND_SIZE;
+        turns--;
+        current = seat;
+        over = (record & (1L << 16)) != 0;
+        winner = (int) (record >>> 17 & 0xF) - 1;
+
+        if ((record & (1L << 21)) != 0) {
+            int count = (int) (record >>> 24) & 0x7;
+            deckSize -= count;
+            System.arraycopy(deck, count, deck, 0, deckSize);
+            handSizes[seat] = count;
+            aliveMask |= 1 << seat;
+            aliveCount++;
+            handCodes[seat] = 0;
+            for (int i = 0; i < count; i++) {
+                addToHand(seat, Rules.rankOf(hands[base + i]));
+            }
+        } else {
+            int drawn = (int) (record >>> 31 & 0x7F) - 1;
+            if (drawn >= 0) {
+                handSizes[seat]--;
+                removeFromHand(seat, Rules.rankOf(drawn));
+                deck[deckSize++] = drawn;
+            }
+            int moved = (int) (record >>> 38) & 0x7FF;
+            if (moved > 0) {
+                restorePile(moved);
+            }
+            int card = (int) (record >>> 24 & 0x7F) - 1;
+            pileSize--;
+            pileCounts[Rules.rankOf(card)]--;
+            pileCode -= pileUnit(Rules.rankOf(card));
+            int index = (int) (record >>> 22) & 0x3;
+            hands[base + handSizes[seat]] = hands[base + index];
+            hands[base + index] = card;
+            handSizes[seat]++;
+            addToHand(seat, Rules.rankOf(card));
+            pileValue = (int) (record & 0xFFF) - 2048;
+        }
+        hash = undo[at];
+        random.restore(undo[at + 1]);
+    }
+
+    /**
+     * Returns the number of moves {@link #unmakeMove()} can undo.
+     *
+     * @return the depth of the undo stack
+     */
+    public int undoDepth() {
+        return undoDepth;
+    }
+
+    /**
+     * Plays one full turn choosing uniformly among the playable cards of the
+     * current seat, or eliminates the seat if it has none. The choice uses the
+     * table's own random source, so the game stays reproducible from its seed.
+     *
+     * @throws IllegalStateException if the game is over
+     */
+    public void playRandomTurn() {
+        if (eliminateIfStuck()) {
+            return;
+        }
+        int base = current * Rules.HAND_SIZE;
+        int chosen = -1;
+        int playable = 0;
+        for (int i = 0; i < handSizes[current]; i++) {
+            if (Rules.canPlay(pileValue, Rules.rankOf(hands[base + i])) && random.nextInt(++playable) == 0) {
+                chosen = i;
+            }
+        }
+        play(chosen);
+    }
+
+    /**
+     * Plays one full turn with the card that raises the pile the most without
+     * passing the limit, or eliminates the current seat if it has no playable card.
+     * This is the greedy policy of the bots, used to play out simulated games.
+     *
+     * @throws IllegalStateException if the game is over
+     */
+    public void playGreedyTurn() {
+        if (eliminateIfStuck()) {
+            return;
+        }
+        int base = current * Rules.HAND_SIZE;
+        int best = -1;
+        int bestPile = Integer.MIN_VALUE;
+        for (int i = 0; i < handSizes[current]; i++) {
+            int result = Rules.play(pileValue, Rules.rankOf(hands[base + i]));
+            if (result <= Rules.MAX_PILE && result > bestPile) {
+                best = i;
+                bestPile = result;
+            }
+        }
+        play(best);
+    }
+
+    /**
+     * Returns whether the current seat holds at least one playable card.
+     *
+     * @return {@code true} if the current seat can play
+     */
+    public boolean hasPlayableCard() {
+        int base = current * Rules.HAND_SIZE;
+        for (int i = 0; i < handSizes[current]; i++) {
+            if (Rules.canPlay(pileValue, Rules.rankOf(hands[base + i]))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether the card at the given position of the current seat's hand can be played.
+     *
+     * @param handIndex the position of the card in the hand
+     * @return {@code true} if the card can be played on the pile
+     */
+    public boolean canPlay(int handIndex) {
+        return handIndex >= 0 && handIndex < handSizes[current]
+                && Rules.canPlay(pileValue, Rules.rankOf(hands[current * Rules.HAND_SIZE + handIndex]));
+    }
+
+    /**
+     * Returns the number of seats at the table.
+     *
+     * @return the number of seats
+     */
+    public int seats() {
+        return seats;
+    }
+
+    /**
+     * Returns the number of standard decks in the shoe.
+     *
+     * @return the number of decks
+     */
+    public int decks() {
+        return decks;
+    }
+
+    /**
+     * Returns the seat whose turn it is.
+     *
+     * @return the current seat
+     */
+    public int currentSeat() {
+        return current;
+    }
+
+    /**
+     * Returns the current value of the pile.
+     *
+     * @return the pile value
+     */
+    public int pileValue() {
+        return pileValue;
+    }
+
+    /**
+     * Returns the card on top of the pile.
+     *
+     * @return the top card
+     */
+    public int topCard() {
+        return pile[pileSize - 1];
+    }
+
+    /**
+     * Returns the number of cards in the pile.
+     *
+     * @return the pile size
+     */
+    public int pileSize() {
+        return pileSize;
+    }
+
+    /**
+     * Returns a card of the pile.
+     *
+     * @param index the position in the pile, from 0 (bottom) to {@code pileSize() - 1} (top)
+     * @return the card
+     */
+    public int pileCard(int index) {
+        return pile[index];
+    }
+
+    /**
+     * Returns the number of cards left in the deck.
+     *
+     * @return the deck size
+     */
+    public int deckSize() {
+        return deckSize;
+    }
+
+    /**
+     * Returns a card of the deck.
+     *
+     * @param index the position in the deck, from 0 (bottom) to {@code deckSize() - 1} (top)
+     * @return the card
+     */
+    public int deckCard(int index) {
+        return deck[index];
+    }
+
+    /**
+     * Returns the number of cards held by a seat.
+     *
+     * @param seat the seat
+     * @return the number of cards in its hand
+     */
+    public int handSize(int seat) {
+        return handSizes[seat];
+    }
+
+    /**
+     * Returns a card from a seat's hand.
+     *
+     * @param seat      the seat
+     * @param handIndex the position of the card in the hand
+     * @return the card
+     */
+    public int handCard(int seat, int handIndex) {
+        return hands[seat * Rules.HAND_SIZE + handIndex];
+    }
+
+    /**
+     * Returns whether a seat is still in the game.
+     *
+     * @param seat the seat
+     * @return {@code true} if the seat has not been eliminated
+     */
+    public boolean isAlive(int seat) {
+        return (aliveMask & (1 << seat)) != 0;
+    }
+
+    /**
+     * Returns the seats still in the game as a bit mask.
+     *
+     * @return a mask where bit {@code i} is set while seat {@code i} plays
+     */
+    public int aliveMask() {
+        return aliveMask;
+    }
+
+    /**
+     * Returns the number of seats still in the game.
+     *
+     * @return the number of remaining seats
+     */
+    public int aliveCount() {
+        return aliveCount;
+    }
+
+    /**
+     * Returns the number of turns played since the last reset, eliminations included.
+     *
+     * @return the number of turns
+     */
+    public int turnCount() {
+        return turns;
+    }
+
+    /**
+     * Returns whether the game has ended.
+     *
+     * @return {@code true} once a single seat remains or the turn limit is reached
+     */
+    public boolean isOver() {
+        return over;
+    }
+
+    /**
+     * Returns the winning seat.
+     *
+     * @return the winner, or {@code -1} while the game runs or if it hit the turn limit
+     */
+    public int winner() {
+        return winner;
+    }
+
+    /**
+     * Returns the Zobrist hash of the position: the cards of every hand and of the
+     * pile by rank, the pile value, the seat to move and the seats still playing.
+     * Equal positions hash equally in every table, whatever the suits and the order
+     * of the cards.
+     *
+     * @return the hash, maintained by every move
+     */
+    public long hash() {
+        return hash;
+    }
+
+    /**
+     * Returns the public part of the position packed in a {@code long}:
+     * <pre>
+     * bits  0-11  pile value + 2048
+     * bits 12-15  seat to move
+     * bits 16-25  seats still playing, one bit per seat
+     * bits 26-35  cards in the deck
+     * bits 36-45  cards in the pile
+     * </pre>
+     * Together with {@link #pileCode()} and {@link #handCode(int)} of the seat to
+     * move, it is the position as that seat sees it, which is what a bot decides on.
+     *
+     * @return the packed public state
+     */
+    public long publicCode() {
+        return ((pileValue + 2048) & 0xFFFL)
+                | ((long) current << 12)
+                | ((long) aliveMask << 16)
+                | ((long) deckSize << 26)
+                | ((long) pileSize << 36);
+    }
+
+    /**
+     * Returns the cards of the pile packed by rank: bits {@code 4r} to
+     * {@code 4r + 3} hold the number of cards of rank {@code r}, which never exceeds
+     * the copies of a rank in {@link #MAX_DECKS} decks. The pile value and size are
+     * in {@link #publicCode()}; this word tells which cards have left the game
+     * until the next recharge.
+     *
+     * @return the rank counts of the pile, maintained by every move
+     */
+    public long pileCode() {
+        return pileCode;
+    }
+
+    /**
+     * Returns the cards of a seat's hand packed by rank: bits {@code 3r} to
+     * {@code 3r + 2} hold the number of cards of rank {@code r}. Hands holding the
+     * same ranks in any order and of any suits get the same code.
+     *
+     * @param seat the seat
+     * @return the rank counts of the hand, maintained by every move
+     */
+    public long handCode(int seat) {
+        return handCodes[seat];
+    }
+
+    /**
+     * Returns what one card of a rank adds to a hand code (see {@link #handCode(int)}),
+     * so that a hand kept elsewhere packs the same way by adding up its cards.
+     *
+     * @param rank the rank of the card
+     * @return the unit of the rank in a hand code
+     */
+    public static long handUnit(int rank) {
+        return 1L << (HAND_BITS * rank);
+    }
+
+    /**
+     * Returns what one card of a rank adds to a pile code (see {@link #pileCode()}).
+     * Any group of cards of the shoe, such as the cards a player has not seen, packs
+     * the same way.
+     *
+     * @param rank the rank of the card
+     * @return the unit of the rank in a pile code
+     */
+    public static long pileUnit(int rank) {
+        return 1L << (PILE_BITS * rank);
+    }
+
+    /**
+     * Draws the top card of the deck into a seat's hand, recharging the deck from
+     * the pile if it is empty. Nothing is drawn if both are exhausted.
+     *
+     * @param seat the seat that draws
+     */
+    private void draw(int seat) {
+        if (deckSize == 0) {
+            recharge();
+            if (deckSize == 0) {
+                return;
+            }
+        }
+        int card = deck[--deckSize];
+        hands[seat * Rules.HAND_SIZE + handSizes[seat]++] = card;
+        addToHand(seat, Rules.rankOf(card));
+    }
+
+    /**
+     * Keeps the cards a recharge moved from the pile to the deck.
+     *
+     * @param bottom the bottom card of the pile before the recharge
+     * @param moved  the number of cards moved, bottom card included
+     */
+    private void savePile(int bottom, int moved) {
+        if (savedPileSize + moved > savedPiles.length) {
+            savedPiles = Arrays.copyOf(savedPiles, Math.max(savedPiles.length * 2, savedPileSize + moved));
+        }
+        savedPiles[savedPileSize] = bottom;
+        System.arraycopy(pile, 1, savedPiles, savedPileSize + 1, moved - 1);
+        savedPileSize += moved;
+    }
+
+    /**
+     * Undoes a recharge: puts the saved pile back under its top card and empties
+     * the deck, which was empty before the recharge.
+     *
+     * @param moved the number of cards the recharge moved
+     */
+    private void restorePile(int moved) {
+        int top = pile[0];
+        savedPileSize -= moved;
+        System.arraycopy(savedPiles, savedPileSize, pile, 0, moved);
+        pile[moved] = top;
+        pileSize = moved + 1;
+        deckSize = 0;
+        pileCode = 0;
+        for (int rank = 0; rank < Rules.RANKS; rank++) {
+            pileCounts[rank] = 0;
+        }
+        for (int i = 0; i < pileSize; i++) {
+            pileCounts[Rules.rankOf(pile[i])]++;
+            pileCode += pileUnit(Rules.rankOf(pile[i]));
+        }
+    }
+
+    /**
+     * Forgets every move that could be undone.
+     */
+    private void clearUndo() {
+        undoDepth = 0;
+        savedPileSize = 0;
+    }
+
+    /**
+     * Counts a card of a rank in a seat's hand and hashes it in.
+     *
+     * @param seat the seat
+     * @param rank the rank of the card
+     */
+    private void addToHand(int seat, int rank) {
+        int copy = (int) (handCodes[seat] >>> (HAND_BITS * rank)) & 7;
+        hash ^= Zobrist.hand(seat, rank, copy);
+        handCodes[seat] += handUnit(rank);
+    }
+
+    /**
+     * Uncounts a card of a rank from a seat's hand and hashes it out.
+     *
+     * @param seat the seat
+     * @param rank the rank of the card
+     */
+    private void removeFromHand(int seat, int rank) {
+        handCodes[seat] -= handUnit(rank);
+        int copy = (int) (handCodes[seat] >>> (HAND_BITS * rank)) & 7;
+        hash ^= Zobrist.hand(seat, rank, copy);
+    }
+
+    /**
+     * Counts a card of a rank in the pile and hashes it in.
+     *
+     * @param rank the rank of the card
+     */
+    private void addToPile(int rank) {
+        hash ^= Zobrist.pile(rank, pileCounts[rank], pileCounts[rank] + 1);
+        pileCounts[rank]++;
+        pileCode += pileUnit(rank);
+    }
+
+    /**
+     * Recomputes the rank counts and the hash from the cards, after the whole
+     * position has been replaced.
+     */
+    private void rehash() {
+        hash = Zobrist.pileValue(pileValue) ^ Zobrist.turn(current);
+        pileCode = 0;
+        for (int rank = 0; rank < Rules.RANKS; rank++) {
+            pileCounts[rank] = 0;
+        }
+        for (int i = 0; i < pileSize; i++) {
+            addToPile(Rules.rankOf(pile[i]));
+        }
+        for (int seat = 0; seat < seats; seat++) {
+            handCodes[seat] = 0;
+            for (int i = 0; i < handSizes[seat]; i++) {
+                addToHand(seat, Rules.rankOf(hands[seat * Rules.HAND_SIZE + i]));
+            }
+            if (isAlive(seat)) {
+                hash ^= Zobrist.alive(seat);
+            }
+        }
+    }
+
+    /**
+     * Moves every card of the pile except the top one into the deck and shuffles it.
+     * The pile value is not changed.
+     */
+    private void recharge() {
+        int moved = pileSize - 1;
+        System.arraycopy(pile, 0, deck, deckSize, moved);
+        deckSize += moved;
+        pile[0] = pile[pileSize - 1];
+        pileSize = 1;
+        int top = Rules.rankOf(pile[0]);
+        for (int rank = 0; rank < Rules.RANKS; rank++) {
+            int kept = rank == top ? 1 : 0;
+            hash ^= Zobrist.pile(rank, pileCounts[rank], kept);
+            pileCounts[rank] = kept;
+        }
+        pileCode = pileUnit(top);
+        shuffle(deck, deckSize);
+    }
+
+    /**
+     * Counts the turn just played and gives the turn to the next seat still in the
+     * game, or ends the game if only one seat remains or the turn limit is reached.
+     */
+    private void advance() {
+        turns++;
+        if (aliveCount <= 1) {
+            over = true;
+            winner = Integer.numberOfTrailingZeros(aliveMask);
+            return;
+        }
+        if (turns >= MAX_TURNS) {
+            over = true;
+            return;
+        }
+        hash ^= Zobrist.turn(current);
+        do {
+            current = (current + 1) % seats;
+        } while ((aliveMask & (1 << current)) == 0);
+        hash ^= Zobrist.turn(current);
+    }
+
+    /**
+     * Fails if the game has ended or was never started.
+     *
+     * @throws IllegalStateException if no move can be made
+     */
+    private void checkRunning() {
+        if (!started || over) {
+            throw new IllegalStateException("The game is not running");
+        }
+    }
+
+    /**
+     * Shuffles the first {@code size} elements of an array in place (Fisher-Yates).
+     *
+     * @param cards the array to shuffle
+     * @param size  the number of elements to shuffle
+     */
+    private void shuffle(int[] cards, int size) {
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = cards[i];
+            cards[i] = cards[j];
+            cards[j] = tmp;
+        }
+    }
+}
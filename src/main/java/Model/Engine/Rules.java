@@ -0,0 +1,186 @@
+package Model.Engine;
+
+import Model.Cards.Card;
+
+import java.util.List;
+
+/**
+ * Primitive encoding of the cards and rules of 50zo used by the headless engine.
+ * <p>
+ * A card is an {@code int} between 0 and 51 computed as {@code rank * 4 + suit}.
+ * Ranks follow the order of {@link Model.Cards.Deck}: {@code 2, 3, ..., 10, J, Q, K, A}
+ * (0 to 12) and suits are {@code clubs, diamonds, hearts, spades} (0 to 3), so a
+ * card maps directly to the same image used by the graphical game.
+ * </p>
+ *
+ * <p>The value rules are the ones applied by {@link Model.Players.AdapterPlayers#putCard}
+ * and {@link Model.Cards.CardPile#addCard}: 2-8 and 10 add their face value, 9 adds
+ * nothing, J/Q/K subtract 10, and the Ace adds 10 unless that exceeds 50, in which
+ * case it adds 1.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public final class Rules {
+
+    /** Number of distinct ranks. */
+    public static final int RANKS = 13;
+
+    /** Number of suits. */
+    public static final int SUITS = 4;
+
+    /** Number of cards in one standard deck. */
+    public static final int DECK_SIZE = RANKS * SUITS;
+
+    /** Number of cards a player holds after drawing. */
+    public static final int HAND_SIZE = 4;
+
+    /** Highest value the pile may reach. */
+    public static final int MAX_PILE = 50;
+
+    /** Rank index of the Ace. */
+    public static final int ACE = 12;
+
+    /** Rank index of the 9, the neutral card. */
+    public static final int NINE = 7;
+
+    /** Symbols of every rank, in rank order. */
+    private static final List<String> SYMBOLS =
+            List.of("2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K", "A");
+
+    /** Suit names, in suit order. */
+    private static final List<String> SUIT_NAMES = List.of("clubs", "diamonds", "hearts", "spades");
+
+    /** Value added to the pile by each rank (the Ace is listed with its high value). */
+    private static final int[] VALUES = {2, 3, 4, 5, 6, 7, 8, 0, 10, -10, -10, -10, 10};
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private Rules() {
+    }
+
+    /**
+     * Returns the rank of a card.
+     *
+     * @param card a card between 0 and 51
+     * @return its rank between 0 and 12
+     */
+    public static int rankOf(int card) {
+        return card >> 2;
+    }
+
+    /**
+     * Returns the suit of a card.
+     *
+     * @param card a card between 0 and 51
+     * @return its suit between 0 and 3
+     */
+    public static int suitOf(int card) {
+        return card & 3;
+    }
+
+    /**
+     * Returns the card with the given rank and suit.
+     *
+     * @param rank the rank between 0 and 12
+     * @param suit the suit between 0 and 3
+     * @return the card between 0 and 51
+     */
+    public static int card(int rank, int suit) {
+        return rank * SUITS + suit;
+    }
+
+    /**
+     * Returns the value a rank adds to the pile, counting the Ace as 10.
+     *
+     * @param rank the rank between 0 and 12
+     * @return the value of the rank
+     */
+    public static int value(int rank) {
+        return VALUES[rank];
+    }
+
+    /**
+     * Returns the pile value after playing a card of the given rank, choosing the
+     * Ace value that keeps the pile within the limit when possible.
+     * The play is legal only if the result is at most {@link #MAX_PILE}.
+     *
+     * @param pileValue the current pile value
+     * @param rank      the rank played
+     * @return the resulting pile value
+     */
+    public static int play(int pileValue, int rank) {
+        int result = pileValue + VALUES[rank];
+        if (rank == ACE && result > MAX_PILE) {
+            result = pileValue + 1;
+        }
+        return result;
+    }
+
+    /**
+     * Returns whether a card of the given rank can be played on the pile.
+     *
+     * @param pileValue the current pile value
+     * @param rank      the rank to play
+     * @return {@code true} if the resulting pile value is at most {@link #MAX_PILE}
+     */
+    public static boolean canPlay(int pileValue, int rank) {
+        return play(pileValue, rank) <= MAX_PILE;
+    }
+
+    /**
+     * Returns the symbol of a rank, as used by {@link Card#getSymbol()}.
+     *
+     * @param rank the rank between 0 and 12
+     * @return the symbol, e.g. {@code "10"} or {@code "K"}
+     */
+    public static String symbol(int rank) {
+        return SYMBOLS.get(rank);
+    }
+
+    /**
+     * Returns the rank of a symbol.
+     *
+     * @param symbol a card symbol such as {@code "A"} or {@code "7"}
+     * @return the rank between 0 and 12
+     * @throws IllegalArgumentException if the symbol is unknown
+     */
+    public static int rankOf(String symbol) {
+        int rank = SYMBOLS.indexOf(symbol);
+        if (rank < 0) {
+            throw new IllegalArgumentException("Unknown symbol: " + symbol);
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the image resource of a card, in the format used by {@link Model.Cards.Deck}.
+     *
+     * @param card a card between 0 and 51
+     * @return the image path, e.g. {@code /deck/A_of_spades.png}
+     */
+    public static String imageUrl(int card) {
+        return String.format("/deck/%s_of_%s.png", SYMBOLS.get(rankOf(card)), SUIT_NAMES.get(suitOf(card)));
+    }
+
+    /**
+     * Returns the primitive encoding of a {@link Card} of the graphical game.
+     * The suit is read from the card's image path; cards without a recognizable
+     * suit are encoded with suit 0.
+     *
+     * @param card the card to encode
+     * @return the card between 0 and 51
+     */
+    public static int cardOf(Card card) {
+        int suit = 0;
+        String url = card.getUrl();
+        for (int s = 0; s < SUITS; s++) {
+            if (url != null && url.contains("_of_" + SUIT_NAMES.get(s))) {
+                suit = s;
+                break;
+            }
+        }
+        return card(rankOf(card.getSymbol()), suit);
+    }
+}
@@ -0,0 +1,204 @@
+package Model.Engine;
+
+import Model.Cards.Deck;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Runs many {@link HeadlessGame} tables at full speed on a few worker threads.
+ * <p>
+ * Each worker owns a fixed slice of the tables and plays one turn on each of them
+ * in a loop, restarting a table with a new seed as soon as its game ends. After
+ * every turn the worker publishes the table's {@link TableStatus} in an
+ * {@link AtomicLongArray}, which is all a spectator needs to read: observers never
+ * touch the games themselves and never slow the workers down.
+ * </p>
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>{@code
+ * TableFarm farm = new TableFarm(200, 4, seed);
+ * farm.start(3);
+ * long status = farm.status(17);
+ * farm.close();
+ * }</pre>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class TableFarm {
+
+    /** Maximum time to wait for each worker to stop, in milliseconds. */
+    private static final long JOIN_TIMEOUT_MS = 2000;
+
+    /** The tables, indexed by table number. */
+    private final HeadlessGame[] tables;
+
+    /** Packed status of every table. */
+    private final AtomicLongArray status;
+
+    /** Number of turns played on all tables. */
+    private final AtomicLong turnsPlayed = new AtomicLong();
+
+    /** Number of games finished on all tables. */
+    private final AtomicLong gamesFinished = new AtomicLong();
+
+    /** Seed from which the seed of every game is derived. */
+    private final long seed;
+
+    /** Worker threads, or {@code null} while stopped. */
+    private Thread[] workers;
+
+    /** Whether the workers should keep playing. */
+    private volatile boolean running;
+
+    /**
+     * Creates a farm of tables with the given number of seats and publishes the
+     * initial status of each one. Each table uses a shoe of {@link Deck#decksFor(int)}
+     * decks, like the graphical game. No game is played until {@link #start(int)}.
+     *
+     * @param tableCount the number of tables
+     * @param seats      the number of seats at every table
+     * @param seed       the seed from which every game's seed is derived
+     */
+    public TableFarm(int tableCount, int seats, long seed) {
+        this.tables = new HeadlessGame[tableCount];
+        this.status = new AtomicLongArray(tableCount);
+        this.seed = seed;
+        for (int i = 0; i < tableCount; i++) {
+            tables[i] = new HeadlessGame(seats, Deck.decksFor(seats));
+            tables[i].reset(gameSeed(i, 0));
+            status.set(i, TableStatus.pack(tables[i], 0));
+        }
+    }
+
+    /**
+     * Starts the worker threads. Does nothing if the farm is already running.
+     *
+     * @param threads the number of worker threads; each one plays every
+     *                {@code threads}-th table
+     */
+    public synchronized void start(int threads) {
+        if (running) {
+            return;
+        }
+        running = true;
+        int count = Math.max(1, Math.min(threads, tables.length));
+        workers = new Thread[count];
+        for (int w = 0; w < count; w++) {
+            int first = w;
+            workers[w] = new Thread(() -> work(first, count), "50zo-farm-" + w);
+            workers[w].setDaemon(true);
+            workers[w].start();
+        }
+    }
+
+    /**
+     * Stops the worker threads and waits for them to finish. The published status
+     * stays readable, and the farm can be started again.
+     *
+     * @return {@code true} if every worker stopped in time
+     */
+    public synchronized boolean close() {
+        running = false;
+        boolean stopped = true;
+        if (workers != null) {
+            for (Thread worker : workers) {
+                try {
+                    worker.join(JOIN_TIMEOUT_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                stopped &= !worker.isAlive();
+            }
+            workers = null;
+        }
+        return stopped;
+    }
+
+    /**
+     * Returns whether the workers are running.
+     *
+     * @return {@code true} between {@link #start(int)} and {@link #close()}
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Returns the number of tables.
+     *
+     * @return the number of tables
+     */
+    public int tableCount() {
+        return tables.length;
+    }
+
+    /**
+     * Returns the last published status of a table.
+     *
+     * @param table the table number
+     * @return the packed status, to be read with {@link TableStatus}
+     */
+    public long status(int table) {
+        return status.get(table);
+    }
+
+    /**
+     * Returns the number of turns played on all tables.
+     *
+     * @return the total number of turns
+     */
+    public long turnsPlayed() {
+        return turnsPlayed.get();
+    }
+
+    /**
+     * Returns the number of games finished on all tables.
+     *
+     * @return the total number of games
+     */
+    public long gamesFinished() {
+        return gamesFinished.get();
+    }
+
+    /**
+     * Worker loop: plays one turn on each owned table until the farm is closed.
+     * The global counters are updated once per sweep to keep contention low.
+     *
+     * @param first  the first table owned by the worker
+     * @param stride the distance between two tables owned by the worker
+     */
+    private void work(int first, int stride) {
+        int owned = (tables.length - first + stride - 1) / stride;
+        int[] games = new int[owned];
+        while (running) {
+            int finished = 0;
+            for (int i = first, k = 0; i < tables.length; i += stride, k++) {
+                HeadlessGame game = tables[i];
+                game.playRandomTurn();
+                if (game.isOver()) {
+                    games[k]++;
+                    finished++;
+                    game.reset(gameSeed(i, games[k]));
+                }
+                status.lazySet(i, TableStatus.pack(game, games[k]));
+            }
+            turnsPlayed.addAndGet(owned);
+            if (finished > 0) {
+                gamesFinished.addAndGet(finished);
+            }
+        }
+    }
+
+    /**
+     * Derives the seed of one game of one table.
+     *
+     * @param table the table number
+     * @param game  the number of games already finished on the table
+     * @return the seed of the game
+     */
+    private long gameSeed(int table, int game) {
+        return seed ^ ((long) table << 32 | game) * 0x9E3779B97F4A7C15L;
+    }
+}
@@ -0,0 +1,109 @@
+package Model.Engine;
+
+/**
+ * Packs the visible state of a table into a single {@code long}.
+ * <p>
+ * A packed status can be published with one atomic write and read with one
+ * atomic read, so a renderer always sees a consistent table without locking the
+ * thread that plays it. The layout is:
+ * </p>
+ * <ul>
+ *   <li>bits 0-7: pile value plus {@value #PILE_OFFSET}, clamped to 0..255</li>
+ *   <li>bits 8-13: top card of the pile</li>
+ *   <li>bits 14-23: mask of the seats still in the game</li>
+ *   <li>bits 24-27: seat whose turn it is</li>
+ *   <li>bits 28-31: number of seats</li>
+ *   <li>bits 32-63: number of games finished on the table</li>
+ * </ul>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public final class TableStatus {
+
+    /** Offset added to the pile value so that negative values fit in eight bits. */
+    private static final int PILE_OFFSET = 128;
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private TableStatus() {
+    }
+
+    /**
+     * Packs the current state of a table.
+     *
+     * @param game          the table
+     * @param gamesFinished the number of games finished on the table
+     * @return the packed status
+     */
+    public static long pack(HeadlessGame game, int gamesFinished) {
+        long pile = Math.max(0, Math.min(255, game.pileValue() + PILE_OFFSET));
+        return pile
+                | (long) game.topCard() << 8
+                | (long) game.aliveMask() << 14
+                | (long) game.currentSeat() << 24
+                | (long) game.seats() << 28
+                | (long) gamesFinished << 32;
+    }
+
+    /**
+     * Returns the pile value of a packed status.
+     *
+     * @param status the packed status
+     * @return the pile value
+     */
+    public static int pileValue(long status) {
+        return (int) (status & 0xFF) - PILE_OFFSET;
+    }
+
+    /**
+     * Returns the top card of a packed status.
+     *
+     * @param status the packed status
+     * @return the top card, encoded as in {@link Rules}
+     */
+    public static int topCard(long status) {
+        return (int) (status >>> 8) & 0x3F;
+    }
+
+    /**
+     * Returns the mask of the seats still in the game.
+     *
+     * @param status the packed status
+     * @return a mask where bit {@code i} is set while seat {@code i} plays
+     */
+    public static int aliveMask(long status) {
+        return (int) (status >>> 14) & 0x3FF;
+    }
+
+    /**
+     * Returns the seat whose turn it is.
+     *
+     * @param status the packed status
+     * @return the current seat
+     */
+    public static int currentSeat(long status) {
+        return (int) (status >>> 24) & 0xF;
+    }
+
+    /**
+     * Returns the number of seats of the table.
+     *
+     * @param status the packed status
+     * @return the number of seats, or {@code 0} if nothing was published yet
+     */
+    public static int seats(long status) {
+        return (int) (status >>> 28) & 0xF;
+    }
+
+    /**
+     * Returns the number of games finished on the table.
+     *
+     * @param status the packed status
+     * @return the number of finished games
+     */
+    public static int gamesFinished(long status) {
+        return (int) (status >>> 32);
+    }
+}
@@ -0,0 +1,118 @@
+package Model.Engine;
+
+/**
+ * Random keys of the Zobrist hash of a {@link HeadlessGame} position.
+ * <p>
+ * A position is hashed as the XOR of one key per feature it has: each copy of a
+ * rank in each seat's hand, each copy of a rank in the pile, the pile value, the
+ * seat to move and each seat still playing. Suits never change what a card does,
+ * so the keys only depend on ranks, and the {@code k}-th copy of a rank has its own
+ * key so that a hand or a pile hashes as a multiset. Moving a card therefore costs
+ * two XORs, whatever the size of the table.
+ * </p>
+ *
+ * <p>The keys come from a fixed seed, so equal positions hash equally in every
+ * table and every run, which lets hashes be stored and compared across games.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+final class Zobrist {
+
+    /** Largest number of copies of a rank in the pile. */
+    static final int PILE_COPIES = Rules.SUITS * HeadlessGame.MAX_DECKS;
+
+    /** Seed of the keys; changing it changes every stored hash. */
+    private static final long SEED = 0x50_20_0B_1AL;
+
+    /** Keys of the copies of each rank in each seat's hand. */
+    private static final long[] HAND = new long[HeadlessGame.MAX_SEATS * Rules.RANKS * Rules.HAND_SIZE];
+
+    /** XOR of the keys of the first {@code c} copies of each rank in the pile. */
+    private static final long[] PILE_PREFIX = new long[Rules.RANKS * (PILE_COPIES + 1)];
+
+    /** Keys of the seat to move. */
+    private static final long[] TURN = new long[HeadlessGame.MAX_SEATS];
+
+    /** Keys of the seats still playing. */
+    private static final long[] ALIVE = new long[HeadlessGame.MAX_SEATS];
+
+    static {
+        FastRandom random = new FastRandom(SEED);
+        for (int i = 0; i < HAND.length; i++) {
+            HAND[i] = random.nextLong();
+        }
+        for (int rank = 0; rank < Rules.RANKS; rank++) {
+            int base = rank * (PILE_COPIES + 1);
+            for (int c = 1; c <= PILE_COPIES; c++) {
+                PILE_PREFIX[base + c] = PILE_PREFIX[base + c - 1] ^ random.nextLong();
+            }
+        }
+        for (int seat = 0; seat < HeadlessGame.MAX_SEATS; seat++) {
+            TURN[seat] = random.nextLong();
+            ALIVE[seat] = random.nextLong();
+        }
+    }
+
+    /**
+     * Utility class.
+     */
+    private Zobrist() {
+    }
+
+    /**
+     * Returns the key of one copy of a rank in a seat's hand.
+     *
+     * @param seat the seat
+     * @param rank the rank
+     * @param copy the copy, from 0 to {@code HAND_SIZE - 1}
+     * @return the key
+     */
+    static long hand(int seat, int rank, int copy) {
+        return HAND[(seat * Rules.RANKS + rank) * Rules.HAND_SIZE + copy];
+    }
+
+    /**
+     * Returns the XOR of the keys of the copies of a rank in the pile between two counts.
+     *
+     * @param rank the rank
+     * @param from one count of the rank
+     * @param to   the other count of the rank
+     * @return the value that turns the hash of one count into the hash of the other
+     */
+    static long pile(int rank, int from, int to) {
+        int base = rank * (PILE_COPIES + 1);
+        return PILE_PREFIX[base + from] ^ PILE_PREFIX[base + to];
+    }
+
+    /**
+     * Returns the key of a pile value. The pile has no lower bound, so these keys
+     * are mixed on demand instead of being read from a table.
+     *
+     * @param pileValue the pile value
+     * @return the key
+     */
+    static long pileValue(int pileValue) {
+        return FastRandom.mix(SEED ^ ((long) pileValue << 32));
+    }
+
+    /**
+     * Returns the key of the seat to move.
+     *
+     * @param seat the seat
+     * @return the key
+     */
+    static long turn(int seat) {
+        return TURN[seat];
+    }
+
+    /**
+     * Returns the key of a seat still playing.
+     *
+     * @param seat the seat
+     * @return the key
+     */
+    static long alive(int seat) {
+        return ALIVE[seat];
+    }
+}
@@ -0,0 +1,385 @@
+package Model.Metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Process-wide registry of the performance figures of the game.
+ * <p>
+ * The engine and the interface feed the same instance: player threads record
+ * their decision times, the JavaFX dispatcher records how long posted tasks wait
+ * in the event queue, and the game window records frame and pulse times and the
+ * delay between a click on a card and the rendered frame that shows it. The on-screen
+ * overlay reads a {@link #snapshot()}, and automated performance runs can read
+ * the very same snapshot without any window being shown.
+ * </p>
+ *
+ * <p>The figures of the bots belong to one match, since a bot's turn number is
+ * only its seat at that table: {@link #resetBots()} clears them when a new match
+ * is dealt. The figures of the window keep accumulating until {@link #reset()}.</p>
+ *
+ * <p>This class follows the Singleton pattern using the Initialization-on-demand
+ * holder idiom. All methods are thread-safe and recording never blocks.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class GameMetrics {
+
+    /** Time between two consecutive rendered frames. */
+    private final LatencyHistogram frameInterval = new LatencyHistogram();
+
+    /** Time spent in the CSS and layout phase of each pulse. */
+    private final LatencyHistogram pulseTime = new LatencyHistogram();
+
+    /** Time between a {@code Platform.runLater} submission and its execution. */
+    private final LatencyHistogram fxQueueLatency = new LatencyHistogram();
+
+    /** Time between a click on a card and the rendered frame that shows the new pile. */
+    private final LatencyHistogram inputToRender = new LatencyHistogram();
+
+    /** Decision time of each bot of the current match, indexed by the bot's turn number. */
+    private final Map<Integer, LatencyHistogram> botDecisions = new ConcurrentHashMap<>();
+
+    /** Time past the hard deadline of every bot decision that missed it. */
+    private final LatencyHistogram botOverruns = new LatencyHistogram();
+
+    /** Start time of a click still waiting to be rendered, or {@code 0} if none. */
+    private final AtomicLong pendingInput = new AtomicLong();
+
+    /** Bot turns answered by a decision pondered during the previous turn. */
+    private final AtomicLong ponderHits = new AtomicLong();
+
+    /** Bot turns that had to be decided from scratch. */
+    private final AtomicLong ponderMisses = new AtomicLong();
+
+    /**
+     * Private constructor to enforce the Singleton pattern.
+     */
+    private GameMetrics() {
+    }
+
+    /**
+     * Holder class that lazily stores the Singleton instance.
+     */
+    private static class Holder {
+        private static final GameMetrics INSTANCE = new GameMetrics();
+    }
+
+    /**
+     * Returns the unique instance of {@link GameMetrics}.
+     *
+     * @return the shared metrics registry
+     */
+    public static GameMetrics getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Records the interval between two rendered frames.
+     *
+     * @param nanos the frame interval in nanoseconds
+     */
+    public void recordFrame(long nanos) {
+        frameInterval.record(nanos);
+    }
+
+    /**
+     * Records the duration of the CSS and layout phase of a pulse.
+     *
+     * @param nanos the pulse time in nanoseconds
+     */
+    public void recordPulse(long nanos) {
+        pulseTime.record(nanos);
+    }
+
+    /**
+     * Records how long a task posted to the JavaFX thread waited before running.
+     *
+     * @param nanos the queue latency in nanoseconds
+     */
+    public void recordFxQueueLatency(long nanos) {
+        fxQueueLatency.record(nanos);
+    }
+
+    /**
+     * Records how long a bot took to choose its card.
+     *
+     * @param botTurn the turn number of the bot
+     * @param nanos   the decision time in nanoseconds
+     */
+    public void recordBotDecision(int botTurn, long nanos) {
+        botDecisions.computeIfAbsent(botTurn, k -> new LatencyHistogram()).record(nanos);
+    }
+
+    /**
+     * Records a bot decision that went past its hard deadline.
+     *
+     * @param nanos the time past the deadline, in nanoseconds
+     */
+    public void recordBotOverrun(long nanos) {
+        botOverruns.record(nanos);
+    }
+
+    /**
+     * Returns the histogram of the bot decisions that went past their deadline.
+     *
+     * @return the time past the deadline of every overrun
+     */
+    public LatencyHistogram getBotOverruns() {
+        return botOverruns;
+    }
+
+    /**
+     * Records whether a bot found its decision already pondered.
+     *
+     * @param hit {@code true} if the pondered decision was used
+     */
+    public void recordPonder(boolean hit) {
+        (hit ? ponderHits : ponderMisses).incrementAndGet();
+    }
+
+    /**
+     * Returns the number of bot turns answered by a pondered decision.
+     *
+     * @return the ponder hits since the last reset
+     */
+    public long getPonderHits() {
+        return ponderHits.get();
+    }
+
+    /**
+     * Returns the number of bot turns decided from scratch.
+     *
+     * @return the ponder misses since the last reset
+     */
+    public long getPonderMisses() {
+        return ponderMisses.get();
+    }
+
+    /**
+     * Marks the moment a player input changed the table; the next call to
+     * {@link #inputRendered(long)} records the input-to-render latency.
+     *
+     * @param startNanos the {@link System#nanoTime()} of the input event
+     */
+    public void markInput(long startNanos) {
+        pendingInput.set(startNanos);
+    }
+
+    /**
+     * Returns whether an input is waiting for the frame that shows it.
+     *
+     * @return {@code true} between {@link #markInput(long)} and {@link #inputRendered(long)}
+     */
+    public boolean hasPendingInput() {
+        return pendingInput.get() != 0;
+    }
+
+    /**
+     * Completes the pending input measurement, if any, once the frame showing the
+     * input has been rendered.
+     *
+     * @param nowNanos the {@link System#nanoTime()} after the frame was rendered
+     */
+    public void inputRendered(long nowNanos) {
+        long start = pendingInput.getAndSet(0);
+        if (start != 0) {
+            inputToRender.record(nowNanos - start);
+        }
+    }
+
+    /**
+     * Returns the histogram of frame intervals.
+     *
+     * @return the frame interval histogram
+     */
+    public LatencyHistogram getFrameInterval() {
+        return frameInterval;
+    }
+
+    /**
+     * Returns the histogram of pulse times.
+     *
+     * @return the pulse time histogram
+     */
+    public LatencyHistogram getPulseTime() {
+        return pulseTime;
+    }
+
+    /**
+     * Returns the histogram of JavaFX queue latencies.
+     *
+     * @return the queue latency histogram
+     */
+    public LatencyHistogram getFxQueueLatency() {
+        return fxQueueLatency;
+    }
+
+    /**
+     * Returns the histogram of input-to-render latencies.
+     *
+     * @return the input-to-render histogram
+     */
+    public LatencyHistogram getInputToRender() {
+        return inputToRender;
+    }
+
+    /**
+     * Returns the decision time histogram of the given bot.
+     *
+     * @param botTurn the turn number of the bot
+     * @return the bot's histogram, created empty if the bot has not decided yet
+     */
+    public LatencyHistogram getBotDecision(int botTurn) {
+        return botDecisions.computeIfAbsent(botTurn, k -> new LatencyHistogram());
+    }
+
+    /**
+     * Returns a point-in-time summary of every metric, keyed by a readable name.
+     * The iteration order of the returned map is stable: frame, pulse, queue,
+     * input, each bot by turn number and then the bot overruns.
+     *
+     * @return the summaries of all non-empty histograms
+     */
+    public Map<String, Summary> snapshot() {
+        Map<String, Summary> result = new LinkedHashMap<>();
+        put(result, "frame", frameInterval);
+        put(result, "pulse", pulseTime);
+        put(result, "fx-queue", fxQueueLatency);
+        put(result, "input-to-render", inputToRender);
+        botDecisions.keySet().stream().sorted()
+                .forEach(turn -> put(result, "bot-" + (turn - 1), botDecisions.get(turn)));
+        put(result, "bot-overrun", botOverruns);
+        return result;
+    }
+
+    /**
+     * Clears the figures of the bots: decision times, overruns and ponder counts.
+     * Called when a new match is dealt, so that a seat's percentiles never mix
+     * the bots of earlier matches.
+     */
+    public void resetBots() {
+        botDecisions.clear();
+        botOverruns.reset();
+        ponderHits.set(0);
+        ponderMisses.set(0);
+    }
+
+    /**
+     * Clears every metric.
+     */
+    public void reset() {
+        frameInterval.reset();
+        pulseTime.reset();
+        fxQueueLatency.reset();
+        inputToRender.reset();
+        pendingInput.set(0);
+        resetBots();
+    }
+
+    /**
+     * Adds the summary of a histogram to the snapshot if it holds any value.
+     *
+     * @param result    the snapshot being built
+     * @param name      the name of the metric
+     * @param histogram the histogram to summarize
+     */
+    private static void put(Map<String, Summary> result, String name, LatencyHistogram histogram) {
+        if (histogram.count() > 0) {
+            result.put(name, new Summary(histogram));
+        }
+    }
+
+    /**
+     * Immutable summary of one histogram at the moment the snapshot was taken.
+     */
+    public static final class Summary {
+
+        /** Number of recorded values. */
+        private final long count;
+
+        /** Mean latency in nanoseconds. */
+        private final double mean;
+
+        /** Median latency in nanoseconds. */
+        private final long p50;
+
+        /** 99th percentile latency in nanoseconds. */
+        private final long p99;
+
+        /** Maximum latency in nanoseconds. */
+        private final long max;
+
+        /**
+         * Summarizes the given histogram.
+         *
+         * @param histogram the histogram to summarize
+         */
+        Summary(LatencyHistogram histogram) {
+            this.count = histogram.count();
+            this.mean = histogram.mean();
+            this.p50 = histogram.percentile(50);
+            this.p99 = histogram.percentile(99);
+            this.max = histogram.max();
+        }
+
+        /**
+         * Returns the number of recorded values.
+         *
+         * @return the number of recorded values
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the mean latency.
+         *
+         * @return the mean latency in nanoseconds
+         */
+        public double getMean() {
+            return mean;
+        }
+
+        /**
+         * Returns the median latency.
+         *
+         * @return the median latency in nanoseconds
+         */
+        public long getP50() {
+            return p50;
+        }
+
+        /**
+         * Returns the 99th percentile latency.
+         *
+         * @return the 99th percentile latency in nanoseconds
+         */
+        public long getP99() {
+            return p99;
+        }
+
+        /**
+         * Returns the maximum latency.
+         *
+         * @return the maximum latency in nanoseconds
+         */
+        public long getMax() {
+            return max;
+        }
+
+        /**
+         * Returns the summary in milliseconds, e.g. {@code n=120 p50=0.41ms p99=2.10ms max=3.02ms}.
+         *
+         * @return a readable form of this summary
+         */
+        @Override
+        public String toString() {
+            return String.format("n=%d p50=%.2fms p99=%.2fms max=%.2fms",
+                    count, p50 / 1e6, p99 / 1e6, max / 1e6);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package Model.Metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of latencies measured in nanoseconds.
+ * <p>
+ * Values are grouped in log-linear buckets: each power of two is split into
+ * {@value #SUB_BUCKETS} equal sub-buckets, which keeps the relative error of any
+ * reported percentile below 1/{@value #SUB_BUCKETS} while using a fixed amount
+ * of memory. Recording a value is a couple of atomic increments and never
+ * allocates, so it is safe to call from player threads and from the JavaFX
+ * application thread alike.
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class LatencyHistogram {
+
+    /** Number of sub-buckets each power of two is divided into (must be a power of two). */
+    private static final int SUB_BUCKETS = 16;
+
+    /** Number of bits used to index a sub-bucket. */
+    private static final int SUB_BUCKET_BITS = Integer.numberOfTrailingZeros(SUB_BUCKETS);
+
+    /** Total number of buckets: one group per possible bit length of a positive long. */
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    /** Number of values recorded in each bucket. */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /** Number of values recorded. */
+    private final AtomicLong total = new AtomicLong();
+
+    /** Sum of all recorded values, used for the mean. */
+    private final AtomicLong sum = new AtomicLong();
+
+    /** Largest value recorded. */
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records one latency.
+     *
+     * @param nanos the latency in nanoseconds; negative values are recorded as zero
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucketOf(value));
+        total.incrementAndGet();
+        sum.addAndGet(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return the number of values recorded since creation or the last reset
+     */
+    public long count() {
+        return total.get();
+    }
+
+    /**
+     * Returns the mean of the recorded values.
+     *
+     * @return the mean latency in nanoseconds, or {@code 0} if nothing was recorded
+     */
+    public double mean() {
+        long n = total.get();
+        return n == 0 ? 0 : (double) sum.get() / n;
+    }
+
+    /**
+     * Returns the largest recorded value.
+     *
+     * @return the maximum latency in nanoseconds
+     */
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * Returns an upper bound of the given percentile of the recorded values.
+     *
+     * @param percentile the percentile to compute, between 0 and 100
+     * @return the latency in nanoseconds below which {@code percentile}% of the values fall,
+     *         or {@code 0} if nothing was recorded
+     * @throws IllegalArgumentException if the percentile is outside [0, 100]
+     */
+    public long percentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Invalid percentile: " + percentile);
+        }
+        long n = total.get();
+        if (n == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * n));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Clears every recorded value.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        total.set(0);
+        sum.set(0);
+        max.set(0);
+    }
+
+    /**
+     * Returns the bucket that holds the given value.
+     *
+     * @param value a non-negative latency
+     * @return the bucket index
+     */
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS + 1;
+        int sub = (int) (value >>> (magnitude - 1)) & (SUB_BUCKETS - 1);
+        return magnitude * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Returns the largest value that falls into the given bucket.
+     *
+     * @param bucket the bucket index
+     * @return the inclusive upper bound of the bucket
+     */
+    static long upperBoundOf(int bucket) {
+        int magnitude = bucket / SUB_BUCKETS;
+        int sub = bucket % SUB_BUCKETS;
+        if (magnitude == 0) {
+            return sub;
+        }
+        long base = (long) (SUB_BUCKETS + sub) << (magnitude - 1);
+        return base + (1L << (magnitude - 1)) - 1;
+    }
+}
@@ -1,8 +1,11 @@
 package Model.Players;
 
+import Model.Bots.CardCounter;
+import Model.Bots.OpponentModel;
 import Model.Cards.Card;
 import Model.Cards.CardPile;
 import Model.Cards.Deck;
+import Model.Engine.Rules;
 import Model.Exceptions.InvalidCardException;
 
 import java.util.ArrayList;
@@ -64,6 +67,12 @@ public abstract class AdapterPlayers extends Thread implements IPlayers {
     /** Describes the type of player (e.g., Human, GPU). */
     protected String playerType;
 
+    /** Running count of the cards this player has not seen, for bots and hints. */
+    protected final CardCounter counter;
+
+    /** Shared estimate of every seat's hand, told about this player's plays; may be {@code null}. */
+    protected volatile OpponentModel opponentModel;
+
     /**
      * Creates a new player adapter with all necessary game components.
      *
@@ -88,6 +97,8 @@ public abstract class AdapterPlayers extends Thread implements IPlayers {
         this.turnManager = turnManager;
         this.cardPile = cardPile;
         this.playerType = playerType;
+        this.counter = new CardCounter(deck.getDecks());
+        counter.attach(cardPile);
     }
 
     /**
@@ -99,6 +110,7 @@ public abstract class AdapterPlayers extends Thread implements IPlayers {
     public AdapterPlayers(Deck deck) {
         this.deck = deck;
         this.isPlaying = true;
+        this.counter = new CardCounter(deck.getDecks());
     }
 
     /**
@@ -118,6 +130,7 @@ public abstract class AdapterPlayers extends Thread implements IPlayers {
     @Override
     public void takeCard(Card card) {
         hand.add(card);
+        counter.onCardTaken(card);
     }
 
     /**
@@ -154,24 +167,63 @@ public abstract class AdapterPlayers extends Thread implements IPlayers {
         }
 
         hand.remove(indexCard);
+        counter.onOwnCardPlayed(card);
+        OpponentModel model = opponentModel;
+        if (model != null) {
+            model.onPlay(turn - 1, cardPile.getValuePile(), Rules.rankOf(card.getSymbol()));
+        }
         cardPile.addCard(card);
     }
 
     /**
-     * Clears the player's hand and draws a fresh hand containing up to 4 cards.
+     * Draws a fresh hand containing up to 4 cards. A hand already held, e.g. when a
+     * player dealt at construction is dealt again at the start of the match, goes
+     * back to the bottom of the deck first, and the card counter is told so.
      * Fewer cards may be drawn if the deck is depleted.
      */
     @Override
     public void takeHand() {
-        hand.clear();
+        if (!hand.isEmpty()) {
+            deck.getDeck().addAll(hand);
+            hand.clear();
+            counter.onHandReturned();
+        }
         for (int i = 0; i < 4; i++) {
             Card card = deck.getCard();
             if (card != null) {
                 hand.add(card);
+                counter.onCardTaken(card);
             }
         }
     }
 
+    /**
+     * Returns the running count of the cards this player has not seen.
+     *
+     * @return the card counter of this player
+     */
+    public CardCounter getCounter() {
+        return counter;
+    }
+
+    /**
+     * Sets the model told about this player's plays and elimination.
+     *
+     * @param opponentModel the model shared by the match, or {@code null} for none
+     */
+    public void setOpponentModel(OpponentModel opponentModel) {
+        this.opponentModel = opponentModel;
+    }
+
+    /**
+     * Returns the model told about this player's plays and elimination.
+     *
+     * @return the model shared by the match, or {@code null} if there is none
+     */
+    public OpponentModel getOpponentModel() {
+        return opponentModel;
+    }
+
     /**
      * Returns the current cards held by the player.
      *
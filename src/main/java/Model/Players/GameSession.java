@@ -0,0 +1,500 @@
+package Model.Players;
+
+import Model.Bots.BotStrategy;
+import Model.Bots.DecisionBudget;
+import Model.Bots.DecisionScheduler;
+import Model.Bots.Difficulty;
+import Model.Bots.OpponentModel;
+import Model.Cards.Card;
+import Model.Cards.CardPile;
+import Model.Cards.Deck;
+import Model.Cards.RechargeDeck;
+import Model.Engine.HeadlessGame;
+import Model.Engine.Rules;
+import Model.Metrics.GameMetrics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * The {@code GameSession} class owns every thread, shared object and listener
+ * that belongs to a single match.
+ *
+ * <p>A session creates the deck, pile, turn manager and lock, deals the players
+ * and starts the player, recharge and winner-detection threads. Calling
+ * {@link #close()} stops and joins all of those threads and drops every
+ * reference the session holds, so an abandoned match leaves nothing behind
+ * (no parked thread keeps the old deck, pile or controller reachable).</p>
+ *
+ * <p>Game events are forwarded to the {@link IGameListener} through the given
+ * {@link Executor}. Events that reach the executor after the session has been
+ * closed are discarded, so a late notification from an old match can never
+ * update the table of a newer one.</p>
+ *
+ * <p>All players share one {@link OpponentModel} of the hands, and every GPU
+ * player ponders its next decision while the seat before it plays. Dealing a new
+ * session clears the bot figures of {@link GameMetrics}, so they always describe
+ * the bots of the latest match.</p>
+ *
+ * <h3>Usage:</h3>
+ * <pre>{@code
+ * GameSession session = new GameSession(3, listener, Platform::runLater);
+ * session.start();
+ * ...
+ * session.close();
+ * }</pre>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class GameSession {
+
+    /** Maximum time, in milliseconds, to wait for each thread to finish on close. */
+    private static final long JOIN_TIMEOUT_MS = 2000;
+
+    /** Largest number of players at one table, the human included. */
+    public static final int MAX_PLAYERS = 10;
+
+    /** Listener that receives events while the session is open. */
+    private volatile IGameListener listener;
+
+    /** Executor on which listener events are delivered. */
+    private final Executor eventExecutor;
+
+    /** The deck of this match. */
+    private Deck deck;
+
+    /** The central pile of this match. */
+    private CardPile pile;
+
+    /** The turn manager of this match. */
+    private TurnManager turnManager;
+
+    /** Lock shared by all the threads of this match. */
+    private Object lock;
+
+    /** Thread that refills the deck from the pile. */
+    private RechargeDeck rechargeDeck;
+
+    /** The human player. */
+    private PlayerHuman playerHuman;
+
+    /** The GPU players, in turn order. */
+    private List<PlayerGPU> playerGPUList;
+
+    /** Thread that detects the winner. */
+    private TakeWiner takeWiner;
+
+    /** Whether {@link #start()} has been called. */
+    private boolean started;
+
+    /** Whether {@link #close()} has been called; read when events are delivered. */
+    private volatile boolean closed;
+
+    /**
+     * Creates and deals a new match with bots of the {@link Difficulty#DEFAULT default}
+     * difficulty. No thread is started until {@link #start()}. The deck is a shoe of
+     * {@link Deck#decksFor(int)} standard decks, so larger tables never run out of
+     * cards to deal.
+     *
+     * @param totalPlayersGPU number of GPU players (the human is always turn 1)
+     * @param listener        the listener notified of game events
+     * @param eventExecutor   the executor on which events are delivered to the listener
+     * @throws IllegalArgumentException if the table would have fewer than 2 or more
+     *                                  than {@value #MAX_PLAYERS} players
+     */
+    public GameSession(int totalPlayersGPU, IGameListener listener, Executor eventExecutor) {
+        this(totalPlayersGPU, listener, eventExecutor, Difficulty.DEFAULT);
+    }
+
+    /**
+     * Creates and deals a new match whose bots play at the given difficulty: each
+     * gets the level's strategy, budget and hard deadline.
+     * No thread is started until {@link #start()}.
+     *
+     * @param totalPlayersGPU number of GPU players (the human is always turn 1)
+     * @param listener        the listener notified of game events
+     * @param eventExecutor   the executor on which events are delivered to the listener
+     * @param difficulty      the difficulty of every GPU player
+     * @throws IllegalArgumentException if the table would have fewer than 2 or more
+     *                                  than {@value #MAX_PLAYERS} players
+     */
+    public GameSession(int totalPlayersGPU, IGameListener listener, Executor eventExecutor,
+                       Difficulty difficulty) {
+        this(totalPlayersGPU, listener, eventExecutor, () -> difficulty.newStrategy(System.nanoTime()),
+                () -> difficulty.newScheduler(difficulty.newBudget()));
+    }
+
+    /**
+     * Creates and deals a new match whose GPU players use the given strategies,
+     * with a budget of {@value PlayerGPU#DEFAULT_BUDGET_MS} ms per decision and no
+     * hard deadline.
+     * No thread is started until {@link #start()}.
+     *
+     * @param totalPlayersGPU number of GPU players (the human is always turn 1)
+     * @param listener        the listener notified of game events
+     * @param eventExecutor   the executor on which events are delivered to the listener
+     * @param strategies      creates the strategy of each GPU player (one instance per player)
+     * @throws IllegalArgumentException if the table would have fewer than 2 or more
+     *                                  than {@value #MAX_PLAYERS} players
+     */
+    public GameSession(int totalPlayersGPU, IGameListener listener, Executor eventExecutor,
+                       Supplier<BotStrategy> strategies) {
+        this(totalPlayersGPU, listener, eventExecutor, strategies,
+                () -> new DecisionScheduler(DecisionBudget.ofMillis(PlayerGPU.DEFAULT_BUDGET_MS),
+                        DecisionBudget.UNLIMITED));
+    }
+
+    /**
+     * Creates and deals a new match.
+     *
+     * @param totalPlayersGPU number of GPU players (the human is always turn 1)
+     * @param listener        the listener notified of game events
+     * @param eventExecutor   the executor on which events are delivered to the listener
+     * @param strategies      creates the strategy of each GPU player
+     * @param schedulers      creates the decision scheduler of each GPU player
+     * @throws IllegalArgumentException if the table would have fewer than 2 or more
+     *                                  than {@value #MAX_PLAYERS} players
+     */
+    private GameSession(int totalPlayersGPU, IGameListener listener, Executor eventExecutor,
+                        Supplier<BotStrategy> strategies, Supplier<DecisionScheduler> schedulers) {
+        if (totalPlayersGPU < 1 || totalPlayersGPU + 1 > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Invalid number of GPU players: " + totalPlayersGPU);
+        }
+        this.listener = listener;
+        this.eventExecutor = eventExecutor;
+        GameMetrics.getInstance().resetBots();
+
+        deck = new Deck(Deck.decksFor(totalPlayersGPU + 1));
+        turnManager = new TurnManager(totalPlayersGPU + 1);
+        lock = new Object();
+
+        synchronized (lock) {
+            turnManager.startGame();
+            lock.notifyAll();
+        }
+
+        IGameListener events = new SessionEvents();
+
+        pile = new CardPile(deck);
+        rechargeDeck = new RechargeDeck(deck, pile);
+
+        playerGPUList = new ArrayList<>();
+        playerHuman = new PlayerHuman(deck, 1, lock, turnManager, pile, events, "YOU");
+        playerHuman.initializePlayer();
+        OpponentModel opponentModel = new OpponentModel();
+        playerHuman.setOpponentModel(opponentModel);
+
+        for (int i = 2; i <= totalPlayersGPU + 1; i++) {
+            PlayerGPU playerGPU = new PlayerGPU(deck, i, lock, turnManager, pile, events, "GPU " + (i - 1),
+                    strategies.get(), schedulers.get());
+            playerGPU.setOpponentModel(opponentModel);
+            playerGPU.setPondering(true);
+            playerGPUList.add(playerGPU);
+            playerGPU.initializePlayer();
+        }
+
+        takeWiner = new TakeWiner(turnManager, lock, events);
+    }
+
+    /**
+     * Starts every thread of the match.
+     *
+     * @throws IllegalStateException if the session was already started or closed
+     */
+    public void start() {
+        if (started || closed) {
+            throw new IllegalStateException("Session already started or closed");
+        }
+        started = true;
+
+        for (Thread thread : threads()) {
+            thread.setDaemon(true);
+        }
+        rechargeDeck.setName("50zo-recharge");
+        takeWiner.setName("50zo-winner");
+        playerHuman.setName("50zo-human");
+        for (PlayerGPU g : playerGPUList) {
+            g.setName("50zo-gpu-" + (g.getTurn() - 1));
+        }
+
+        rechargeDeck.start();
+        takeWiner.start();
+        playerHuman.start();
+        for (PlayerGPU g : playerGPUList) {
+            g.start();
+        }
+    }
+
+    /**
+     * Stops and joins every thread of the match and drops all references held by
+     * this session. Calling this method more than once has no further effect.
+     *
+     * @return {@code true} if every thread finished within the join timeout
+     */
+    public boolean close() {
+        if (closed) {
+            return true;
+        }
+        closed = true;
+
+        List<Thread> threads = threads();
+        takeWiner.stopChecking();
+        for (Thread thread : threads) {
+            thread.interrupt();
+        }
+
+        boolean allStopped = true;
+        if (started) {
+            for (Thread thread : threads) {
+                try {
+                    thread.join(JOIN_TIMEOUT_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (thread.isAlive()) {
+                    System.err.println("⚠ Thread did not stop: " + thread.getName());
+                    allStopped = false;
+                }
+            }
+        }
+
+        listener = null;
+        deck = null;
+        pile = null;
+        turnManager = null;
+        lock = null;
+        rechargeDeck = null;
+        playerHuman = null;
+        playerGPUList = Collections.emptyList();
+        takeWiner = null;
+        return allStopped;
+    }
+
+    /**
+     * Returns every thread owned by this session.
+     *
+     * @return the recharge, winner-detection and player threads
+     */
+    private List<Thread> threads() {
+        List<Thread> threads = new ArrayList<>();
+        threads.add(rechargeDeck);
+        threads.add(takeWiner);
+        threads.add(playerHuman);
+        threads.addAll(playerGPUList);
+        return threads;
+    }
+
+    /**
+     * Returns whether this session has been closed.
+     *
+     * @return {@code true} once {@link #close()} has been called
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Returns the deck of this match.
+     *
+     * @return the deck, or {@code null} once closed
+     */
+    public Deck getDeck() {
+        return deck;
+    }
+
+    /**
+     * Returns the central pile of this match.
+     *
+     * @return the pile, or {@code null} once closed
+     */
+    public CardPile getPile() {
+        return pile;
+    }
+
+    /**
+     * Returns the turn manager of this match.
+     *
+     * @return the turn manager, or {@code null} once closed
+     */
+    public TurnManager getTurnManager() {
+        return turnManager;
+    }
+
+    /**
+     * Returns the lock shared by the threads of this match.
+     *
+     * @return the lock, or {@code null} once closed
+     */
+    public Object getLock() {
+        return lock;
+    }
+
+    /**
+     * Returns the human player of this match.
+     *
+     * @return the human player, or {@code null} once closed
+     */
+    public PlayerHuman getPlayerHuman() {
+        return playerHuman;
+    }
+
+    /**
+     * Returns the GPU players of this match, in turn order.
+     *
+     * @return the GPU players, or an empty list once closed
+     */
+    public List<PlayerGPU> getPlayerGPUList() {
+        return playerGPUList;
+    }
+
+    /**
+     * Forks the current position of the match into a detached {@link HeadlessGame}:
+     * the pile, the deck in its order, the hand of every player still in the game
+     * and the seat to move (turn {@code n} is seat {@code n - 1}). Nothing the fork
+     * does affects the match, so it can be searched or played out freely.
+     *
+     * <p>Everything is read in one critical section: under the lock of the match,
+     * which every player holds while it plays and draws, and then under the deck's
+     * monitor, which the recharge thread holds while it moves cards between the
+     * pile and the deck. A bot holds the lock for its whole turn, so a caller on
+     * the JavaFX application thread should only ask on the human's turn. A position
+     * caught between the human's card and its draw (a hand of fewer than four
+     * cards), or a pile value its top card cannot leave, is not returned, and the
+     * caller simply asks again at the next turn.</p>
+     *
+     * @param seed the seed of the shuffles of the fork
+     * @return the fork, or {@code null} if the session is closed or no stable
+     *         position could be read
+     */
+    public HeadlessGame snapshot(long seed) {
+        Object lock = this.lock;
+        Deck deck = this.deck;
+        TurnManager turnManager = this.turnManager;
+        if (closed || lock == null || deck == null || turnManager == null) {
+            return null;
+        }
+        int seats = turnManager.getTotalPlayers();
+        int[] hands = new int[seats * Rules.HAND_SIZE];
+        int[] sizes = new int[seats];
+        int aliveMask = 0;
+        int[] pileCards;
+        int[] deckCards;
+        int pileValue;
+        int current;
+        synchronized (lock) {
+            synchronized (deck) {
+                for (int turn : new ArrayList<>(turnManager.getTotalTurns())) {
+                    int[] hand = encode(turn == 1 ? playerHuman.getHand() : playerGPUList.get(turn - 2).getHand());
+                    if (hand == null || hand.length != Rules.HAND_SIZE) {
+                        return null;
+                    }
+                    System.arraycopy(hand, 0, hands, (turn - 1) * Rules.HAND_SIZE, hand.length);
+                    sizes[turn - 1] = hand.length;
+                    aliveMask |= 1 << (turn - 1);
+                }
+                pileCards = encode(pile.getCards());
+                deckCards = encode(deck.getDeck());
+                pileValue = pile.getValuePile();
+                current = turnManager.getActualTurn() - 1;
+            }
+        }
+        if (pileCards == null || deckCards == null || pileCards.length == 0 || (aliveMask & (1 << current)) == 0
+                || pileCards.length + deckCards.length + Integer.bitCount(aliveMask) * Rules.HAND_SIZE
+                > deck.getDecks() * Rules.DECK_SIZE
+                || !leaves(pileCards[pileCards.length - 1], pileValue)) {
+            return null;
+        }
+        // The deque yields the top card first; the headless deck keeps it last
+        for (int i = 0, j = deckCards.length - 1; i < j; i++, j--) {
+            int tmp = deckCards[i];
+            deckCards[i] = deckCards[j];
+            deckCards[j] = tmp;
+        }
+        HeadlessGame game = new HeadlessGame(seats, deck.getDecks());
+        game.setState(pileValue, pileCards, pileCards.length, deckCards, deckCards.length,
+                hands, sizes, aliveMask, current, seed);
+        return game;
+    }
+
+    /**
+     * Tells whether playing a card can have left the pile at a value: the value is
+     * within the limit, and so was the pile before the card.
+     *
+     * @param topCard   the encoded top card of the pile
+     * @param pileValue the value of the pile
+     * @return {@code true} if the value matches the top card
+     */
+    private static boolean leaves(int topCard, int pileValue) {
+        return pileValue <= Rules.MAX_PILE && pileValue - Rules.value(Rules.rankOf(topCard)) <= Rules.MAX_PILE;
+    }
+
+    /**
+     * Encodes a copy of some cards taken while their owner may be changing them.
+     *
+     * @param cards the cards, in order
+     * @return the encoded cards, or {@code null} if the copy caught a card being moved
+     */
+    private static int[] encode(Collection<Card> cards) {
+        Object[] copy = cards.toArray();
+        int[] encoded = new int[copy.length];
+        for (int i = 0; i < copy.length; i++) {
+            if (copy[i] == null) {
+                return null;
+            }
+            encoded[i] = Rules.cardOf((Card) copy[i]);
+        }
+        return encoded;
+    }
+
+    /**
+     * Listener handed to the threads of this session. Each event is delivered on
+     * the session executor and dropped if the session is closed by then.
+     */
+    private class SessionEvents implements IGameListener {
+
+        /**
+         * Delivers an event to the session listener unless the session is closed.
+         *
+         * @param event the event to deliver
+         */
+        private void deliver(Consumer<IGameListener> event) {
+            eventExecutor.execute(() -> {
+                IGameListener target = listener;
+                if (!closed && target != null) {
+                    event.accept(target);
+                }
+            });
+        }
+
+        @Override
+        public void onPileChanged(Card topCard) {
+            deliver(l -> l.onPileChanged(topCard));
+        }
+
+        @Override
+        public void onBotHandChanged(int botTurn) {
+            deliver(l -> l.onBotHandChanged(botTurn));
+        }
+
+        @Override
+        public void onTurnChanged(int actualTurn) {
+            deliver(l -> l.onTurnChanged(actualTurn));
+        }
+
+        @Override
+        public void onHumanEliminated() {
+            deliver(IGameListener::onHumanEliminated);
+        }
+
+        @Override
+        public void onGameOver(int winnerTurn) {
+            deliver(l -> l.onGameOver(winnerTurn));
+        }
+    }
+}
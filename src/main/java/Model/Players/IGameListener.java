@@ -0,0 +1,52 @@
+package Model.Players;
+
+import Model.Cards.Card;
+
+/**
+ * The {@code IGameListener} interface receives the game events that the
+ * interface needs to reflect while a match is running.
+ *
+ * Player and monitoring threads never talk to the user interface directly:
+ * they notify the listener owned by their {@link GameSession}, which delivers
+ * each event on the executor chosen by the session (the JavaFX application
+ * thread for the real game, the calling thread for headless runs).
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public interface IGameListener {
+
+    /**
+     * Called after a GPU player places a card on the pile.
+     *
+     * @param topCard the card now on top of the pile
+     */
+    void onPileChanged(Card topCard);
+
+    /**
+     * Called when the hand or the status of a GPU player changes. Only the seat
+     * of that player needs to be refreshed.
+     *
+     * @param botTurn the turn number of the GPU player
+     */
+    void onBotHandChanged(int botTurn);
+
+    /**
+     * Called after a GPU player passes the turn to the next player.
+     *
+     * @param actualTurn the turn number of the player whose turn starts
+     */
+    void onTurnChanged(int actualTurn);
+
+    /**
+     * Called when the human player is eliminated from the match.
+     */
+    void onHumanEliminated();
+
+    /**
+     * Called once when a single player remains in the match.
+     *
+     * @param winnerTurn the turn number of the winning player
+     */
+    void onGameOver(int winnerTurn);
+}
@@ -1,49 +1,132 @@
 package Model.Players;
 
+import Model.Bots.BotStrategy;
+import Model.Bots.DecisionBudget;
+import Model.Bots.DecisionScheduler;
+import Model.Bots.DecisionView;
+import Model.Bots.Difficulty;
+import Model.Bots.GreedyStrategy;
+import Model.Bots.OpponentModel;
+import Model.Bots.Ponderer;
 import Model.Cards.CardPile;
 import Model.Cards.Deck;
 import Model.Cards.Card;
 import Model.Exceptions.InvalidCardException;
-import Controller.GameWindowController;
-import javafx.application.Platform;
-import java.util.concurrent.ThreadLocalRandom;
+import Model.Metrics.GameMetrics;
 
 /**
  * Represents an AI-controlled player (GPU) in the card game.
  *
- * <p>This class extends {@link AdapterPlayers} and defines the automated
- * decision-making logic of a non-human player. GPU players perform actions
- * such as validating cards, playing valid moves, drawing cards, and updating
- * the game interface without user input.</p>
+ * <p>This class extends {@link AdapterPlayers} and runs the turns of a
+ * non-human player: it waits for its turn, plays a card, draws a new one and
+ * updates the game interface without user input. Which card to play is decided
+ * by a {@link BotStrategy}, given a {@link DecisionView} of the table and a
+ * {@link DecisionBudget} that bounds the time and nodes each decision may use.
+ * Decisions run through a {@link DecisionScheduler}, which enforces the hard
+ * deadline of the bot's {@link Difficulty} and shrinks the budget when the machine
+ * is too slow for it. The turn is then paced to a fixed length on screen, which
+ * only keeps the table readable and has nothing to do with the bot's strength.</p>
  *
  * <p>GPU players run within their own threads and synchronize their actions
- * with other players using a shared lock mechanism. All UI interactions are
- * executed on the JavaFX application thread using
- * {@link Platform#runLater(Runnable)}.</p>
+ * with other players using a shared lock mechanism. UI updates are requested
+ * through the {@link IGameListener} of the owning {@link GameSession}, which
+ * delivers them on the JavaFX application thread.</p>
  *
  * @author Juan-David-Brandon
  * @since 2025
  */
 public class PlayerGPU extends AdapterPlayers {
 
-    /** Controller responsible for updating the game UI. */
-    private final GameWindowController controller;
+    /** Default time limit of one decision, in milliseconds. */
+    public static final long DEFAULT_BUDGET_MS = 50;
+
+    /** Default length of a turn on screen, in milliseconds. */
+    public static final long DEFAULT_PACING_MS = 1500;
+
+    /** Listener notified whenever the table needs to be refreshed. */
+    private final IGameListener listener;
+
+    /** Strategy that chooses the card to play. */
+    private final BotStrategy strategy;
+
+    /** Compute budget of each decision; reused for every turn. */
+    private final DecisionBudget budget;
+
+    /** Runs each decision under the deadline and adapts the budget to the machine. */
+    private final DecisionScheduler scheduler;
+
+    /** Length of a turn on screen, decision included, in milliseconds. */
+    private volatile long pacingMillis = DEFAULT_PACING_MS;
+
+    /** What this player knows about the table; refilled before every decision. */
+    private final DecisionView view = new DecisionView();
+
+    /** Precomputes decisions while the previous seat plays, or {@code null} when not pondering. */
+    private Ponderer ponderer;
+
+    /** Fingerprint of the table the running pondering started from. */
+    private long ponderedTable;
 
     /**
-     * Constructs a new GPU player.
+     * Constructs a new GPU player that plays with a {@link GreedyStrategy}
+     * and a budget of {@value #DEFAULT_BUDGET_MS} ms per decision.
      *
      * @param deck         the main deck from which cards are drawn
      * @param myTurn       the turn number assigned to this player
      * @param lock         shared lock used for thread synchronization
      * @param turnManager  manager that controls turn order
      * @param cardPile     the pile where this player places cards
-     * @param controller   the controller used to update the interface
+     * @param listener     the listener used to update the interface
      * @param playerType   label identifying the player type
      */
     public PlayerGPU(Deck deck, int myTurn, Object lock, TurnManager turnManager,
-                     CardPile cardPile, GameWindowController controller, String playerType) {
+                     CardPile cardPile, IGameListener listener, String playerType) {
+        this(deck, myTurn, lock, turnManager, cardPile, listener, playerType,
+                new GreedyStrategy(), DecisionBudget.ofMillis(DEFAULT_BUDGET_MS));
+    }
+
+    /**
+     * Constructs a new GPU player with its own strategy and decision budget.
+     *
+     * @param deck         the main deck from which cards are drawn
+     * @param myTurn       the turn number assigned to this player
+     * @param lock         shared lock used for thread synchronization
+     * @param turnManager  manager that controls turn order
+     * @param cardPile     the pile where this player places cards
+     * @param listener     the listener used to update the interface
+     * @param playerType   label identifying the player type
+     * @param strategy     the strategy that chooses the card to play
+     * @param budget       the compute budget of each decision
+     */
+    public PlayerGPU(Deck deck, int myTurn, Object lock, TurnManager turnManager,
+                     CardPile cardPile, IGameListener listener, String playerType,
+                     BotStrategy strategy, DecisionBudget budget) {
+        this(deck, myTurn, lock, turnManager, cardPile, listener, playerType, strategy,
+                new DecisionScheduler(budget, DecisionBudget.UNLIMITED));
+    }
+
+    /**
+     * Constructs a new GPU player whose decisions run under a scheduler, e.g. the
+     * one of a {@link Difficulty} level.
+     *
+     * @param deck         the main deck from which cards are drawn
+     * @param myTurn       the turn number assigned to this player
+     * @param lock         shared lock used for thread synchronization
+     * @param turnManager  manager that controls turn order
+     * @param cardPile     the pile where this player places cards
+     * @param listener     the listener used to update the interface
+     * @param playerType   label identifying the player type
+     * @param strategy     the strategy that chooses the card to play
+     * @param scheduler    the scheduler of each decision, holding its budget and deadline
+     */
+    public PlayerGPU(Deck deck, int myTurn, Object lock, TurnManager turnManager,
+                     CardPile cardPile, IGameListener listener, String playerType,
+                     BotStrategy strategy, DecisionScheduler scheduler) {
         super(deck, myTurn, lock, turnManager, cardPile, playerType);
-        this.controller = controller;
+        this.listener = listener;
+        this.strategy = strategy;
+        this.scheduler = scheduler;
+        this.budget = scheduler.getBudget();
     }
 
     /**
@@ -53,13 +136,14 @@ public class PlayerGPU extends AdapterPlayers {
      * During each cycle, the GPU waits for its turn, attempts to play a valid
      * card, draws a new one, and then passes the turn to the next player.</p>
      *
-     * <p>All updates to the graphical interface are done via the JavaFX
-     * application thread.</p>
+     * <p>All updates to the graphical interface are requested through the
+     * session listener.</p>
      */
     @Override
     public void run() {
 
         while (isPlaying) {
+            boolean interrupted = false;
             synchronized (lock) {
 
                 // Check if this GPU is the last remaining player
@@ -69,13 +153,29 @@ public class PlayerGPU extends AdapterPlayers {
                     break;
                 }
 
-                // Wait until this GPU's turn starts
-                while (isPlaying && turnManager.getActualTurn() != turn) {
-                    try {
+                // Wait until this GPU's turn starts, pondering while the previous seat plays
+                try {
+                    while (isPlaying && turnManager.getActualTurn() != turn) {
+                        ponder();
                         lock.wait();
-                    } catch (InterruptedException e) {
-                        return;
                     }
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+
+            // Stop pondering without the lock, so the table is not frozen while the search winds down
+            long turnStart = System.nanoTime();
+            stopPondering();
+            if (interrupted) {
+                return;
+            }
+
+            synchronized (lock) {
+
+                // The turn may have moved on, e.g. the game was closed, while the lock was free
+                if (isPlaying && turnManager.getActualTurn() != turn) {
+                    continue;
                 }
 
                 // Check again after waking up
@@ -94,47 +194,40 @@ public class PlayerGPU extends AdapterPlayers {
                 if (!hasValidCards()) {
 
                     returnCardsToDecK();
-                    Platform.runLater(controller::printCardsGPU);
+                    listener.onBotHandChanged(turn);
 
                     turnManager.setLasTurnEliminate(turn);
                     isPlaying = false;
 
                     turnManager.passTurn();
-                    controller.notifyBotTurnChange();
+                    listener.onTurnChanged(turnManager.getActualTurn());
                     lock.notifyAll();
                     break;
                 }
 
-                // Simulate decision-making delay
+                // Ask the strategy for a card within the deadline, then let the pace run out
+                int choice = decide();
                 try {
-                    Thread.sleep(ThreadLocalRandom.current().nextInt(2000, 4001));
+                    Thread.sleep(Math.max(0, pacingMillis - (System.nanoTime() - turnStart) / 1_000_000));
                 } catch (InterruptedException e) {
                     return;
                 }
 
-                // Attempt to play a valid card
-                if (!hand.isEmpty()) {
-                    boolean cardPlayed = false;
-
-                    for (int i = 0; i < hand.size() && !cardPlayed; i++) {
-                        try {
-                            Card cardToPlay = hand.get(i);
-                            putCard(i, cardPile);
-
-                            final Card finalCard = cardToPlay;
-                            Platform.runLater(() -> controller.updatePileImage(finalCard));
-
-                            cardPlayed = true;
-
-                        } catch (InvalidCardException e) {
-                            // Try next card
-                        }
+                Card cardPlayed = playCard(choice);
+                if (cardPlayed == null) {
+                    System.err.println("⚠ " + strategy.name() + " chose an unplayable card (" + choice
+                            + "), playing the first valid one");
+                    for (int i = 0; i < hand.size() && cardPlayed == null; i++) {
+                        cardPlayed = playCard(i);
                     }
                 }
+                if (cardPlayed != null) {
+                    listener.onPileChanged(cardPlayed);
+                }
 
                 // Delay before drawing a card
                 try {
-                    Thread.sleep(ThreadLocalRandom.current().nextInt(1000, 2000));
+                    Thread.sleep(pacingMillis / 2);
                 } catch (InterruptedException e) {
                     return;
                 }
@@ -146,17 +239,175 @@ public class PlayerGPU extends AdapterPlayers {
                 }
 
                 // Update GPU hand on UI
-                Platform.runLater(controller::printCardsGPU);
+                listener.onBotHandChanged(turn);
 
                 // End of turn
                 turnManager.passTurn();
-                controller.notifyBotTurnChange();
+                listener.onTurnChanged(turnManager.getActualTurn());
                 lock.notifyAll();
             }
         }
 
         // Update UI when thread ends
-        Platform.runLater(controller::printCardsGPU);
+        listener.onBotHandChanged(turn);
+    }
+
+    /**
+     * Fills the decision view from the table and takes the pondered decision for
+     * it, or asks the strategy for a card through the decision scheduler.
+     *
+     * @return the position of the chosen card in the hand, or {@code -1}
+     */
+    private int decide() {
+        GameMetrics metrics = GameMetrics.getInstance();
+        fillView();
+        if (ponderer != null) {
+            budget.start();
+            int pondered = ponderer.lookup(view);
+            budget.finish();
+            metrics.recordPonder(pondered != Ponderer.MISS);
+            if (pondered != Ponderer.MISS) {
+                metrics.recordBotDecision(turn, budget.usedNanos());
+                return pondered;
+            }
+        }
+        int choice = scheduler.decide(strategy, view);
+        metrics.recordBotDecision(turn, budget.usedNanos());
+        if (scheduler.getLastOverrun() > 0) {
+            metrics.recordBotOverrun(scheduler.getLastOverrun());
+        }
+        return choice;
+    }
+
+    /**
+     * Starts pondering if the seat now playing is the one right before this
+     * player and the table changed since pondering last started. Called with
+     * the shared lock held.
+     */
+    private void ponder() {
+        int actual = turnManager.getActualTurn();
+        if (ponderer == null || actual == turn || turnManager.getNextTurn() != turn
+                || !turnManager.getTotalTurns().contains(actual)) {
+            return;
+        }
+        fillView();
+        long table = view.fingerprint() ^ actual;
+        if (table != ponderedTable) {
+            ponderedTable = table;
+            ponderer.start(view, actual - 1);
+        }
+    }
+
+    /**
+     * Stops pondering, so the strategy is free for this player's own turn. Called
+     * without the shared lock, since it waits for the pondered search to stop.
+     */
+    private void stopPondering() {
+        if (ponderer != null) {
+            ponderer.cancel();
+        }
+    }
+
+    /**
+     * Fills the decision view with what this player knows about the table now.
+     */
+    private void fillView() {
+        synchronized (deck) {
+            // The recharge thread moves pile cards into the deck under the deck's monitor
+            view.begin(turn - 1, turnManager.getTotalPlayers(), deck.getDecks(),
+                    cardPile.getValuePile(), deck.getDeck().size());
+            view.addHand(hand);
+        }
+        counter.copyTo(view);
+        int aliveMask = 0;
+        for (int t : turnManager.getTotalTurns()) {
+            aliveMask |= 1 << (t - 1);
+            if (t != turn) {
+                view.setHandSize(t - 1, 4);
+            }
+        }
+        view.setAliveMask(aliveMask);
+        OpponentModel model = opponentModel;
+        if (model != null) {
+            model.copyTo(view);
+        }
+    }
+
+    /**
+     * Plays the card at the given position of the hand, if it is a legal play.
+     *
+     * @param index the position of the card in the hand
+     * @return the card played, or {@code null} if the index is invalid or the card cannot be played
+     */
+    private Card playCard(int index) {
+        if (index < 0 || index >= hand.size()) {
+            return null;
+        }
+        Card card = hand.get(index);
+        try {
+            putCard(index, cardPile);
+            return card;
+        } catch (InvalidCardException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the strategy of this player.
+     *
+     * @return the strategy that chooses the card to play
+     */
+    public BotStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Returns the scheduler of this player's decisions.
+     *
+     * @return the scheduler, holding the decision and overrun histograms
+     */
+    public DecisionScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Sets how long a turn lasts on screen. The decision is part of that time, so
+     * a slow decision does not make the turn longer; the pace is only there to let
+     * the player follow the table and has no effect on how well the bot plays.
+     *
+     * @param millis the length of a turn in milliseconds, {@code 0} to play at full speed
+     */
+    public void setPacing(long millis) {
+        this.pacingMillis = Math.max(0, millis);
+    }
+
+    /**
+     * Turns pondering on or off: when on, this player precomputes its decision
+     * for the likely plays of the previous seat while that seat plays, on the
+     * shared low-priority pool. Must be called before the thread starts.
+     *
+     * @param enabled whether to ponder
+     */
+    public void setPondering(boolean enabled) {
+        ponderer = enabled ? new Ponderer(strategy, scheduler) : null;
+    }
+
+    /**
+     * Returns whether this player ponders during the previous seat's turn.
+     *
+     * @return {@code true} if pondering is on
+     */
+    public boolean isPondering() {
+        return ponderer != null;
+    }
+
+    /**
+     * Returns the decision budget of this player, holding the usage of its last decision.
+     *
+     * @return the decision budget
+     */
+    public DecisionBudget getBudget() {
+        return budget;
     }
 
     /**
@@ -177,6 +428,11 @@ public class PlayerGPU extends AdapterPlayers {
         }
 
         hand.clear();
+        counter.onHandReturned();
+        OpponentModel model = opponentModel;
+        if (model != null) {
+            model.onEliminated(turn - 1);
+        }
         deck.shuffle();
     }
 
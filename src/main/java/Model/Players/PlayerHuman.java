@@ -1,13 +1,9 @@
 package Model.Players;
 
-import Controller.GameWindowController;
+import Model.Bots.OpponentModel;
 import Model.Cards.Card;
 import Model.Cards.CardPile;
 import Model.Cards.Deck;
-import View.Eliminate;
-import View.ShowWiner;
-import javafx.application.Platform;
-import java.io.IOException;
 
 /**
  * Represents a human-controlled player in the card game.
@@ -32,15 +28,12 @@ public class PlayerHuman extends AdapterPlayers {
     /** Indicates whether the player has completed their turn. */
     private boolean turnFinished = false;
 
-    /** Reference to the game controller responsible for UI updates. */
-    private GameWindowController controller;
+    /** Listener notified when the player is eliminated. */
+    private IGameListener listener;
 
     /** Indicates whether the human player has already won the match. */
     private boolean isWin = false;
 
-    /** Window used to display turn, win, or elimination messages. */
-    private ShowWiner showWiner;
-
     /**
      * Constructs a new human player.
      *
@@ -49,12 +42,14 @@ public class PlayerHuman extends AdapterPlayers {
      * @param lock        shared synchronization object used for turn control
      * @param turnManager the manager controlling turn order
      * @param cardPile    the shared pile where cards are placed
+     * @param listener    the listener notified of the player's elimination
      * @param playerType  identifier for the player type
      */
-    public PlayerHuman(Deck deck, int myTurn, Object lock, TurnManager turnManager, CardPile cardPile, String playerType) {
+    public PlayerHuman(Deck deck, int myTurn, Object lock, TurnManager turnManager, CardPile cardPile,
+                       IGameListener listener, String playerType) {
         super(deck, myTurn, lock, turnManager, cardPile, playerType);
         takeHand();
-        controller = new GameWindowController();
+        this.listener = listener;
     }
 
     /**
@@ -112,19 +107,9 @@ public class PlayerHuman extends AdapterPlayers {
                 // Eliminate the player if they have no valid cards
                 if (!hasValidCards()) {
 
-                    Platform.runLater(() -> {
-                        try {
-                            Eliminate.getInstance().show();
-                        } catch (IOException e) {
-                            e.printStackTrace();
-                        }
-                    });
-
                     returnCardsToDecK();
 
-                    Platform.runLater(() -> {
-                        controller.notifyHumanEliminated();
-                    });
+                    listener.onHumanEliminated();
 
                     turnManager.setLasTurnEliminate(turn);
 
@@ -173,6 +158,11 @@ public class PlayerHuman extends AdapterPlayers {
         }
 
         hand.clear();
+        counter.onHandReturned();
+        OpponentModel model = opponentModel;
+        if (model != null) {
+            model.onEliminated(turn - 1);
+        }
         deck.shuffle();
     }
 
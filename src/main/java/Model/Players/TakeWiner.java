@@ -1,9 +1,5 @@
 package Model.Players;
 
-import View.ShowWiner;
-import javafx.application.Platform;
-import java.io.IOException;
-import java.util.List;
 
 /**
  * The {@code TakeWiner} class is a background thread responsible for detecting
@@ -11,7 +7,7 @@ import java.util.List;
  *
  * <p>This thread continuously monitors the {@link TurnManager} and waits for
  * updates using a shared synchronization lock. When the number of active turns
- * is reduced to one, it triggers the JavaFX message window displaying the winner.</p>
+ * is reduced to one, it notifies the session listener, which displays the winner.</p>
  *
  * <h3>Thread Behavior:</h3>
  * <ul>
@@ -21,12 +17,13 @@ import java.util.List;
  * </ul>
  *
  * <h3>Winner Message:</h3>
- * <p>When a winner is detected, the thread uses {@link Platform#runLater(Runnable)}
- * to safely open the JavaFX {@link ShowWiner} window.</p>
+ * <p>When a winner is detected, the thread calls
+ * {@link IGameListener#onGameOver(int)}; the listener of the owning
+ * {@link GameSession} opens the winner window on the JavaFX thread.</p>
  *
  * <h3>Usage:</h3>
  * <pre>{@code
- * TakeWiner takeWiner = new TakeWiner(turnManager, lock, humanPlayer, gpuPlayers);
+ * TakeWiner takeWiner = new TakeWiner(turnManager, lock, listener);
  * takeWiner.start();
  * }</pre>
  *
@@ -46,11 +43,8 @@ public class TakeWiner extends Thread {
     /** Controls the main loop of the monitoring thread. */
     private volatile boolean running = true;
 
-    /** Reference to the human player. */
-    private PlayerHuman playerHuman;
-
-    /** List of GPU-controlled players. */
-    private List<PlayerGPU> playerGPUList;
+    /** Listener notified when the winner is known. */
+    private IGameListener listener;
 
     /**
      * Constructs a {@code TakeWiner} monitoring thread.
@@ -60,14 +54,12 @@ public class TakeWiner extends Thread {
      *
      * @param turnManager the turn manager containing the active turns
      * @param lock the shared lock used for thread synchronization
-     * @param humanPlayer the human player instance
-     * @param playerGPUList the list of GPU players
+     * @param listener the listener notified when the winner is known
      */
-    public TakeWiner(TurnManager turnManager, Object lock, PlayerHuman humanPlayer, List<PlayerGPU> playerGPUList) {
+    public TakeWiner(TurnManager turnManager, Object lock, IGameListener listener) {
         this.turnManager = turnManager;
         this.lock = lock;
-        this.playerHuman = humanPlayer;
-        this.playerGPUList = playerGPUList;
+        this.listener = listener;
         this.setDaemon(true); // Ends automatically when the app closes
     }
 
@@ -125,27 +117,15 @@ public class TakeWiner extends Thread {
     }
 
     /**
-     * Opens the message window showing the winner.
+     * Notifies the listener that the match has a winner.
      *
-     * <p>This method retrieves the remaining player's turn index and safely
-     * executes the JavaFX UI update on the application thread.</p>
+     * <p>This method retrieves the remaining player's turn index; the listener
+     * is responsible for executing the UI update on the application thread.</p>
      */
     private void showWinnerMessage() {
         final int winnerTurn = turnManager.getTotalTurns().get(0);
         System.out.println("🏆 Winning turn: " + winnerTurn);
-
-        Platform.runLater(() -> {
-            try {
-                ShowWiner showWiner = new ShowWiner(1, playerHuman, playerGPUList, turnManager);
-                System.out.println("📢 Displaying win message...");
-                showWiner.show();
-                System.out.println("✅ Message displayed successfully");
-
-            } catch (IOException e) {
-                System.err.println("❌ Error displaying win message:");
-                e.printStackTrace();
-            }
-        });
+        listener.onGameOver(winnerTurn);
     }
 
     /**
@@ -55,6 +55,19 @@ public class TurnManager {
         return actualTurn;
     }
 
+    /**
+     * Returns the turn that {@link #passTurn()} would move to, skipping the
+     * players already eliminated.
+     *
+     * @return the next player's turn number, or the current one if only one player is left
+     */
+    public synchronized int getNextTurn() {
+        if (totalTurns.size() <= 1) {
+            return actualTurn;
+        }
+        return totalTurns.get((iterator + 1) % totalTurns.size());
+    }
+
     /**
      * Advances the turn to the next player in the list.
      * If the iterator reaches the end of the list, it loops back to the beginning.
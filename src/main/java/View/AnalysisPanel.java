@@ -0,0 +1,165 @@
+package View;
+
+import Model.Bots.PositionAnalyzer;
+import Model.Engine.Rules;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+
+/**
+ * Side panel of the game window that shows the chance of winning after each card
+ * the seat to move can play.
+ * <p>
+ * The figures come from a {@link PositionAnalyzer} run by the controller on a
+ * fork of the match. In a live match the controller only analyzes the human's
+ * turns, since the rows of a bot's turn would show its hidden hand; the panel
+ * itself shows any seat, for positions where every hand is known. Each card of
+ * the mover's hand has a row with its symbol, a bar and the estimated win
+ * probability with its 95% margin; the best card is shown in gold and the cards
+ * that cannot be played are greyed out. The rows are created once and only their
+ * text changes, as the analysis streams in and sharpens.
+ * </p>
+ *
+ * <p>Pressing {@link #TOGGLE_KEY} shows or hides the panel. The controller watches
+ * {@link #visibleProperty()} to run the analysis only while the panel is shown.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class AnalysisPanel extends VBox {
+
+    /** Key that shows or hides the panel. */
+    public static final KeyCode TOGGLE_KEY = KeyCode.F4;
+
+    /** Width of the panel, in pixels. */
+    private static final double WIDTH = 260;
+
+    /** Style of a row's text. */
+    private static final String ROW_STYLE = "-fx-text-fill: white; -fx-font-family: monospace; -fx-font-size: 13px;";
+
+    /** Style of the best card's text. */
+    private static final String BEST_STYLE = "-fx-text-fill: gold; -fx-font-family: monospace; -fx-font-size: 13px;"
+            + " -fx-font-weight: bold;";
+
+    /** Style of an unplayable card's text. */
+    private static final String UNPLAYABLE_STYLE = "-fx-text-fill: #888888; -fx-font-family: monospace;"
+            + " -fx-font-size: 13px;";
+
+    /** Label naming the seat to move. */
+    private final Label titleLabel = new Label();
+
+    /** Symbol of each card. */
+    private final Label[] cardLabels = new Label[Rules.HAND_SIZE];
+
+    /** Bar of each card's win probability. */
+    private final ProgressBar[] bars = new ProgressBar[Rules.HAND_SIZE];
+
+    /** Win probability of each card. */
+    private final Label[] valueLabels = new Label[Rules.HAND_SIZE];
+
+    /** Row of each card. */
+    private final HBox[] rows = new HBox[Rules.HAND_SIZE];
+
+    /** Label showing the playouts behind the figures. */
+    private final Label statusLabel = new Label();
+
+    /**
+     * Creates the panel on the right of the given scene and binds the toggle key.
+     * The panel starts hidden; the caller adds it to the scene graph.
+     *
+     * @param scene the scene of the game window
+     */
+    public AnalysisPanel(Scene scene) {
+        setVisible(false);
+        setMouseTransparent(true);
+        setSpacing(6);
+        setPrefWidth(WIDTH);
+        setLayoutX(scene.getRoot().prefWidth(-1) - WIDTH - 10);
+        setLayoutY(10);
+        setStyle("-fx-background-color: rgba(0,0,0,0.7); -fx-padding: 8; -fx-background-radius: 6;");
+        titleLabel.setStyle("-fx-text-fill: #7CFC00; -fx-font-size: 16px; -fx-font-weight: bold;");
+        statusLabel.setStyle("-fx-text-fill: white; -fx-font-size: 11px;");
+        getChildren().add(titleLabel);
+        for (int i = 0; i < Rules.HAND_SIZE; i++) {
+            cardLabels[i] = new Label();
+            cardLabels[i].setMinWidth(28);
+            bars[i] = new ProgressBar(0);
+            bars[i].setPrefWidth(110);
+            valueLabels[i] = new Label();
+            rows[i] = new HBox(8, cardLabels[i], bars[i], valueLabels[i]);
+            getChildren().add(rows[i]);
+        }
+        getChildren().add(statusLabel);
+        showWaiting();
+
+        scene.addEventHandler(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == TOGGLE_KEY) {
+                toggle();
+            }
+        });
+    }
+
+    /**
+     * Shows the panel if it is hidden, or hides it if it is shown.
+     */
+    public void toggle() {
+        setVisible(!isVisible());
+        if (isVisible()) {
+            toFront();
+        }
+    }
+
+    /**
+     * Clears the figures while no position can be analyzed, e.g. on a bot's turn,
+     * in the middle of a move or once the match is over.
+     */
+    public void showWaiting() {
+        titleLabel.setText("Analysis");
+        for (HBox row : rows) {
+            row.setVisible(false);
+            row.setManaged(false);
+        }
+        statusLabel.setText("Waiting for your turn…");
+    }
+
+    /**
+     * Shows the figures of an analysis.
+     *
+     * @param analysis the latest estimates of the position
+     */
+    public void show(PositionAnalyzer.Analysis analysis) {
+        int seat = analysis.getSeat();
+        titleLabel.setText(seat == 0 ? "Analysis: your move" : "Analysis: Bot " + seat + " to move");
+        int best = analysis.getBest();
+        for (int i = 0; i < Rules.HAND_SIZE; i++) {
+            boolean shown = i < analysis.size();
+            rows[i].setVisible(shown);
+            rows[i].setManaged(shown);
+            if (!shown) {
+                continue;
+            }
+            String style = !analysis.isPlayable(i) ? UNPLAYABLE_STYLE : i == best ? BEST_STYLE : ROW_STYLE;
+            cardLabels[i].setText(Rules.symbol(Rules.rankOf(analysis.getCard(i))));
+            cardLabels[i].setStyle(style);
+            valueLabels[i].setStyle(style);
+            if (analysis.isPlayable(i)) {
+                double p = analysis.getWinProbability(i);
+                bars[i].setProgress(p);
+                valueLabels[i].setText(String.format("%5.1f%% ±%.1f", p * 100, analysis.getMargin(i) * 100));
+            } else {
+                bars[i].setProgress(0);
+                valueLabels[i].setText("over 50");
+            }
+        }
+        if (best < 0) {
+            statusLabel.setText("No card can be played");
+        } else {
+            statusLabel.setText(String.format("%,d playouts per card%s", analysis.getPlayouts(),
+                    analysis.isFinal() ? " (final)" : "…"));
+        }
+    }
+}
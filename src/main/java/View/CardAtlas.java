@@ -0,0 +1,86 @@
+package View;
+
+import Model.Engine.Rules;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+/**
+ * All 52 card faces scaled once into a single image.
+ * <p>
+ * Drawing a card from the atlas copies a region of one texture instead of
+ * scaling a full-size card image, which lets a {@link Canvas} draw hundreds of
+ * cards per frame. Cards are laid out in a grid of 13 columns (ranks) and
+ * 4 rows (suits), indexed with the encoding of {@link Rules}.
+ * </p>
+ *
+ * <p>The atlas must be created on the JavaFX application thread.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class CardAtlas {
+
+    /** Width of one card in the atlas, in pixels. */
+    private final double cardWidth;
+
+    /** Height of one card in the atlas, in pixels. */
+    private final double cardHeight;
+
+    /** The image holding every card face. */
+    private final WritableImage image;
+
+    /**
+     * Builds the atlas by drawing every card of {@link CardImageCache} at the given size.
+     *
+     * @param cardWidth  the width of one card, in pixels
+     * @param cardHeight the height of one card, in pixels
+     */
+    public CardAtlas(double cardWidth, double cardHeight) {
+        this.cardWidth = cardWidth;
+        this.cardHeight = cardHeight;
+        Canvas canvas = new Canvas(cardWidth * Rules.RANKS, cardHeight * Rules.SUITS);
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        for (int card = 0; card < Rules.DECK_SIZE; card++) {
+            gc.drawImage(CardImageCache.get(Rules.imageUrl(card)),
+                    Rules.rankOf(card) * cardWidth, Rules.suitOf(card) * cardHeight, cardWidth, cardHeight);
+        }
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        this.image = canvas.snapshot(parameters, null);
+    }
+
+    /**
+     * Draws a card with its top-left corner at the given position.
+     *
+     * @param gc   the graphics context to draw on
+     * @param card the card, encoded as in {@link Rules}
+     * @param x    the horizontal position
+     * @param y    the vertical position
+     */
+    public void draw(GraphicsContext gc, int card, double x, double y) {
+        gc.drawImage(image,
+                Rules.rankOf(card) * cardWidth, Rules.suitOf(card) * cardHeight, cardWidth, cardHeight,
+                x, y, cardWidth, cardHeight);
+    }
+
+    /**
+     * Returns the width of one card.
+     *
+     * @return the card width, in pixels
+     */
+    public double getCardWidth() {
+        return cardWidth;
+    }
+
+    /**
+     * Returns the height of one card.
+     *
+     * @return the card height, in pixels
+     */
+    public double getCardHeight() {
+        return cardHeight;
+    }
+}
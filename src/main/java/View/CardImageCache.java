@@ -0,0 +1,73 @@
+package View;
+
+import javafx.scene.image.Image;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared cache of decoded card images.
+ * <p>
+ * Every card face and the card back are decoded from the classpath only once
+ * per application run. Controllers and views ask the cache for an {@link Image}
+ * by its resource path (the same path stored in {@link Model.Cards.Card#getUrl()})
+ * instead of building a new {@code Image} each time a card is shown.
+ * </p>
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>{@code
+ * imageView.setImage(CardImageCache.get(card.getUrl()));
+ * }</pre>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public final class CardImageCache {
+
+    /** Resource path of the image used for face-down cards. */
+    public static final String BACK_IMAGE_URL = "/deck/back_red.png";
+
+    /** Decoded images indexed by their resource path. */
+    private static final Map<String, Image> IMAGES = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private CardImageCache() {
+    }
+
+    /**
+     * Returns the decoded image for the given resource path, loading it on first use.
+     *
+     * @param url the classpath resource path of the image (e.g. {@code /deck/A_of_spades.png})
+     * @return the cached image
+     * @throws IllegalArgumentException if the resource does not exist
+     */
+    public static Image get(String url) {
+        return IMAGES.computeIfAbsent(url, CardImageCache::load);
+    }
+
+    /**
+     * Returns the image used for face-down cards.
+     *
+     * @return the cached card back image
+     */
+    public static Image back() {
+        return get(BACK_IMAGE_URL);
+    }
+
+    /**
+     * Decodes an image from the classpath.
+     *
+     * @param url the classpath resource path of the image
+     * @return the decoded image
+     * @throws IllegalArgumentException if the resource does not exist
+     */
+    private static Image load(String url) {
+        var stream = CardImageCache.class.getResourceAsStream(url);
+        if (stream == null) {
+            throw new IllegalArgumentException("Card image not found: " + url);
+        }
+        return new Image(stream);
+    }
+}
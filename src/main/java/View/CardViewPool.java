@@ -0,0 +1,88 @@
+package View;
+
+import javafx.scene.Node;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+
+/**
+ * Pool of {@link ImageView} nodes used to display cards on the table.
+ * <p>
+ * Card containers release their nodes back to the pool when a player leaves
+ * the table and acquire them again when a new match starts, so the scene graph
+ * does not build new nodes for every game.
+ * </p>
+ *
+ * <p>The pool is not thread-safe: it must only be used from the JavaFX
+ * application thread, like the nodes it holds.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class CardViewPool {
+
+    /** Width applied to every card node handed out by this pool. */
+    private final double cardWidth;
+
+    /** Height applied to every card node handed out by this pool. */
+    private final double cardHeight;
+
+    /** Nodes currently available for reuse. */
+    private final Deque<ImageView> free = new ArrayDeque<>();
+
+    /**
+     * Creates an empty pool that hands out card nodes of the given size.
+     *
+     * @param cardWidth  the fit width of each card node
+     * @param cardHeight the fit height of each card node
+     */
+    public CardViewPool(double cardWidth, double cardHeight) {
+        this.cardWidth = cardWidth;
+        this.cardHeight = cardHeight;
+    }
+
+    /**
+     * Returns a card node showing the given image, reusing a pooled node when possible.
+     *
+     * @param image the image to display
+     * @return a visible card node detached from any parent
+     */
+    public ImageView acquire(Image image) {
+        ImageView view = free.poll();
+        if (view == null) {
+            view = new ImageView();
+            view.setFitWidth(cardWidth);
+            view.setFitHeight(cardHeight);
+        }
+        view.setImage(image);
+        view.setVisible(true);
+        return view;
+    }
+
+    /**
+     * Returns the given nodes to the pool. Nodes that are not {@link ImageView}s are ignored.
+     * <p>The caller is responsible for removing the nodes from their parent.</p>
+     *
+     * @param nodes the nodes to recycle
+     */
+    public void releaseAll(Collection<Node> nodes) {
+        for (Node node : nodes) {
+            if (node instanceof ImageView view) {
+                view.setImage(null);
+                free.push(view);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of nodes waiting to be reused.
+     *
+     * @return the number of pooled nodes
+     */
+    public int size() {
+        return free.size();
+    }
+}
@@ -1,9 +1,11 @@
 package View;
 
 import Controller.GameWindowController;
+import Model.Bots.Difficulty;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.scene.layout.Pane;
 import javafx.stage.Stage;
 
 import java.io.IOException;
@@ -16,10 +18,15 @@ import java.io.IOException;
  * It loads the corresponding FXML layout, initializes the {@link GameWindowController},
  * and manages the display lifecycle of the game window.
  *
+ * The FXML layout is loaded only once per application run. Ending a match keeps the
+ * scene graph alive, and the next match resets it from a new game state.
+ * Pressing {@code F3} toggles a {@link PerformanceOverlay} on top of the table, and
+ * {@code F4} an {@link AnalysisPanel} with the win probability of every move.
+ *
  *
  * Usage example:
  * <pre>{@code
- * GameWindow window = GameWindow.getInstance(3);
+ * GameWindow window = GameWindow.newGame(3);
  * window.show();
  * }</pre>
  *
@@ -29,28 +36,40 @@ import java.io.IOException;
 public class GameWindow extends Stage {
 
     /**
-     * Private constructor that initializes the game window with the specified number of GPU players.
+     * Controller bound to the loaded scene. It is kept for the whole life of the
+     * window so that every new match reuses the same scene graph.
+     */
+    private final GameWindowController gameWindowController;
+
+    /**
+     * Private constructor that loads the game window and starts its first match.
      *
      * The constructor loads the FXML layout, assigns the controller, and configures the window’s
-     * properties (title, style, and size behavior).
+     * properties (title, style, and size behavior). The FXML is only loaded here; later matches
+     * are started on the same scene through {@link #newGame(int)}.
      *
      *
      * @param playersGPU the number of GPU (computer-controlled) players
+     * @param difficulty the difficulty of the GPU players
      * @throws IOException if the FXML file cannot be loaded
      */
-    private GameWindow(int playersGPU) throws IOException {
-        GameWindowController gameWindowController = new GameWindowController();
-        gameWindowController.getPlayersGPU(playersGPU);
+    private GameWindow(int playersGPU, Difficulty difficulty) throws IOException {
+        gameWindowController = new GameWindowController();
 
         FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource("/GameWindow.fxml"));
         fxmlLoader.setController(gameWindowController);
         Parent root = fxmlLoader.load();
 
         Scene scene = new Scene(root);
+        AnalysisPanel analysisPanel = new AnalysisPanel(scene);
+        ((Pane) root).getChildren().addAll(new PerformanceOverlay(scene), analysisPanel);
+        gameWindowController.setAnalysisPanel(analysisPanel);
         this.setScene(scene);
         this.setTitle("50zo");
         this.setResizable(false);
         this.initStyle(javafx.stage.StageStyle.UNDECORATED);
+
+        gameWindowController.newGame(playersGPU, difficulty);
     }
 
     /**
@@ -65,15 +84,47 @@ public class GameWindow extends Stage {
 
     /**
      * Returns the single instance of the {@link GameWindow}, creating it if it does not already exist.
+     * <p>An existing instance is returned as is, without starting a new match.</p>
      *
-     * @param playersGPU the number of GPU (computer-controlled) players
+     * @param playersGPU the number of GPU (computer-controlled) players, used only when the window is created
      * @return the singleton {@code GameWindow} instance
      * @throws IOException if the FXML resource cannot be loaded
      */
     public static GameWindow getInstance(int playersGPU) throws IOException {
         if (Holder.INSTANCE == null) {
-            Holder.INSTANCE = new GameWindow(playersGPU);
+            Holder.INSTANCE = new GameWindow(playersGPU, Difficulty.DEFAULT);
+        }
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Returns the game window ready to play a new match with the given number of bots.
+     * <p>The FXML is loaded only the first time; afterwards the existing scene is
+     * reset from a fresh game state, which avoids a full {@link FXMLLoader} pass.</p>
+     *
+     * @param playersGPU the number of GPU (computer-controlled) players
+     * @return the singleton {@code GameWindow} instance with a new match running
+     * @throws IOException if the FXML resource cannot be loaded
+     */
+    public static GameWindow newGame(int playersGPU) throws IOException {
+        return newGame(playersGPU, Difficulty.DEFAULT);
+    }
+
+    /**
+     * Returns the game window ready to play a new match with the given number of
+     * bots at the given difficulty.
+     *
+     * @param playersGPU the number of GPU (computer-controlled) players
+     * @param difficulty the difficulty of the GPU players
+     * @return the singleton {@code GameWindow} instance with a new match running
+     * @throws IOException if the FXML resource cannot be loaded
+     */
+    public static GameWindow newGame(int playersGPU, Difficulty difficulty) throws IOException {
+        if (Holder.INSTANCE == null) {
+            Holder.INSTANCE = new GameWindow(playersGPU, difficulty);
+            return Holder.INSTANCE;
         }
+        Holder.INSTANCE.gameWindowController.newGame(playersGPU, difficulty);
         return Holder.INSTANCE;
     }
 
@@ -98,13 +149,13 @@ public class GameWindow extends Stage {
     }
 
     /**
-     * Hides the window AND removes the stored instance, forcing a new one
-     * to be created on the next call to getInstance().
+     * Hides the window AND ends the match it was showing. The loaded scene is kept,
+     * so the next call to {@link #newGame(int)} reuses it instead of reloading the FXML.
      */
     public static void destroyInstance() {
         if (Holder.INSTANCE != null) {
-            Holder.INSTANCE.close(); // Oculta/Cierra la ventana de JavaFX
-            Holder.INSTANCE = null;  // <--- ¡Esto es lo crucial!
+            Holder.INSTANCE.close();
+            Holder.INSTANCE.gameWindowController.endGame();
         }
     }
 
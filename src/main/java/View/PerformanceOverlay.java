@@ -0,0 +1,170 @@
+package View;
+
+import Model.Bots.DecisionCache;
+import Model.Metrics.GameMetrics;
+import javafx.animation.AnimationTimer;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.VBox;
+
+import java.util.Map;
+
+/**
+ * On-screen panel that shows the performance figures of the game window.
+ * <p>
+ * The overlay displays the frame rate, the layout pulse time, the latency of
+ * tasks posted to the JavaFX thread, the delay between a click on a card and
+ * the rendered frame that shows the new pile, the decision time of each bot and the
+ * hit rate of the shared {@link DecisionCache}. The other numbers come from
+ * {@link GameMetrics}.
+ * </p>
+ *
+ * <p>Pulse and input measurements are installed on the scene as soon as the
+ * overlay is created, so those figures are also collected while the overlay is
+ * hidden. Frames are only counted while the overlay is visible, because the
+ * frame timer itself forces a pulse on every frame. Pressing {@link #TOGGLE_KEY}
+ * shows or hides the panel.</p>
+ *
+ * <p>A click is not complete when its pulse has been laid out: the scene is only
+ * drawn afterwards, on the render thread. When a pulse lays out a pending click,
+ * a one-shot timer is started and the latency is recorded on its tick in the next
+ * pulse, which JavaFX only starts once the previous frame has been rendered. This
+ * costs one extra pulse per click.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class PerformanceOverlay extends VBox {
+
+    /** Key that shows or hides the overlay. */
+    public static final KeyCode TOGGLE_KEY = KeyCode.F3;
+
+    /** Minimum time between two refreshes of the labels, in nanoseconds. */
+    private static final long REFRESH_NANOS = 500_000_000L;
+
+    /** Label showing the frame rate. */
+    private final Label fpsLabel = new Label();
+
+    /** Label showing one line per metric. */
+    private final Label metricsLabel = new Label();
+
+    /** Start time of the pulse being laid out, or {@code 0}. */
+    private long pulseStart;
+
+    /** Timer that measures frames and refreshes the labels while visible. */
+    private final AnimationTimer frameTimer;
+
+    /** One-shot timer that completes a click measurement on the frame after its layout. */
+    private final AnimationTimer renderProbe;
+
+    /**
+     * Creates the overlay for the given scene, installs the frame and pulse
+     * probes and binds the toggle key. The overlay starts hidden; the caller
+     * adds it to the scene graph.
+     *
+     * @param scene the scene whose performance is measured
+     */
+    public PerformanceOverlay(Scene scene) {
+        setVisible(false);
+        setMouseTransparent(true);
+        setSpacing(4);
+        setLayoutX(10);
+        setLayoutY(10);
+        setStyle("-fx-background-color: rgba(0,0,0,0.7); -fx-padding: 8; -fx-background-radius: 6;");
+        fpsLabel.setStyle("-fx-text-fill: #7CFC00; -fx-font-size: 16px; -fx-font-weight: bold;");
+        metricsLabel.setStyle("-fx-text-fill: white; -fx-font-family: monospace; -fx-font-size: 12px;");
+        getChildren().addAll(fpsLabel, metricsLabel);
+
+        GameMetrics metrics = GameMetrics.getInstance();
+        renderProbe = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                metrics.inputRendered(System.nanoTime());
+                stop();
+            }
+        };
+        scene.addPreLayoutPulseListener(() -> pulseStart = System.nanoTime());
+        scene.addPostLayoutPulseListener(() -> {
+            long now = System.nanoTime();
+            if (pulseStart != 0) {
+                metrics.recordPulse(now - pulseStart);
+            }
+            if (metrics.hasPendingInput()) {
+                renderProbe.start();
+            }
+        });
+
+        frameTimer = new AnimationTimer() {
+            private long lastFrame;
+            private long lastRefresh;
+            private int frames;
+
+            @Override
+            public void start() {
+                lastFrame = 0;
+                lastRefresh = 0;
+                frames = 0;
+                super.start();
+            }
+
+            @Override
+            public void handle(long now) {
+                if (lastFrame != 0) {
+                    metrics.recordFrame(now - lastFrame);
+                }
+                lastFrame = now;
+                frames++;
+                if (lastRefresh == 0) {
+                    lastRefresh = now;
+                } else if (now - lastRefresh >= REFRESH_NANOS) {
+                    refresh(frames * 1e9 / (now - lastRefresh));
+                    lastRefresh = now;
+                    frames = 0;
+                }
+            }
+        };
+
+        scene.addEventHandler(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == TOGGLE_KEY) {
+                toggle();
+            }
+        });
+    }
+
+    /**
+     * Shows the overlay if it is hidden, or hides it if it is shown.
+     */
+    public void toggle() {
+        setVisible(!isVisible());
+        if (isVisible()) {
+            toFront();
+            frameTimer.start();
+        } else {
+            frameTimer.stop();
+        }
+    }
+
+    /**
+     * Updates the labels from the current metrics snapshot.
+     *
+     * @param fps the frame rate measured since the previous refresh
+     */
+    private void refresh(double fps) {
+        Map<String, GameMetrics.Summary> snapshot = GameMetrics.getInstance().snapshot();
+        fpsLabel.setText(String.format("%.0f FPS", fps));
+
+        StringBuilder text = new StringBuilder();
+        snapshot.forEach((name, summary) -> {
+            if (text.length() > 0) {
+                text.append('\n');
+            }
+            text.append(String.format("%-16s %s", name, summary));
+        });
+        DecisionCache cache = DecisionCache.shared();
+        text.append(String.format("%n%-16s %.0f%% of %d (%d/%d entries)", "decision-cache",
+                cache.hitRate() * 100, cache.getHits() + cache.getMisses(), cache.size(), cache.capacity()));
+        metricsLabel.setText(text.toString());
+    }
+}
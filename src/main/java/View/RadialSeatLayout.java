@@ -0,0 +1,73 @@
+package View;
+
+import javafx.geometry.Point2D;
+
+import java.util.List;
+
+/**
+ * Places the GPU seats of the game window on an ellipse around the central pile.
+ * <p>
+ * The human player keeps the bottom-right corner of the table and the deck keeps
+ * the bottom centre, so GPU seats are spread evenly along the rest of the ellipse,
+ * from the lower-left corner, over the top of the table, to the right side. One
+ * GPU sits at the top centre. Positions depend only on the number of seats, so
+ * the layout is computed once per match and never during a turn.
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public final class RadialSeatLayout {
+
+    /** Horizontal centre of the ellipse, in pixels. */
+    private static final double CENTER_X = 650;
+
+    /** Vertical centre of the ellipse, in pixels. */
+    private static final double CENTER_Y = 380;
+
+    /** Horizontal radius of the ellipse, in pixels. */
+    private static final double RADIUS_X = 540;
+
+    /** Vertical radius of the ellipse, in pixels. */
+    private static final double RADIUS_Y = 310;
+
+    /** Angle of the first seat, in degrees (counter-clockwise from the right). */
+    private static final double FIRST_ANGLE = 215;
+
+    /** Angle of the last seat, in degrees. */
+    private static final double LAST_ANGLE = 15;
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private RadialSeatLayout() {
+    }
+
+    /**
+     * Returns the centre of a seat.
+     *
+     * @param index the position of the seat, from 0 to {@code count - 1}
+     * @param count the number of GPU seats
+     * @return the centre of the seat in window coordinates
+     */
+    public static Point2D seatCenter(int index, int count) {
+        double angle = count == 1
+                ? 90
+                : FIRST_ANGLE - index * (FIRST_ANGLE - LAST_ANGLE) / (count - 1);
+        double radians = Math.toRadians(angle);
+        return new Point2D(CENTER_X + RADIUS_X * Math.cos(radians),
+                CENTER_Y - RADIUS_Y * Math.sin(radians));
+    }
+
+    /**
+     * Moves every seat so that it is centred on its place around the table.
+     *
+     * @param seats the seats in turn order
+     */
+    public static void layout(List<SeatView> seats) {
+        for (int i = 0; i < seats.size(); i++) {
+            Point2D center = seatCenter(i, seats.size());
+            seats.get(i).relocate(center.getX() - SeatView.WIDTH / 2, center.getY() - SeatView.HEIGHT / 2);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package View;
+
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Font;
+
+/**
+ * The seat of one GPU player on the table: the player's name above a row of
+ * face-down cards.
+ * <p>
+ * Seats are created by the game controller, one per GPU player, and placed by
+ * {@link RadialSeatLayout}. The card nodes inside {@link #getCards()} are taken
+ * from and returned to a {@link CardViewPool} by the controller; the cards
+ * overlap so that a seat keeps the same width however many seats surround the table.
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class SeatView extends VBox {
+
+    /** Width reserved for a seat, in pixels. */
+    public static final double WIDTH = 170;
+
+    /** Height reserved for a seat, in pixels. */
+    public static final double HEIGHT = 130;
+
+    /** Style of the name while the seat is waiting. */
+    private static final String IDLE_STYLE = "-fx-text-fill: white;";
+
+    /** Style of the name while it is the seat's turn. */
+    private static final String ACTIVE_STYLE = "-fx-text-fill: #FFD700;";
+
+    /** Style of the name once the player is eliminated. */
+    private static final String ELIMINATED_STYLE = "-fx-text-fill: #FF0000;";
+
+    /** Name of the player sitting here. */
+    private final String name;
+
+    /** Label showing the player's name and status. */
+    private final Label nameLabel = new Label();
+
+    /** Container of the player's face-down cards. */
+    private final HBox cards = new HBox(-30);
+
+    /**
+     * Creates an empty seat.
+     *
+     * @param name the name shown above the cards
+     */
+    public SeatView(String name) {
+        this.name = name;
+        setAlignment(Pos.CENTER);
+        setSpacing(4);
+        setPrefSize(WIDTH, HEIGHT);
+        setPickOnBounds(false);
+        nameLabel.setFont(new Font(28));
+        cards.setAlignment(Pos.CENTER);
+        getChildren().addAll(nameLabel, cards);
+        reset();
+    }
+
+    /**
+     * Returns the container of the seat's card nodes.
+     *
+     * @return the card row
+     */
+    public HBox getCards() {
+        return cards;
+    }
+
+    /**
+     * Restores the name of a player still in the game.
+     */
+    public void reset() {
+        nameLabel.setText(name);
+        nameLabel.setStyle(IDLE_STYLE);
+    }
+
+    /**
+     * Highlights or clears the name to show whether it is this seat's turn.
+     * Eliminated seats are not changed.
+     *
+     * @param active {@code true} if the player of this seat is playing now
+     */
+    public void setActive(boolean active) {
+        if (!ELIMINATED_STYLE.equals(nameLabel.getStyle())) {
+            nameLabel.setStyle(active ? ACTIVE_STYLE : IDLE_STYLE);
+        }
+    }
+
+    /**
+     * Marks the player of this seat as eliminated.
+     */
+    public void setEliminated() {
+        nameLabel.setText(name + " ✖");
+        nameLabel.setStyle(ELIMINATED_STYLE);
+    }
+}
@@ -11,7 +11,9 @@ import javafx.scene.Scene;
 import javafx.stage.Stage;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * The {@code Messages} class represents a modal pop-up window used to display
@@ -33,7 +35,10 @@ import java.util.List;
  *   <li>{@code 2} and {@code 3} may be added in the future for "Lose" or general messages.</li>
  * </ul>
  *
- * <p>This window is borderless ({@code StageStyle.UNDECORATED}) and non-resizable.</p>
+ * <p>This window is borderless ({@code StageStyle.UNDECORATED}) and non-resizable.
+ * Windows obtained through {@link #showResult(int, PlayerHuman, List, TurnManager)}
+ * are cached per option, so the FXML is only loaded the first time a game ends;
+ * a cached window keeps no reference to the game it last showed.</p>
  *
  * @author
  * @since 2025
@@ -49,6 +54,9 @@ public class ShowWiner extends Stage {
     /** Numeric code representing the type of message window to display. */
     private int option;
 
+    /** Windows already loaded, indexed by option; only touched on the JavaFX thread. */
+    private static final Map<Integer, ShowWiner> CACHE = new HashMap<>();
+
     /**
      * Creates a new {@code Messages} window for the given option.
      *
@@ -58,15 +66,10 @@ public class ShowWiner extends Stage {
      *   <li>{@code 1 → youWin.fxml}</li>
      * </ul>
      *
-     * <p>After loading the FXML, the controller is retrieved and populated with:</p>
-     * <ul>
-     *   <li>The human player instance</li>
-     *   <li>A list of GPU players</li>
-     *   <li>The game's turn manager</li>
-     * </ul>
-     *
-     * <p>Finally, {@code controller.setWiner()} is executed on the JavaFX thread using
-     * {@link Platform#runLater(Runnable)}.</p>
+     * <p>After loading the FXML, the controller is retrieved and
+     * {@code controller.setWiner(...)} is executed on the JavaFX thread using
+     * {@link Platform#runLater(Runnable)} with the human player, the GPU players
+     * and the turn manager of the game. The controller does not keep them.</p>
      *
      * @param option the type of message to display (currently only {@code 1} is valid)
      * @param humanPlayer the human player instance used for the final screen
@@ -102,10 +105,55 @@ public class ShowWiner extends Stage {
         System.out.println("📋 Controller obtained: " + controller);
 
         controller.setMessages(this);
-        controller.setHumanPlayer(humanPlayer);
-        controller.setPlayerGPUList(playerGPUList);
-        controller.setTurnManager(turnManager);
+        setGameData(humanPlayer, playerGPUList, turnManager);
+
+        // Configure the window
+        Scene scene = new Scene(root);
+        setScene(scene);
+        setTitle(title);
+        setResizable(false);
+        initStyle(javafx.stage.StageStyle.UNDECORATED);
+    }
+
+    /**
+     * Shows the message window for the given option, reusing the window loaded by a
+     * previous game when there is one. Must be called on the JavaFX thread.
+     *
+     * @param option the type of message to display (currently only {@code 1} is valid)
+     * @param humanPlayer the human player instance used for the final screen
+     * @param playerGPUList the GPU-controlled players involved in the game
+     * @param turnManager the turn manager, used to compute results and statistics
+     * @return the window being shown
+     * @throws IOException if the FXML file fails to load the first time
+     * @throws IllegalArgumentException if an invalid option is provided
+     */
+    public static ShowWiner showResult(int option,
+                                       PlayerHuman humanPlayer,
+                                       List<PlayerGPU> playerGPUList,
+                                       TurnManager turnManager) throws IOException {
+        ShowWiner window = CACHE.get(option);
+        if (window == null) {
+            window = new ShowWiner(option, humanPlayer, playerGPUList, turnManager);
+            CACHE.put(option, window);
+        } else {
+            window.setGameData(humanPlayer, playerGPUList, turnManager);
+        }
+        window.show();
+        return window;
+    }
 
+    /**
+     * Schedules the winner text update of the finished game on the JavaFX thread.
+     * Only the scheduled update refers to the game, so once it has run the cached
+     * window no longer reaches its players or turn manager.
+     *
+     * @param humanPlayer the human player instance used for the final screen
+     * @param playerGPUList the GPU-controlled players involved in the game
+     * @param turnManager the turn manager, used to compute results and statistics
+     */
+    private void setGameData(PlayerHuman humanPlayer,
+                             List<PlayerGPU> playerGPUList,
+                             TurnManager turnManager) {
         System.out.println("📋 Controller data set");
         System.out.println("📋 HumanPlayer: " + humanPlayer);
         System.out.println("📋 Total turns: " + turnManager.getTotalTurns());
@@ -113,16 +161,9 @@ public class ShowWiner extends Stage {
         // Execute the final winner calculation on the JavaFX thread
         Platform.runLater(() -> {
             System.out.println("🎯 Executing setWiner() on JavaFX thread...");
-            controller.setWiner();
+            controller.setWiner(humanPlayer, playerGPUList, turnManager);
             System.out.println("🎯 setWiner() completed");
         });
-
-        // Configure the window
-        Scene scene = new Scene(root);
-        setScene(scene);
-        setTitle(title);
-        setResizable(false);
-        initStyle(javafx.stage.StageStyle.UNDECORATED);
     }
 
     /**
@@ -0,0 +1,233 @@
+package View;
+
+import Model.Engine.TableFarm;
+import Model.Engine.TableStatus;
+import javafx.animation.AnimationTimer;
+import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.stage.Stage;
+
+import java.util.Arrays;
+
+/**
+ * Spectator window that shows a grid of live tables played by the headless engine.
+ * <p>
+ * The window owns a {@link TableFarm} that plays {@value #TABLES} tables at full
+ * speed on background threads while it is showing. The grid is painted on a single
+ * {@link Canvas} in immediate mode: on every frame the window reads the packed
+ * {@link TableStatus} of each table and repaints only the cells whose status changed,
+ * drawing the top card from a {@link CardAtlas}. No scene-graph node is created per
+ * table or per card, so the frame cost stays flat however fast the tables move.
+ * </p>
+ *
+ * <p>Each cell shows the top card, the pile value, the number of finished games and
+ * one dot per seat: green while the seat plays, red once eliminated, and outlined
+ * in yellow for the seat whose turn it is.</p>
+ *
+ * <p>This class follows the Singleton pattern using the Initialization-on-demand
+ * holder idiom.</p>
+ *
+ * @author Juan-David-Brandon
+ * @since 2025
+ */
+public class SpectatorDashboard extends Stage {
+
+    /** Number of table columns in the grid. */
+    private static final int COLUMNS = 20;
+
+    /** Number of table rows in the grid. */
+    private static final int ROWS = 12;
+
+    /** Number of tables shown. */
+    private static final int TABLES = COLUMNS * ROWS;
+
+    /** Seats at every table. */
+    private static final int SEATS = 4;
+
+    /** Size of one square cell, in pixels. */
+    private static final double CELL = 64;
+
+    /** Height of the header line, in pixels. */
+    private static final double HEADER = 28;
+
+    /** Minimum time between two refreshes of the header figures, in nanoseconds. */
+    private static final long HEADER_REFRESH_NANOS = 500_000_000L;
+
+    /** Background of a cell. */
+    private static final Color CELL_COLOR = Color.web("#1d4d2b");
+
+    /** Colour of a seat still in the game. */
+    private static final Color ALIVE_COLOR = Color.web("#7CFC00");
+
+    /** Colour of an eliminated seat. */
+    private static final Color ELIMINATED_COLOR = Color.web("#8b1a1a");
+
+    /** Font of the pile value. */
+    private static final Font VALUE_FONT = Font.font("System", FontWeight.BOLD, 16);
+
+    /** Font of the small labels. */
+    private static final Font SMALL_FONT = Font.font("System", 10);
+
+    /** The tables being watched. */
+    private final TableFarm farm = new TableFarm(TABLES, SEATS, System.nanoTime());
+
+    /** The canvas the grid is painted on. */
+    private final Canvas canvas = new Canvas(COLUMNS * CELL, HEADER + ROWS * CELL);
+
+    /** Small card faces used to draw the top cards. */
+    private final CardAtlas atlas = new CardAtlas(30, 44);
+
+    /** Status painted in each cell on the previous frame. */
+    private final long[] painted = new long[TABLES];
+
+    /** Timer that repaints the grid while the window is showing. */
+    private final AnimationTimer renderer;
+
+    /**
+     * Private constructor to enforce the Singleton pattern. Builds the canvas and
+     * starts or stops the farm together with the window.
+     */
+    private SpectatorDashboard() {
+        Pane root = new Pane(canvas);
+        setScene(new Scene(root));
+        setTitle("50zo Spectator");
+        setResizable(false);
+
+        renderer = new AnimationTimer() {
+            private long lastRefresh;
+            private int frames;
+            private long turnsAtRefresh;
+            private long gamesAtRefresh;
+            private String header = "";
+
+            @Override
+            public void start() {
+                lastRefresh = 0;
+                super.start();
+            }
+
+            @Override
+            public void handle(long now) {
+                frames++;
+                if (lastRefresh == 0 || now - lastRefresh >= HEADER_REFRESH_NANOS) {
+                    long turns = farm.turnsPlayed();
+                    long games = farm.gamesFinished();
+                    if (lastRefresh != 0) {
+                        double seconds = (now - lastRefresh) / 1e9;
+                        header = String.format("%d tables  |  %.0f FPS  |  %,.0f turns/s  |  %,.0f games/s  |  %,d games",
+                                TABLES, frames / seconds, (turns - turnsAtRefresh) / seconds,
+                                (games - gamesAtRefresh) / seconds, games);
+                    }
+                    lastRefresh = now;
+                    frames = 0;
+                    turnsAtRefresh = turns;
+                    gamesAtRefresh = games;
+                }
+                paint(header);
+            }
+        };
+
+        setOnShown(event -> {
+            clear();
+            farm.start(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+            renderer.start();
+        });
+        setOnHidden(event -> {
+            renderer.stop();
+            farm.close();
+        });
+    }
+
+    /**
+     * Holder class that lazily stores the Singleton instance.
+     */
+    private static class Holder {
+        private static SpectatorDashboard INSTANCE = null;
+    }
+
+    /**
+     * Returns the unique instance of {@link SpectatorDashboard}, creating it if necessary.
+     * Must be called on the JavaFX application thread.
+     *
+     * @return the spectator window
+     */
+    public static SpectatorDashboard getInstance() {
+        if (Holder.INSTANCE == null) {
+            Holder.INSTANCE = new SpectatorDashboard();
+        }
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Paints the whole canvas background and forces every cell to be repainted.
+     */
+    private void clear() {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.setFill(Color.BLACK);
+        gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        Arrays.fill(painted, -1L);
+    }
+
+    /**
+     * Paints one frame: the header and every cell whose status changed.
+     *
+     * @param header the text of the header line
+     */
+    private void paint(String header) {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.setFill(Color.BLACK);
+        gc.fillRect(0, 0, canvas.getWidth(), HEADER);
+        gc.setFill(Color.WHITE);
+        gc.setFont(SMALL_FONT);
+        gc.fillText(header, 8, 18);
+
+        for (int table = 0; table < TABLES; table++) {
+            long status = farm.status(table);
+            if (status != painted[table]) {
+                painted[table] = status;
+                paintCell(gc, status, (table % COLUMNS) * CELL, HEADER + (table / COLUMNS) * CELL);
+            }
+        }
+    }
+
+    /**
+     * Paints one table.
+     *
+     * @param gc     the graphics context of the canvas
+     * @param status the packed status of the table
+     * @param x      the left edge of the cell
+     * @param y      the top edge of the cell
+     */
+    private void paintCell(GraphicsContext gc, long status, double x, double y) {
+        gc.setFill(CELL_COLOR);
+        gc.fillRect(x + 1, y + 1, CELL - 2, CELL - 2);
+        atlas.draw(gc, TableStatus.topCard(status), x + 4, y + 4);
+
+        gc.setFill(Color.WHITE);
+        gc.setFont(VALUE_FONT);
+        gc.fillText(Integer.toString(TableStatus.pileValue(status)), x + 37, y + 22);
+        gc.setFont(SMALL_FONT);
+        gc.fillText("#" + TableStatus.gamesFinished(status), x + 37, y + 40);
+
+        int seats = TableStatus.seats(status);
+        int alive = TableStatus.aliveMask(status);
+        int current = TableStatus.currentSeat(status);
+        double dot = 8;
+        double gap = (CELL - 8) / Math.max(seats, 1);
+        for (int seat = 0; seat < seats; seat++) {
+            double dx = x + 4 + seat * gap;
+            double dy = y + CELL - 13;
+            gc.setFill((alive & (1 << seat)) != 0 ? ALIVE_COLOR : ELIMINATED_COLOR);
+            gc.fillOval(dx, dy, dot, dot);
+            if (seat == current) {
+                gc.setStroke(Color.YELLOW);
+                gc.strokeOval(dx - 1, dy - 1, dot + 2, dot + 2);
+            }
+        }
+    }
+}
@@ -10,7 +10,11 @@ module org.example._50zo {
 
     // Exportas los paquetes principales
     exports Controller;
+    exports Model.Arena;
+    exports Model.Bots;
+    exports Model.Engine;
     exports Model.Exceptions;
+    exports Model.Metrics;
     exports Model.Players;
     exports View;
     exports Model.Cards;
@@ -0,0 +1,110 @@
+package Model.Arena;
+
+import Model.Bots.BestResponse;
+import Model.Bots.CfrTable;
+import Model.Bots.DecisionBudget;
+import Model.Bots.GreedyStrategy;
+import Model.Bots.RandomStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link Exploitability} and {@link BestResponse}.
+ * <p>
+ * The tests cover:
+ * <ul>
+ *   <li>An untrained response, which plays greedily, splitting every deal with the greedy bot</li>
+ *   <li>A trained response exploiting the random bot</li>
+ *   <li>Training resumed from a checkpoint matching uninterrupted training</li>
+ * </ul>
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @version 1.0
+ * @since 2025
+ */
+class ExploitabilityTest {
+
+    /**
+     * Tests the starting point of the response.
+     * <p>
+     * Expected behavior: before any training the response plays like the greedy
+     * bot, so in duplicate the greedy bot loses exactly fifty games per hundred.
+     * </p>
+     */
+    @Test
+    void testMeasure_Untrained_ShouldMatchGreedyPlay() {
+        Entrant greedy = new Entrant("Greedy", seed -> new GreedyStrategy(), ExploitabilityTest::unlimited);
+        MatchResult result = new Exploitability(greedy, 64, 1).measure(256);
+        assertEquals(256, result.getGames());
+        assertEquals(50, Exploitability.lossesPerHundred(result), 1e-9);
+        assertEquals(0, Exploitability.marginPerHundred(result), 1e-9);
+    }
+
+    /**
+     * Tests the measure of a weak bot.
+     * <p>
+     * Expected behavior: after a little training the random bot loses more than
+     * three games in four to its best response, with a margin of a few games.
+     * </p>
+     */
+    @Test
+    void testMeasure_RandomBot_ShouldBeExploited() {
+        Entrant random = new Entrant("Random", RandomStrategy::new, ExploitabilityTest::unlimited);
+        Exploitability measure = new Exploitability(random, 2000, 2).train(2);
+        assertTrue(measure.getResponse().exploredInfoSets() > 0);
+
+        MatchResult result = measure.measure(512);
+        assertTrue(Exploitability.lossesPerHundred(result) > 75, result.toString());
+        assertTrue(Exploitability.marginPerHundred(result) < 10);
+    }
+
+    /**
+     * Tests checkpoints.
+     * <p>
+     * Expected behavior: two epochs, a checkpoint, a resumed measure and one more
+     * epoch give the same values as three epochs in a row; a file that is not a
+     * checkpoint is refused.
+     * </p>
+     *
+     * @param directory a temporary directory for the checkpoint
+     * @throws IOException if the checkpoint cannot be written or read
+     */
+    @Test
+    void testResume_FromCheckpoint_ShouldMatchUninterruptedTraining(@TempDir Path directory) throws IOException {
+        Entrant random = new Entrant("Random", RandomStrategy::new, ExploitabilityTest::unlimited);
+        BestResponse straight = new Exploitability(random, 400, 3).train(3).getResponse();
+
+        Path checkpoint = directory.resolve("br.ckpt");
+        new Exploitability(random, 400, 3).train(2).checkpoint(checkpoint);
+        Exploitability resumed = new Exploitability(random, 400, 3);
+        resumed.resume(checkpoint);
+        BestResponse response = resumed.train(1).getResponse();
+
+        assertEquals(straight.getIterations(), response.getIterations());
+        assertEquals(straight.exploredInfoSets(), response.exploredInfoSets());
+        for (int infoSet = 0; infoSet < CfrTable.INFO_SETS; infoSet++) {
+            for (int slot = 0; slot < CfrTable.SLOTS; slot++) {
+                assertEquals(straight.value(infoSet, slot), response.value(infoSet, slot));
+            }
+        }
+
+        Path garbage = Files.write(directory.resolve("garbage.ckpt"), new byte[16]);
+        assertThrows(IllegalArgumentException.class, () -> resumed.resume(garbage));
+    }
+
+    /**
+     * Creates a budget without limits, for strategies that do not search.
+     *
+     * @return the budget
+     */
+    private static DecisionBudget unlimited() {
+        return DecisionBudget.ofNodes(DecisionBudget.UNLIMITED);
+    }
+}
@@ -0,0 +1,185 @@
+package Model.Arena;
+
+import Model.Bots.DecisionBudget;
+import Model.Bots.GreedyStrategy;
+import Model.Bots.HeuristicStrategy;
+import Model.Engine.FastRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link ParameterSearch} and {@link ParameterSpace}.
+ * <p>
+ * The tests cover:
+ * <ul>
+ *   <li>Grid points, uniform draws and clamping staying inside the space</li>
+ *   <li>A grid search playing every point once and then stopping</li>
+ *   <li>A search resumed from a checkpoint matching an uninterrupted one</li>
+ *   <li>The evolution strategy keeping its mean in the space and confirming its best setting</li>
+ * </ul>
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @version 1.0
+ * @since 2025
+ */
+class ParameterSearchTest {
+
+    /**
+     * Tests the space.
+     * <p>
+     * Expected behavior: a grid of three values over two parameters has nine
+     * points, starting and ending at the corners; uniform draws stay inside the
+     * bounds and clamping moves outside values to them.
+     * </p>
+     */
+    @Test
+    void testParameterSpace_Points_ShouldStayInside() {
+        ParameterSpace space = new ParameterSpace(List.of("a", "b"), new double[]{0, -1}, new double[]{2, 1});
+        assertEquals(9, space.gridSize(3));
+        assertArrayEquals(new double[]{0, -1}, space.gridPoint(0, 3));
+        assertArrayEquals(new double[]{1, -1}, space.gridPoint(1, 3));
+        assertArrayEquals(new double[]{2, 1}, space.gridPoint(8, 3));
+
+        FastRandom random = new FastRandom(1);
+        for (int i = 0; i < 1000; i++) {
+            double[] point = space.uniform(random);
+            assertTrue(point[0] >= 0 && point[0] <= 2 && point[1] >= -1 && point[1] <= 1);
+        }
+        assertArrayEquals(new double[]{2, -1}, space.clamp(new double[]{5, -3}));
+        assertEquals("a=2.000, b=-1.000", space.format(new double[]{2, -1}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParameterSpace(List.of("a"), new double[]{1}, new double[]{1}));
+    }
+
+    /**
+     * Tests a grid search.
+     * <p>
+     * Expected behavior: two values over two parameters give four points, played
+     * in two generations of two; the search is then done, refuses another
+     * generation, and its best trial has the highest score.
+     * </p>
+     */
+    @Test
+    void testStep_GridSearch_ShouldPlayEveryPointOnce() {
+        ParameterSpace space = new ParameterSpace(List.of("pile", "danger"), new double[]{-1, 30}, new double[]{1, 50});
+        ParameterSearch search = new ParameterSearch(space,
+                point -> new HeuristicStrategy(new double[]{point[0], 2, point[1], 0.3, 0}),
+                greedy(), 2, 5, ParameterSearch.Method.GRID);
+        search.setPopulation(2);
+        search.setGamesPerCandidate(64);
+        search.setGridSteps(2);
+        while (!search.isDone()) {
+            search.step();
+        }
+        assertEquals(2, search.getGeneration());
+        assertEquals(4, search.getTrials().size());
+        assertThrows(IllegalStateException.class, search::step);
+
+        ParameterSearch.Trial best = search.best();
+        for (ParameterSearch.Trial trial : search.getTrials()) {
+            assertEquals(64, trial.getResult().getGames());
+            assertTrue(trial.getResult().getScore() <= best.getResult().getScore());
+        }
+    }
+
+    /**
+     * Tests checkpoints.
+     * <p>
+     * Expected behavior: two generations, a checkpoint, a new search resumed from
+     * it and one more generation give the same trials and the same mean as three
+     * generations in a row.
+     * </p>
+     *
+     * @param directory a temporary directory for the checkpoint
+     * @throws IOException if the checkpoint cannot be written or read
+     */
+    @Test
+    void testResume_FromCheckpoint_ShouldMatchUninterruptedSearch(@TempDir Path directory) throws IOException {
+        ParameterSearch straight = search(ParameterSearch.Method.EVOLUTION, 8);
+        for (int g = 0; g < 3; g++) {
+            straight.step();
+        }
+
+        Path checkpoint = directory.resolve("search.ckpt");
+        ParameterSearch first = search(ParameterSearch.Method.EVOLUTION, 8);
+        first.step();
+        first.step();
+        first.checkpoint(checkpoint);
+        ParameterSearch resumed = search(ParameterSearch.Method.EVOLUTION, 8);
+        resumed.resume(checkpoint);
+        resumed.step();
+
+        assertEquals(3, resumed.getGeneration());
+        assertArrayEquals(straight.getMean(), resumed.getMean());
+        assertEquals(straight.getTrials().size(), resumed.getTrials().size());
+        for (int t = 0; t < straight.getTrials().size(); t++) {
+            ParameterSearch.Trial expected = straight.getTrials().get(t);
+            ParameterSearch.Trial actual = resumed.getTrials().get(t);
+            assertArrayEquals(expected.getParameters(), actual.getParameters());
+            assertEquals(expected.getResult().getWins(), actual.getResult().getWins());
+            assertEquals(expected.getResult().getScoreError(), actual.getResult().getScoreError());
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> search(ParameterSearch.Method.RANDOM, 8).resume(checkpoint));
+    }
+
+    /**
+     * Tests the evolution strategy.
+     * <p>
+     * Expected behavior: after a few generations the mean is still inside the
+     * space, and the best setting replayed on fresh deals plays the requested games
+     * and reports a finite margin.
+     * </p>
+     */
+    @Test
+    void testStep_Evolution_ShouldStayInSpaceAndConfirm() {
+        ParameterSearch search = search(ParameterSearch.Method.EVOLUTION, 11);
+        search.setStart(HeuristicStrategy.defaultWeights());
+        for (int g = 0; g < 3; g++) {
+            search.step();
+        }
+        double[] mean = search.getMean();
+        ParameterSpace space = search.getSpace();
+        for (int i = 0; i < space.dimensions(); i++) {
+            assertTrue(mean[i] >= space.getLow(i) && mean[i] <= space.getHigh(i));
+        }
+
+        MatchResult confirmed = search.confirm(search.best().getParameters(), 128);
+        assertEquals(128, confirmed.getGames());
+        assertTrue(Double.isFinite(confirmed.getEloMargin()));
+    }
+
+    /**
+     * Creates a small search over the weights of {@link HeuristicStrategy}
+     * against the greedy bot.
+     *
+     * @param method how candidates are chosen
+     * @param seed   the seed of the search
+     * @return the search, with two candidates of 64 games per generation
+     */
+    private static ParameterSearch search(ParameterSearch.Method method, long seed) {
+        ParameterSpace space = new ParameterSpace(HeuristicStrategy.weightNames(),
+                HeuristicStrategy.lowerBounds(), HeuristicStrategy.upperBounds());
+        ParameterSearch search = new ParameterSearch(space, HeuristicStrategy::new, greedy(), 2, seed, method);
+        search.setPopulation(2);
+        search.setGamesPerCandidate(64);
+        return search;
+    }
+
+    /**
+     * Creates an entrant that plays the greedy strategy.
+     *
+     * @return the entrant
+     */
+    private static Entrant greedy() {
+        return new Entrant("Greedy", seed -> new GreedyStrategy(),
+                () -> DecisionBudget.ofNodes(DecisionBudget.UNLIMITED));
+    }
+}
@@ -0,0 +1,291 @@
+package Model.Arena;
+
+import Model.Bots.DecisionBudget;
+import Model.Bots.DecisionCache;
+import Model.Bots.Difficulty;
+import Model.Bots.GreedyStrategy;
+import Model.Bots.RandomStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link Tournament}, {@link EloRatings} and {@link Sprt}.
+ * <p>
+ * The tests cover:
+ * <ul>
+ *   <li>The bounds and decisions of the sequential test</li>
+ *   <li>Zero-sum Elo updates that reward upsets more</li>
+ *   <li>A match between a strong and a weak bot stopping early and reproducibly</li>
+ *   <li>Seat rotation keeping a bot against itself even</li>
+ *   <li>The matches of the round-robin and gauntlet formats</li>
+ *   <li>The generalized test on group scores</li>
+ *   <li>Duplicate deals settling a bot against itself in one batch</li>
+ *   <li>Duplicate and antithetic matches playing whole, reproducible groups</li>
+ *   <li>Difficulty entrants leaving the shared decision cache alone and replaying exactly</li>
+ * </ul>
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @version 1.0
+ * @since 2025
+ */
+class TournamentTest {
+
+    /**
+     * Tests the sequential test.
+     * <p>
+     * Expected behavior: with 5% error rates the bounds are {@code ±ln 19}; a run
+     * of wins accepts {@code H1} and an even record accepts {@code H0}.
+     * </p>
+     */
+    @Test
+    void testSprt_Records_ShouldDecideBothWays() {
+        Sprt strong = new Sprt(0, 50, 0.05, 0.05);
+        assertEquals(Math.log(19), strong.getUpperBound(), 1e-9);
+        assertEquals(-Math.log(19), strong.getLowerBound(), 1e-9);
+        while (strong.decision() == Sprt.Decision.CONTINUE) {
+            strong.add(true);
+        }
+        assertEquals(Sprt.Decision.ACCEPT_H1, strong.decision());
+        assertTrue(strong.getGames() < 100);
+
+        Sprt even = strong.copy();
+        assertEquals(0, even.getGames());
+        for (int i = 0; i < 5000 && even.decision() == Sprt.Decision.CONTINUE; i++) {
+            even.add(i % 2 == 0);
+        }
+        assertEquals(Sprt.Decision.ACCEPT_H0, even.decision());
+    }
+
+    /**
+     * Tests the Elo updates.
+     * <p>
+     * Expected behavior: a win between equal ratings moves both by {@code K/2} in
+     * opposite directions, and a win of the lower-rated entrant moves them more.
+     * </p>
+     */
+    @Test
+    void testEloRatings_Record_ShouldBeZeroSum() {
+        EloRatings ratings = new EloRatings(16);
+        ratings.record("A", "B", 1);
+        assertEquals(1508, ratings.rating("A"), 1e-9);
+        assertEquals(1492, ratings.rating("B"), 1e-9);
+
+        ratings.record("B", "A", 1);
+        assertTrue(ratings.rating("B") - 1492 > 8);
+        assertEquals(2 * EloRatings.INITIAL, ratings.rating("A") + ratings.rating("B"), 1e-9);
+        assertEquals(2, ratings.games("A"));
+        assertEquals(0.5, EloRatings.expectedScore(0), 1e-12);
+        assertEquals(100, EloRatings.difference(EloRatings.expectedScore(100)), 1e-9);
+    }
+
+    /**
+     * Tests a lopsided match.
+     * <p>
+     * Expected behavior: the greedy bot beats the random bot and the test accepts
+     * {@code H1} long before the game limit; the same seed replays the same match,
+     * and the ratings rank the greedy bot first.
+     * </p>
+     */
+    @Test
+    void testPlayMatch_GreedyAgainstRandom_ShouldStopEarly() {
+        Entrant greedy = greedy("Greedy");
+        Entrant random = new Entrant("Random", RandomStrategy::new, TournamentTest::unlimited);
+        Tournament tournament = new Tournament(List.of(greedy, random), 2, 7);
+        tournament.setMaxGames(5000);
+
+        MatchResult result = tournament.playMatch(greedy, random);
+        assertEquals(Sprt.Decision.ACCEPT_H1, result.getDecision());
+        assertTrue(result.getGames() < 5000);
+        assertEquals(0, result.getGames() % Tournament.BATCH);
+        assertTrue(result.getScore() > 0.5);
+        assertTrue(result.getEloDifference() > 0);
+        assertEquals(List.of("Greedy", "Random"), tournament.getRatings().standings());
+
+        MatchResult replay = new Tournament(List.of(greedy, random), 2, 7).playMatch(greedy, random);
+        assertEquals(result.getWins(), replay.getWins());
+        assertEquals(result.getLosses(), replay.getLosses());
+    }
+
+    /**
+     * Tests seat rotation.
+     * <p>
+     * Expected behavior: a greedy bot against an identical copy at three-seat
+     * tables is never found stronger, and scores close to one half.
+     * </p>
+     */
+    @Test
+    void testPlayMatch_SameBot_ShouldStayEven() {
+        Entrant first = greedy("Greedy-1");
+        Entrant second = greedy("Greedy-2");
+        Tournament tournament = new Tournament(List.of(first, second), 3, 11);
+        tournament.setMaxGames(2048);
+        tournament.setSprt(new Sprt(0, 100, 0.05, 0.05));
+
+        MatchResult result = tournament.playMatch(first, second);
+        assertNotEquals(Sprt.Decision.ACCEPT_H1, result.getDecision());
+        assertEquals(0.5, result.getScore(), 0.15);
+    }
+
+    /**
+     * Tests the formats.
+     * <p>
+     * Expected behavior: three entrants play three matches in a round robin and
+     * two in a gauntlet, where the first entrant plays every match.
+     * </p>
+     */
+    @Test
+    void testRun_Formats_ShouldPlayTheirPairings() {
+        List<Entrant> entrants = List.of(greedy("A"), greedy("B"),
+                new Entrant("R", RandomStrategy::new, TournamentTest::unlimited));
+        Tournament roundRobin = new Tournament(entrants, 2, 3);
+        roundRobin.setMaxGames(Tournament.BATCH);
+        assertEquals(3, roundRobin.run().size());
+
+        Tournament gauntlet = new Tournament(entrants, 2, 3);
+        gauntlet.setMaxGames(Tournament.BATCH);
+        gauntlet.setFormat(Tournament.Format.GAUNTLET);
+        List<MatchResult> results = gauntlet.run();
+        assertEquals(2, results.size());
+        for (MatchResult result : results) {
+            assertEquals("A", result.getFirst());
+            assertEquals(Tournament.BATCH, result.getGames());
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> new Tournament(List.of(greedy("A"), greedy("A")), 2, 1));
+    }
+
+    /**
+     * Tests the sequential test on group scores.
+     * <p>
+     * Expected behavior: scores steadily above one half accept {@code H1}, scores
+     * of exactly one half accept {@code H0}, and a test never mixes single games
+     * with scores.
+     * </p>
+     */
+    @Test
+    void testSprt_Scores_ShouldDecideBothWays() {
+        Sprt strong = new Sprt(0, 50, 0.05, 0.05);
+        for (int i = 0; strong.decision() == Sprt.Decision.CONTINUE; i++) {
+            strong.addScore(i % 2 == 0 ? 1 : 0.5);
+        }
+        assertEquals(Sprt.Decision.ACCEPT_H1, strong.decision());
+        assertThrows(IllegalStateException.class, () -> strong.add(true));
+
+        Sprt even = strong.copy();
+        even.addScore(0.5);
+        assertEquals(Sprt.Decision.ACCEPT_H0, even.decision());
+
+        Sprt games = strong.copy();
+        games.add(false);
+        assertThrows(IllegalStateException.class, () -> games.addScore(1));
+    }
+
+    /**
+     * Tests a duplicate match of a bot against itself.
+     * <p>
+     * Expected behavior: every deal is won once by each copy, so the score is
+     * exactly one half, its error is zero and the test accepts {@code H0} after
+     * the first batch.
+     * </p>
+     */
+    @Test
+    void testPlayMatch_DuplicateSameBot_ShouldSettleInOneBatch() {
+        Entrant first = greedy("Greedy-1");
+        Entrant second = greedy("Greedy-2");
+        Tournament tournament = new Tournament(List.of(first, second), 2, 5);
+        tournament.setDuplicate(true);
+
+        MatchResult result = tournament.playMatch(first, second);
+        assertEquals(Sprt.Decision.ACCEPT_H0, result.getDecision());
+        assertEquals(Tournament.BATCH, result.getGames());
+        assertEquals(result.getWins(), result.getLosses());
+        assertEquals(0, result.getScoreError());
+        assertEquals(Double.POSITIVE_INFINITY, result.getVarianceReduction());
+    }
+
+    /**
+     * Tests duplicate play with antithetic deals.
+     * <p>
+     * Expected behavior: without a test the match plays its limit rounded up to
+     * whole groups of four games, reports a finite score error, and replays
+     * identically from the same seed.
+     * </p>
+     */
+    @Test
+    void testPlayMatch_DuplicateAntithetic_ShouldPlayWholeGroups() {
+        Entrant greedy = greedy("Greedy");
+        Entrant random = new Entrant("Random", RandomStrategy::new, TournamentTest::unlimited);
+        Tournament tournament = new Tournament(List.of(greedy, random), 3, 9);
+        tournament.setDuplicate(true);
+        tournament.setAntithetic(true);
+        tournament.setSprt(null);
+        tournament.setMaxGames(201);
+
+        MatchResult result = tournament.playMatch(greedy, random);
+        assertEquals(204, result.getGames());
+        assertEquals(Sprt.Decision.CONTINUE, result.getDecision());
+        assertTrue(result.getScore() > 0.5);
+        assertTrue(result.getScoreError() > 0 && result.getScoreError() < 0.1);
+
+        Tournament again = new Tournament(List.of(greedy, random), 3, 9);
+        again.setDuplicate(true);
+        again.setAntithetic(true);
+        again.setSprt(null);
+        again.setMaxGames(201);
+        MatchResult replay = again.playMatch(greedy, random);
+        assertEquals(result.getWins(), replay.getWins());
+        assertEquals(result.getScoreError(), replay.getScoreError());
+    }
+
+    /**
+     * Tests an entrant of a difficulty level.
+     * <p>
+     * Expected behavior: a match of the easy level against the greedy bot never
+     * reads or fills the shared decision cache, and replays identically from the
+     * same seed.
+     * </p>
+     */
+    @Test
+    void testPlayMatch_DifficultyEntrant_ShouldBypassTheSharedCache() {
+        Entrant easy = Entrant.of(Difficulty.EASY);
+        Entrant greedy = greedy("Greedy");
+        DecisionCache cache = DecisionCache.shared();
+        long lookups = cache.getHits() + cache.getMisses();
+        Tournament tournament = new Tournament(List.of(easy, greedy), 2, 13);
+        tournament.setSprt(null);
+        tournament.setMaxGames(64);
+
+        MatchResult result = tournament.playMatch(easy, greedy);
+        assertEquals(lookups, cache.getHits() + cache.getMisses());
+
+        Tournament again = new Tournament(List.of(easy, greedy), 2, 13);
+        again.setSprt(null);
+        again.setMaxGames(64);
+        MatchResult replay = again.playMatch(easy, greedy);
+        assertEquals(result.getWins(), replay.getWins());
+        assertEquals(result.getLosses(), replay.getLosses());
+    }
+
+    /**
+     * Creates an entrant that plays the greedy strategy.
+     *
+     * @param name the name of the entrant
+     * @return the entrant
+     */
+    private static Entrant greedy(String name) {
+        return new Entrant(name, seed -> new GreedyStrategy(), TournamentTest::unlimited);
+    }
+
+    /**
+     * Creates a budget without limits, for strategies that do not search.
+     *
+     * @return the budget
+     */
+    private static DecisionBudget unlimited() {
+        return DecisionBudget.ofNodes(DecisionBudget.UNLIMITED);
+    }
+}
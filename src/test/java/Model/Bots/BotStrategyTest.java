@@ -0,0 +1,115 @@
+package Model.Bots;
+
+import Model.Engine.HeadlessGame;
+import Model.Engine.Rules;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the {@link BotStrategy} implementations and the
+ * {@link DecisionBudget} contract.
+ * <p>
+ * The tests cover:
+ * <ul>
+ *   <li>Every shipped strategy choosing only playable cards over full headless games</li>
+ *   <li>The greedy, lowest-risk and weighted heuristic choices on hand-made positions</li>
+ *   <li>Budgets stopping a search at its node and time limits and reporting usage</li>
+ * </ul>
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @version 1.0
+ * @since 2025
+ */
+class BotStrategyTest {
+
+    /**
+     * Tests the shipped strategies on complete games.
+     * <p>
+     * Expected behavior: whenever the seat to move can play, each strategy returns
+     * the index of a playable card, and every game runs to its end.
+     * </p>
+     */
+    @Test
+    void testStrategies_FullGames_ShouldOnlyChoosePlayableCards() {
+        List<BotStrategy> strategies = List.of(new GreedyStrategy(), new LowestRiskStrategy(), new RandomStrategy(1),
+                new HeuristicStrategy(), new HeuristicStrategy(HeuristicStrategy.lowerBounds()));
+        DecisionView view = new DecisionView();
+        DecisionBudget budget = DecisionBudget.ofMillis(50);
+        HeadlessGame game = new HeadlessGame(4);
+
+        for (BotStrategy strategy : strategies) {
+            for (long seed = 0; seed < 200; seed++) {
+                game.reset(seed);
+                while (!game.isOver()) {
+                    if (game.eliminateIfStuck()) {
+                        continue;
+                    }
+                    budget.start();
+                    int choice = strategy.decide(view.load(game), budget);
+                    budget.finish();
+                    assertTrue(game.canPlay(choice), strategy.name() + " chose " + choice);
+                    assertTrue(budget.usedNodes() > 0);
+                    game.play(choice);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests the greedy, lowest-risk and heuristic choices on a fixed hand.
+     * <p>
+     * Expected behavior: on a pile of 35 with 10, K, 5 and 9, greedy plays the 10
+     * (pile 45); no choice leaves lowest-risk stuck, so it plays the K, which
+     * leaves the lowest pile. The weighted heuristic follows its weights: the
+     * highest pile, the lowest pile, or the lowest pile that spends neither the
+     * K nor the 9.
+     * </p>
+     */
+    @Test
+    void testChoices_FixedHand_ShouldFollowEachHeuristic() {
+        DecisionView view = new DecisionView();
+        view.begin(0, 2, 1, 35, 30);
+        view.addHandCard(Rules.rankOf("10"));
+        view.addHandCard(Rules.rankOf("K"));
+        view.addHandCard(Rules.rankOf("5"));
+        view.addHandCard(Rules.rankOf("9"));
+        DecisionBudget budget = DecisionBudget.ofNodes(100);
+
+        assertEquals(0, new GreedyStrategy().decide(view, budget.start()));
+        assertEquals(1, new LowestRiskStrategy().decide(view, budget.start()));
+        assertEquals(0, new HeuristicStrategy(new double[]{1, 0, 50, 0, 0}).decide(view, budget.start()));
+        assertEquals(1, new HeuristicStrategy(new double[]{-1, 0, 50, 0, 0}).decide(view, budget.start()));
+        assertEquals(2, new HeuristicStrategy(new double[]{-1, 0, 50, 1, 0}).decide(view, budget.start()));
+    }
+
+    /**
+     * Tests that budgets stop at their limits.
+     * <p>
+     * Expected behavior: a node budget refuses the node after its limit, a time
+     * budget refuses nodes once its deadline has passed, and both report what was used.
+     * </p>
+     */
+    @Test
+    void testBudget_Limits_ShouldStopSearchAndReportUsage() throws InterruptedException {
+        DecisionBudget nodes = DecisionBudget.ofNodes(10).start();
+        int visited = 0;
+        while (nodes.visit()) {
+            visited++;
+        }
+        assertEquals(9, visited);
+        assertEquals(10, nodes.usedNodes());
+        assertTrue(nodes.isExhausted());
+
+        DecisionBudget time = DecisionBudget.ofMillis(5).start();
+        Thread.sleep(10);
+        assertTrue(time.isExhausted());
+        assertFalse(time.visit());
+        time.finish();
+        assertTrue(time.usedNanos() >= 5_000_000L);
+        assertEquals(0, time.remainingNanos());
+    }
+}
@@ -0,0 +1,111 @@
+package Model.Bots;
+
+import Model.Cards.Card;
+import Model.Cards.CardPile;
+import Model.Cards.Deck;
+import Model.Engine.Rules;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link CardCounter}.
+ * <p>
+ * The tests cover:
+ * <ul>
+ *   <li>Unseen counts matching a full recount after every kind of card event</li>
+ *   <li>The draw probability and expected value, including the low Ace</li>
+ * </ul>
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @version 1.0
+ * @since 2025
+ */
+class CardCounterTest {
+
+    /**
+     * Tests the counter against a recount over a long random sequence of events.
+     * <p>
+     * Expected behavior: after cards are dealt, played by the seat and by others,
+     * recycled from the pile and returned on elimination, every unseen count equals
+     * the shoe minus the cards on the pile and in the seat's hand.
+     * </p>
+     */
+    @Test
+    void testEvents_RandomSequence_ShouldMatchRecount() {
+        Random random = new Random(4);
+        Deck deck = new Deck(2);
+        CardPile pile = new CardPile(deck);
+        CardCounter counter = new CardCounter(2);
+        counter.attach(pile);
+        List<Card> hand = new ArrayList<>();
+
+        for (int step = 0; step < 2000; step++) {
+            int event = random.nextInt(10);
+            if (event < 3 && hand.size() < Rules.HAND_SIZE && deck.getDeck().size() > 0) {
+                Card card = deck.getCard();
+                hand.add(card);
+                counter.onCardTaken(card);
+            } else if (event < 5 && !hand.isEmpty()) {
+                Card card = hand.remove(random.nextInt(hand.size()));
+                counter.onOwnCardPlayed(card);
+                pile.addCard(card);
+            } else if (event < 8 && deck.getDeck().size() > 0) {
+                pile.addCard(deck.getCard());
+            } else if (event < 9) {
+                for (Card card : pile.getBackCards()) {
+                    deck.addCard(card);
+                }
+            } else {
+                deck.getDeck().addAll(hand);
+                hand.clear();
+                counter.onHandReturned();
+            }
+            assertMatchesRecount(counter, deck, pile, hand);
+        }
+    }
+
+    /**
+     * Tests the constant-time draw statistics on a fresh shoe.
+     * <p>
+     * Expected behavior: each rank is drawn with probability 1/13; the expected
+     * value is 25/13 on a low pile and drops by 9/13 once an Ace only adds 1.
+     * </p>
+     */
+    @Test
+    void testStatistics_FreshShoe_ShouldMatchTheRules() {
+        CardCounter counter = new CardCounter(1);
+
+        assertEquals(1.0 / 13, counter.probabilityOf(Rules.ACE), 1e-12);
+        assertEquals(25.0 / 13, counter.expectedValue(0), 1e-12);
+        assertEquals(16.0 / 13, counter.expectedValue(45), 1e-12);
+        assertEquals(Rules.DECK_SIZE, counter.getUnseenTotal());
+    }
+
+    /**
+     * Checks every unseen count against the shoe minus the visible cards.
+     *
+     * @param counter the counter under test
+     * @param deck    the deck of the game
+     * @param pile    the pile of the game
+     * @param hand    the hand of the counting seat
+     */
+    private static void assertMatchesRecount(CardCounter counter, Deck deck, CardPile pile, List<Card> hand) {
+        int[] expected = new int[Rules.RANKS];
+        for (Card card : deck.getDeck()) {
+            expected[Rules.rankOf(card.getSymbol())]++;
+        }
+        int total = 0;
+        for (int rank = 0; rank < Rules.RANKS; rank++) {
+            assertEquals(expected[rank], counter.getUnseen(rank), "rank " + Rules.symbol(rank));
+            total += expected[rank];
+        }
+        assertEquals(total, counter.getUnseenTotal());
+        assertEquals(deck.getDecks() * Rules.DECK_SIZE, total + pile.getCards().size() + hand.size());
+    }
+}
@@ -0,0 +1,224 @@
+package Model.Bots;
+
+import Model.Engine.HeadlessGame;
+import Model.Engine.Rules;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link CfrSolver}, {@link CfrTable} and {@link CfrStrategy}.
+ * <p>
+ * The tests cover:
+ * <ul>
+ *   <li>The pile bands and information sets of the abstraction</li>
+ *   <li>Training resumed from a checkpoint matching an uninterrupted run</li>
+ *   <li>The exploitability bound falling as training goes on</li>
+ *   <li>The sampled strategy choosing playable cards and beating a random player</li>
+ *   <li>The strategy handing every decision to its fallback without a table</li>
+ *   <li>A difficulty preset over a CFR table still sampling mixed moves with its cache</li>
+ * </ul>
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @version 1.0
+ * @since 2025
+ */
+class CfrSolverTest {
+
+    /**
+     * Tests the abstraction.
+     * <p>
+     * Expected behavior: bands cover every pile, piles from 30 up have a band each,
+     * a J and a K fall in the same information set, and the slots list the
+     * distinct classes of the hand in increasing order.
+     * </p>
+     */
+    @Test
+    void testInfoSet_Abstraction_ShouldGroupEquivalentHands() {
+        assertEquals(0, CfrTable.band(-15));
+        assertEquals(1, CfrTable.band(0));
+        assertEquals(6, CfrTable.band(29));
+        assertEquals(CfrTable.BANDS - 1, CfrTable.band(Rules.MAX_PILE));
+        assertNotEquals(CfrTable.band(44), CfrTable.band(45));
+
+        int[] classes = new int[CfrTable.SLOTS];
+        int withJack = CfrTable.infoSet(40, ranks("J", "2", "2", "A"), classes);
+        assertArrayEquals(new int[]{0, 9, 10, -1}, classes);
+        int withKing = CfrTable.infoSet(40, ranks("2", "K", "A", "2"), classes);
+        assertEquals(withJack, withKing);
+        assertTrue(withJack >= 0 && withJack < CfrTable.INFO_SETS);
+    }
+
+    /**
+     * Tests checkpointing.
+     * <p>
+     * Expected behavior: two epochs, a checkpoint, a resume and two more epochs
+     * give the same strategy and history as four epochs in a row.
+     * </p>
+     *
+     * @param directory a temporary directory for the checkpoint
+     * @throws IOException if the checkpoint cannot be written or read
+     */
+    @Test
+    void testResume_FromCheckpoint_ShouldMatchUninterruptedTraining(@TempDir Path directory) throws IOException {
+        CfrSolver straight = new CfrSolver(400, 1, 3).train(4);
+
+        Path checkpoint = directory.resolve("cfr.ckpt");
+        new CfrSolver(400, 1, 3).train(2).checkpoint(checkpoint);
+        CfrSolver resumed = CfrSolver.resume(checkpoint).train(2);
+
+        assertEquals(straight.getHistory(), resumed.getHistory());
+        assertEquals(straight.getIterations(), resumed.getIterations());
+        CfrTable expected = straight.table();
+        CfrTable actual = resumed.table();
+        for (int infoSet = 0; infoSet < CfrTable.INFO_SETS; infoSet++) {
+            for (int slot = 0; slot < CfrTable.SLOTS; slot++) {
+                assertEquals(expected.probability(infoSet, slot), actual.probability(infoSet, slot));
+            }
+        }
+    }
+
+    /**
+     * Tests the convergence report and the strength of the strategy.
+     * <p>
+     * Expected behavior: the exploitability bound after the last epoch is below
+     * the one after the first; the strategy read back from its file only chooses
+     * playable cards and wins more than 70% of 1000 games against a random player.
+     * </p>
+     *
+     * @param directory a temporary directory for the strategy file
+     * @throws IOException if the file cannot be written or read
+     */
+    @Test
+    void testTrain_Epochs_ShouldConvergeAndBeatRandom(@TempDir Path directory) throws IOException {
+        CfrSolver solver = new CfrSolver(20000, CfrSolver.DEFAULT_DEPTH, 50).train(20);
+        List<Double> history = solver.getHistory();
+        assertEquals(20, history.size());
+        assertTrue(history.get(history.size() - 1) < history.get(0), "bounds " + history);
+
+        Path file = directory.resolve("cfr.bin");
+        solver.table().write(file);
+        CfrTable table = CfrTable.read(file);
+        assertEquals(solver.getIterations(), table.getIterations());
+
+        BotStrategy[] players = {new CfrStrategy(table, new GreedyStrategy(), 1), new RandomStrategy(2)};
+        DecisionView view = new DecisionView();
+        DecisionBudget budget = DecisionBudget.ofNodes(DecisionBudget.UNLIMITED);
+        HeadlessGame game = new HeadlessGame(2);
+        int wins = 0;
+        int games = 1000;
+        for (int g = 0; g < games; g++) {
+            game.reset(9000 + g);
+            int cfrSeat = g & 1;
+            while (!game.isOver()) {
+                if (game.eliminateIfStuck()) {
+                    continue;
+                }
+                BotStrategy player = players[game.currentSeat() == cfrSeat ? 0 : 1];
+                int choice = player.decide(view.load(game), budget.start());
+                assertTrue(game.canPlay(choice), "chose " + choice);
+                game.play(choice);
+            }
+            if (game.winner() == cfrSeat) {
+                wins++;
+            }
+        }
+        assertTrue(wins > games * 0.7, "CFR won " + wins + " of " + games);
+    }
+
+    /**
+     * Tests the strategy without a table.
+     * <p>
+     * Expected behavior: every heads-up decision is the fallback's, and the
+     * strategy takes the fallback's name.
+     * </p>
+     */
+    @Test
+    void testDecide_NoTable_ShouldDelegateToTheFallback() {
+        GreedyStrategy greedy = new GreedyStrategy();
+        CfrStrategy strategy = new CfrStrategy(null, greedy, 1);
+        DecisionView view = new DecisionView();
+        DecisionBudget budget = DecisionBudget.ofNodes(DecisionBudget.UNLIMITED);
+        HeadlessGame game = new HeadlessGame(2);
+        for (long seed = 0; seed < 100; seed++) {
+            game.reset(seed);
+            if (game.eliminateIfStuck()) {
+                continue;
+            }
+            view.load(game);
+            assertEquals(greedy.decide(view, budget.start()), strategy.decide(view, budget.start()));
+        }
+        assertEquals(greedy.name(), strategy.name());
+    }
+
+    /**
+     * Tests a difficulty preset over a CFR table.
+     * <p>
+     * Expected behavior: with every move of the table equally likely and a
+     * decision cache in place, 200 decisions on one heads-up position play more
+     * than one rank, and the cache is never consulted for them.
+     * </p>
+     */
+    @Test
+    void testNewStrategy_CfrPreset_ShouldKeepSamplingMixedMoves() {
+        float[] uniform = new float[CfrTable.INFO_SETS * CfrTable.SLOTS];
+        Arrays.fill(uniform, 0.25f);
+        DecisionCache cache = new DecisionCache(256);
+        BotStrategy strategy = Difficulty.EASY.newStrategy(3, null, new CfrTable(uniform, 1), cache);
+        DecisionBudget budget = Difficulty.EASY.newBudget();
+        DecisionView view = new DecisionView();
+        HeadlessGame game = new HeadlessGame(2);
+        long seed = 0;
+        do {
+            game.reset(seed++);
+        } while (distinctPlayable(view.load(game)) < 2);
+
+        Set<Integer> played = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            int choice = strategy.decide(view, budget.start());
+            assertTrue(view.isPlayable(choice));
+            played.add(view.getHandRank(choice));
+        }
+        assertTrue(played.size() > 1, "played " + played);
+        assertEquals(0, cache.getHits() + cache.getMisses());
+    }
+
+    /**
+     * Counts the value classes of the playable cards of a view.
+     *
+     * @param view the view
+     * @return the number of distinct playable classes
+     */
+    private static int distinctPlayable(DecisionView view) {
+        Set<Integer> classes = new HashSet<>();
+        for (int i = 0; i < view.getHandSize(); i++) {
+            if (view.isPlayable(i)) {
+                classes.add(EndgameTablebase.classOf(view.getHandRank(i)));
+            }
+        }
+        return classes.size();
+    }
+
+    /**
+     * Converts card symbols to ranks.
+     *
+     * @param symbols the symbols of the cards
+     * @return their ranks
+     */
+    private static int[] ranks(String... symbols) {
+        int[] ranks = new int[symbols.length];
+        for (int i = 0; i < symbols.length; i++) {
+            ranks[i] = Rules.rankOf(symbols[i]);
+        }
+        return ranks;
+    }
+}
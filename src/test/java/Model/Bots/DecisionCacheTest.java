@@ -0,0 +1,263 @@
+package Model.Bots;
+
+import Model.Engine.FastRandom;
+import Model.Engine.Rules;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link DecisionCache} and {@link CachedStrategy}.
+ * <p>
+ * The tests cover:
+ * <ul>
+ *   <li>Keys ignoring the order of the hand but not the salt</li>
+ *   <li>Frequently hit keys surviving a flood of one-off keys within the capacity</li>
+ *   <li>The admission filter turning away keys rarer than the victim</li>
+ *   <li>Concurrent lookups and stores keeping values, counters and size consistent</li>
+ *   <li>A repeated position being answered without calling the fallback</li>
+ *   <li>Scaled-down, capped and cancelled searches never being cached</li>
+ * </ul>
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @version 1.0
+ * @since 2025
+ */
+class DecisionCacheTest {
+
+    /**
+     * Tests the canonical key.
+     * <p>
+     * Expected behavior: the same cards in another order give the same key, while
+     * another salt, pile value or hand give a different one.
+     * </p>
+     */
+    @Test
+    void testKey_ReorderedHand_ShouldMatchUnlessTheSaltDiffers() {
+        long key = DecisionCache.key(view(30, "K", "2", "9", "A"), 1);
+        assertEquals(key, DecisionCache.key(view(30, "A", "9", "2", "K"), 1));
+        assertNotEquals(key, DecisionCache.key(view(30, "K", "2", "9", "A"), 2));
+        assertNotEquals(key, DecisionCache.key(view(31, "K", "2", "9", "A"), 1));
+        assertNotEquals(key, DecisionCache.key(view(30, "K", "2", "9", "9"), 1));
+    }
+
+    /**
+     * Tests scan resistance.
+     * <p>
+     * Expected behavior: after 100 keys are hit five times each, 20000 one-off keys
+     * never push the size past the capacity, cause evictions, and leave every hot
+     * key cached with its rank.
+     * </p>
+     */
+    @Test
+    void testPut_FloodOfOneOffKeys_ShouldKeepTheHotKeys() {
+        DecisionCache cache = new DecisionCache(1024);
+        for (int round = 0; round < 5; round++) {
+            for (long k = 0; k < 100; k++) {
+                access(cache, FastRandom.mix(k));
+            }
+        }
+        for (long k = 1000; k < 21_000; k++) {
+            access(cache, FastRandom.mix(k));
+            assertTrue(cache.size() <= cache.capacity());
+        }
+
+        assertTrue(cache.getEvictions() > 0);
+        for (long k = 0; k < 100; k++) {
+            long key = FastRandom.mix(k);
+            assertEquals(rankOf(key), cache.get(key), "hot key " + k);
+        }
+    }
+
+    /**
+     * Tests the admission filter.
+     * <p>
+     * Expected behavior: once a segment is full of keys hit twelve times, each of
+     * ten keys seen once is either rejected or evicts one slot, most are rejected,
+     * and no more hot keys are lost than keys were let in.
+     * </p>
+     */
+    @Test
+    void testPut_RareKeyOnFullSegment_ShouldBeRejected() {
+        DecisionCache cache = new DecisionCache(DecisionCache.SEGMENTS * 16);
+        long[] hot = new long[16];
+        for (int i = 0; i < hot.length; i++) {
+            hot[i] = FastRandom.mix(i) >>> 4;
+            for (int round = 0; round < 12; round++) {
+                access(cache, hot[i]);
+            }
+        }
+        for (int i = 0; i < 10; i++) {
+            access(cache, FastRandom.mix(100 + i) >>> 4);
+        }
+
+        assertEquals(10, cache.getRejections() + cache.getEvictions());
+        assertTrue(cache.getRejections() >= 5, "rejections " + cache.getRejections());
+        int lost = 0;
+        for (long key : hot) {
+            int rank = cache.get(key);
+            if (rank == DecisionCache.MISS) {
+                lost++;
+            } else {
+                assertEquals(rankOf(key), rank);
+            }
+        }
+        assertTrue(lost <= cache.getEvictions());
+    }
+
+    /**
+     * Tests concurrent use.
+     * <p>
+     * Expected behavior: eight threads looking up and storing 40000 skewed keys
+     * each never read a wrong rank, the hits and misses add up to the lookups, and
+     * the size stays within the capacity.
+     * </p>
+     *
+     * @throws InterruptedException if the test is interrupted while waiting
+     */
+    @Test
+    void testGet_ConcurrentTables_ShouldStayConsistent() throws InterruptedException {
+        DecisionCache cache = new DecisionCache(1024);
+        AtomicInteger wrong = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            long seed = t;
+            Thread thread = new Thread(() -> {
+                FastRandom random = new FastRandom(seed);
+                for (int i = 0; i < 40_000; i++) {
+                    int k = random.nextInt(64) * random.nextInt(64);
+                    long key = FastRandom.mix(k);
+                    int rank = cache.get(key);
+                    if (rank == DecisionCache.MISS) {
+                        cache.put(key, rankOf(key));
+                    } else if (rank != rankOf(key)) {
+                        wrong.incrementAndGet();
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, wrong.get());
+        assertEquals(8 * 40_000L, cache.getHits() + cache.getMisses());
+        assertTrue(cache.getHits() > cache.getMisses());
+        assertTrue(cache.size() <= cache.capacity());
+    }
+
+    /**
+     * Tests the caching strategy.
+     * <p>
+     * Expected behavior: the fallback is called once for a position, the same
+     * cards in another order are answered from the cache with a card of the same
+     * rank, and a bot with another salt searches again.
+     * </p>
+     */
+    @Test
+    void testDecide_RepeatedPosition_ShouldSkipTheSearch() {
+        DecisionCache cache = new DecisionCache(256);
+        AtomicInteger searches = new AtomicInteger();
+        GreedyStrategy greedy = new GreedyStrategy();
+        BotStrategy counting = (view, budget) -> {
+            searches.incrementAndGet();
+            return greedy.decide(view, budget);
+        };
+        CachedStrategy strategy = new CachedStrategy(cache, counting, 1);
+        DecisionBudget budget = DecisionBudget.ofNodes(DecisionBudget.UNLIMITED);
+
+        DecisionView first = view(30, "K", "2", "9", "A");
+        int rank = first.getHandRank(strategy.decide(first, budget.start()));
+        DecisionView reordered = view(30, "A", "9", "2", "K");
+        int choice = strategy.decide(reordered, budget.start());
+
+        assertEquals(1, searches.get());
+        assertEquals(rank, reordered.getHandRank(choice));
+        assertTrue(reordered.isPlayable(choice));
+        assertEquals(1, cache.getHits());
+
+        new CachedStrategy(cache, counting, 2).decide(first, budget.start());
+        assertEquals(2, searches.get());
+    }
+
+    /**
+     * Tests caching searches that did not get their whole budget.
+     * <p>
+     * Expected behavior: a search with its budget halved, one cut short by the
+     * time cap and a cancelled one are played but leave the cache empty, while a
+     * node-limited search that finished under the cap is cached.
+     * </p>
+     *
+     * @throws InterruptedException if the test is interrupted while waiting
+     */
+    @Test
+    void testDecide_ShortenedSearch_ShouldNotBeCached() throws InterruptedException {
+        DecisionCache cache = new DecisionCache(256);
+        CachedStrategy strategy = new CachedStrategy(cache, new GreedyStrategy(), 1);
+        DecisionView view = view(30, "K", "2", "9", "A");
+
+        DecisionBudget scaled = DecisionBudget.ofNodes(1_000);
+        assertTrue(view.isPlayable(strategy.decide(view, scaled.start(0.5, DecisionBudget.UNLIMITED))));
+        assertEquals(0, cache.size());
+
+        DecisionBudget capped = DecisionBudget.ofNodes(1_000).start(1, 1_000_000L);
+        Thread.sleep(2);
+        strategy.decide(view, capped);
+        assertEquals(0, cache.size());
+
+        DecisionBudget cancelled = DecisionBudget.ofNodes(1_000);
+        cancelled.cancel();
+        strategy.decide(view, cancelled.start());
+        assertEquals(0, cache.size());
+
+        strategy.decide(view, DecisionBudget.ofNodes(1_000).start(1, 1_000_000_000L));
+        assertEquals(1, cache.size());
+    }
+
+    /**
+     * Looks a key up and stores its rank on a miss, as a bot would.
+     *
+     * @param cache the cache
+     * @param key   the key
+     */
+    private static void access(DecisionCache cache, long key) {
+        if (cache.get(key) == DecisionCache.MISS) {
+            cache.put(key, rankOf(key));
+        }
+    }
+
+    /**
+     * Returns the rank stored for a key in these tests.
+     *
+     * @param key the key
+     * @return a rank derived from the key
+     */
+    private static int rankOf(long key) {
+        return (int) Long.remainderUnsigned(key, Rules.RANKS);
+    }
+
+    /**
+     * Builds the view of seat 0 at a three-seat table with a full hand.
+     *
+     * @param pileValue the pile value
+     * @param symbols   the symbols of the cards of the hand
+     * @return the view
+     */
+    private static DecisionView view(int pileValue, String... symbols) {
+        DecisionView view = new DecisionView();
+        view.begin(0, 3, 1, pileValue, 30);
+        for (String symbol : symbols) {
+            view.addHandCard(Rules.rankOf(symbol));
+        }
+        view.setHandSize(1, Rules.HAND_SIZE);
+        view.setHandSize(2, Rules.HAND_SIZE);
+        return view;
+    }
+}
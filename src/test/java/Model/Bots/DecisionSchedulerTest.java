@@ -0,0 +1,157 @@
+package Model.Bots;
+
+import Model.Engine.HeadlessGame;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link DecisionScheduler} and the {@link Difficulty} presets.
+ * <p>
+ * The tests cover:
+ * <ul>
+ *   <li>Budgets started with a scale and a hard time cap</li>
+ *   <li>The deadline stopping a search limited only by nodes</li>
+ *   <li>Overruns being recorded and the scale shrinking and recovering</li>
+ *   <li>Every preset keeping its p99 decision time below its deadline on a loaded machine</li>
+ * </ul>
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @version 1.0
+ * @since 2025
+ */
+class DecisionSchedulerTest {
+
+    /**
+     * Tests scaled budgets.
+     * <p>
+     * Expected behavior: half of a 100-node budget allows 50 nodes, and a node
+     * budget started with a 1 ms cap gets a deadline.
+     * </p>
+     */
+    @Test
+    void testStart_ScaleAndCap_ShouldShrinkTheLimits() {
+        DecisionBudget budget = DecisionBudget.ofNodes(100);
+        budget.start(0.5, DecisionBudget.UNLIMITED);
+        int visits = 0;
+        while (budget.visit()) {
+            visits++;
+        }
+        assertEquals(49, visits);
+        assertEquals(DecisionBudget.UNLIMITED, budget.remainingNanos());
+
+        budget.start(1.0, 1_000_000L);
+        assertTrue(budget.remainingNanos() <= 1_000_000L);
+        assertEquals(100, budget.remainingNodes());
+    }
+
+    /**
+     * Tests the hard deadline.
+     * <p>
+     * Expected behavior: a strategy that searches until its unlimited node budget
+     * runs out is stopped by a 20 ms deadline, at the share of it searches may use.
+     * </p>
+     */
+    @Test
+    void testDecide_EndlessSearch_ShouldStopAtTheDeadline() {
+        BotStrategy endless = (view, budget) -> {
+            while (budget.visit()) {
+                Thread.onSpinWait();
+            }
+            return view.firstPlayable();
+        };
+        DecisionScheduler scheduler = new DecisionScheduler(
+                DecisionBudget.ofNodes(DecisionBudget.UNLIMITED), 20_000_000L);
+        HeadlessGame game = new HeadlessGame(3);
+        game.reset(1);
+
+        scheduler.decide(endless, new DecisionView().load(game));
+        long used = scheduler.getBudget().usedNanos();
+        assertTrue(used >= 15_000_000L && used < 200_000_000L, "used " + used / 1_000_000 + " ms");
+    }
+
+    /**
+     * Tests the adaptation of the scale.
+     * <p>
+     * Expected behavior: two decisions past the deadline are overruns and halve the
+     * scale twice; fast decisions then bring it back to the full budget.
+     * </p>
+     */
+    @Test
+    void testRecord_SlowThenFast_ShouldShrinkAndRecover() {
+        DecisionScheduler scheduler = new DecisionScheduler(DecisionBudget.ofMillis(40), 50_000_000L);
+        scheduler.record(60_000_000L);
+        assertEquals(10_000_000L, scheduler.getLastOverrun());
+        scheduler.record(70_000_000L);
+        assertEquals(0.25, scheduler.getScale(), 1e-9);
+        assertEquals(2, scheduler.getOverruns().count());
+
+        scheduler.record(30_000_000L);
+        assertEquals(0, scheduler.getLastOverrun());
+        assertEquals(0.25, scheduler.getScale(), 1e-9);
+        for (int i = 0; i < 10; i++) {
+            scheduler.record(1_000_000L);
+        }
+        assertEquals(1.0, scheduler.getScale(), 1e-9);
+        assertEquals(2, scheduler.getOverruns().count());
+        assertEquals(13, scheduler.getDecisions().count());
+    }
+
+    /**
+     * Tests the presets on a loaded machine.
+     * <p>
+     * Expected behavior: with one busy thread per core, 40 decisions of each
+     * difficulty on four-seat games keep their p99 below the level's deadline.
+     * </p>
+     *
+     * @throws InterruptedException if the test is interrupted while stopping the load
+     */
+    @Test
+    void testDecide_LoadedMachine_ShouldKeepP99BelowTheDeadline() throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Thread> load = new ArrayList<>();
+        for (int i = 0; i < Runtime.getRuntime().availableProcessors(); i++) {
+            Thread thread = new Thread(() -> {
+                long x = 0;
+                while (running.get()) {
+                    x += System.nanoTime() & 1;
+                }
+            }, "load-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            load.add(thread);
+        }
+        try {
+            DecisionView view = new DecisionView();
+            HeadlessGame game = new HeadlessGame(4);
+            for (Difficulty difficulty : Difficulty.values()) {
+                BotStrategy strategy = difficulty.newStrategy(7);
+                DecisionScheduler scheduler = difficulty.newScheduler(difficulty.newBudget());
+                for (int d = 0; d < 40; d++) {
+                    game.reset(100 + d);
+                    for (int t = 0; t < d % 7 && !game.isOver(); t++) {
+                        game.playGreedyTurn();
+                    }
+                    if (game.isOver() || game.eliminateIfStuck()) {
+                        continue;
+                    }
+                    int choice = scheduler.decide(strategy, view.load(game));
+                    assertTrue(game.canPlay(choice), difficulty + " chose " + choice);
+                }
+                long p99 = scheduler.getDecisions().percentile(99);
+                assertTrue(p99 <= difficulty.getDeadlineNanos(),
+                        difficulty + " p99 " + p99 / 1_000_000.0 + " ms");
+            }
+        } finally {
+            running.set(false);
+            for (Thread thread : load) {
+                thread.join();
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package Model.Bots;
+
+import Model.Engine.Rules;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link EliminationOdds}.
+ * <p>
+ * The tests cover:
+ * <ul>
+ *   <li>The hypergeometric probability of a hand with no playable card</li>
+ *   <li>Exact odds on positions small enough to work out by hand</li>
+ *   <li>Repeated queries being answered from the cache in microseconds</li>
+ * </ul>
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @version 1.0
+ * @since 2025
+ */
+class EliminationOddsTest {
+
+    /**
+     * Tests the hypergeometric term.
+     * <p>
+     * Expected behavior: four cards drawn from 52 with 16 unplayable are all
+     * unplayable with probability C(16,4)/C(52,4); with fewer unplayable cards than
+     * the hand size the probability is 0.
+     * </p>
+     */
+    @Test
+    void testStuckProbability_Hypergeometric_ShouldMatchBinomials() {
+        double expected = (16.0 * 15 * 14 * 13) / (52.0 * 51 * 50 * 49);
+        assertEquals(expected, EliminationOdds.stuckProbability(16, 52, 4), 1e-12);
+        assertEquals(0, EliminationOdds.stuckProbability(3, 52, 4));
+        assertEquals(1, EliminationOdds.stuckProbability(52, 52, 4));
+    }
+
+    /**
+     * Tests odds worked out by hand with only 10s and Ks unseen.
+     * <p>
+     * Expected behavior: holding a single 10 on a pile of 30, the player plays it
+     * (pile 40), draws a 10 or a K, and the opponent plays a 10 or a K; the player
+     * is stuck only with a 10 on a pile of 50, so the odds over two turns are 1/4.
+     * A hand that cannot be played is eliminated this turn.
+     * </p>
+     */
+    @Test
+    void testProbability_SmallPosition_ShouldMatchHandComputation() {
+        DecisionView view = new DecisionView();
+        view.begin(0, 2, 1, 30, 8);
+        view.addHandCard(Rules.rankOf("10"));
+        for (int rank = 0; rank < Rules.RANKS; rank++) {
+            view.setUnseen(rank, 0);
+        }
+        view.setUnseen(Rules.rankOf("10"), 4);
+        view.setUnseen(Rules.rankOf("K"), 4);
+        EliminationOdds odds = new EliminationOdds().load(view);
+
+        assertEquals(0, odds.probability(1));
+        assertEquals(0.25, odds.probability(2), 1e-12);
+        assertEquals(0.25, odds.probabilityAfter(Rules.rankOf("10"), 2), 1e-12);
+
+        view.begin(0, 2, 1, 45, 8);
+        view.addHandCard(Rules.rankOf("10"));
+        assertEquals(1, odds.load(view).probability(1));
+    }
+
+    /**
+     * Tests the speed of repeated queries on a full shoe.
+     * <p>
+     * Expected behavior: odds stay between 0 and 1, grow with the pile, and once
+     * cached a query over three turns takes well under 50 microseconds on average.
+     * </p>
+     */
+    @Test
+    void testProbability_RepeatedQueries_ShouldBeAnsweredQuickly() {
+        DecisionView view = new DecisionView();
+        EliminationOdds odds = new EliminationOdds();
+        double previous = -1;
+        for (int pile = 10; pile <= 50; pile += 10) {
+            view.begin(0, 4, 1, pile, 30);
+            for (String symbol : new String[]{"10", "8", "7", "A"}) {
+                view.addHandCard(Rules.rankOf(symbol));
+            }
+            double danger = odds.load(view).probability(3);
+            assertTrue(danger >= 0 && danger <= 1, "danger " + danger);
+            assertTrue(danger >= previous - 1e-9, "pile " + pile + ": " + danger + " < " + previous);
+            previous = danger;
+        }
+
+        int queries = 20_000;
+        long start = System.nanoTime();
+        double sum = 0;
+        for (int i = 0; i < queries; i++) {
+            sum += odds.load(view).probability(3);
+        }
+        long averageNanos = (System.nanoTime() - start) / queries;
+        assertTrue(sum > 0);
+        assertTrue(averageNanos < 50_000, averageNanos + " ns per query");
+    }
+}
@@ -0,0 +1,162 @@
+package Model.Bots;
+
+import Model.Engine.HeadlessGame;
+import Model.Engine.Rules;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link EndgameSolver}, {@link EndgameTablebase} and
+ * {@link TablebaseStrategy}.
+ * <p>
+ * The tests cover:
+ * <ul>
+ *   <li>Every four-card hand of value classes having its own index</li>
+ *   <li>The mapped file answering exactly what the solver computed</li>
+ *   <li>Positions with no playable card being lost</li>
+ *   <li>The table beating the greedy player heads-up</li>
+ * </ul>
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @version 1.0
+ * @since 2025
+ */
+class EndgameTablebaseTest {
+
+    /** Solver shared by the tests; solving takes a few seconds. */
+    private static EndgameSolver solver;
+
+    /**
+     * Solves the table once for every test.
+     */
+    @BeforeAll
+    static void solve() {
+        solver = new EndgameSolver().solve();
+    }
+
+    /**
+     * Tests the hand index.
+     * <p>
+     * Expected behavior: the {@value EndgameTablebase#HANDS} sorted hands get the
+     * indexes 0 to 1000, each once, whatever the order of the cards.
+     * </p>
+     */
+    @Test
+    void testHandIndex_AllHands_ShouldBeABijection() {
+        boolean[] used = new boolean[EndgameTablebase.HANDS];
+        int count = 0;
+        for (int a = 0; a < EndgameTablebase.CLASSES; a++) {
+            for (int b = a; b < EndgameTablebase.CLASSES; b++) {
+                for (int c = b; c < EndgameTablebase.CLASSES; c++) {
+                    for (int d = c; d < EndgameTablebase.CLASSES; d++) {
+                        int index = EndgameTablebase.handIndex(new int[]{d, b, a, c});
+                        assertFalse(used[index], "index " + index + " used twice");
+                        used[index] = true;
+                        count++;
+                    }
+                }
+            }
+        }
+        assertEquals(EndgameTablebase.HANDS, count);
+        assertEquals(EndgameTablebase.classOf(Rules.rankOf("J")), EndgameTablebase.classOf(Rules.rankOf("K")));
+    }
+
+    /**
+     * Tests writing the table and mapping it back.
+     * <p>
+     * Expected behavior: the solver converges, and for every pile and hand the
+     * mapped file returns the solver's best class and its win probability to
+     * within the 16-bit rounding.
+     * </p>
+     *
+     * @param directory a temporary directory for the file
+     * @throws IOException if the file cannot be written or read
+     */
+    @Test
+    void testOpen_WrittenFile_ShouldMatchTheSolver(@TempDir Path directory) throws IOException {
+        assertTrue(solver.getResidual() <= EndgameSolver.DEFAULT_TOLERANCE, "residual " + solver.getResidual());
+        Path file = directory.resolve(EndgameTablebase.DEFAULT_FILE);
+        solver.write(file);
+        assertEquals(EndgameTablebase.HEADER_BYTES + (long) EndgameTablebase.PILE_SPAN
+                * EndgameTablebase.HANDS * Integer.BYTES, Files.size(file));
+
+        EndgameTablebase tablebase = EndgameTablebase.open(file);
+        assertEquals(solver.getIterations(), tablebase.getIterations());
+        for (int pile = EndgameTablebase.PILE_FLOOR; pile <= Rules.MAX_PILE; pile++) {
+            for (int hand = 0; hand < EndgameTablebase.HANDS; hand++) {
+                assertEquals(solver.bestClass(pile, hand), tablebase.bestClass(pile, hand));
+                assertEquals(solver.winProbability(pile, hand), tablebase.winProbability(pile, hand), 1e-4);
+            }
+        }
+    }
+
+    /**
+     * Tests a lost position.
+     * <p>
+     * Expected behavior: four 10s on a pile of 45 cannot be played, so the
+     * position is lost and has no best class; a K on the same pile wins sometimes.
+     * </p>
+     */
+    @Test
+    void testSolve_StuckHand_ShouldBeLost() {
+        int ten = EndgameTablebase.classOf(Rules.rankOf("10"));
+        int king = EndgameTablebase.classOf(Rules.rankOf("K"));
+        int stuck = EndgameTablebase.handIndex(new int[]{ten, ten, ten, ten});
+        int saved = EndgameTablebase.handIndex(new int[]{ten, ten, ten, king});
+
+        assertEquals(0, solver.winProbability(45, stuck));
+        assertEquals(-1, solver.bestClass(45, stuck));
+        assertEquals(king, solver.bestClass(45, saved));
+        assertTrue(solver.winProbability(45, saved) > 0);
+    }
+
+    /**
+     * Tests the strength of the table heads-up.
+     * <p>
+     * Expected behavior: over 2000 two-seat games against {@link GreedyStrategy},
+     * alternating who moves first, the table wins more than 55% of them.
+     * </p>
+     *
+     * @param directory a temporary directory for the file
+     * @throws IOException if the file cannot be written or read
+     */
+    @Test
+    void testDecide_AgainstGreedy_ShouldWinMostGames(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve(EndgameTablebase.DEFAULT_FILE);
+        solver.write(file);
+        BotStrategy[] players = {
+                new TablebaseStrategy(EndgameTablebase.open(file), new GreedyStrategy()),
+                new GreedyStrategy()};
+        DecisionView view = new DecisionView();
+        DecisionBudget budget = DecisionBudget.ofNodes(DecisionBudget.UNLIMITED);
+        HeadlessGame game = new HeadlessGame(2);
+
+        int wins = 0;
+        int games = 2000;
+        for (int g = 0; g < games; g++) {
+            game.reset(5000 + g);
+            int tableSeat = g & 1;
+            while (!game.isOver()) {
+                if (game.eliminateIfStuck()) {
+                    continue;
+                }
+                BotStrategy player = players[game.currentSeat() == tableSeat ? 0 : 1];
+                int choice = player.decide(view.load(game), budget.start());
+                assertTrue(game.canPlay(choice), "chose " + choice);
+                game.play(choice);
+            }
+            if (game.winner() == tableSeat) {
+                wins++;
+            }
+        }
+        assertTrue(wins > games * 0.55, "tablebase won " + wins + " of " + games);
+    }
+}
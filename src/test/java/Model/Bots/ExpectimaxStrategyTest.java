@@ -0,0 +1,118 @@
+package Model.Bots;
+
+import Model.Engine.HeadlessGame;
+import Model.Engine.Rules;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link ExpectimaxStrategy} and its {@link TranspositionTable}.
+ * <p>
+ * The tests cover:
+ * <ul>
+ *   <li>Storing, probing and replacing entries of the transposition table</li>
+ *   <li>Repeated positions being answered from the table whatever the hand order</li>
+ *   <li>The search choosing only playable cards and beating a random player</li>
+ * </ul>
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @version 1.0
+ * @since 2025
+ */
+class ExpectimaxStrategyTest {
+
+    /**
+     * Tests the transposition table contract.
+     * <p>
+     * Expected behavior: a stored entry is found with its value, depth and rank; an
+     * unknown key misses; a deeper result is kept when a shallower one collides in
+     * the same bucket.
+     * </p>
+     */
+    @Test
+    void testTable_StoreAndProbe_ShouldKeepDeepestEntry() {
+        TranspositionTable table = new TranspositionTable(1);
+        table.store(42L, 5, 0.75, Rules.ACE);
+
+        long entry = table.probe(42L);
+        assertNotEquals(TranspositionTable.MISS, entry);
+        assertEquals(0.75, TranspositionTable.valueOf(entry), 1e-6);
+        assertEquals(5, TranspositionTable.depthOf(entry));
+        assertEquals(Rules.ACE, TranspositionTable.rankOf(entry));
+        assertEquals(TranspositionTable.MISS, table.probe(43L));
+
+        // Keys 42, 44, 46... share the same bucket in a two-bucket table
+        table.store(44L, 1, 0.5, 0);
+        table.store(46L, 1, 0.25, 1);
+        assertNotEquals(TranspositionTable.MISS, table.probe(42L));
+        assertEquals(TranspositionTable.MISS, table.probe(44L));
+        assertEquals(0.25, TranspositionTable.valueOf(table.probe(46L)), 1e-6);
+    }
+
+    /**
+     * Tests that positions are cached under their canonical, suit-free key.
+     * <p>
+     * Expected behavior: a second decision on the same position, with the hand in
+     * another order, is answered from the table in a single node and chooses a card
+     * of the same rank.
+     * </p>
+     */
+    @Test
+    void testDecide_RepeatedPosition_ShouldHitTheTable() {
+        ExpectimaxStrategy search = new ExpectimaxStrategy(new TranspositionTable(16), 1);
+        DecisionView view = new DecisionView();
+        view.begin(0, 2, 1, 38, 30);
+        for (String symbol : new String[]{"10", "3", "K", "7"}) {
+            view.addHandCard(Rules.rankOf(symbol));
+        }
+        DecisionBudget first = DecisionBudget.ofNodes(DecisionBudget.UNLIMITED).start();
+        int rank = view.getHandRank(search.decide(view, first));
+
+        view.begin(0, 2, 1, 38, 30);
+        for (String symbol : new String[]{"7", "K", "3", "10"}) {
+            view.addHandCard(Rules.rankOf(symbol));
+        }
+        DecisionBudget second = DecisionBudget.ofNodes(DecisionBudget.UNLIMITED).start();
+        assertEquals(rank, view.getHandRank(search.decide(view, second)));
+        assertEquals(1, search.getCompletedDepth());
+        assertTrue(first.usedNodes() > 100, first.toString());
+        assertEquals(1, second.usedNodes());
+    }
+
+    /**
+     * Tests the strength of the search against a random player.
+     * <p>
+     * Expected behavior: every choice is playable and, with 20 000 nodes per
+     * decision, the search wins more than 70% of 200 two-seat games.
+     * </p>
+     */
+    @Test
+    void testDecide_AgainstRandom_ShouldWinMostGames() {
+        BotStrategy[] players = {new ExpectimaxStrategy(), new RandomStrategy(9)};
+        DecisionView view = new DecisionView();
+        DecisionBudget budget = DecisionBudget.ofNodes(20_000);
+        HeadlessGame game = new HeadlessGame(2);
+
+        int wins = 0;
+        int games = 200;
+        for (int g = 0; g < games; g++) {
+            game.reset(2000 + g);
+            int searchSeat = g & 1;
+            while (!game.isOver()) {
+                if (game.eliminateIfStuck()) {
+                    continue;
+                }
+                BotStrategy player = players[game.currentSeat() == searchSeat ? 0 : 1];
+                int choice = player.decide(view.load(game), budget.start());
+                assertTrue(game.canPlay(choice));
+                game.play(choice);
+            }
+            if (game.winner() == searchSeat) {
+                wins++;
+            }
+        }
+        assertTrue(wins > games * 0.7, "Expectimax won " + wins + " of " + games);
+    }
+}
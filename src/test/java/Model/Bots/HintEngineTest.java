@@ -0,0 +1,135 @@
+package Model.Bots;
+
+import Model.Engine.Rules;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link HintEngine}.
+ * <p>
+ * The tests cover:
+ * <ul>
+ *   <li>A search ending with a final hint that suggests the best-scored playable card</li>
+ *   <li>A hand with a single playable card being answered without a search</li>
+ *   <li>Cancellation voiding hints posted but not delivered yet</li>
+ * </ul>
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @version 1.0
+ * @since 2025
+ */
+class HintEngineTest {
+
+    /** Hints received by the listener. */
+    private final List<HintEngine.Hint> hints = Collections.synchronizedList(new ArrayList<>());
+
+    /** Engine under test; shut down after each test. */
+    private HintEngine engine;
+
+    /**
+     * Stops the worker of the engine.
+     */
+    @AfterEach
+    void tearDown() {
+        if (engine != null) {
+            assertTrue(engine.shutdown());
+        }
+    }
+
+    /**
+     * Tests a full search.
+     * <p>
+     * Expected behavior: on a pile of 45 with a 10, a K, a 2 and a 9, the last
+     * hint is final, the 10 has no score, and the suggested card is playable and
+     * scored at least as high as the others.
+     * </p>
+     *
+     * @throws InterruptedException if the test is interrupted while waiting
+     */
+    @Test
+    void testStart_MixedHand_ShouldEndWithTheBestPlayableCard() throws InterruptedException {
+        engine = new HintEngine(Runnable::run, hints::add, 200, 1);
+        engine.start(view(45, "10", "K", "2", "9"));
+        engine.await();
+
+        HintEngine.Hint last = hints.get(hints.size() - 1);
+        assertTrue(last.isFinal());
+        assertEquals(4, last.size());
+        assertTrue(Double.isNaN(last.getScore(0)));
+        assertTrue(last.getPlayouts() >= HintEngine.BATCH);
+        int best = last.getBest();
+        assertTrue(best >= 1 && best <= 3, "suggested " + best);
+        for (int i = 1; i <= 3; i++) {
+            assertTrue(last.getScore(best) >= last.getScore(i));
+        }
+    }
+
+    /**
+     * Tests a hand with one playable card.
+     * <p>
+     * Expected behavior: a single final hint suggests that card without playouts.
+     * </p>
+     *
+     * @throws InterruptedException if the test is interrupted while waiting
+     */
+    @Test
+    void testStart_SinglePlayableCard_ShouldSuggestItAtOnce() throws InterruptedException {
+        engine = new HintEngine(Runnable::run, hints::add, 200, 2);
+        engine.start(view(48, "10", "K", "5", "8"));
+        engine.await();
+
+        assertEquals(1, hints.size());
+        assertTrue(hints.get(0).isFinal());
+        assertEquals(1, hints.get(0).getBest());
+        assertEquals(0, hints.get(0).getPlayouts());
+    }
+
+    /**
+     * Tests cancellation.
+     * <p>
+     * Expected behavior: hints posted before {@code cancel()} but delivered after
+     * it never reach the listener.
+     * </p>
+     *
+     * @throws InterruptedException if the test is interrupted while waiting
+     */
+    @Test
+    void testCancel_PendingHints_ShouldNeverBeDelivered() throws InterruptedException {
+        List<Runnable> posted = Collections.synchronizedList(new ArrayList<>());
+        engine = new HintEngine(posted::add, hints::add, 100, 3);
+        engine.start(view(30, "K", "2", "9", "A"));
+        engine.await();
+        assertFalse(posted.isEmpty());
+
+        engine.cancel();
+        for (Runnable delivery : posted) {
+            delivery.run();
+        }
+        assertTrue(hints.isEmpty());
+    }
+
+    /**
+     * Builds the view of seat 0 at a three-seat table with a full hand.
+     *
+     * @param pileValue the pile value
+     * @param symbols   the symbols of the cards of the hand
+     * @return the view
+     */
+    private static DecisionView view(int pileValue, String... symbols) {
+        DecisionView view = new DecisionView();
+        view.begin(0, 3, 1, pileValue, 30);
+        for (String symbol : symbols) {
+            view.addHandCard(Rules.rankOf(symbol));
+        }
+        view.setHandSize(1, Rules.HAND_SIZE);
+        view.setHandSize(2, Rules.HAND_SIZE);
+        return view;
+    }
+}
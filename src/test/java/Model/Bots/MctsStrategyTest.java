@@ -0,0 +1,122 @@
+package Model.Bots;
+
+import Model.Engine.FastRandom;
+import Model.Engine.HeadlessGame;
+import Model.Engine.Rules;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link MctsStrategy} and the {@link Determinizer} it samples from.
+ * <p>
+ * The tests cover:
+ * <ul>
+ *   <li>Sampled games keeping the bot's hand, the pile and every seat's hand size</li>
+ *   <li>The search choosing only playable cards and stopping at its time budget</li>
+ *   <li>The search beating a random player over seeded games</li>
+ * </ul>
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @version 1.0
+ * @since 2025
+ */
+class MctsStrategyTest {
+
+    /**
+     * Tests that a determinization is consistent with the view it comes from.
+     * <p>
+     * Expected behavior: the sampled game has the same pile value, alive seats and
+     * hand sizes, the bot's own cards in the same order, and the same number of
+     * cards in total as the real shoe.
+     * </p>
+     */
+    @Test
+    void testDeterminizer_SampledGame_ShouldMatchTheView() {
+        HeadlessGame real = new HeadlessGame(5);
+        real.reset(7);
+        for (int i = 0; i < 30 && !real.isOver(); i++) {
+            real.playRandomTurn();
+        }
+        DecisionView view = new DecisionView().load(real);
+        HeadlessGame sampled = new Determinizer().sample(view, new FastRandom(3));
+
+        int me = view.getMySeat();
+        assertEquals(me, sampled.currentSeat());
+        assertEquals(real.pileValue(), sampled.pileValue());
+        assertEquals(real.aliveMask(), sampled.aliveMask());
+        int cards = sampled.pileSize() + sampled.deckSize();
+        for (int seat = 0; seat < real.seats(); seat++) {
+            assertEquals(real.handSize(seat), sampled.handSize(seat));
+            cards += sampled.handSize(seat);
+        }
+        for (int i = 0; i < real.handSize(me); i++) {
+            assertEquals(Rules.rankOf(real.handCard(me, i)), Rules.rankOf(sampled.handCard(me, i)));
+        }
+        assertEquals(real.decks() * Rules.DECK_SIZE, cards);
+    }
+
+    /**
+     * Tests the search on complete games under a time budget.
+     * <p>
+     * Expected behavior: every choice is a playable card and no decision runs far
+     * past its 5 ms budget.
+     * </p>
+     */
+    @Test
+    void testDecide_TimeBudget_ShouldChoosePlayableCardsInTime() {
+        MctsStrategy strategy = new MctsStrategy(2, 11);
+        DecisionView view = new DecisionView();
+        DecisionBudget budget = DecisionBudget.ofMillis(5);
+        HeadlessGame game = new HeadlessGame(4);
+
+        for (long seed = 0; seed < 5; seed++) {
+            game.reset(seed);
+            while (!game.isOver()) {
+                if (game.eliminateIfStuck()) {
+                    continue;
+                }
+                budget.start();
+                int choice = strategy.decide(view.load(game), budget);
+                budget.finish();
+                assertTrue(game.canPlay(choice), "chose " + choice);
+                assertTrue(budget.usedNanos() < 100_000_000L, budget.toString());
+                game.play(choice);
+            }
+        }
+    }
+
+    /**
+     * Tests the strength of the search against a random player.
+     * <p>
+     * Expected behavior: with 300 iterations per decision, the search wins more
+     * than 70% of 200 two-seat games, alternating who moves first.
+     * </p>
+     */
+    @Test
+    void testDecide_AgainstRandom_ShouldWinMostGames() {
+        BotStrategy[] players = {new MctsStrategy(1, 5), new RandomStrategy(9)};
+        DecisionView view = new DecisionView();
+        DecisionBudget budget = DecisionBudget.ofNodes(300);
+        HeadlessGame game = new HeadlessGame(2);
+
+        int wins = 0;
+        int games = 200;
+        for (int g = 0; g < games; g++) {
+            game.reset(1000 + g);
+            int searchSeat = g & 1;
+            while (!game.isOver()) {
+                if (game.eliminateIfStuck()) {
+                    continue;
+                }
+                BotStrategy player = players[game.currentSeat() == searchSeat ? 0 : 1];
+                game.play(player.decide(view.load(game), budget.start()));
+            }
+            if (game.winner() == searchSeat) {
+                wins++;
+            }
+        }
+        assertTrue(wins > games * 0.7, "MCTS won " + wins + " of " + games);
+    }
+}
@@ -0,0 +1,130 @@
+package Model.Bots;
+
+import Model.Engine.FastRandom;
+import Model.Engine.HeadlessGame;
+import Model.Engine.Rules;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link OpponentModel} and the weighted deals of the {@link Determinizer}.
+ * <p>
+ * The tests cover:
+ * <ul>
+ *   <li>A play lowering the weights of the ranks that would have left a higher pile</li>
+ *   <li>An elimination forgetting what was inferred about the seat</li>
+ *   <li>Weights copied into a view for every seat but the deciding one</li>
+ *   <li>Determinizations never dealing a seat a rank it cannot hold</li>
+ * </ul>
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @version 1.0
+ * @since 2025
+ */
+class OpponentModelTest {
+
+    /** Tolerance of the weight comparisons. */
+    private static final double DELTA = 1e-9;
+
+    /**
+     * Tests a play that reveals missing ranks.
+     * <p>
+     * Expected behavior: after a K on 45 (pile 35), every rank that would have left
+     * a higher playable pile (2 to 5, 9 and the Ace) drops to
+     * {@code SURPRISE * 3/4 + 1/4}; the ranks that would overflow, the J and the Q
+     * keep a weight of 1; other seats are untouched.
+     * </p>
+     */
+    @Test
+    void testOnPlay_KingOnFortyFive_ShouldLowerHigherPileRanks() {
+        OpponentModel model = new OpponentModel();
+        model.onPlay(1, 45, Rules.rankOf("K"));
+
+        double lowered = OpponentModel.SURPRISE * 0.75 + 0.25;
+        for (String symbol : new String[]{"2", "3", "4", "5", "9", "A"}) {
+            assertEquals(lowered, model.weight(1, Rules.rankOf(symbol)), DELTA, symbol);
+        }
+        for (String symbol : new String[]{"6", "7", "8", "10", "J", "Q", "K"}) {
+            assertEquals(1, model.weight(1, Rules.rankOf(symbol)), DELTA, symbol);
+        }
+        assertEquals(1, model.weight(0, Rules.rankOf("2")), DELTA);
+    }
+
+    /**
+     * Tests an elimination.
+     * <p>
+     * Expected behavior: the eliminated seat is back to weights of 1 while the
+     * evidence about another seat is kept.
+     * </p>
+     */
+    @Test
+    void testOnEliminated_AfterPlays_ShouldResetTheSeat() {
+        OpponentModel model = new OpponentModel();
+        model.onPlay(1, 45, Rules.rankOf("K"));
+        model.onPlay(2, 45, Rules.rankOf("K"));
+        model.onEliminated(1);
+
+        for (int rank = 0; rank < Rules.RANKS; rank++) {
+            assertEquals(1, model.weight(1, rank), DELTA);
+        }
+        assertTrue(model.weight(2, Rules.rankOf("2")) < 1);
+    }
+
+    /**
+     * Tests copying the weights into a view.
+     * <p>
+     * Expected behavior: the view gets the weights of the other seats, its own seat
+     * keeps weights of 1, and a new decision clears them.
+     * </p>
+     */
+    @Test
+    void testCopyTo_View_ShouldSkipTheDecidingSeat() {
+        OpponentModel model = new OpponentModel();
+        model.onPlay(0, 45, Rules.rankOf("K"));
+        model.onPlay(1, 45, Rules.rankOf("K"));
+        DecisionView view = new DecisionView();
+        view.begin(0, 3, 1, 35, 40);
+        model.copyTo(view);
+
+        int two = Rules.rankOf("2");
+        assertEquals(1, view.getHandWeight(0, two), DELTA);
+        assertEquals(model.weight(1, two), view.getHandWeight(1, two), DELTA);
+        view.begin(0, 3, 1, 35, 40);
+        assertEquals(1, view.getHandWeight(1, two), DELTA);
+    }
+
+    /**
+     * Tests the weighted determinization.
+     * <p>
+     * Expected behavior: when a seat can only hold a Q, a K or an Ace, every sample
+     * deals it four cards of those ranks, and the shoe still adds up.
+     * </p>
+     */
+    @Test
+    void testDeterminizer_ZeroWeights_ShouldNeverDealExcludedRanks() {
+        DecisionView view = new DecisionView();
+        view.begin(0, 2, 1, 20, 43);
+        for (String symbol : new String[]{"2", "3", "4", "7"}) {
+            view.addHandCard(Rules.rankOf(symbol));
+        }
+        view.setHandSize(1, Rules.HAND_SIZE);
+        for (int rank = 0; rank < Rules.RANKS; rank++) {
+            boolean allowed = rank >= Rules.rankOf("Q");
+            view.setHandWeight(1, rank, allowed ? 1 : 0);
+        }
+
+        Determinizer determinizer = new Determinizer();
+        FastRandom random = new FastRandom(5);
+        for (int s = 0; s < 200; s++) {
+            HeadlessGame sampled = determinizer.sample(view, random);
+            assertEquals(Rules.HAND_SIZE, sampled.handSize(1));
+            for (int i = 0; i < Rules.HAND_SIZE; i++) {
+                assertTrue(Rules.rankOf(sampled.handCard(1, i)) >= Rules.rankOf("Q"));
+            }
+            int cards = sampled.pileSize() + sampled.deckSize() + sampled.handSize(0) + sampled.handSize(1);
+            assertEquals(Rules.DECK_SIZE, cards);
+        }
+    }
+}
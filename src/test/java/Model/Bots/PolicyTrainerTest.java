@@ -0,0 +1,120 @@
+package Model.Bots;
+
+import Model.Engine.HeadlessGame;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link PolicyTrainer}, {@link PolicyTable} and {@link PolicyStrategy}.
+ * <p>
+ * The tests cover:
+ * <ul>
+ *   <li>Training being reproducible from its seed</li>
+ *   <li>The policy file reading back the same table</li>
+ *   <li>The learned policy beating the greedy player heads-up</li>
+ * </ul>
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @version 1.0
+ * @since 2025
+ */
+class PolicyTrainerTest {
+
+    /** Epochs of the shared training. */
+    private static final int EPOCHS = 10;
+
+    /** Games per epoch of the shared training. */
+    private static final int GAMES = 50_000;
+
+    /** Policy shared by the tests; training takes a few seconds. */
+    private static PolicyTable policy;
+
+    /**
+     * Trains the policy once for every test.
+     */
+    @BeforeAll
+    static void train() {
+        policy = new PolicyTrainer(EPOCHS, GAMES, 50).train();
+    }
+
+    /**
+     * Tests that training depends only on its settings.
+     * <p>
+     * Expected behavior: two trainings with the same seed give the same value for
+     * every entry, although their tasks run on a shared pool in any order.
+     * </p>
+     */
+    @Test
+    void testTrain_SameSeed_ShouldGiveTheSameTable() {
+        PolicyTable first = new PolicyTrainer(2, 2000, 7).train();
+        PolicyTable second = new PolicyTrainer(2, 2000, 7).train();
+        for (int i = 0; i < PolicyTable.SIZE; i++) {
+            assertEquals(first.value(i), second.value(i), "entry " + i);
+        }
+        assertEquals(4000, first.getGames());
+    }
+
+    /**
+     * Tests writing the policy and reading it back.
+     * <p>
+     * Expected behavior: the file holds the same values and game count.
+     * </p>
+     *
+     * @param directory a temporary directory for the file
+     * @throws IOException if the file cannot be written or read
+     */
+    @Test
+    void testRead_WrittenFile_ShouldMatchThePolicy(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve(PolicyTable.DEFAULT_FILE);
+        policy.write(file);
+        PolicyTable read = PolicyTable.read(file);
+
+        assertEquals((long) EPOCHS * GAMES, read.getGames());
+        for (int i = 0; i < PolicyTable.SIZE; i++) {
+            assertEquals(policy.value(i), read.value(i), "entry " + i);
+        }
+    }
+
+    /**
+     * Tests the strength of the learned policy heads-up.
+     * <p>
+     * Expected behavior: over 2000 two-seat games against {@link GreedyStrategy},
+     * alternating who moves first, the policy wins more than 53% of them, and it only
+     * chooses playable cards.
+     * </p>
+     */
+    @Test
+    void testDecide_AgainstGreedy_ShouldWinMostGames() {
+        BotStrategy[] players = {new PolicyStrategy(policy, new GreedyStrategy()), new GreedyStrategy()};
+        DecisionView view = new DecisionView();
+        DecisionBudget budget = DecisionBudget.ofNodes(DecisionBudget.UNLIMITED);
+        HeadlessGame game = new HeadlessGame(2);
+
+        int wins = 0;
+        int games = 2000;
+        for (int g = 0; g < games; g++) {
+            game.reset(7000 + g);
+            int policySeat = g & 1;
+            while (!game.isOver()) {
+                if (game.eliminateIfStuck()) {
+                    continue;
+                }
+                BotStrategy player = players[game.currentSeat() == policySeat ? 0 : 1];
+                int choice = player.decide(view.load(game), budget.start());
+                assertTrue(game.canPlay(choice), "chose " + choice);
+                game.play(choice);
+            }
+            if (game.winner() == policySeat) {
+                wins++;
+            }
+        }
+        assertTrue(wins > games * 0.53, "policy won " + wins + " of " + games);
+    }
+}
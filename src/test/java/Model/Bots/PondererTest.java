@@ -0,0 +1,239 @@
+package Model.Bots;
+
+import Model.Engine.HeadlessGame;
+import Model.Engine.Rules;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link Ponderer} and the view operations it relies on.
+ * <p>
+ * The tests cover:
+ * <ul>
+ *   <li>A predicted play giving the same view as the real play seen through a
+ *       card count and an {@link OpponentModel}</li>
+ *   <li>The pondered decision being found when the predicted play happens</li>
+ *   <li>Cancellation stopping a long search and freeing the strategy at once</li>
+ *   <li>Cancellation stopping a running {@link MctsStrategy} search</li>
+ *   <li>Pondered budgets following the scale and cap of the bot's scheduler, on
+ *       the pondering pool</li>
+ *   <li>Work split by a pondered search finishing on a saturated pondering pool</li>
+ * </ul>
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @version 1.0
+ * @since 2025
+ */
+class PondererTest {
+
+    /**
+     * Tests pondering a heads-up position.
+     * <p>
+     * Expected behavior: over 50 games, once the opponent has made its greedy
+     * play, the bot's real view has the fingerprint of a pondered one, and the
+     * pondered decision is the one the strategy takes on that view.
+     * </p>
+     *
+     * @throws InterruptedException if the test is interrupted while waiting
+     */
+    @Test
+    void testLookup_PredictedPlay_ShouldReturnThePonderedDecision() throws InterruptedException {
+        GreedyStrategy strategy = new GreedyStrategy();
+        DecisionBudget budget = DecisionBudget.ofNodes(DecisionBudget.UNLIMITED);
+        Ponderer ponderer = new Ponderer(strategy, budget);
+        HeadlessGame game = new HeadlessGame(2);
+        DecisionView before = new DecisionView();
+        DecisionView after = new DecisionView();
+
+        for (long seed = 0; seed < 50; seed++) {
+            game.reset(seed);
+            int opponent = game.currentSeat();
+            int me = 1 - opponent;
+            if (game.eliminateIfStuck()) {
+                continue;
+            }
+            ponderer.start(before.load(game, me), opponent);
+            ponderer.await();
+            assertTrue(ponderer.size() > 0);
+
+            OpponentModel model = new OpponentModel();
+            int pileBefore = game.pileValue();
+            game.playGreedyTurn();
+            model.onPlay(opponent, pileBefore, Rules.rankOf(game.pileCard(game.pileSize() - 1)));
+            after.load(game);
+            model.copyTo(after);
+
+            ponderer.cancel();
+            int pondered = ponderer.lookup(after);
+            assertNotEquals(Ponderer.MISS, pondered, "seed " + seed);
+            assertEquals(strategy.decide(after, budget.start()), pondered);
+        }
+    }
+
+    /**
+     * Tests cancelling a long pondering.
+     * <p>
+     * Expected behavior: with ten seconds per decision, {@code cancel()} returns in
+     * well under a second, the strategy was never called by two threads at once,
+     * nothing is running after the call, and a cut-short decision is not kept.
+     * </p>
+     *
+     * @throws InterruptedException if the test is interrupted while waiting
+     */
+    @Test
+    void testCancel_LongSearch_ShouldStopPromptlyAndFreeTheStrategy() throws InterruptedException {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        AtomicInteger started = new AtomicInteger();
+        BotStrategy slow = (view, budget) -> {
+            if (active.incrementAndGet() > 1) {
+                overlaps.incrementAndGet();
+            }
+            started.incrementAndGet();
+            while (budget.visit()) {
+                Thread.onSpinWait();
+            }
+            active.decrementAndGet();
+            return view.firstPlayable();
+        };
+        Ponderer ponderer = new Ponderer(slow, DecisionBudget.ofMillis(10_000));
+        HeadlessGame game = new HeadlessGame(2);
+        game.reset(3);
+
+        ponderer.start(new DecisionView().load(game, 1 - game.currentSeat()), game.currentSeat());
+        while (started.get() == 0) {
+            Thread.sleep(1);
+        }
+        long begin = System.nanoTime();
+        ponderer.cancel();
+        long elapsed = System.nanoTime() - begin;
+
+        assertTrue(elapsed < 1_000_000_000L, "cancel took " + elapsed / 1_000_000 + " ms");
+        assertEquals(0, active.get());
+        assertEquals(0, overlaps.get());
+        assertEquals(0, ponderer.size());
+    }
+
+    /**
+     * Tests cancelling the pondering of a Monte Carlo search.
+     * <p>
+     * Expected behavior: with ten seconds per decision and two workers,
+     * {@code cancel()} returns in well under a second instead of waiting out the
+     * budget, and the search is done when it returns.
+     * </p>
+     *
+     * @throws InterruptedException if the test is interrupted while waiting
+     */
+    @Test
+    void testCancel_MctsSearch_ShouldStopPromptly() throws InterruptedException {
+        Ponderer ponderer = new Ponderer(new MctsStrategy(2, 5), DecisionBudget.ofMillis(10_000));
+        HeadlessGame game = new HeadlessGame(3);
+        game.reset(5);
+
+        int seat = game.currentSeat();
+        ponderer.start(new DecisionView().load(game, (seat + 1) % 3), seat);
+        Thread.sleep(200);
+        long begin = System.nanoTime();
+        ponderer.cancel();
+        long elapsed = System.nanoTime() - begin;
+
+        assertTrue(elapsed < 1_000_000_000L, "cancel took " + elapsed / 1_000_000 + " ms");
+        long waited = System.nanoTime();
+        ponderer.await();
+        assertTrue(System.nanoTime() - waited < 100_000_000L);
+    }
+
+    /**
+     * Tests the budget of pondered decisions.
+     * <p>
+     * Expected behavior: with ten seconds per decision, a 40 ms deadline and the
+     * scale cut once, every pondered decision runs on the pondering pool with at
+     * most the scheduler's cap of 30 ms.
+     * </p>
+     *
+     * @throws InterruptedException if the test is interrupted while waiting
+     */
+    @Test
+    void testStart_ScheduledBot_ShouldPonderWithTheScaledAndCappedBudget() throws InterruptedException {
+        AtomicLong longest = new AtomicLong();
+        AtomicBoolean offPool = new AtomicBoolean();
+        BotStrategy probe = (view, budget) -> {
+            longest.accumulateAndGet(budget.remainingNanos(), Math::max);
+            if (!PonderPool.isPonderThread()) {
+                offPool.set(true);
+            }
+            return view.firstPlayable();
+        };
+        DecisionScheduler scheduler = new DecisionScheduler(DecisionBudget.ofMillis(10_000), 40_000_000L);
+        scheduler.record(39_000_000L);
+        Ponderer ponderer = new Ponderer(probe, scheduler);
+        HeadlessGame game = new HeadlessGame(2);
+        game.reset(3);
+
+        ponderer.start(new DecisionView().load(game, 1 - game.currentSeat()), game.currentSeat());
+        ponderer.await();
+
+        assertTrue(ponderer.size() > 0);
+        assertTrue(scheduler.getScale() < 1);
+        assertTrue(longest.get() > 0 && longest.get() <= 30_000_000L, "budget " + longest.get() + " ns");
+        assertFalse(offPool.get());
+    }
+
+    /**
+     * Tests splitting pondered work across the pondering pool.
+     * <p>
+     * Expected behavior: a task on the pool that runs twice as many subtasks as
+     * the pool has threads, while every other thread of the pool is blocked,
+     * runs all of them and finishes.
+     * </p>
+     *
+     * @throws Exception if the test is interrupted or a task fails
+     */
+    @Test
+    void testInvokeAll_SaturatedPool_ShouldRunEveryTask() throws Exception {
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<?>> blockers = new ArrayList<>();
+        for (int i = 1; i < threads; i++) {
+            blockers.add(PonderPool.get().submit(() -> {
+                release.await();
+                return null;
+            }));
+        }
+        AtomicInteger ran = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < 2 * threads; i++) {
+            tasks.add(() -> {
+                ran.incrementAndGet();
+                return null;
+            });
+        }
+
+        Future<?> split = PonderPool.get().submit(() -> PonderPool.invokeAll(tasks));
+        try {
+            split.get(5, TimeUnit.SECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            fail("split work did not finish: " + e);
+        } finally {
+            release.countDown();
+        }
+        for (Future<?> blocker : blockers) {
+            blocker.get();
+        }
+        assertEquals(2 * threads, ran.get());
+    }
+}
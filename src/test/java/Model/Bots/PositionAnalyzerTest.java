@@ -0,0 +1,190 @@
+package Model.Bots;
+
+import Model.Engine.HeadlessGame;
+import Model.Engine.Rules;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link PositionAnalyzer}.
+ * <p>
+ * The tests cover:
+ * <ul>
+ *   <li>Estimates streaming in rounds of growing size and sharpening until a final one</li>
+ *   <li>The first estimate arriving within 100 ms</li>
+ *   <li>A seat with no playable card being answered without playouts</li>
+ *   <li>Cancellation voiding analyses posted but not delivered yet</li>
+ * </ul>
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @version 1.0
+ * @since 2025
+ */
+class PositionAnalyzerTest {
+
+    /** Analyses received by the listener. */
+    private final List<PositionAnalyzer.Analysis> analyses = Collections.synchronizedList(new ArrayList<>());
+
+    /** Analyzer under test; shut down after each test. */
+    private PositionAnalyzer analyzer;
+
+    /**
+     * Stops the coordinator of the analyzer.
+     */
+    @AfterEach
+    void tearDown() {
+        if (analyzer != null) {
+            assertTrue(analyzer.shutdown());
+        }
+    }
+
+    /**
+     * Tests a full analysis.
+     * <p>
+     * Expected behavior: on a pile of 45 with a 10, a K, a 2 and a 9, the first
+     * analysis has {@value PositionAnalyzer#FIRST_ROUND} playouts per card, every
+     * later one has more, the last one is final with a narrower margin, the 10 is
+     * unplayable and every probability lies between 0 and 1.
+     * </p>
+     *
+     * @throws InterruptedException if the test is interrupted while waiting
+     */
+    @Test
+    void testStart_MixedHand_ShouldStreamSharperEstimates() throws InterruptedException {
+        analyzer = new PositionAnalyzer(Runnable::run, analyses::add, 300, 1);
+        analyzer.start(position(45, "10", "K", "2", "9"));
+        analyzer.await();
+
+        assertTrue(analyses.size() >= 2, "only " + analyses.size() + " analyses");
+        assertEquals(PositionAnalyzer.FIRST_ROUND, analyses.get(0).getPlayouts());
+        for (int k = 1; k < analyses.size(); k++) {
+            assertTrue(analyses.get(k).getPlayouts() > analyses.get(k - 1).getPlayouts());
+        }
+        PositionAnalyzer.Analysis last = analyses.get(analyses.size() - 1);
+        assertTrue(last.getMargin(1) < analyses.get(0).getMargin(1));
+        assertTrue(last.isFinal());
+        assertEquals(0, last.getSeat());
+        assertEquals(4, last.size());
+        assertFalse(last.isPlayable(0));
+        assertEquals(Rules.rankOf("10"), Rules.rankOf(last.getCard(0)));
+        for (int i = 1; i < 4; i++) {
+            assertTrue(last.getWinProbability(i) >= 0 && last.getWinProbability(i) <= 1);
+        }
+        int best = last.getBest();
+        assertTrue(best >= 1 && best <= 3, "best " + best);
+    }
+
+    /**
+     * Tests the time to the first estimate.
+     * <p>
+     * Expected behavior: the first analysis reaches the listener within 100 ms of
+     * the start, while the analysis goes on.
+     * </p>
+     *
+     * @throws InterruptedException if the test is interrupted while waiting
+     */
+    @Test
+    void testStart_FirstEstimate_ShouldArriveWithin100Millis() throws InterruptedException {
+        analyzer = new PositionAnalyzer(Runnable::run, analyses::add, 1000, 2);
+        // Warm the engine up, so the measure is not the cost of class loading
+        analyzer.start(position(20, "K", "2", "9", "A"));
+        analyzer.await();
+        assertTrue(analyzer.shutdown());
+
+        long[] firstAt = {0};
+        analyzer = new PositionAnalyzer(Runnable::run, analysis -> {
+            if (firstAt[0] == 0) {
+                firstAt[0] = System.nanoTime();
+            }
+        }, 1000, 3);
+        long start = System.nanoTime();
+        analyzer.start(position(30, "K", "2", "9", "A"));
+        analyzer.await();
+
+        assertTrue(firstAt[0] != 0);
+        long millis = (firstAt[0] - start) / 1_000_000;
+        assertTrue(millis < 100, "first estimate after " + millis + " ms");
+    }
+
+    /**
+     * Tests a seat that is stuck.
+     * <p>
+     * Expected behavior: a single final analysis with no playouts and no best card.
+     * </p>
+     *
+     * @throws InterruptedException if the test is interrupted while waiting
+     */
+    @Test
+    void testStart_NoPlayableCard_ShouldAnswerAtOnce() throws InterruptedException {
+        analyzer = new PositionAnalyzer(Runnable::run, analyses::add, 200, 4);
+        analyzer.start(position(48, "10", "5", "8", "3"));
+        analyzer.await();
+
+        assertEquals(1, analyses.size());
+        assertTrue(analyses.get(0).isFinal());
+        assertEquals(-1, analyses.get(0).getBest());
+        assertEquals(0, analyses.get(0).getPlayouts());
+    }
+
+    /**
+     * Tests cancellation.
+     * <p>
+     * Expected behavior: analyses posted before {@code cancel()} but delivered
+     * after it never reach the listener.
+     * </p>
+     *
+     * @throws InterruptedException if the test is interrupted while waiting
+     */
+    @Test
+    void testCancel_PendingAnalyses_ShouldNeverBeDelivered() throws InterruptedException {
+        List<Runnable> posted = Collections.synchronizedList(new ArrayList<>());
+        analyzer = new PositionAnalyzer(posted::add, analyses::add, 100, 5);
+        analyzer.start(position(30, "K", "2", "9", "A"));
+        analyzer.await();
+        assertFalse(posted.isEmpty());
+
+        analyzer.cancel();
+        for (Runnable delivery : posted) {
+            delivery.run();
+        }
+        assertTrue(analyses.isEmpty());
+    }
+
+    /**
+     * Builds a three-seat position with seat 0 to move, dealt from a seeded table
+     * with the hand of seat 0 replaced.
+     *
+     * @param pileValue the pile value
+     * @param symbols   the symbols of the four cards of seat 0
+     * @return the position
+     */
+    private static HeadlessGame position(int pileValue, String... symbols) {
+        HeadlessGame dealt = new HeadlessGame(3);
+        dealt.reset(7);
+        int[] pile = {dealt.pileCard(0)};
+        int[] deck = new int[dealt.deckSize()];
+        for (int i = 0; i < deck.length; i++) {
+            deck[i] = dealt.deckCard(i);
+        }
+        int[] hands = new int[3 * Rules.HAND_SIZE];
+        int[] sizes = {Rules.HAND_SIZE, Rules.HAND_SIZE, Rules.HAND_SIZE};
+        for (int seat = 1; seat < 3; seat++) {
+            for (int i = 0; i < Rules.HAND_SIZE; i++) {
+                hands[seat * Rules.HAND_SIZE + i] = dealt.handCard(seat, i);
+            }
+        }
+        for (int i = 0; i < symbols.length; i++) {
+            hands[i] = Rules.card(Rules.rankOf(symbols[i]), i & 3);
+        }
+        HeadlessGame position = new HeadlessGame(3);
+        position.setState(pileValue, pile, 1, deck, deck.length, hands, sizes, 0b111, 0, 7);
+        return position;
+    }
+}
@@ -1,6 +1,7 @@
 package Model.Cards;
 
 import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -16,8 +17,10 @@ import static org.junit.jupiter.api.Assertions.*;
  * The tests cover:
  * <ul>
  *   <li>Error handling when drawing from an empty deck</li>
+ *   <li>Refilling an empty deck from its refill source when a card is drawn</li>
  *   <li>Proper card addition to the top of the deck</li>
  *   <li>Correct recreation of decks from card lists with shuffling</li>
+ *   <li>Multi-deck shoes sized to the number of players</li>
  * </ul>
  * </p>
  *
@@ -48,6 +51,30 @@ class DeckTest {
         });
     }
 
+    /**
+     * Tests drawing from an empty deck that has a refill source.
+     * <p>
+     * Expected behavior: the deck is made again from the supplied cards and the
+     * draw returns one of them; the rest stay in the deck.
+     * </p>
+     */
+    @Test
+    void testGetCard_EmptyDeckWithRefill_ShouldDrawFromTheRefill() {
+        Deck deck = new Deck();
+        while (!deck.getDeck().isEmpty()) {
+            deck.getCard();
+        }
+        Card two = new Card("2", "/deck/2_of_clubs.png");
+        Card king = new Card("K", "/deck/K_of_hearts.png");
+        deck.setRefill(() -> new ArrayList<>(List.of(two, king)));
+
+        Card drawn = deck.getCard();
+
+        assertTrue(drawn == two || drawn == king);
+        assertEquals(1, deck.getDeck().size());
+        assertNotSame(drawn, deck.getDeck().peek());
+    }
+
     /**
      * Tests that adding a card places it at the top of the deck and increases the deck size.
      * <p>
@@ -96,4 +123,31 @@ class DeckTest {
 
         assertEquals(3, deck.getDeck().size());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that a shoe holds every card once per deck and is sized to the table.
+     * <p>
+     * Verifies that {@link Deck#Deck(int)} builds 52 cards per deck with each card
+     * repeated once per deck, and that {@link Deck#decksFor(int)} uses one deck for
+     * up to four players and three decks for a ten-player table.
+     * </p>
+     * <p>
+     * Expected behavior: a 3-deck shoe has 156 cards and three aces of spades.
+     * </p>
+     */
+    @Test
+    void testMultiDeckShoe_ShouldHoldEveryCardOncePerDeck() {
+        Deck shoe = new Deck(3);
+
+        assertEquals(3, shoe.getDecks());
+        assertEquals(156, shoe.getDeck().size());
+        assertEquals(3, shoe.getDeck().stream()
+                .filter(card -> card.getUrl().equals("/deck/A_of_spades.png"))
+                .count());
+        assertEquals(1, Deck.decksFor(2));
+        assertEquals(1, Deck.decksFor(4));
+        assertEquals(2, Deck.decksFor(5));
+        assertEquals(3, Deck.decksFor(10));
+        assertThrows(IllegalArgumentException.class, () -> new Deck(0));
+    }
+}
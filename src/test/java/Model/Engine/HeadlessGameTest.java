@@ -0,0 +1,499 @@
+package Model.Engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link HeadlessGame} and {@link TableFarm} that verifies the
+ * headless engine follows the rules of the graphical game.
+ * <p>
+ * The tests cover:
+ * <ul>
+ *   <li>Pile values matching the rules of {@link Model.Players.AdapterPlayers}, Ace included</li>
+ *   <li>Conservation of cards and the pile limit during thousands of random games</li>
+ *   <li>Reproducibility of a game from its seed, and of its antithetic twin</li>
+ *   <li>A copied table continuing exactly like the original</li>
+ *   <li>A redeal keeping what one seat knows and conserving the hidden cards</li>
+ *   <li>Incremental Zobrist hashes and packed codes matching the ones computed from scratch</li>
+ *   <li>Canonical codes ignoring suits and card order but not where the cards are</li>
+ *   <li>Moves made and unmade on one table matching forward replay on copies</li>
+ *   <li>Publishing of packed table status by a running farm</li>
+ * </ul>
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @version 1.0
+ * @since 2025
+ */
+class HeadlessGameTest {
+
+    /**
+     * Tests the value rules, including the Ace that falls back to 1.
+     * <p>
+     * Expected behavior: 9 adds nothing, figures subtract 10, the Ace adds 10
+     * while the pile stays within 50 and adds 1 otherwise.
+     * </p>
+     */
+    @Test
+    void testRules_PileValues_ShouldMatchGraphicalGame() {
+        assertEquals(30, Rules.play(30, Rules.NINE));
+        assertEquals(20, Rules.play(30, Rules.rankOf("K")));
+        assertEquals(50, Rules.play(40, Rules.ACE));
+        assertEquals(42, Rules.play(41, Rules.ACE));
+        assertFalse(Rules.canPlay(45, Rules.rankOf("10")));
+        assertEquals("/deck/A_of_spades.png", Rules.imageUrl(Rules.card(Rules.ACE, 3)));
+    }
+
+    /**
+     * Tests many random games played to the end.
+     * <p>
+     * Expected behavior: after every turn the cards in the deck, pile and hands
+     * add up to the shoe, the pile never exceeds 50, and every game finishes with
+     * a winner that is still alive.
+     * </p>
+     */
+    @Test
+    void testRandomGames_EveryTurn_ShouldConserveCardsAndRespectLimit() {
+        for (int seats = 2; seats <= HeadlessGame.MAX_SEATS; seats++) {
+            HeadlessGame game = new HeadlessGame(seats);
+            for (long seed = 0; seed < 300; seed++) {
+                game.reset(seed);
+                while (!game.isOver()) {
+                    game.playRandomTurn();
+                    int cards = game.deckSize() + game.pileSize();
+                    for (int seat = 0; seat < seats; seat++) {
+                        cards += game.handSize(seat);
+                    }
+                    assertEquals(Rules.DECK_SIZE, cards);
+                    assertTrue(game.pileValue() <= Rules.MAX_PILE);
+                }
+                if (game.winner() >= 0) {
+                    assertTrue(game.isAlive(game.winner()));
+                    assertEquals(1, game.aliveCount());
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that a game is fully determined by its seed.
+     * <p>
+     * Expected behavior: two tables reset with the same seed play the same
+     * sequence of pile values and end with the same winner.
+     * </p>
+     */
+    @Test
+    void testReset_SameSeed_ShouldReplaySameGame() {
+        HeadlessGame first = new HeadlessGame(4);
+        HeadlessGame second = new HeadlessGame(4);
+        first.reset(42);
+        second.reset(42);
+        while (!first.isOver()) {
+            first.playRandomTurn();
+            second.playRandomTurn();
+            assertEquals(first.pileValue(), second.pileValue());
+            assertEquals(first.topCard(), second.topCard());
+        }
+        assertTrue(second.isOver());
+        assertEquals(first.winner(), second.winner());
+    }
+
+    /**
+     * Tests the antithetic twin of a deal.
+     * <p>
+     * Expected behavior: the twin deals another deck than the seed itself, and two
+     * twins of the same seed deal the same deck.
+     * </p>
+     */
+    @Test
+    void testReset_AntitheticSeed_ShouldDealAnotherReproducibleGame() {
+        HeadlessGame plain = new HeadlessGame(4);
+        HeadlessGame twin = new HeadlessGame(4);
+        HeadlessGame again = new HeadlessGame(4);
+        plain.reset(42);
+        twin.reset(42, true);
+        again.reset(42, true);
+        boolean different = false;
+        for (int i = 0; i < twin.deckSize(); i++) {
+            different |= plain.deckCard(i) != twin.deckCard(i);
+            assertEquals(twin.deckCard(i), again.deckCard(i));
+        }
+        assertTrue(different);
+        assertEquals(twin.hash(), again.hash());
+    }
+
+    /**
+     * Tests that a copy continues like the original.
+     * <p>
+     * Expected behavior: after copying a game in progress, random turns on the
+     * original and on the copy give the same piles, top cards and winner.
+     * </p>
+     */
+    @Test
+    void testCopyFrom_GameInProgress_ShouldContinueIdentically() {
+        HeadlessGame original = new HeadlessGame(3);
+        original.reset(11);
+        for (int i = 0; i < 25 && !original.isOver(); i++) {
+            original.playRandomTurn();
+        }
+        HeadlessGame copy = new HeadlessGame(3);
+        copy.copyFrom(original);
+        while (!original.isOver()) {
+            original.playRandomTurn();
+            copy.playRandomTurn();
+            assertEquals(original.pileValue(), copy.pileValue());
+            assertEquals(original.topCard(), copy.topCard());
+        }
+        assertTrue(copy.isOver());
+        assertEquals(original.winner(), copy.winner());
+    }
+
+    /**
+     * Tests dealing again the cards a seat cannot see.
+     * <p>
+     * Expected behavior: the viewer's hand, the pile and the hand sizes are kept,
+     * the other hands and the deck hold the same cards as before in another order,
+     * the hash matches a fresh table loaded with the result, and the same seed
+     * deals the same table.
+     * </p>
+     */
+    @Test
+    void testRedeal_HiddenCards_ShouldKeepTheViewerHandAndConserveCards() {
+        HeadlessGame original = new HeadlessGame(4);
+        original.reset(5);
+        for (int i = 0; i < 10 && !original.isOver(); i++) {
+            original.playRandomTurn();
+        }
+        int viewer = original.currentSeat();
+        HeadlessGame redealt = new HeadlessGame(4);
+        redealt.copyFrom(original);
+        redealt.redeal(viewer, 77);
+        HeadlessGame again = new HeadlessGame(4);
+        again.copyFrom(original);
+        again.redeal(viewer, 77);
+
+        assertEquals(original.pileValue(), redealt.pileValue());
+        assertEquals(original.pileSize(), redealt.pileSize());
+        assertEquals(original.deckSize(), redealt.deckSize());
+        int[] hiddenBefore = new int[Rules.DECK_SIZE];
+        int[] hiddenAfter = new int[Rules.DECK_SIZE];
+        boolean moved = false;
+        for (int seat = 0; seat < 4; seat++) {
+            assertEquals(original.handSize(seat), redealt.handSize(seat));
+            for (int i = 0; i < original.handSize(seat); i++) {
+                if (seat == viewer) {
+                    assertEquals(original.handCard(seat, i), redealt.handCard(seat, i));
+                } else if (original.isAlive(seat)) {
+                    hiddenBefore[original.handCard(seat, i)]++;
+                    hiddenAfter[redealt.handCard(seat, i)]++;
+                    moved |= original.handCard(seat, i) != redealt.handCard(seat, i);
+                }
+                assertEquals(redealt.handCard(seat, i), again.handCard(seat, i));
+            }
+        }
+        for (int i = 0; i < original.deckSize(); i++) {
+            hiddenBefore[original.deckCard(i)]++;
+            hiddenAfter[redealt.deckCard(i)]++;
+            assertEquals(redealt.deckCard(i), again.deckCard(i));
+        }
+        assertArrayEquals(hiddenBefore, hiddenAfter);
+        assertTrue(moved);
+        HeadlessGame fresh = new HeadlessGame(4);
+        load(fresh, redealt);
+        assertEquals(fresh.hash(), redealt.hash());
+    }
+
+    /**
+     * Tests the incremental hash over whole games.
+     * <p>
+     * Expected behavior: for every table size and over a hundred games each, after
+     * every turn the hash, the public and pile codes and every hand code equal those of a
+     * fresh table loaded with the same position, and copies share them.
+     * </p>
+     */
+    @Test
+    void testHash_EveryTurn_ShouldMatchAFreshHash() {
+        for (int seats = 2; seats <= HeadlessGame.MAX_SEATS; seats++) {
+            HeadlessGame game = new HeadlessGame(seats, seats > 5 ? 2 : 1);
+            HeadlessGame fresh = new HeadlessGame(seats, game.decks());
+            for (long seed = 0; seed < 100; seed++) {
+                game.reset(seed);
+                while (!game.isOver()) {
+                    game.playRandomTurn();
+                    load(fresh, game);
+                    assertEquals(game.hash(), fresh.hash(), "seats " + seats + " seed " + seed);
+                    assertEquals(game.publicCode(), fresh.publicCode());
+                    assertEquals(game.pileCode(), fresh.pileCode());
+                    for (int seat = 0; seat < seats; seat++) {
+                        assertEquals(game.handCode(seat), fresh.handCode(seat));
+                    }
+                }
+                fresh.copyFrom(game);
+                assertEquals(game.hash(), fresh.hash());
+            }
+        }
+    }
+
+    /**
+     * Tests what the canonical codes tell apart.
+     * <p>
+     * Expected behavior: the same ranks with other suits and in another order give
+     * the same hash and codes; moving a card from one hand to another, another pile
+     * value or another seat to move give a different hash, and other ranks on a pile
+     * of the same value and size give the same public code but another pile code.
+     * </p>
+     */
+    @Test
+    void testHash_SuitsAndOrder_ShouldOnlyDependOnRanksAndPlaces() {
+        int k = Rules.rankOf("K");
+        int two = Rules.rankOf("2");
+        int five = Rules.rankOf("5");
+        int nine = Rules.NINE;
+        int[] pile = {Rules.card(k, 0), Rules.card(five, 1)};
+        int[] sizes = {2, 2};
+        HeadlessGame game = new HeadlessGame(2);
+        game.setState(20, pile, 2, new int[0], 0,
+                new int[]{Rules.card(two, 0), Rules.card(nine, 1), 0, 0, Rules.card(k, 2), Rules.card(two, 3), 0, 0},
+                sizes, 0b11, 0, 1);
+        long hash = game.hash();
+        long code = game.publicCode();
+        long hand = game.handCode(0);
+        long pileCode = game.pileCode();
+
+        game.setState(20, new int[]{Rules.card(five, 3), Rules.card(k, 2)}, 2, new int[0], 0,
+                new int[]{Rules.card(nine, 3), Rules.card(two, 2), 0, 0, Rules.card(two, 0), Rules.card(k, 1), 0, 0},
+                sizes, 0b11, 0, 2);
+        assertEquals(hash, game.hash());
+        assertEquals(code, game.publicCode());
+        assertEquals(hand, game.handCode(0));
+        assertEquals(pileCode, game.pileCode());
+        assertEquals(1L << (3 * two) | 1L << (3 * nine), hand);
+        assertEquals(HeadlessGame.pileUnit(k) + HeadlessGame.pileUnit(five), pileCode);
+
+        game.setState(20, new int[]{Rules.card(Rules.rankOf("Q"), 0), Rules.card(five, 1)}, 2, new int[0], 0,
+                new int[]{Rules.card(two, 0), Rules.card(nine, 1), 0, 0, Rules.card(k, 2), Rules.card(two, 3), 0, 0},
+                sizes, 0b11, 0, 1);
+        assertEquals(code, game.publicCode());
+        assertNotEquals(pileCode, game.pileCode());
+        assertNotEquals(hash, game.hash());
+
+        game.setState(20, pile, 2, new int[0], 0,
+                new int[]{Rules.card(two, 0), Rules.card(k, 1), 0, 0, Rules.card(nine, 2), Rules.card(two, 3), 0, 0},
+                sizes, 0b11, 0, 1);
+        assertNotEquals(hash, game.hash());
+        game.setState(21, pile, 2, new int[0], 0,
+                new int[]{Rules.card(two, 0), Rules.card(nine, 1), 0, 0, Rules.card(k, 2), Rules.card(two, 3), 0, 0},
+                sizes, 0b11, 0, 1);
+        assertNotEquals(hash, game.hash());
+        game.setState(20, pile, 2, new int[0], 0,
+                new int[]{Rules.card(two, 0), Rules.card(nine, 1), 0, 0, Rules.card(k, 2), Rules.card(two, 3), 0, 0},
+                sizes, 0b11, 1, 1);
+        assertNotEquals(hash, game.hash());
+    }
+
+    /**
+     * Tests make and unmake against forward replay.
+     * <p>
+     * Expected behavior: along whole games of every table size, every move two
+     * plies deep made on the table gives the same position as playing it on a copy,
+     * and undoing it gives back the position before it, recharges and
+     * eliminations included.
+     * </p>
+     */
+    @Test
+    void testMakeMove_EveryChild_ShouldMatchForwardReplay() {
+        for (int seats = 2; seats <= HeadlessGame.MAX_SEATS; seats += 2) {
+            HeadlessGame game = new HeadlessGame(seats);
+            HeadlessGame[] replays = {new HeadlessGame(seats), new HeadlessGame(seats)};
+            HeadlessGame[] befores = {new HeadlessGame(seats), new HeadlessGame(seats)};
+            for (long seed = 0; seed < 40; seed++) {
+                game.reset(seed);
+                while (!game.isOver()) {
+                    explore(game, replays, befores, 2);
+                    game.playRandomTurn();
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests a long line of moves undone at once.
+     * <p>
+     * Expected behavior: after 300 random moves made with {@code makeMove} and as
+     * many undone, the table equals the original, and both continue with the same
+     * shuffles and random turns to the same winner.
+     * </p>
+     */
+    @Test
+    void testUnmakeMove_LongLine_ShouldRestoreTheRandomSource() {
+        HeadlessGame game = new HeadlessGame(3);
+        HeadlessGame original = new HeadlessGame(3);
+        FastRandom random = new FastRandom(9);
+        for (long seed = 0; seed < 20; seed++) {
+            game.reset(seed);
+            original.copyFrom(game);
+            for (int i = 0; i < 300 && !game.isOver(); i++) {
+                game.makeMove(randomMove(game, random));
+            }
+            while (game.undoDepth() > 0) {
+                game.unmakeMove();
+            }
+            assertSameState(original, game);
+            while (!original.isOver()) {
+                original.playRandomTurn();
+                game.playRandomTurn();
+                assertSameState(original, game);
+            }
+            assertEquals(original.winner(), game.winner());
+        }
+    }
+
+    /**
+     * Tests that a running farm plays its tables and publishes their status.
+     * <p>
+     * Expected behavior: turns and finished games increase, every published
+     * status decodes to a table with the configured seats and a legal pile, and
+     * the workers stop on close.
+     * </p>
+     */
+    @Test
+    void testTableFarm_Running_ShouldPublishStatus() throws InterruptedException {
+        TableFarm farm = new TableFarm(64, 3, 7);
+        farm.start(2);
+        long deadline = System.currentTimeMillis() + 5000;
+        while (farm.gamesFinished() < 100 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(farm.close());
+        assertFalse(farm.isRunning());
+        assertTrue(farm.gamesFinished() >= 100);
+        for (int table = 0; table < farm.tableCount(); table++) {
+            long status = farm.status(table);
+            assertEquals(3, TableStatus.seats(status));
+            assertTrue(TableStatus.pileValue(status) <= Rules.MAX_PILE);
+            assertTrue(TableStatus.topCard(status) < Rules.DECK_SIZE);
+            assertTrue(TableStatus.currentSeat(status) < 3);
+        }
+    }
+
+    /**
+     * Loads the position of a game into another table, hashing it from scratch.
+     * The deck is left empty of meaningful cards, since its order is not hashed.
+     *
+     * @param target the table to load
+     * @param source the game to copy the position from
+     */
+    private static void load(HeadlessGame target, HeadlessGame source) {
+        int[] pile = new int[source.pileSize()];
+        for (int i = 0; i < pile.length; i++) {
+            pile[i] = source.pileCard(i);
+        }
+        int[] hands = new int[source.seats() * Rules.HAND_SIZE];
+        int[] sizes = new int[source.seats()];
+        for (int seat = 0; seat < source.seats(); seat++) {
+            sizes[seat] = source.handSize(seat);
+            for (int i = 0; i < sizes[seat]; i++) {
+                hands[seat * Rules.HAND_SIZE + i] = source.handCard(seat, i);
+            }
+        }
+        target.setState(source.pileValue(), pile, pile.length, new int[source.deckSize()], source.deckSize(),
+                hands, sizes, source.aliveMask(), source.currentSeat(), 0);
+    }
+
+    /**
+     * Makes every legal move of a position, checks it against a copy that plays it
+     * forward, explores deeper and undoes it.
+     *
+     * @param game    the table searched with make and unmake
+     * @param replays a table per ply for the forward replay
+     * @param befores a table per ply for the position before the move
+     * @param depth   the number of plies left to explore
+     */
+    private static void explore(HeadlessGame game, HeadlessGame[] replays, HeadlessGame[] befores, int depth) {
+        if (depth == 0 || game.isOver()) {
+            return;
+        }
+        HeadlessGame replay = replays[depth - 1];
+        HeadlessGame before = befores[depth - 1];
+        for (int move : legalMoves(game)) {
+            before.copyFrom(game);
+            replay.copyFrom(game);
+            if (move == HeadlessGame.ELIMINATE) {
+                assertTrue(replay.eliminateIfStuck());
+            } else {
+                replay.play(move);
+            }
+            game.makeMove(move);
+            assertSameState(replay, game);
+            explore(game, replays, befores, depth - 1);
+            assertSameState(replay, game);
+            game.unmakeMove();
+            assertSameState(before, game);
+        }
+    }
+
+    /**
+     * Returns the legal moves of the current seat.
+     *
+     * @param game the table
+     * @return the playable hand positions, or only {@link HeadlessGame#ELIMINATE}
+     */
+    private static int[] legalMoves(HeadlessGame game) {
+        int count = 0;
+        int[] moves = new int[Rules.HAND_SIZE];
+        for (int i = 0; i < game.handSize(game.currentSeat()); i++) {
+            if (game.canPlay(i)) {
+                moves[count++] = i;
+            }
+        }
+        return count == 0 ? new int[]{HeadlessGame.ELIMINATE} : Arrays.copyOf(moves, count);
+    }
+
+    /**
+     * Picks a legal move at random.
+     *
+     * @param game   the table
+     * @param random the source of the choice
+     * @return a playable hand position, or {@link HeadlessGame#ELIMINATE}
+     */
+    private static int randomMove(HeadlessGame game, FastRandom random) {
+        int[] moves = legalMoves(game);
+        return moves[random.nextInt(moves.length)];
+    }
+
+    /**
+     * Asserts that two tables hold the same position, card for card.
+     *
+     * @param expected the reference table
+     * @param actual   the table checked
+     */
+    private static void assertSameState(HeadlessGame expected, HeadlessGame actual) {
+        assertEquals(expected.pileValue(), actual.pileValue());
+        assertEquals(expected.currentSeat(), actual.currentSeat());
+        assertEquals(expected.aliveMask(), actual.aliveMask());
+        assertEquals(expected.aliveCount(), actual.aliveCount());
+        assertEquals(expected.turnCount(), actual.turnCount());
+        assertEquals(expected.isOver(), actual.isOver());
+        assertEquals(expected.winner(), actual.winner());
+        assertEquals(expected.pileSize(), actual.pileSize());
+        for (int i = 0; i < expected.pileSize(); i++) {
+            assertEquals(expected.pileCard(i), actual.pileCard(i));
+        }
+        assertEquals(expected.deckSize(), actual.deckSize());
+        for (int i = 0; i < expected.deckSize(); i++) {
+            assertEquals(expected.deckCard(i), actual.deckCard(i));
+        }
+        for (int seat = 0; seat < expected.seats(); seat++) {
+            assertEquals(expected.handSize(seat), actual.handSize(seat));
+            for (int i = 0; i < expected.handSize(seat); i++) {
+                assertEquals(expected.handCard(seat, i), actual.handCard(seat, i));
+            }
+            assertEquals(expected.handCode(seat), actual.handCode(seat));
+        }
+        assertEquals(expected.pileCode(), actual.pileCode());
+        assertEquals(expected.hash(), actual.hash());
+    }
+}
@@ -0,0 +1,84 @@
+package Model.Metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link LatencyHistogram} that verifies the recording and the
+ * percentile queries used by the performance overlay and by automated runs.
+ * <p>
+ * The tests cover:
+ * <ul>
+ *   <li>Percentiles staying within the bucket precision of the recorded values</li>
+ *   <li>Count, mean and maximum bookkeeping</li>
+ *   <li>Bucket boundaries being contiguous across powers of two</li>
+ * </ul>
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @version 1.0
+ * @since 2025
+ */
+class LatencyHistogramTest {
+
+    /**
+     * Tests percentiles over a uniform series of latencies from 1 to 1,000 microseconds.
+     * <p>
+     * Expected behavior: the median is close to 500 µs, the 99th percentile close to
+     * 990 µs, both within the 1/16 relative precision of the buckets.
+     * </p>
+     */
+    @Test
+    void testPercentile_WithUniformValues_ShouldStayWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        assertEquals(1000, histogram.count());
+        assertEquals(500_000, histogram.percentile(50), 500_000 / 16.0);
+        assertEquals(990_000, histogram.percentile(99), 990_000 / 16.0);
+        assertEquals(1_000_000, histogram.max());
+        assertEquals(500_500, histogram.mean(), 1e-6);
+    }
+
+    /**
+     * Tests that an empty histogram and a reset histogram report zero everywhere.
+     * <p>
+     * Expected behavior: count, percentile and maximum are zero.
+     * </p>
+     */
+    @Test
+    void testReset_ShouldClearEveryValue() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.percentile(99));
+
+        histogram.record(42);
+        histogram.reset();
+
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.percentile(50));
+        assertEquals(0, histogram.max());
+    }
+
+    /**
+     * Tests that every value falls in a bucket whose range contains it and that
+     * consecutive buckets cover consecutive ranges.
+     * <p>
+     * Expected behavior: for each value, its bucket's upper bound is at least the
+     * value and the previous bucket's upper bound is below it.
+     * </p>
+     */
+    @Test
+    void testBuckets_ShouldBeContiguousAndContainTheirValues() {
+        for (long value = 0; value < 100_000; value++) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            assertTrue(LatencyHistogram.upperBoundOf(bucket) >= value);
+            if (bucket > 0) {
+                assertTrue(LatencyHistogram.upperBoundOf(bucket - 1) < value);
+            }
+        }
+        assertTrue(LatencyHistogram.upperBoundOf(LatencyHistogram.bucketOf(Long.MAX_VALUE)) >= Long.MAX_VALUE - 1);
+    }
+}
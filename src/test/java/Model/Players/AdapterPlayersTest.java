@@ -0,0 +1,131 @@
+package Model.Players;
+
+import Model.Bots.CardCounter;
+import Model.Cards.Card;
+import Model.Cards.Deck;
+import Model.Engine.Rules;
+import Model.Exceptions.InvalidCardException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link AdapterPlayers}, the card handling shared by every player.
+ * <p>
+ * The tests cover:
+ * <ul>
+ *   <li>The card counter of a seat matching a recount through the deal of a match,
+ *       the seat's plays and draws, and its elimination</li>
+ * </ul>
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @version 1.0
+ * @since 2025
+ */
+class AdapterPlayersTest {
+
+    /**
+     * Listener that ignores every event, used to run sessions without a user interface.
+     */
+    private static final IGameListener NO_UI = new IGameListener() {
+        @Override
+        public void onPileChanged(Card topCard) {
+        }
+
+        @Override
+        public void onBotHandChanged(int botTurn) {
+        }
+
+        @Override
+        public void onTurnChanged(int actualTurn) {
+        }
+
+        @Override
+        public void onHumanEliminated() {
+        }
+
+        @Override
+        public void onGameOver(int winnerTurn) {
+        }
+    };
+
+    /**
+     * Tests the human's card counter through the player's own methods.
+     * <p>
+     * Expected behavior: after the deal of a new session, which deals the human
+     * twice, after each card played with {@code putCard} and drawn with
+     * {@code takeCard}, and after {@code returnCardsToDecK}, every unseen count
+     * equals the cards of that rank in the deck and the bots' hands, and no card
+     * has left the shoe.
+     * </p>
+     *
+     * @throws InvalidCardException never, only playable cards are played
+     */
+    @Test
+    void testCounter_HumanSeat_ShouldMatchRecount() throws InvalidCardException {
+        GameSession session = new GameSession(2, NO_UI, Runnable::run);
+        PlayerHuman human = session.getPlayerHuman();
+        assertEquals(Rules.HAND_SIZE, human.getHand().size());
+        assertMatchesRecount(session);
+
+        for (int turn = 0; turn < 20 && human.hasValidCards(); turn++) {
+            human.putCard(firstPlayable(human, session.getPile().getValuePile()), session.getPile());
+            assertMatchesRecount(session);
+            human.takeCard(session.getDeck().getCard());
+            assertMatchesRecount(session);
+        }
+
+        human.returnCardsToDecK();
+        assertMatchesRecount(session);
+        session.close();
+    }
+
+    /**
+     * Returns the position of the first card of the human that can be played.
+     *
+     * @param human     the human player
+     * @param pileValue the pile value
+     * @return the position of the card
+     */
+    private static int firstPlayable(PlayerHuman human, int pileValue) {
+        List<Card> hand = human.getHand();
+        for (int i = 0; i < hand.size(); i++) {
+            if (Rules.canPlay(pileValue, Rules.rankOf(hand.get(i).getSymbol()))) {
+                return i;
+            }
+        }
+        throw new AssertionError("no playable card");
+    }
+
+    /**
+     * Checks every unseen count of the human against the deck and the bots' hands.
+     *
+     * @param session the session of the human
+     */
+    private static void assertMatchesRecount(GameSession session) {
+        CardCounter counter = session.getPlayerHuman().getCounter();
+        Deck deck = session.getDeck();
+        int[] expected = new int[Rules.RANKS];
+        for (Card card : deck.getDeck()) {
+            expected[Rules.rankOf(card.getSymbol())]++;
+        }
+        int botCards = 0;
+        for (PlayerGPU bot : session.getPlayerGPUList()) {
+            for (Card card : bot.getHand()) {
+                expected[Rules.rankOf(card.getSymbol())]++;
+                botCards++;
+            }
+        }
+        int total = 0;
+        for (int rank = 0; rank < Rules.RANKS; rank++) {
+            assertEquals(expected[rank], counter.getUnseen(rank), "rank " + Rules.symbol(rank));
+            total += expected[rank];
+        }
+        assertEquals(total, counter.getUnseenTotal());
+        assertEquals(deck.getDecks() * Rules.DECK_SIZE, deck.getDeck().size() + botCards
+                + session.getPile().getCards().size() + session.getPlayerHuman().getHand().size());
+    }
+}
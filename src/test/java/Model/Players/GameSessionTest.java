@@ -0,0 +1,443 @@
+package Model.Players;
+
+import Model.Bots.GreedyStrategy;
+import Model.Cards.Card;
+import Model.Cards.Deck;
+import Model.Engine.HeadlessGame;
+import Model.Engine.Rules;
+import Model.Exceptions.InvalidCardException;
+import Model.Metrics.GameMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.Deque;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link GameSession} that verifies the lifecycle of a match:
+ * every thread started by a session must be stopped and joined when it is closed,
+ * and nothing from a closed session may stay reachable.
+ * <p>
+ * The tests cover:
+ * <ul>
+ *   <li>Stopping and joining all player, recharge and winner threads on close</li>
+ *   <li>Discarding events delivered after the session has been closed</li>
+ *   <li>Forking the position of a match into a detached headless table</li>
+ *   <li>Forking only once the move holding the lock of the match is complete</li>
+ *   <li>A new match starting from empty bot figures</li>
+ *   <li>A soak run of 1,000 consecutive games with flat thread count and heap</li>
+ * </ul>
+ * </p>
+ *
+ * @author Juan-David-Brandon
+ * @version 1.0
+ * @since 2025
+ */
+class GameSessionTest {
+
+    /**
+     * Listener that ignores every event, used to run sessions without a user interface.
+     */
+    private static final IGameListener NO_UI = new IGameListener() {
+        @Override
+        public void onPileChanged(Card topCard) {
+        }
+
+        @Override
+        public void onBotHandChanged(int botTurn) {
+        }
+
+        @Override
+        public void onTurnChanged(int actualTurn) {
+        }
+
+        @Override
+        public void onHumanEliminated() {
+        }
+
+        @Override
+        public void onGameOver(int winnerTurn) {
+        }
+    };
+
+    /**
+     * Tests that closing a started session stops and joins all of its threads.
+     * <p>
+     * Expected behavior: {@code close()} returns {@code true} and none of the
+     * session threads is alive afterwards.
+     * </p>
+     */
+    @Test
+    void testClose_AfterStart_ShouldStopAllThreads() {
+        GameSession session = new GameSession(3, NO_UI, Runnable::run);
+        PlayerHuman human = session.getPlayerHuman();
+        PlayerGPU bot = session.getPlayerGPUList().get(0);
+
+        session.start();
+        assertTrue(human.isAlive());
+
+        assertTrue(session.close());
+        assertFalse(human.isAlive());
+        assertFalse(bot.isAlive());
+        assertEquals(0, countSessionThreads());
+    }
+
+    /**
+     * Tests that closing a session releases its references and ignores later events.
+     * <p>
+     * Expected behavior: the getters return {@code null} or an empty list and an event
+     * raised by a thread of the old match never reaches the listener.
+     * </p>
+     */
+    @Test
+    void testClose_ShouldDropReferencesAndDiscardLateEvents() {
+        int[] delivered = {0};
+        IGameListener counting = new IGameListener() {
+            @Override
+            public void onPileChanged(Card topCard) {
+                delivered[0]++;
+            }
+
+            @Override
+            public void onBotHandChanged(int botTurn) {
+                delivered[0]++;
+            }
+
+            @Override
+            public void onTurnChanged(int actualTurn) {
+                delivered[0]++;
+            }
+
+            @Override
+            public void onHumanEliminated() {
+                delivered[0]++;
+            }
+
+            @Override
+            public void onGameOver(int winnerTurn) {
+                delivered[0]++;
+            }
+        };
+        GameSession session = new GameSession(1, counting, Runnable::run);
+        session.start();
+        session.close();
+
+        assertNull(session.getDeck());
+        assertNull(session.getPile());
+        assertNull(session.getPlayerHuman());
+        assertTrue(session.getPlayerGPUList().isEmpty());
+        assertEquals(0, delivered[0]);
+    }
+
+    /**
+     * Tests forking the position of a match that has not started.
+     * <p>
+     * Expected behavior: the fork has one seat per player, the human to move, the
+     * same pile value and top card, the human's hand in order, the same deck with
+     * its top card last, and playing on it leaves the match untouched. A closed
+     * session has nothing to fork.
+     * </p>
+     */
+    @Test
+    void testSnapshot_NewSession_ShouldForkTheTable() {
+        GameSession session = new GameSession(3, NO_UI, Runnable::run);
+        HeadlessGame fork = session.snapshot(9);
+        assertNotNull(fork);
+
+        assertEquals(4, fork.seats());
+        assertEquals(0, fork.currentSeat());
+        assertEquals(4, fork.aliveCount());
+        assertEquals(session.getPile().getValuePile(), fork.pileValue());
+        assertEquals(Rules.cardOf(session.getPile().getTopCard()), fork.topCard());
+        List<Card> hand = session.getPlayerHuman().getHand();
+        for (int i = 0; i < hand.size(); i++) {
+            assertEquals(Rules.cardOf(hand.get(i)), fork.handCard(0, i));
+        }
+        Deque<Card> deck = session.getDeck().getDeck();
+        assertEquals(deck.size(), fork.deckSize());
+        assertEquals(Rules.cardOf(deck.peekFirst()), fork.deckCard(fork.deckSize() - 1));
+        assertEquals(Rules.cardOf(deck.peekLast()), fork.deckCard(0));
+
+        int deckSize = deck.size();
+        fork.playGreedyTurn();
+        assertEquals(deckSize, session.getDeck().getDeck().size());
+        assertEquals(Rules.HAND_SIZE, session.getPlayerHuman().getHand().size());
+
+        session.close();
+        assertNull(session.snapshot(9));
+    }
+
+    /**
+     * Tests forking a match while a player holds its lock.
+     * <p>
+     * Expected behavior: the fork waits until the player has moved a face card
+     * from the deck onto the pile and released the lock, and then has that card on
+     * top and the pile value it left.
+     * </p>
+     *
+     * @throws InterruptedException if the test is interrupted while waiting
+     */
+    @Test
+    void testSnapshot_LockHeld_ShouldWaitForTheMove() throws InterruptedException {
+        GameSession session = new GameSession(3, NO_UI, Runnable::run);
+        Object lock = session.getLock();
+        Deck deck = session.getDeck();
+        CountDownLatch held = new CountDownLatch(1);
+        AtomicBoolean moved = new AtomicBoolean();
+        Thread player = new Thread(() -> {
+            synchronized (lock) {
+                held.countDown();
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                synchronized (deck) {
+                    Card face = deck.getDeck().stream().filter(card -> card.getValue() == -10).findFirst().orElseThrow();
+                    deck.getDeck().remove(face);
+                    session.getPile().addCard(face);
+                }
+                moved.set(true);
+            }
+        });
+        player.start();
+        held.await();
+
+        HeadlessGame fork = session.snapshot(9);
+        assertTrue(moved.get());
+        assertNotNull(fork);
+        assertEquals(session.getPile().getValuePile(), fork.pileValue());
+        assertEquals(Rules.cardOf(session.getPile().getTopCard()), fork.topCard());
+        assertEquals(-10, Rules.value(Rules.rankOf(fork.topCard())));
+
+        player.join();
+        session.close();
+    }
+
+    /**
+     * Tests that a new match does not inherit the bot figures of the previous one.
+     * <p>
+     * Expected behavior: after figures of earlier bots were recorded, dealing a new
+     * session leaves every bot decision histogram, the overruns and the ponder
+     * counts empty, while the window figures are kept.
+     * </p>
+     */
+    @Test
+    void testConstructor_AfterAMatch_ShouldStartFromEmptyBotFigures() {
+        GameMetrics metrics = GameMetrics.getInstance();
+        metrics.recordBotDecision(2, 5_000_000);
+        metrics.recordBotOverrun(1_000_000);
+        metrics.recordPonder(true);
+        metrics.recordFrame(16_000_000);
+        long frames = metrics.getFrameInterval().count();
+
+        GameSession session = new GameSession(3, NO_UI, Runnable::run);
+        for (int turn = 2; turn <= 4; turn++) {
+            assertEquals(0, metrics.getBotDecision(turn).count(), "bot turn " + turn);
+        }
+        assertEquals(0, metrics.getBotOverruns().count());
+        assertEquals(0, metrics.getPonderHits());
+        assertFalse(metrics.snapshot().containsKey("bot-1"));
+        assertEquals(frames, metrics.getFrameInterval().count());
+        session.close();
+    }
+
+    /**
+     * Soak test that plays 1,000 consecutive games, closing each one before the next.
+     * <p>
+     * Verifies that no session thread survives its session and that the objects of
+     * old games become unreachable, which is what keeps long-running installations
+     * from slowly leaking threads and memory. The games are really played, with
+     * greedy bots and no pacing while the test plays the human's cards: one game in
+     * four is played to the end, the others are closed in the middle of a bot's
+     * turn or of the human's, with threads parked in their turn, in the recharge
+     * loop and in the winner detection.
+     * </p>
+     * <p>
+     * Expected behavior: no {@code 50zo-*} thread is alive after the run, the count
+     * of threads outside the shared search and pondering pools, whose workers start
+     * lazily, returns to its starting value, the retained heap stays flat and the
+     * first game's deck is collected.
+     * </p>
+     *
+     * @throws InterruptedException if the test is interrupted while playing
+     */
+    @Test
+    void testSoak_ThousandGames_ShouldLeaveThreadCountAndHeapFlat() throws InterruptedException {
+        GameSession first = newPlayedSession(3);
+        WeakReference<Deck> firstDeck = new WeakReference<>(first.getDeck());
+        first.start();
+        assertTrue(playHuman(first, Integer.MAX_VALUE, false));
+        assertTrue(first.close());
+        first = null;
+
+        int threadsBefore = countThreadsOutsideSharedPools();
+        long heapBefore = usedHeapAfterGc();
+        int finished = 0;
+        for (int i = 0; i < 1000; i++) {
+            GameSession session = newPlayedSession(1 + i % 3);
+            session.start();
+            switch (i % 4) {
+                case 0 -> finished += playHuman(session, Integer.MAX_VALUE, false) ? 1 : 0;
+                case 1 -> playHuman(session, 1 + i % 5, false);
+                case 2 -> playHuman(session, 1 + i % 5, true);
+                default -> playHuman(session, 0, true);
+            }
+            assertTrue(session.close(), "game " + i + " left a thread running");
+        }
+        long heapAfter = usedHeapAfterGc();
+
+        assertEquals(250, finished);
+        assertEquals(0, countSessionThreads());
+        int threadsAfter = countThreadsOutsideSharedPools();
+        assertTrue(threadsAfter <= threadsBefore, "threads before=" + threadsBefore + " after=" + threadsAfter);
+        assertNull(firstDeck.get(), "the deck of a closed game is still reachable");
+        assertTrue(heapAfter - heapBefore < 16L * 1024 * 1024,
+                "heap grew by " + (heapAfter - heapBefore) + " bytes");
+    }
+
+    /**
+     * Creates a session whose bots play greedily without pacing.
+     *
+     * @param bots the number of GPU players
+     * @return the session, not started
+     */
+    private static GameSession newPlayedSession(int bots) {
+        GameSession session = new GameSession(bots, NO_UI, Runnable::run, GreedyStrategy::new);
+        for (PlayerGPU bot : session.getPlayerGPUList()) {
+            bot.setPacing(0);
+        }
+        return session;
+    }
+
+    /**
+     * Plays the human's turns the way the game window does: the first playable
+     * card, then a card from the deck and the turn is passed.
+     *
+     * @param session        a started session
+     * @param turns          the human turns to complete before returning
+     * @param stopAfterACard whether to return after playing the card of one more
+     *                       turn, before drawing, leaving that turn half done
+     * @return {@code true} if the game ended
+     * @throws InterruptedException if the test is interrupted while waiting
+     */
+    private static boolean playHuman(GameSession session, int turns, boolean stopAfterACard)
+            throws InterruptedException {
+        PlayerHuman human = session.getPlayerHuman();
+        TurnManager turnManager = session.getTurnManager();
+        Object lock = session.getLock();
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        int played = 0;
+        while (true) {
+            int index = -1;
+            synchronized (lock) {
+                while (index < 0) {
+                    assertTrue(System.nanoTime() - deadline < 0, "the game did not progress");
+                    if (turnManager.getTotalTurns().size() <= 1) {
+                        return true;
+                    }
+                    if (human.getIsPlaying() && turnManager.getActualTurn() == human.getTurn()) {
+                        index = firstPlayable(human, session.getPile().getValuePile());
+                    }
+                    if (index < 0) {
+                        // Bots playing, or the human thread eliminating a stuck hand
+                        lock.wait(10);
+                    }
+                }
+            }
+            if (played == turns && !stopAfterACard) {
+                return false;
+            }
+            try {
+                human.putCard(index, session.getPile());
+            } catch (InvalidCardException e) {
+                fail("the human played an unplayable card");
+            }
+            if (played == turns) {
+                return false;
+            }
+            human.takeCard(session.getDeck().getCard());
+            synchronized (lock) {
+                human.finishTurn();
+                turnManager.passTurn();
+                lock.notifyAll();
+            }
+            played++;
+        }
+    }
+
+    /**
+     * Returns the first card of the human's hand that can be played.
+     *
+     * @param human     the human player
+     * @param pileValue the pile value
+     * @return the position of the card, or {@code -1} if none can be played
+     */
+    private static int firstPlayable(PlayerHuman human, int pileValue) {
+        List<Card> hand = human.getHand();
+        for (int i = 0; i < hand.size(); i++) {
+            if (Rules.canPlay(pileValue, Rules.rankOf(hand.get(i).getSymbol()))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Counts the live threads that were started by a game session. The workers of
+     * the shared search and pondering pools are not owned by any session and are left out.
+     *
+     * @return the number of live threads whose name starts with {@code 50zo-}
+     */
+    private static int countSessionThreads() {
+        int count = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            String name = thread.getName();
+            if (name.startsWith("50zo-") && !name.startsWith("50zo-search-") && !name.startsWith("50zo-ponder-")) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts the live threads, leaving out the workers of the shared search and
+     * pondering pools. Those pools start their workers on demand and keep them for
+     * the life of the JVM, so the number of them depends on the cores and on the
+     * tests that ran before.
+     *
+     * @return the number of live threads that are not shared pool workers
+     */
+    private static int countThreadsOutsideSharedPools() {
+        int count = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            String name = thread.getName();
+            if (!name.startsWith("50zo-search-") && !name.startsWith("50zo-ponder-")) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the used heap after asking the JVM to collect garbage a few times.
+     *
+     * @return the used heap in bytes
+     */
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}